@@ -104,6 +104,8 @@ public abstract class AbstractConfiguration {
 
     private final List<String> whitelist = new ArrayList<String>();
 
+    private final List<String> inlinedTypes = new ArrayList<String>();
+
     private JsonAutoDetect.Visibility fieldVisibility = JsonAutoDetect.Visibility.DEFAULT;
 
     private JsonAutoDetect.Visibility getterVisibility = JsonAutoDetect.Visibility.DEFAULT;
@@ -193,6 +195,21 @@ public abstract class AbstractConfiguration {
         return this;
     }
 
+    /**
+     * Method to add a regex matching the beans serialized in inlined mode.
+     * <p>
+     * The properties of the matching beans are serialized by a single generated method, writing the primitive and
+     * {@link String} properties directly. The other properties are still serialized by their property serializer.
+     * </p>
+     *
+     * @param regex the regex to add
+     * @return a {@link com.github.nmorel.gwtjackson.client.AbstractConfiguration} object.
+     */
+    protected AbstractConfiguration inlineProperties( String regex ) {
+        inlinedTypes.add( regex );
+        return this;
+    }
+
     /**
      * Override the default behaviour of {@link JsonAutoDetect.Visibility#DEFAULT} for fields.
      *
@@ -307,6 +324,15 @@ public abstract class AbstractConfiguration {
         return whitelist;
     }
 
+    /**
+     * <p>Getter for the field <code>inlinedTypes</code>.</p>
+     *
+     * @return a {@link java.util.List} object.
+     */
+    public List<String> getInlinedTypes() {
+        return inlinedTypes;
+    }
+
     /**
      * <p>Getter for the field <code>fieldVisibility</code>.</p>
      *
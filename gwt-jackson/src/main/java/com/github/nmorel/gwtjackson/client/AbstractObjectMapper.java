@@ -16,25 +16,32 @@
 
 package com.github.nmorel.gwtjackson.client;
 
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
 import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.tree.JsonNode;
+import com.github.nmorel.gwtjackson.client.tree.JsonNodeReader;
 
 /**
  * Base implementation of {@link ObjectMapper}. It delegates the serialization/deserialization to a serializer/deserializer.
+ * <p>A mapper holds no state specific to a serialization or deserialization process, it can be shared between threads on the JVM.
+ * The serializer and deserializer are created on first use and safely published. Two threads may create them at the same time but
+ * only one will be kept.</p>
  *
  * @author Nicolas Morel
  * @version $Id: $
  */
-public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
+public abstract class AbstractObjectMapper<T> implements ObjectMapper<T>, ObjectTreeReader<T>, ObjectUpdater<T>,
+        ObjectPatchWriter<T> {
 
     private final String rootName;
 
-    private JsonDeserializer<T> deserializer;
+    private volatile JsonDeserializer<T> deserializer;
 
-    private JsonSerializer<T> serializer;
+    private volatile JsonSerializer<T> serializer;
 
     /**
      * <p>Constructor for AbstractObjectMapper.</p>
@@ -54,6 +61,27 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
     /** {@inheritDoc} */
     @Override
     public T read( String in, JsonDeserializationContext ctx ) throws JsonDeserializationException {
+        return doRead( in, null, ctx );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T readInto( String in, T existing ) throws JsonDeserializationException {
+        return readInto( in, existing, JsonDeserializationContext.builder().build() );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T readInto( String in, T existing, JsonDeserializationContext ctx ) throws JsonDeserializationException {
+        return doRead( in, existing, ctx );
+    }
+
+    private T doRead( String in, T existing, JsonDeserializationContext ctx ) throws JsonDeserializationException {
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onMappingStart( Operation.DESERIALIZATION, rootName );
+        }
+
         JsonReader reader = ctx.newJsonReader( in );
 
         try {
@@ -72,13 +100,13 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
                     throw ctx.traceError( "Unwrap root value is enabled but the name '" + name + "' don't match the expected rootName " +
                             "'" + rootName + "'", reader );
                 }
-                T result = getDeserializer().deserialize( reader, ctx );
+                T result = doRead( reader, existing, ctx );
                 reader.endObject();
                 return result;
 
             } else {
 
-                return getDeserializer().deserialize( reader, ctx );
+                return doRead( reader, existing, ctx );
 
             }
 
@@ -87,6 +115,48 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
             throw e;
         } catch ( RuntimeException e ) {
             throw ctx.traceError( e, reader );
+        } finally {
+            if ( null != listener ) {
+                listener.onMappingEnd( Operation.DESERIALIZATION, rootName, in.length() );
+            }
+        }
+    }
+
+    private T doRead( JsonReader reader, T existing, JsonDeserializationContext ctx ) {
+        if ( null == existing ) {
+            return getDeserializer().deserialize( reader, ctx );
+        } else {
+            return getDeserializer().deserializeInto( reader, existing, ctx, JsonDeserializerParameters.DEFAULT );
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T treeToValue( JsonNode node ) throws JsonDeserializationException {
+        return treeToValue( node, JsonDeserializationContext.builder().build() );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T treeToValue( JsonNode node, JsonDeserializationContext ctx ) throws JsonDeserializationException {
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onMappingStart( Operation.DESERIALIZATION, rootName );
+        }
+
+        // the values are read from the nodes, even if the context is configured to read CBOR
+        JsonReader reader = new JsonNodeReader( node );
+        try {
+            return getDeserializer().deserialize( reader, ctx );
+        } catch ( JsonDeserializationException e ) {
+            // already logged, we just throw it
+            throw e;
+        } catch ( RuntimeException e ) {
+            throw ctx.traceError( e, reader );
+        } finally {
+            if ( null != listener ) {
+                listener.onMappingEnd( Operation.DESERIALIZATION, rootName, node.toString().length() );
+            }
         }
     }
 
@@ -96,10 +166,12 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      * @return the {@link JsonDeserializer} used by this mapper
      */
     public JsonDeserializer<T> getDeserializer() {
-        if ( null == deserializer ) {
-            deserializer = newDeserializer();
+        JsonDeserializer<T> result = deserializer;
+        if ( null == result ) {
+            result = newDeserializer();
+            deserializer = result;
         }
-        return deserializer;
+        return result;
     }
 
     /**
@@ -118,22 +190,59 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
     /** {@inheritDoc} */
     @Override
     public String write( T value, JsonSerializationContext ctx ) throws JsonSerializationException {
+        return doWrite( null, value, false, ctx );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String writePatch( T baseline, T value ) throws JsonSerializationException {
+        return writePatch( baseline, value, JsonSerializationContext.builder().build() );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String writePatch( T baseline, T value, JsonSerializationContext ctx ) throws JsonSerializationException {
+        return doWrite( baseline, value, true, ctx );
+    }
+
+    private String doWrite( T baseline, T value, boolean patch, JsonSerializationContext ctx ) throws JsonSerializationException {
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onMappingStart( Operation.SERIALIZATION, rootName );
+        }
+
         JsonWriter writer = ctx.newJsonWriter();
+        String output = null;
         try {
             if ( ctx.isWrapRootValue() ) {
                 writer.beginObject();
                 writer.name( rootName );
-                getSerializer().serialize( writer, value, ctx );
+                doWrite( writer, baseline, value, patch, ctx );
                 writer.endObject();
             } else {
-                getSerializer().serialize( writer, value, ctx );
+                doWrite( writer, baseline, value, patch, ctx );
             }
-            return writer.getOutput();
+            output = writer.getOutput();
+            return output;
         } catch ( JsonSerializationException e ) {
             // already logged, we just throw it
             throw e;
         } catch ( RuntimeException e ) {
             throw ctx.traceError( value, e, writer );
+        } finally {
+            if ( null != listener ) {
+                listener.onMappingEnd( Operation.SERIALIZATION, rootName, null == output ? 0 : output.length() );
+            }
+        }
+    }
+
+    private void doWrite( JsonWriter writer, T baseline, T value, boolean patch, JsonSerializationContext ctx ) {
+        if ( !patch ) {
+            getSerializer().serialize( writer, value, ctx );
+        } else if ( null == value ) {
+            writer.nullValue();
+        } else {
+            getSerializer().serializePatch( writer, baseline, value, ctx, JsonSerializerParameters.DEFAULT );
         }
     }
 
@@ -143,10 +252,12 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
      * @return the {@link JsonSerializer} used by this mapper
      */
     public JsonSerializer<T> getSerializer() {
-        if ( null == serializer ) {
-            serializer = (JsonSerializer<T>) newSerializer();
+        JsonSerializer<T> result = serializer;
+        if ( null == result ) {
+            result = (JsonSerializer<T>) newSerializer();
+            serializer = result;
         }
-        return serializer;
+        return result;
     }
 
     /**
@@ -24,6 +24,8 @@ import java.util.logging.Logger;
 import com.fasterxml.jackson.annotation.ObjectIdGenerator.IdKey;
 import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonReaderLocation;
+import com.github.nmorel.gwtjackson.client.stream.impl.CborJsonReader;
 import com.github.nmorel.gwtjackson.client.stream.impl.NonBufferedJsonReader;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.JavaScriptObject;
@@ -66,6 +68,20 @@ public class JsonDeserializationContext extends JsonMappingContext {
 
         protected boolean useBrowserTimezone = false;
 
+        protected boolean internStrings = false;
+
+        protected boolean internKeys = false;
+
+        protected boolean useCbor = false;
+
+        protected boolean mergeCollections = false;
+
+        protected boolean mergeMaps = false;
+
+        protected boolean mergePatch = false;
+
+        protected JsonMappingListener listener = null;
+
         /**
          * @deprecated Use {@link JsonDeserializationContext#builder()} instead. This constructor will be made protected in v1.0.
          */
@@ -202,9 +218,151 @@ public class JsonDeserializationContext extends JsonMappingContext {
             return this;
         }
 
+        /**
+         * Feature that determines whether the strings deserialized should be interned. When enabled, every occurrence of the same
+         * value shares a single instance taken from a cache held by the context. It reduces the memory retained by large payloads
+         * containing a lot of repeated values at the cost of a lookup for each string.
+         * <br>
+         * <br>
+         * Only short strings are interned and the number of cached strings is bounded. To intern the strings of a single property,
+         * annotate it with {@link com.github.nmorel.gwtjackson.client.annotation.JsonInternStrings}.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param internStrings true to intern all the strings deserialized
+         *
+         * @return the builder
+         */
+        public Builder internStrings( boolean internStrings ) {
+            this.internStrings = internStrings;
+            return this;
+        }
+
+        /**
+         * Feature that determines whether the keys of the maps and the names of the properties passed to an "any setter" should be
+         * interned. Those are usually repeated for every entry of a collection.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param internKeys true to intern the map keys and the property names
+         *
+         * @return the builder
+         *
+         * @see #internStrings(boolean)
+         */
+        public Builder internKeys( boolean internKeys ) {
+            this.internKeys = internKeys;
+            return this;
+        }
+
+        /**
+         * Feature that determines whether the input is read as <a href="https://tools.ietf.org/html/rfc7049">CBOR</a> instead of
+         * JSON text. The input must hold one char per byte, like the output of a
+         * {@link com.github.nmorel.gwtjackson.client.JsonSerializationContext} configured with
+         * {@link com.github.nmorel.gwtjackson.client.JsonSerializationContext.Builder#useCbor(boolean)}.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param useCbor true to read CBOR
+         *
+         * @return the builder
+         */
+        public Builder useCbor( boolean useCbor ) {
+            this.useCbor = useCbor;
+            return this;
+        }
+
+        /**
+         * Feature that determines how the collections of an existing object are updated by
+         * {@link com.github.nmorel.gwtjackson.client.ObjectUpdater#readInto(String, Object, JsonDeserializationContext)}.
+         * <br>
+         * <br>
+         * If enabled, the elements read are appended to the existing collection.
+         * <br>
+         * If disabled, the content of the existing collection is replaced by the elements read. The elements of a list are updated in
+         * place by index.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param mergeCollections true to append the elements read to the existing collections
+         *
+         * @return the builder
+         */
+        public Builder mergeCollections( boolean mergeCollections ) {
+            this.mergeCollections = mergeCollections;
+            return this;
+        }
+
+        /**
+         * Feature that determines how the maps of an existing object are updated by
+         * {@link com.github.nmorel.gwtjackson.client.ObjectUpdater#readInto(String, Object, JsonDeserializationContext)}.
+         * <br>
+         * <br>
+         * If enabled, the entries whose key is absent from the input are kept.
+         * <br>
+         * If disabled, they are removed.
+         * <br>
+         * <br>
+         * In both cases, the values of the keys present in the existing map and in the input are updated in place.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param mergeMaps true to keep the entries absent from the input
+         *
+         * @return the builder
+         */
+        public Builder mergeMaps( boolean mergeMaps ) {
+            this.mergeMaps = mergeMaps;
+            return this;
+        }
+
+        /**
+         * Feature that determines whether the input given to
+         * {@link com.github.nmorel.gwtjackson.client.ObjectUpdater#readInto(String, Object, JsonDeserializationContext)} is applied as
+         * a JSON merge patch (<a href="https://tools.ietf.org/html/rfc7386">RFC 7386</a>), like the ones written by
+         * {@link com.github.nmorel.gwtjackson.client.ObjectPatchWriter#writePatch(Object, Object, JsonSerializationContext)}.
+         * <br>
+         * <br>
+         * If enabled, the collections are replaced by the elements read, without updating the existing elements, and the entries of
+         * the maps are merged, a null value removing the entry. The {@link #mergeCollections(boolean)} and
+         * {@link #mergeMaps(boolean)} options are ignored.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param mergePatch true to apply the input as a merge patch
+         *
+         * @return the builder
+         */
+        public Builder mergePatch( boolean mergePatch ) {
+            this.mergePatch = mergePatch;
+            return this;
+        }
+
+        /**
+         * Sets the {@link JsonMappingListener} notified of the progress of the deserialization, to collect metrics for example.
+         * <br>
+         * <br>
+         * There is no listener by default.
+         *
+         * @param listener the listener or null to remove it
+         *
+         * @return the builder
+         */
+        public Builder listener( JsonMappingListener listener ) {
+            this.listener = listener;
+            return this;
+        }
+
         public final JsonDeserializationContext build() {
             return new JsonDeserializationContext( failOnUnknownProperties, unwrapRootValue, acceptSingleValueAsArray, wrapExceptions,
-                    useSafeEval, readUnknownEnumValuesAsNull, useBrowserTimezone );
+                    useSafeEval, readUnknownEnumValuesAsNull, useBrowserTimezone, internStrings, internKeys, useCbor, mergeCollections,
+                    mergeMaps, mergePatch, listener );
         }
     }
 
@@ -225,8 +383,33 @@ public class JsonDeserializationContext extends JsonMappingContext {
 
     private static final Logger logger = Logger.getLogger( "JsonDeserialization" );
 
+    /**
+     * Strings longer than this are never interned, they are unlikely to be repeated.
+     */
+    private static final int MAX_INTERNED_STRING_LENGTH = 64;
+
+    /**
+     * Maximum number of strings kept in the intern cache. Once reached, new strings are returned as is.
+     */
+    private static final int MAX_INTERNED_STRINGS = 4096;
+
+    /**
+     * Maximum number of characters of the input logged when an error occurs.
+     */
+    private static final int ERROR_EXCERPT_LENGTH = 120;
+
     private Map<IdKey, Object> idToObject;
 
+    private Map<String, String> internedStrings;
+
+    /**
+     * Name of the managed reference whose value is being deserialized and the bean owning it. The beans read as values of the managed
+     * property set their back reference as soon as they are deserialized.
+     */
+    private String managedReferenceName;
+
+    private Object managedReference;
+
     /*
      * Deserialization options
      */
@@ -244,9 +427,25 @@ public class JsonDeserializationContext extends JsonMappingContext {
 
     private final boolean useBrowserTimezone;
 
+    private final boolean internStrings;
+
+    private final boolean internKeys;
+
+    private final boolean useCbor;
+
+    private final boolean mergeCollections;
+
+    private final boolean mergeMaps;
+
+    private final boolean mergePatch;
+
+    private final JsonMappingListener listener;
+
     private JsonDeserializationContext( boolean failOnUnknownProperties, boolean unwrapRootValue, boolean acceptSingleValueAsArray,
                                         boolean wrapExceptions, boolean useSafeEval, boolean readUnknownEnumValuesAsNull,
-                                        boolean useBrowserTimezone ) {
+                                        boolean useBrowserTimezone, boolean internStrings, boolean internKeys, boolean useCbor,
+                                        boolean mergeCollections, boolean mergeMaps, boolean mergePatch,
+                                        JsonMappingListener listener ) {
         this.failOnUnknownProperties = failOnUnknownProperties;
         this.unwrapRootValue = unwrapRootValue;
         this.acceptSingleValueAsArray = acceptSingleValueAsArray;
@@ -254,6 +453,13 @@ public class JsonDeserializationContext extends JsonMappingContext {
         this.useSafeEval = useSafeEval;
         this.readUnknownEnumValuesAsNull = readUnknownEnumValuesAsNull;
         this.useBrowserTimezone = useBrowserTimezone;
+        this.internStrings = internStrings;
+        this.internKeys = internKeys;
+        this.useCbor = useCbor;
+        this.mergeCollections = mergeCollections;
+        this.mergeMaps = mergeMaps;
+        this.mergePatch = mergePatch;
+        this.listener = listener;
     }
 
     /**
@@ -264,6 +470,16 @@ public class JsonDeserializationContext extends JsonMappingContext {
         return logger;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see Builder#listener(JsonMappingListener)
+     */
+    @Override
+    public JsonMappingListener getListener() {
+        return listener;
+    }
+
     /**
      * <p>isFailOnUnknownProperties</p>
      *
@@ -324,6 +540,91 @@ public class JsonDeserializationContext extends JsonMappingContext {
         return useBrowserTimezone;
     }
 
+    /**
+     * <p>isInternStrings</p>
+     *
+     * @return a boolean.
+     * @see Builder#internStrings(boolean)
+     */
+    public boolean isInternStrings() {
+        return internStrings;
+    }
+
+    /**
+     * <p>isInternKeys</p>
+     *
+     * @return a boolean.
+     * @see Builder#internKeys(boolean)
+     */
+    public boolean isInternKeys() {
+        return internKeys;
+    }
+
+    /**
+     * <p>isUseCbor</p>
+     *
+     * @return a boolean.
+     * @see Builder#useCbor(boolean)
+     */
+    public boolean isUseCbor() {
+        return useCbor;
+    }
+
+    /**
+     * <p>isMergeCollections</p>
+     *
+     * @return a boolean.
+     * @see Builder#mergeCollections(boolean)
+     */
+    public boolean isMergeCollections() {
+        return mergeCollections;
+    }
+
+    /**
+     * <p>isMergeMaps</p>
+     *
+     * @return a boolean.
+     * @see Builder#mergeMaps(boolean)
+     */
+    public boolean isMergeMaps() {
+        return mergeMaps;
+    }
+
+    /**
+     * <p>isMergePatch</p>
+     *
+     * @return a boolean.
+     * @see Builder#mergePatch(boolean)
+     */
+    public boolean isMergePatch() {
+        return mergePatch;
+    }
+
+    /**
+     * Returns the canonical instance of the given string from the cache of this context. If the string is not already cached, it is
+     * added to the cache unless it is too long or the cache is full.
+     *
+     * @param value the string to intern
+     *
+     * @return the cached instance equals to value or value itself
+     */
+    public String intern( String value ) {
+        if ( null == value || value.length() > MAX_INTERNED_STRING_LENGTH ) {
+            return value;
+        }
+        if ( null == internedStrings ) {
+            internedStrings = new HashMap<String, String>();
+        }
+        String interned = internedStrings.get( value );
+        if ( null != interned ) {
+            return interned;
+        }
+        if ( internedStrings.size() < MAX_INTERNED_STRINGS ) {
+            internedStrings.put( value, value );
+        }
+        return value;
+    }
+
     /**
      * <p>newJsonReader</p>
      *
@@ -332,6 +633,9 @@ public class JsonDeserializationContext extends JsonMappingContext {
      * @return a {@link com.github.nmorel.gwtjackson.client.stream.JsonReader} object.
      */
     public JsonReader newJsonReader( String input ) {
+        if ( useCbor ) {
+            return new CborJsonReader( input );
+        }
         JsonReader reader = new NonBufferedJsonReader( input );
         reader.setLenient( true );
         return reader;
@@ -370,7 +674,11 @@ public class JsonDeserializationContext extends JsonMappingContext {
      * @return a {@link JsonDeserializationException} if we wrap the exceptions, the cause otherwise
      */
     public RuntimeException traceError( RuntimeException cause ) {
-        getLogger().log( Level.SEVERE, "Error during deserialization", cause );
+        // the exception is thrown back to the caller, its stack trace is only logged when debugging
+        getLogger().log( Level.SEVERE, "Error during deserialization : " + cause );
+        if ( getLogger().isLoggable( Level.FINE ) ) {
+            getLogger().log( Level.FINE, "Error during deserialization", cause );
+        }
         if ( wrapExceptions ) {
             return new JsonDeserializationException( cause );
         } else {
@@ -393,12 +701,17 @@ public class JsonDeserializationContext extends JsonMappingContext {
     }
 
     /**
-     * Trace the current reader state
+     * Trace the current reader state. Only the path and a part of the input around the error are logged, if the reader implements
+     * {@link JsonReaderLocation}.
      */
     private void traceReaderInfo( JsonReader reader ) {
         if ( null != reader && getLogger().isLoggable( Level.INFO ) ) {
-            getLogger().log( Level.INFO, "Error at line " + reader.getLineNumber() + " and column " + reader
-                    .getColumnNumber() + " of input <" + reader.getInput() + ">" );
+            String message = "Error at line " + reader.getLineNumber() + " and column " + reader.getColumnNumber();
+            if ( reader instanceof JsonReaderLocation ) {
+                JsonReaderLocation location = (JsonReaderLocation) reader;
+                message += " (path '" + location.getPath() + "') of input <" + location.getInputExcerpt( ERROR_EXCERPT_LENGTH ) + ">";
+            }
+            getLogger().log( Level.INFO, message );
         }
     }
 
@@ -428,4 +741,36 @@ public class JsonDeserializationContext extends JsonMappingContext {
         }
         return null;
     }
+
+    /**
+     * Returns the name of the managed reference whose value is being deserialized or null if there is none.
+     *
+     * @return the name of the managed reference
+     *
+     * @see com.fasterxml.jackson.annotation.JsonManagedReference
+     */
+    public String getManagedReferenceName() {
+        return managedReferenceName;
+    }
+
+    /**
+     * Returns the bean owning the managed reference whose value is being deserialized.
+     *
+     * @return the bean to set as back reference
+     */
+    public Object getManagedReference() {
+        return managedReference;
+    }
+
+    /**
+     * Sets the managed reference whose value is being deserialized. The beans deserialized as values of this reference set their back
+     * reference to {@code reference} and clear it while their own properties are read.
+     *
+     * @param name name of the managed reference, null to clear it
+     * @param reference bean owning the managed reference
+     */
+    public void setManagedReference( String name, Object reference ) {
+        this.managedReferenceName = name;
+        this.managedReference = reference;
+    }
 }
@@ -57,6 +57,23 @@ public abstract class JsonDeserializer<T> {
         return doDeserialize( reader, ctx, params );
     }
 
+    /**
+     * Deserializes a JSON input into an existing object. The deserializers supporting it update {@code existing} in place, reusing the
+     * objects it contains, and return it. The default implementation ignores {@code existing} and returns a new object.
+     *
+     * @param reader reader
+     * @param existing object to update, can be null
+     * @param ctx Context for the full deserialization process
+     * @param params Parameters for this deserialization
+     *
+     * @return the updated object, or a new one if {@code existing} can't be updated
+     * @throws com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException if an error occurs during the deserialization
+     */
+    public T deserializeInto( JsonReader reader, T existing, JsonDeserializationContext ctx, JsonDeserializerParameters params ) throws
+            JsonDeserializationException {
+        return deserialize( reader, ctx, params );
+    }
+
     /**
      * Deserialize the null value. This method allows children to override the default behaviour.
      *
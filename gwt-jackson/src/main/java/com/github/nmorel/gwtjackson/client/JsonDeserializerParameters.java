@@ -87,6 +87,39 @@ public final class JsonDeserializerParameters {
      */
     private TypeDeserializationInfo typeInfo;
 
+    /**
+     * If true, the strings deserialized are interned
+     */
+    private boolean internStrings = false;
+
+    /**
+     * Expected number of elements of a collection or map, 0 if unknown
+     */
+    private int expectedSize = 0;
+
+    /**
+     * <p>Constructor for JsonDeserializerParameters.</p>
+     */
+    public JsonDeserializerParameters() {
+    }
+
+    /**
+     * <p>Copy constructor for JsonDeserializerParameters.</p>
+     *
+     * @param parameters the parameters to copy
+     */
+    private JsonDeserializerParameters( JsonDeserializerParameters parameters ) {
+        this.pattern = parameters.pattern;
+        this.shape = parameters.shape;
+        this.locale = parameters.locale;
+        this.ignoredProperties = parameters.ignoredProperties;
+        this.ignoreUnknown = parameters.ignoreUnknown;
+        this.identityInfo = parameters.identityInfo;
+        this.typeInfo = parameters.typeInfo;
+        this.internStrings = parameters.internStrings;
+        this.expectedSize = parameters.expectedSize;
+    }
+
     /**
      * <p>Getter for the field <code>pattern</code>.</p>
      *
@@ -229,4 +262,60 @@ public final class JsonDeserializerParameters {
         this.typeInfo = typeInfo;
         return this;
     }
+
+    /**
+     * <p>isInternStrings</p>
+     *
+     * @return a boolean.
+     */
+    public boolean isInternStrings() {
+        return internStrings;
+    }
+
+    /**
+     * <p>Setter for the field <code>internStrings</code>.</p>
+     *
+     * @param internStrings a boolean.
+     * @return a {@link com.github.nmorel.gwtjackson.client.JsonDeserializerParameters} object.
+     */
+    public JsonDeserializerParameters setInternStrings( boolean internStrings ) {
+        this.internStrings = internStrings;
+        return this;
+    }
+
+    /**
+     * <p>Getter for the field <code>expectedSize</code>.</p>
+     *
+     * @return a int.
+     */
+    public int getExpectedSize() {
+        return expectedSize;
+    }
+
+    /**
+     * <p>Setter for the field <code>expectedSize</code>.</p>
+     *
+     * @param expectedSize a int.
+     * @return a {@link com.github.nmorel.gwtjackson.client.JsonDeserializerParameters} object.
+     */
+    public JsonDeserializerParameters setExpectedSize( int expectedSize ) {
+        this.expectedSize = expectedSize;
+        return this;
+    }
+
+    /**
+     * Returns the parameters to give to the deserializer of the elements of a collection, array or map. The expected size only
+     * applies to the container itself so it is not passed to the elements, otherwise each nested container would be presized for
+     * the size of the outer one.
+     *
+     * @return these parameters if there is no expected size, a copy without the expected size otherwise
+     */
+    public JsonDeserializerParameters getElementParameters() {
+        if ( 0 == expectedSize ) {
+            return this;
+        }
+        JsonDeserializerParameters result = new JsonDeserializerParameters( this );
+        result.expectedSize = 0;
+        return result;
+    }
 }
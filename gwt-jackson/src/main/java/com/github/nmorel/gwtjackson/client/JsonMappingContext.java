@@ -33,4 +33,11 @@ public abstract class JsonMappingContext {
      */
     public abstract Logger getLogger();
 
+    /**
+     * <p>getListener</p>
+     *
+     * @return the {@link JsonMappingListener} notified of the progress of the process or null if there is none.
+     */
+    public abstract JsonMappingListener getListener();
+
 }
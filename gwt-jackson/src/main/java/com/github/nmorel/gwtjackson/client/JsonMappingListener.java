@@ -0,0 +1,113 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+/**
+ * Listener notified of the progress of a serialization or a deserialization. It is set on the context with
+ * {@link JsonSerializationContext.Builder#listener(JsonMappingListener)} or
+ * {@link JsonDeserializationContext.Builder#listener(JsonMappingListener)}. There is no listener by default and the notifications
+ * are skipped entirely.
+ * <p>All the methods do nothing by default so implementations only override the events they are interested in. They are called
+ * often, at least once per bean and per property, so they should be cheap.</p>
+ *
+ * @author Nicolas Morel
+ * @see com.github.nmorel.gwtjackson.client.utils.AggregatingJsonMappingListener
+ */
+public abstract class JsonMappingListener {
+
+    /**
+     * Kind of process notifying the listener.
+     */
+    public enum Operation {
+        SERIALIZATION, DESERIALIZATION
+    }
+
+    /**
+     * Called when a mapper starts to read or write a value.
+     *
+     * @param operation the current operation
+     * @param rootName name of the type handled by the mapper
+     */
+    public void onMappingStart( Operation operation, String rootName ) {
+    }
+
+    /**
+     * Called when a mapper has finished to read or write a value.
+     *
+     * @param operation the current operation
+     * @param rootName name of the type handled by the mapper
+     * @param length number of characters read or written
+     */
+    public void onMappingEnd( Operation operation, String rootName, int length ) {
+    }
+
+    /**
+     * Called before a bean is read or written.
+     *
+     * @param operation the current operation
+     * @param beanType type of the bean
+     */
+    public void onBeanStart( Operation operation, Class<?> beanType ) {
+    }
+
+    /**
+     * Called after a bean has been read or written. It is also called if an error occurs.
+     *
+     * @param operation the current operation
+     * @param beanType type of the bean
+     */
+    public void onBeanEnd( Operation operation, Class<?> beanType ) {
+    }
+
+    /**
+     * Called before a property of a bean is read or written.
+     *
+     * @param operation the current operation
+     * @param beanType type of the bean
+     * @param propertyName name of the property
+     */
+    public void onProperty( Operation operation, Class<?> beanType, String propertyName ) {
+    }
+
+    /**
+     * Called after a collection, an array or a map has been read or written.
+     *
+     * @param operation the current operation
+     * @param count number of elements or entries
+     */
+    public void onElements( Operation operation, int count ) {
+    }
+
+    /**
+     * Called when the value of a property has to be buffered during a deserialization because it appears before a property needed
+     * to instantiate the bean, like the creator parameters or the identity. The buffered value is parsed twice.
+     *
+     * @param beanType type of the bean
+     * @param propertyName name of the property
+     */
+    public void onBufferedProperty( Class<?> beanType, String propertyName ) {
+    }
+
+    /**
+     * Called when the value of a property is skipped during a deserialization because the property is ignored or unknown.
+     *
+     * @param beanType type of the bean
+     * @param propertyName name of the property
+     */
+    public void onSkippedValue( Class<?> beanType, String propertyName ) {
+    }
+}
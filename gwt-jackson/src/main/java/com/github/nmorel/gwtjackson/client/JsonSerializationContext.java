@@ -29,6 +29,8 @@ import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
 import com.github.nmorel.gwtjackson.client.ser.bean.AbstractBeanJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.bean.ObjectIdSerializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriterLocation;
+import com.github.nmorel.gwtjackson.client.stream.impl.CborJsonWriter;
 import com.github.nmorel.gwtjackson.client.stream.impl.FastJsonWriter;
 import com.google.gwt.core.client.GWT;
 
@@ -79,6 +81,12 @@ public class JsonSerializationContext extends JsonMappingContext {
 
         protected boolean wrapExceptions = true;
 
+        protected boolean useCbor = false;
+
+        protected boolean useCborStringReferences = false;
+
+        protected JsonMappingListener listener = null;
+
         /**
          * @deprecated Use {@link JsonSerializationContext#builder()} instead. This constructor will be made protected in v1.0.
          */
@@ -308,10 +316,62 @@ public class JsonSerializationContext extends JsonMappingContext {
             return this;
         }
 
+        /**
+         * Feature that determines whether the output is written as <a href="https://tools.ietf.org/html/rfc7049">CBOR</a> instead
+         * of JSON text. The output holds one char per byte and can be read back by a
+         * {@link com.github.nmorel.gwtjackson.client.JsonDeserializationContext} configured with
+         * {@link com.github.nmorel.gwtjackson.client.JsonDeserializationContext.Builder#useCbor(boolean)}. It must be sent as
+         * binary, see {@link com.github.nmorel.gwtjackson.client.stream.impl.CborJsonWriter}.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param useCbor true to write CBOR
+         *
+         * @return the builder
+         */
+        public Builder useCbor( boolean useCbor ) {
+            this.useCbor = useCbor;
+            return this;
+        }
+
+        /**
+         * Feature that determines whether the property names and strings repeated in a CBOR output are replaced by a reference to
+         * their first occurrence. It makes the output of a collection of beans a lot smaller as each property name is written
+         * only once. Only used when {@link #useCbor(boolean)} is enabled.
+         * <br>
+         * <br>
+         * Feature is disabled by default.
+         *
+         * @param useCborStringReferences true to replace the repeated strings by references
+         *
+         * @return the builder
+         */
+        public Builder useCborStringReferences( boolean useCborStringReferences ) {
+            this.useCborStringReferences = useCborStringReferences;
+            return this;
+        }
+
+        /**
+         * Sets the {@link JsonMappingListener} notified of the progress of the serialization, to collect metrics for example.
+         * <br>
+         * <br>
+         * There is no listener by default.
+         *
+         * @param listener the listener or null to remove it
+         *
+         * @return the builder
+         */
+        public Builder listener( JsonMappingListener listener ) {
+            this.listener = listener;
+            return this;
+        }
+
         public final JsonSerializationContext build() {
             return new JsonSerializationContext( useEqualityForObjectId, serializeNulls, writeDatesAsTimestamps,
                     writeDateKeysAsTimestamps, indent, wrapRootValue, writeCharArraysAsJsonArrays, writeNullMapValues,
-                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions );
+                    writeEmptyJsonArrays, orderMapEntriesByKeys, writeSingleElemArraysUnwrapped, wrapExceptions, useCbor,
+                    useCborStringReferences, listener );
         }
     }
 
@@ -332,6 +392,11 @@ public class JsonSerializationContext extends JsonMappingContext {
 
     private static final Logger logger = Logger.getLogger( "JsonSerialization" );
 
+    /**
+     * Maximum number of characters of the output logged when an error occurs.
+     */
+    private static final int ERROR_EXCERPT_LENGTH = 120;
+
     private Map<Object, ObjectIdSerializer<?>> mapObjectId;
 
     private List<ObjectIdGenerator<?>> generators;
@@ -363,11 +428,18 @@ public class JsonSerializationContext extends JsonMappingContext {
 
     private final boolean wrapExceptions;
 
+    private final boolean useCbor;
+
+    private final boolean useCborStringReferences;
+
+    private final JsonMappingListener listener;
+
     private JsonSerializationContext( boolean useEqualityForObjectId, boolean serializeNulls, boolean writeDatesAsTimestamps, boolean
             writeDateKeysAsTimestamps, boolean indent, boolean wrapRootValue, boolean writeCharArraysAsJsonArrays, boolean
                                               writeNullMapValues, boolean writeEmptyJsonArrays, boolean orderMapEntriesByKeys, boolean
             writeSingleElemArraysUnwrapped,
-                                      boolean wrapExceptions ) {
+                                      boolean wrapExceptions, boolean useCbor, boolean useCborStringReferences,
+                                      JsonMappingListener listener ) {
         this.useEqualityForObjectId = useEqualityForObjectId;
         this.serializeNulls = serializeNulls;
         this.writeDatesAsTimestamps = writeDatesAsTimestamps;
@@ -380,6 +452,9 @@ public class JsonSerializationContext extends JsonMappingContext {
         this.orderMapEntriesByKeys = orderMapEntriesByKeys;
         this.writeSingleElemArraysUnwrapped = writeSingleElemArraysUnwrapped;
         this.wrapExceptions = wrapExceptions;
+        this.useCbor = useCbor;
+        this.useCborStringReferences = useCborStringReferences;
+        this.listener = listener;
     }
 
     /**
@@ -390,6 +465,16 @@ public class JsonSerializationContext extends JsonMappingContext {
         return logger;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see Builder#listener(JsonMappingListener)
+     */
+    @Override
+    public JsonMappingListener getListener() {
+        return listener;
+    }
+
     /**
      * <p>isSerializeNulls</p>
      *
@@ -480,12 +565,37 @@ public class JsonSerializationContext extends JsonMappingContext {
         return writeSingleElemArraysUnwrapped;
     }
 
+    /**
+     * <p>isUseCbor</p>
+     *
+     * @return a boolean.
+     * @see Builder#useCbor(boolean)
+     */
+    public boolean isUseCbor() {
+        return useCbor;
+    }
+
+    /**
+     * <p>isUseCborStringReferences</p>
+     *
+     * @return a boolean.
+     * @see Builder#useCborStringReferences(boolean)
+     */
+    public boolean isUseCborStringReferences() {
+        return useCborStringReferences;
+    }
+
     /**
      * <p>newJsonWriter</p>
      *
      * @return a {@link com.github.nmorel.gwtjackson.client.stream.JsonWriter} object.
      */
     public JsonWriter newJsonWriter() {
+        if ( useCbor ) {
+            JsonWriter writer = new CborJsonWriter( new StringBuilder(), useCborStringReferences );
+            writer.setLenient( true );
+            return writer;
+        }
         JsonWriter writer = new FastJsonWriter( new StringBuilder() );
         writer.setLenient( true );
         if ( indent ) {
@@ -531,7 +641,11 @@ public class JsonSerializationContext extends JsonMappingContext {
      * @return a {@link JsonSerializationException} if we wrap the exceptions, the cause otherwise
      */
     public RuntimeException traceError( Object value, RuntimeException cause ) {
-        getLogger().log( Level.SEVERE, "Error during serialization", cause );
+        // the exception is thrown back to the caller, its stack trace is only logged when debugging
+        getLogger().log( Level.SEVERE, "Error during serialization : " + cause );
+        if ( getLogger().isLoggable( Level.FINE ) ) {
+            getLogger().log( Level.FINE, "Error during serialization", cause );
+        }
         if ( wrapExceptions ) {
             return new JsonSerializationException( cause );
         } else {
@@ -555,13 +669,20 @@ public class JsonSerializationContext extends JsonMappingContext {
     }
 
     /**
-     * Trace the current writer state
+     * Trace the current writer state. Only the type of the value is logged, with the path and the end of the output if the writer
+     * implements {@link JsonWriterLocation}.
      *
      * @param value current value
      */
     private void traceWriterInfo( Object value, JsonWriter writer ) {
-        if ( getLogger().isLoggable( Level.INFO ) ) {
-            getLogger().log( Level.INFO, "Error on value <" + value + ">. Current output : <" + writer.getOutput() + ">" );
+        if ( null != writer && getLogger().isLoggable( Level.INFO ) ) {
+            String message = "Error on value of type <" + (null == value ? null : value.getClass().getName()) + ">";
+            if ( writer instanceof JsonWriterLocation ) {
+                JsonWriterLocation location = (JsonWriterLocation) writer;
+                message += " at path '" + location.getPath() + "'. Current output : <" + location
+                        .getOutputExcerpt( ERROR_EXCERPT_LENGTH ) + ">";
+            }
+            getLogger().log( Level.INFO, message );
         }
     }
 
@@ -102,6 +102,40 @@ public abstract class JsonSerializer<T> {
         }
     }
 
+    /**
+     * Serializes the changes made to an object since a baseline as a JSON merge patch
+     * (<a href="https://tools.ietf.org/html/rfc7386">RFC 7386</a>). It is only called when the two values are not
+     * {@link #isEqual(Object, Object, JsonSerializationContext, JsonSerializerParameters) equal}. The default implementation
+     * serializes {@code value} entirely, replacing the baseline.
+     *
+     * @param writer {@link JsonWriter} used to write the serialized JSON
+     * @param baseline previous version of the object, can be null
+     * @param value Object to serialize, never null
+     * @param ctx Context for the full serialization process
+     * @param params Parameters for this serialization
+     *
+     * @throws JsonSerializationException if an error occurs during the serialization
+     */
+    public void serializePatch( JsonWriter writer, T baseline, T value, JsonSerializationContext ctx, JsonSerializerParameters params )
+            throws JsonSerializationException {
+        doSerialize( writer, value, ctx, params );
+    }
+
+    /**
+     * Returns true if the two values have the same JSON representation. It is used to skip the unchanged values when writing a
+     * patch. The default implementation relies on {@link Object#equals(Object)}.
+     *
+     * @param baseline previous version of the object, can be null
+     * @param value current version of the object, can be null
+     * @param ctx Context for the full serialization process
+     * @param params Parameters for this serialization
+     *
+     * @return true if the value did not change
+     */
+    public boolean isEqual( T baseline, T value, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        return baseline == value || (null != baseline && baseline.equals( value ));
+    }
+
     /**
      * Serialize the null value. This method allows children to override the default behaviour.
      *
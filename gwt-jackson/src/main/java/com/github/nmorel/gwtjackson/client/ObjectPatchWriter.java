@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+
+/**
+ * Writes the changes made to an object since a baseline.
+ * <p>The generated {@link ObjectWriter} and {@link ObjectMapper} implementations support it. To use it, add this interface to the
+ * ones extended by the writer interface.</p>
+ * <p>Example : </p>
+ * <pre>
+ * public interface PersonWriter extends ObjectWriter&lt;Person&gt;, ObjectPatchWriter&lt;Person&gt; {}
+ *
+ * PersonWriter writer = GWT.create(PersonWriter.class);
+ * String patch = writer.writePatch(baseline, person);
+ * </pre>
+ *
+ * @param <T> Type of the object to write
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public interface ObjectPatchWriter<T> {
+
+    /**
+     * Writes the changes made to an object since a baseline.
+     *
+     * @param baseline previous version of the object
+     * @param value Object to write
+     * @return the JSON merge patch
+     * @throws com.github.nmorel.gwtjackson.client.exception.JsonSerializationException if an exception occurs while writing the output
+     * @see #writePatch(Object, Object, JsonSerializationContext)
+     */
+    String writePatch( T baseline, T value ) throws JsonSerializationException;
+
+    /**
+     * Writes the changes made to an object since a baseline as a JSON merge patch
+     * (<a href="https://tools.ietf.org/html/rfc7386">RFC 7386</a>). Only the properties whose value changed are written, the
+     * nested beans and maps being compared recursively. A property or a map entry set to null or removed is written with a null
+     * value. The collections and arrays that changed are written entirely.
+     * <p>The baseline must not share mutable objects with {@code value}, a copy read from the last JSON sent for example, otherwise
+     * the changes made to the shared objects are not detected. A collection or array emptied since the baseline is always written,
+     * even if {@link JsonSerializationContext.Builder#writeEmptyJsonArrays(boolean)} is disabled.</p>
+     * <p>The patch is applied with {@link ObjectUpdater#readInto(String, Object, JsonDeserializationContext)} and a context with
+     * {@link JsonDeserializationContext.Builder#mergePatch(boolean)} enabled.</p>
+     *
+     * @param baseline previous version of the object, the object is written entirely if null
+     * @param value Object to write
+     * @param ctx Context for the full writing process
+     * @return the JSON merge patch
+     * @throws com.github.nmorel.gwtjackson.client.exception.JsonSerializationException if an exception occurs while writing the output
+     */
+    String writePatch( T baseline, T value, JsonSerializationContext ctx ) throws JsonSerializationException;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.tree.JsonNode;
+
+/**
+ * Reads a node of a JSON tree into an object.
+ * <p>The generated {@link ObjectReader} and {@link ObjectMapper} implementations support it. To use it, add this interface to the
+ * ones extended by the reader interface.</p>
+ * <p>Example : </p>
+ * <pre>
+ * public interface PersonReader extends ObjectReader&lt;Person&gt;, ObjectTreeReader&lt;Person&gt; {}
+ *
+ * PersonReader reader = GWT.create(PersonReader.class);
+ * Person person = reader.treeToValue(JsonNode.parse(input).at("/users/1"));
+ * </pre>
+ *
+ * @param <T> Type of the read object
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public interface ObjectTreeReader<T> {
+
+    /**
+     * Reads a node of a JSON tree into an object. Only the subtree of the node is read.
+     *
+     * @param node node to read
+     * @return the read object
+     * @throws com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException if an exception occurs while reading the node
+     */
+    T treeToValue( JsonNode node ) throws JsonDeserializationException;
+
+    /**
+     * Reads a node of a JSON tree into an object. Only the subtree of the node is read. The root value is never unwrapped.
+     *
+     * @param node node to read
+     * @param ctx Context for the full reading process
+     * @return the read object
+     * @throws com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException if an exception occurs while reading the node
+     */
+    T treeToValue( JsonNode node, JsonDeserializationContext ctx ) throws JsonDeserializationException;
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+
+/**
+ * Reads a JSON input into an existing object.
+ * <p>The generated {@link ObjectReader} and {@link ObjectMapper} implementations support it. To use it, add this interface to the
+ * ones extended by the reader interface.</p>
+ * <p>Example : </p>
+ * <pre>
+ * public interface PersonReader extends ObjectReader&lt;Person&gt;, ObjectUpdater&lt;Person&gt; {}
+ *
+ * PersonReader reader = GWT.create(PersonReader.class);
+ * Person person = reader.readInto("{\"lastName\":\"Morel\"}", existingPerson);
+ * </pre>
+ *
+ * @param <T> Type of the updated object
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public interface ObjectUpdater<T> {
+
+    /**
+     * Reads a JSON input into an existing object.
+     *
+     * @param input JSON input to read
+     * @param existing object to update
+     * @return the updated object
+     * @throws com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException if an exception occurs while reading the input
+     * @see #readInto(String, Object, JsonDeserializationContext)
+     */
+    T readInto( String input, T existing ) throws JsonDeserializationException;
+
+    /**
+     * Reads a JSON input into an existing object. The properties present in the input are set on {@code existing} and the beans,
+     * collections and maps it references are updated in place instead of being replaced. The way the collections and maps are
+     * updated is configured with {@link JsonDeserializationContext.Builder#mergeCollections(boolean)} and
+     * {@link JsonDeserializationContext.Builder#mergeMaps(boolean)}.
+     * <p>A new object is returned when {@code existing} is null or can't be updated, for example when the type found in the input
+     * differs from the type of {@code existing} or when it uses object identity.</p>
+     *
+     * @param input JSON input to read
+     * @param existing object to update
+     * @param ctx Context for the full reading process
+     * @return the updated object
+     * @throws com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException if an exception occurs while reading the input
+     */
+    T readInto( String input, T existing, JsonDeserializationContext ctx ) throws JsonDeserializationException;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotation;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+
+/**
+ * Annotation used on a collection or map property to give the number of elements it usually contains. The collection or map created
+ * during deserialization is presized accordingly, avoiding the successive resizes or rehashes of large collections.
+ * <p>The size is only a hint : the collection or map still grows if the JSON contains more elements.</p>
+ *
+ * @author Nicolas Morel.
+ * @version $Id: $
+ * @see JsonDeserializerParameters#setExpectedSize(int)
+ */
+@Target( {ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER} )
+@Retention( RetentionPolicy.CLASS )
+@JacksonAnnotation
+public @interface JsonExpectedSize {
+
+    /**
+     * Expected number of elements
+     *
+     * @return the expected number of elements
+     */
+    public int value();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotation;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+
+/**
+ * Annotation used on a property to intern the strings deserialized for it. Every occurrence of the same value will share a single
+ * instance taken from the cache of the {@link JsonDeserializationContext}. It is useful for properties with a small set of repeated
+ * values, like codes or labels, in large payloads.
+ * <p>To intern all the strings, use {@link JsonDeserializationContext.Builder#internStrings(boolean)} instead.</p>
+ *
+ * @author Nicolas Morel.
+ * @version $Id: $
+ */
+@Target( {ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER} )
+@Retention( RetentionPolicy.CLASS )
+@JacksonAnnotation
+public @interface JsonInternStrings {}
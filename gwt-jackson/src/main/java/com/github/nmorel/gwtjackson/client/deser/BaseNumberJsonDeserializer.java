@@ -24,6 +24,7 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.github.nmorel.gwtjackson.client.stream.impl.NumberCodec;
 
 /**
  * Base implementation of {@link JsonDeserializer} for {@link Number}.
@@ -51,7 +52,7 @@ public abstract class BaseNumberJsonDeserializer<N extends Number> extends JsonD
 
         @Override
         protected BigDecimal doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-            return new BigDecimal( reader.nextString() );
+            return NumberCodec.parseBigDecimal( reader.nextString() );
         }
     }
 
@@ -73,7 +74,7 @@ public abstract class BaseNumberJsonDeserializer<N extends Number> extends JsonD
 
         @Override
         protected BigInteger doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-            return new BigInteger( reader.nextString() );
+            return NumberCodec.parseBigInteger( reader.nextString() );
         }
     }
 
@@ -20,6 +20,7 @@ import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.utils.EnumLookup;
 
 /**
  * Default {@link JsonDeserializer} implementation for {@link Enum}.
@@ -43,6 +44,8 @@ public class EnumJsonDeserializer<E extends Enum<E>> extends JsonDeserializer<E>
 
     private final Class<E> enumClass;
 
+    private final EnumLookup<E> lookup;
+
     /**
      * <p>Constructor for EnumJsonDeserializer.</p>
      *
@@ -53,19 +56,13 @@ public class EnumJsonDeserializer<E extends Enum<E>> extends JsonDeserializer<E>
             throw new IllegalArgumentException( "enumClass cannot be null" );
         }
         this.enumClass = enumClass;
+        this.lookup = new EnumLookup<E>( enumClass );
     }
 
     /** {@inheritDoc} */
     @Override
     public E doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        try {
-            return Enum.valueOf( enumClass, reader.nextString() );
-        } catch ( IllegalArgumentException ex ) {
-            if ( ctx.isReadUnknownEnumValuesAsNull() ) {
-                return null;
-            }
-            throw ex;
-        }
+        return lookup.get( reader.nextString(), ctx.isReadUnknownEnumValuesAsNull() );
     }
 
     /**
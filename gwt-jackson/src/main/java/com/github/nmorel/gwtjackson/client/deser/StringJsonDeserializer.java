@@ -45,6 +45,10 @@ public class StringJsonDeserializer extends JsonDeserializer<String> {
     /** {@inheritDoc} */
     @Override
     public String doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        return reader.nextString();
+        String value = reader.nextString();
+        if ( params.isInternStrings() || ctx.isInternStrings() ) {
+            return ctx.intern( value );
+        }
+        return value;
     }
 }
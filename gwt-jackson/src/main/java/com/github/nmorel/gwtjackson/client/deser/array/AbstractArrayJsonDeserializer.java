@@ -23,6 +23,8 @@ import java.util.List;
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
@@ -105,15 +107,21 @@ public abstract class AbstractArrayJsonDeserializer<T> extends JsonDeserializer<
         } else {
 
             list = new ArrayList<C>();
+            JsonDeserializerParameters elementParams = params.getElementParameters();
 
             while ( JsonToken.END_ARRAY != token ) {
-                list.add( deserializer.deserialize( reader, ctx, params ) );
+                list.add( deserializer.deserialize( reader, ctx, elementParams ) );
                 token = reader.peek();
             }
 
         }
 
         reader.endArray();
+
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onElements( Operation.DESERIALIZATION, list.size() );
+        }
         return list;
     }
 }
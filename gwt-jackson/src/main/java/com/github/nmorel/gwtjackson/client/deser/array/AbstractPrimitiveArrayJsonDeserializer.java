@@ -0,0 +1,94 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+
+/**
+ * Base implementation of {@link JsonDeserializer} for array of primitives. The elements are read into a buffer that grows when needed
+ * and is trimmed to the number of elements read once the array is done.
+ *
+ * @param <A> Type of the array
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public abstract class AbstractPrimitiveArrayJsonDeserializer<A> extends AbstractArrayJsonDeserializer<A> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** {@inheritDoc} */
+    @Override
+    public A doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        int expectedSize = params.getExpectedSize();
+        int capacity = expectedSize > 0 ? expectedSize : DEFAULT_INITIAL_CAPACITY;
+        A result = newArray( capacity );
+        int size = 0;
+
+        JsonDeserializerParameters elementParams = params.getElementParameters();
+        reader.beginArray();
+        JsonToken token = reader.peek();
+        while ( JsonToken.END_ARRAY != token ) {
+            if ( size == capacity ) {
+                capacity = size * 2;
+                result = copyOf( result, size, capacity );
+            }
+            readElement( reader, ctx, elementParams, token, result, size );
+            size++;
+            token = reader.peek();
+        }
+        reader.endArray();
+
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onElements( Operation.DESERIALIZATION, size );
+        }
+        return size == capacity ? result : copyOf( result, size, size );
+    }
+
+    private A copyOf( A array, int size, int length ) {
+        A result = newArray( length );
+        System.arraycopy( array, 0, result, 0, size );
+        return result;
+    }
+
+    /**
+     * Instantiates a new array.
+     *
+     * @param length length of the array
+     * @return the new array
+     */
+    protected abstract A newArray( int length );
+
+    /**
+     * Reads the current element and sets it at the given index of the array. The index is always within the array.
+     *
+     * @param reader reader
+     * @param ctx context of the deserialization process
+     * @param params Parameters for the element deserializer
+     * @param token current token of the reader
+     * @param array array to fill
+     * @param index index of the element
+     */
+    protected abstract void readElement( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
+                                         JsonToken token, A array, int index );
+}
@@ -81,7 +81,7 @@ public class ArrayJsonDeserializer<T> extends AbstractArrayJsonDeserializer<T[]>
     @Override
     protected T[] doDeserializeSingleArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         T[] result = arrayCreator.create( 1 );
-        result[0] = deserializer.deserialize( reader, ctx, params );
+        result[0] = deserializer.deserialize( reader, ctx, params.getElementParameters() );
         return result;
     }
 
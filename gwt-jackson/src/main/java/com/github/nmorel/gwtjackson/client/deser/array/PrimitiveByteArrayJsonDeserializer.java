@@ -16,8 +16,6 @@
 
 package com.github.nmorel.gwtjackson.client.deser.array;
 
-import java.util.List;
-
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
@@ -32,7 +30,7 @@ import com.github.nmorel.gwtjackson.client.utils.Base64Utils;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveByteArrayJsonDeserializer extends AbstractArrayJsonDeserializer<byte[]> {
+public class PrimitiveByteArrayJsonDeserializer extends AbstractPrimitiveArrayJsonDeserializer<byte[]> {
 
     private static final PrimitiveByteArrayJsonDeserializer INSTANCE = new PrimitiveByteArrayJsonDeserializer();
 
@@ -49,18 +47,22 @@ public class PrimitiveByteArrayJsonDeserializer extends AbstractArrayJsonDeseria
 
     /** {@inheritDoc} */
     @Override
-    public byte[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        List<Byte> list = deserializeIntoList( reader, ctx, ByteJsonDeserializer.getInstance(), params );
+    protected byte[] newArray( int length ) {
+        return new byte[length];
+    }
 
-        byte[] result = new byte[list.size()];
-        int i = 0;
-        for ( Byte value : list ) {
+    /** {@inheritDoc} */
+    @Override
+    protected void readElement( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, JsonToken token,
+                                byte[] array, int index ) {
+        if ( JsonToken.NUMBER == token ) {
+            array[index] = (byte) reader.nextInt();
+        } else {
+            Byte value = ByteJsonDeserializer.getInstance().deserialize( reader, ctx, params );
             if ( null != value ) {
-                result[i] = value;
+                array[index] = value;
             }
-            i++;
         }
-        return result;
     }
 
     /** {@inheritDoc} */
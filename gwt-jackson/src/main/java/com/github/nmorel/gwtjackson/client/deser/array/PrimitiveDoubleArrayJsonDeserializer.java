@@ -16,13 +16,12 @@
 
 package com.github.nmorel.gwtjackson.client.deser.array;
 
-import java.util.List;
-
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.DoubleJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of double.
@@ -30,7 +29,7 @@ import com.github.nmorel.gwtjackson.client.stream.JsonReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveDoubleArrayJsonDeserializer extends AbstractArrayJsonDeserializer<double[]> {
+public class PrimitiveDoubleArrayJsonDeserializer extends AbstractPrimitiveArrayJsonDeserializer<double[]> {
 
     private static final PrimitiveDoubleArrayJsonDeserializer INSTANCE = new PrimitiveDoubleArrayJsonDeserializer();
 
@@ -47,18 +46,22 @@ public class PrimitiveDoubleArrayJsonDeserializer extends AbstractArrayJsonDeser
 
     /** {@inheritDoc} */
     @Override
-    public double[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        List<Double> list = deserializeIntoList( reader, ctx, DoubleJsonDeserializer.getInstance(), params );
+    protected double[] newArray( int length ) {
+        return new double[length];
+    }
 
-        double[] result = new double[list.size()];
-        int i = 0;
-        for ( Double value : list ) {
+    /** {@inheritDoc} */
+    @Override
+    protected void readElement( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, JsonToken token,
+                                double[] array, int index ) {
+        if ( JsonToken.NUMBER == token ) {
+            array[index] = reader.nextDouble();
+        } else {
+            Double value = DoubleJsonDeserializer.getInstance().deserialize( reader, ctx, params );
             if ( null != value ) {
-                result[i] = value;
+                array[index] = value;
             }
-            i++;
         }
-        return result;
     }
 
     /** {@inheritDoc} */
@@ -16,13 +16,12 @@
 
 package com.github.nmorel.gwtjackson.client.deser.array;
 
-import java.util.List;
-
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.FloatJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of float.
@@ -30,7 +29,7 @@ import com.github.nmorel.gwtjackson.client.stream.JsonReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveFloatArrayJsonDeserializer extends AbstractArrayJsonDeserializer<float[]> {
+public class PrimitiveFloatArrayJsonDeserializer extends AbstractPrimitiveArrayJsonDeserializer<float[]> {
 
     private static final PrimitiveFloatArrayJsonDeserializer INSTANCE = new PrimitiveFloatArrayJsonDeserializer();
 
@@ -47,18 +46,22 @@ public class PrimitiveFloatArrayJsonDeserializer extends AbstractArrayJsonDeseri
 
     /** {@inheritDoc} */
     @Override
-    public float[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        List<Float> list = deserializeIntoList( reader, ctx, FloatJsonDeserializer.getInstance(), params );
+    protected float[] newArray( int length ) {
+        return new float[length];
+    }
 
-        float[] result = new float[list.size()];
-        int i = 0;
-        for ( Float value : list ) {
+    /** {@inheritDoc} */
+    @Override
+    protected void readElement( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, JsonToken token,
+                                float[] array, int index ) {
+        if ( JsonToken.NUMBER == token ) {
+            array[index] = Float.parseFloat( reader.nextString() );
+        } else {
+            Float value = FloatJsonDeserializer.getInstance().deserialize( reader, ctx, params );
             if ( null != value ) {
-                result[i] = value;
+                array[index] = value;
             }
-            i++;
         }
-        return result;
     }
 
     /** {@inheritDoc} */
@@ -16,13 +16,12 @@
 
 package com.github.nmorel.gwtjackson.client.deser.array;
 
-import java.util.List;
-
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of int.
@@ -30,7 +29,7 @@ import com.github.nmorel.gwtjackson.client.stream.JsonReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveIntegerArrayJsonDeserializer extends AbstractArrayJsonDeserializer<int[]> {
+public class PrimitiveIntegerArrayJsonDeserializer extends AbstractPrimitiveArrayJsonDeserializer<int[]> {
 
     private static final PrimitiveIntegerArrayJsonDeserializer INSTANCE = new PrimitiveIntegerArrayJsonDeserializer();
 
@@ -47,18 +46,22 @@ public class PrimitiveIntegerArrayJsonDeserializer extends AbstractArrayJsonDese
 
     /** {@inheritDoc} */
     @Override
-    public int[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        List<Integer> list = deserializeIntoList( reader, ctx, IntegerJsonDeserializer.getInstance(), params );
+    protected int[] newArray( int length ) {
+        return new int[length];
+    }
 
-        int[] result = new int[list.size()];
-        int i = 0;
-        for ( Integer value : list ) {
+    /** {@inheritDoc} */
+    @Override
+    protected void readElement( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, JsonToken token,
+                                int[] array, int index ) {
+        if ( JsonToken.NUMBER == token ) {
+            array[index] = reader.nextInt();
+        } else {
+            Integer value = IntegerJsonDeserializer.getInstance().deserialize( reader, ctx, params );
             if ( null != value ) {
-                result[i] = value;
+                array[index] = value;
             }
-            i++;
         }
-        return result;
     }
 
     /** {@inheritDoc} */
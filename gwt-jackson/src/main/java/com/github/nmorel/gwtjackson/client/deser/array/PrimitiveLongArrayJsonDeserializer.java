@@ -16,13 +16,12 @@
 
 package com.github.nmorel.gwtjackson.client.deser.array;
 
-import java.util.List;
-
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.LongJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of long.
@@ -30,7 +29,7 @@ import com.github.nmorel.gwtjackson.client.stream.JsonReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveLongArrayJsonDeserializer extends AbstractArrayJsonDeserializer<long[]> {
+public class PrimitiveLongArrayJsonDeserializer extends AbstractPrimitiveArrayJsonDeserializer<long[]> {
 
     private static final PrimitiveLongArrayJsonDeserializer INSTANCE = new PrimitiveLongArrayJsonDeserializer();
 
@@ -47,18 +46,22 @@ public class PrimitiveLongArrayJsonDeserializer extends AbstractArrayJsonDeseria
 
     /** {@inheritDoc} */
     @Override
-    public long[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        List<Long> list = deserializeIntoList( reader, ctx, LongJsonDeserializer.getInstance(), params );
+    protected long[] newArray( int length ) {
+        return new long[length];
+    }
 
-        long[] result = new long[list.size()];
-        int i = 0;
-        for ( Long value : list ) {
+    /** {@inheritDoc} */
+    @Override
+    protected void readElement( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, JsonToken token,
+                                long[] array, int index ) {
+        if ( JsonToken.NUMBER == token ) {
+            array[index] = reader.nextLong();
+        } else {
+            Long value = LongJsonDeserializer.getInstance().deserialize( reader, ctx, params );
             if ( null != value ) {
-                result[i] = value;
+                array[index] = value;
             }
-            i++;
         }
-        return result;
     }
 
     /** {@inheritDoc} */
@@ -16,13 +16,12 @@
 
 package com.github.nmorel.gwtjackson.client.deser.array;
 
-import java.util.List;
-
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.ShortJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
 /**
  * Default {@link JsonDeserializer} implementation for array of short.
@@ -30,7 +29,7 @@ import com.github.nmorel.gwtjackson.client.stream.JsonReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveShortArrayJsonDeserializer extends AbstractArrayJsonDeserializer<short[]> {
+public class PrimitiveShortArrayJsonDeserializer extends AbstractPrimitiveArrayJsonDeserializer<short[]> {
 
     private static final PrimitiveShortArrayJsonDeserializer INSTANCE = new PrimitiveShortArrayJsonDeserializer();
 
@@ -47,18 +46,22 @@ public class PrimitiveShortArrayJsonDeserializer extends AbstractArrayJsonDeseri
 
     /** {@inheritDoc} */
     @Override
-    public short[] doDeserializeArray( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        List<Short> list = deserializeIntoList( reader, ctx, ShortJsonDeserializer.getInstance(), params );
+    protected short[] newArray( int length ) {
+        return new short[length];
+    }
 
-        short[] result = new short[list.size()];
-        int i = 0;
-        for ( Short value : list ) {
+    /** {@inheritDoc} */
+    @Override
+    protected void readElement( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, JsonToken token,
+                                short[] array, int index ) {
+        if ( JsonToken.NUMBER == token ) {
+            array[index] = (short) reader.nextInt();
+        } else {
+            Short value = ShortJsonDeserializer.getInstance().deserialize( reader, ctx, params );
             if ( null != value ) {
-                result[i] = value;
+                array[index] = value;
             }
-            i++;
         }
-        return result;
     }
 
     /** {@inheritDoc} */
@@ -16,9 +16,10 @@
 
 package com.github.nmorel.gwtjackson.client.deser.bean;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -27,11 +28,16 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
+import com.github.nmorel.gwtjackson.client.stream.JsonPropertyScanner;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.JsArrayString;
 
 /**
  * Base implementation of {@link JsonDeserializer} for beans.
@@ -42,6 +48,11 @@ import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T> implements InternalDeserializer<T,
         AbstractBeanJsonDeserializer<T>> {
 
+    /**
+     * Value buffered for the ignored properties so they are still taken into account for the required properties check
+     */
+    private static final Object IGNORED_PROPERTY_VALUE = new Object();
+
     protected final InstanceBuilder<T> instanceBuilder;
 
     private final SimpleStringMap<BeanPropertyDeserializer<T, ?>> deserializers;
@@ -52,6 +63,12 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
     private final Set<String> requiredProperties;
 
+    /**
+     * Number of required properties. Each one has an index in [0, requiredPropertiesCount[ used to track the required properties found
+     * in an int mask, without allocating a set for each bean.
+     */
+    private final int requiredPropertiesCount;
+
     private final IdentityDeserializationInfo<T> defaultIdentityInfo;
 
     private final TypeDeserializationInfo<T> defaultTypeInfo;
@@ -66,9 +83,11 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
     protected AbstractBeanJsonDeserializer() {
         this.instanceBuilder = initInstanceBuilder();
         this.deserializers = initDeserializers();
+        addUnwrappedDeserializers( initUnwrappedDeserializers() );
         this.backReferenceDeserializers = initBackReferenceDeserializers();
         this.defaultIgnoredProperties = initIgnoredProperties();
         this.requiredProperties = initRequiredProperties();
+        this.requiredPropertiesCount = initRequiredPropertiesIndexes();
         this.defaultIdentityInfo = initIdentityInfo();
         this.defaultTypeInfo = initTypeInfo();
         this.subtypeClassToDeserializer = initMapSubtypeClassToDeserializer();
@@ -94,6 +113,38 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return SimpleStringMap.createObject().cast();
     }
 
+    /**
+     * Initialize the {@link List} containing the deserializers of the properties annotated with {@link JsonUnwrapped}. Returns an empty
+     * list if there are no unwrapped properties.
+     *
+     * @return a {@link java.util.List} object.
+     */
+    protected List<BeanPropertyDeserializer<T, ?>> initUnwrappedDeserializers() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The properties of the unwrapped beans are added to the deserializers of this bean so they are routed to the unwrapped bean as
+     * they are read, without buffering them. The properties of this bean take precedence over the unwrapped ones with the same name.
+     */
+    private void addUnwrappedDeserializers( List<BeanPropertyDeserializer<T, ?>> unwrappedDeserializers ) {
+        for ( BeanPropertyDeserializer<T, ?> unwrappedProperty : unwrappedDeserializers ) {
+            if ( !(unwrappedProperty.getDeserializer() instanceof AbstractBeanJsonDeserializer) ) {
+                // a custom deserializer does not expose its properties
+                continue;
+            }
+            AbstractBeanJsonDeserializer<?> unwrappedDeserializer = (AbstractBeanJsonDeserializer<?>) unwrappedProperty.getDeserializer();
+            JsArrayString names = unwrappedDeserializer.deserializers.keys();
+            for ( int i = 0; i < names.length(); i++ ) {
+                String name = names.get( i );
+                if ( null == deserializers.get( name ) ) {
+                    deserializers.put( name, new UnwrappedPropertyDeserializer( unwrappedProperty, unwrappedDeserializer,
+                            (BeanPropertyDeserializer) unwrappedDeserializer.deserializers.get( name ) ) );
+                }
+            }
+        }
+    }
+
     /**
      * Initialize the {@link SimpleStringMap} containing the back reference deserializers. Returns an empty map if there are no back
      * reference on the bean.
@@ -122,6 +173,17 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return Collections.emptySet();
     }
 
+    private int initRequiredPropertiesIndexes() {
+        int index = 0;
+        for ( String propertyName : requiredProperties ) {
+            BeanPropertyDeserializer<T, ?> property = deserializers.get( propertyName );
+            if ( null != property ) {
+                property.setRequiredIndex( index++ );
+            }
+        }
+        return index;
+    }
+
     /**
      * Initialize the {@link IdentityDeserializationInfo}. Returns null if there is no {@link JsonIdentityInfo} annotation on bean.
      *
@@ -158,6 +220,16 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         return null;
     }
 
+    /**
+     * Instantiates the bean with its default constructor, without going through the {@link InstanceBuilder}. Returns null if the bean
+     * is created by a builder or by a creator with parameters.
+     *
+     * @return the new bean or null
+     */
+    protected T newDefaultInstance() {
+        return null;
+    }
+
     /**
      * Whether encountering of unknown
      * properties should result in a failure (by throwing a
@@ -202,6 +274,9 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             if ( null == instance ) {
                 throw ctx.traceError( "Cannot find an object with id " + id, reader );
             }
+            if ( null != ctx.getManagedReferenceName() ) {
+                setBackReference( ctx.getManagedReferenceName(), ctx.getManagedReference(), (T) instance, ctx );
+            }
             return (T) instance;
         }
 
@@ -219,21 +294,27 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
 
             switch ( include ) {
                 case PROPERTY:
-                    // the type info is the first property of the object
+                    // the type info is a property of the object. It is usually the first one but not always. When the reader can scan
+                    // ahead, the object is searched for it instead of buffering the properties placed before. The type property is
+                    // then left in the reader and skipped by deserializeInline.
                     reader.beginObject();
                     Map<String, String> bufferedProperties = null;
                     String typeInfoProperty = null;
-                    while ( JsonToken.NAME.equals( reader.peek() ) ) {
-                        String name = reader.nextName();
-
-                        if ( typeInfo.getPropertyName().equals( name ) ) {
-                            typeInfoProperty = reader.nextString();
-                            break;
-                        } else {
-                            if ( null == bufferedProperties ) {
-                                bufferedProperties = new HashMap<String, String>();
+                    if ( reader instanceof JsonPropertyScanner ) {
+                        typeInfoProperty = ((JsonPropertyScanner) reader).scanPropertyValue( typeInfo.getPropertyName() );
+                    } else {
+                        while ( JsonToken.NAME.equals( reader.peek() ) ) {
+                            String name = reader.nextName();
+
+                            if ( typeInfo.getPropertyName().equals( name ) ) {
+                                typeInfoProperty = reader.nextString();
+                                break;
+                            } else {
+                                if ( null == bufferedProperties ) {
+                                    bufferedProperties = new HashMap<String, String>();
+                                }
+                                bufferedProperties.put( name, reader.nextValue() );
                             }
-                            bufferedProperties.put( name, reader.nextValue() );
                         }
                     }
                     if ( null == typeInfoProperty ) {
@@ -305,18 +386,58 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
     public final T deserializeInline( final JsonReader reader, final JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                       IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String type,
                                       Map<String, String> bufferedProperties ) {
-        final boolean ignoreUnknown = params.isIgnoreUnknown() || isDefaultIgnoreUnknown();
-        final Set<String> ignoredProperties;
-        if ( null == params.getIgnoredProperties() ) {
-            ignoredProperties = defaultIgnoredProperties;
-        } else {
-            ignoredProperties = new HashSet<String>( defaultIgnoredProperties );
-            ignoredProperties.addAll( params.getIgnoredProperties() );
+        final String managedReferenceName = ctx.getManagedReferenceName();
+        if ( null == managedReferenceName ) {
+            return deserializeInlineAndNotify( reader, ctx, params, identityInfo, typeInfo, type, bufferedProperties );
+        }
+
+        // the bean is a value of a managed reference. The reference is cleared while the properties are read so the beans nested in
+        // this one do not take it, then the back reference is set directly instead of walking through the managed value afterwards.
+        final Object managedReference = ctx.getManagedReference();
+        ctx.setManagedReference( null, null );
+        try {
+            T bean = deserializeInlineAndNotify( reader, ctx, params, identityInfo, typeInfo, type, bufferedProperties );
+            BackReferenceProperty backReferenceProperty = backReferenceDeserializers.get( managedReferenceName );
+            if ( null == backReferenceProperty ) {
+                throw ctx.traceError( "The back reference '" + managedReferenceName + "' does not exist" );
+            }
+            backReferenceProperty.setBackReference( bean, managedReference, ctx );
+            return bean;
+        } finally {
+            ctx.setManagedReference( managedReferenceName, managedReference );
+        }
+    }
+
+    private T deserializeInlineAndNotify( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
+                                          IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String type,
+                                          Map<String, String> bufferedProperties ) {
+        final JsonMappingListener listener = ctx.getListener();
+        if ( null == listener ) {
+            return doDeserializeInline( reader, ctx, params, identityInfo, typeInfo, type, bufferedProperties, null );
+        }
+
+        listener.onBeanStart( Operation.DESERIALIZATION, getDeserializedType() );
+        try {
+            return doDeserializeInline( reader, ctx, params, identityInfo, typeInfo, type, bufferedProperties, listener );
+        } finally {
+            listener.onBeanEnd( Operation.DESERIALIZATION, getDeserializedType() );
         }
+    }
+
+    private T doDeserializeInline( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
+                                   IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String type,
+                                   Map<String, String> bufferedProperties, JsonMappingListener listener ) {
+        final boolean ignoreUnknown = params.isIgnoreUnknown() || isDefaultIgnoreUnknown();
+        final Set<String> paramsIgnoredProperties = params.getIgnoredProperties();
+
+        // when the type information comes from a property, this property is still in the reader and has to be skipped. With a wrapper
+        // object or array, the type information is not a property and a bean property with the same name has to be read.
+        final String typeInfoPropertyName = null != typeInfo && null != type && (As.PROPERTY == typeInfo.getInclude() || As
+                .EXISTING_PROPERTY == typeInfo.getInclude()) ? typeInfo.getPropertyName() : null;
 
-        // we will remove the properties read from this list and check at the end it's empty
-        Set<String> requiredPropertiesLeft = requiredProperties.isEmpty() ? Collections
-                .<String>emptySet() : new HashSet<String>( requiredProperties );
+        // the required properties found are marked by their index. The first 32 fit in an int, an array is only needed for wider beans.
+        final int[] requiredFoundWide = requiredPropertiesCount > 32 ? new int[(requiredPropertiesCount - 1) >> 5] : null;
+        int requiredFound = 0;
 
         // we first look for identity. It can also buffer properties if it is not in current reader position.
         Object id = null;
@@ -339,7 +460,7 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                 while ( JsonToken.NAME.equals( reader.peek() ) ) {
                     String name = reader.nextName();
 
-                    if ( ignoredProperties.contains( name ) ) {
+                    if ( isIgnoredProperty( name, paramsIgnoredProperties ) || name.equals( typeInfoPropertyName ) ) {
                         reader.skipValue();
                         continue;
                     }
@@ -375,11 +496,15 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
         }
 
         // we first instantiate the bean. It might buffer properties if there are properties required for constructor and they are not in
-        // first position
-        Instance<T> instance = instanceBuilder.newInstance( reader, ctx, params, bufferedProperties, bufferedPropertiesValues );
-
-        T bean = instance.getInstance();
-        bufferedProperties = instance.getBufferedProperties();
+        // first position. When nothing has been buffered and the bean has a default constructor, it is created directly.
+        T bean = null == bufferedProperties && null == bufferedPropertiesValues ? newDefaultInstance() : null;
+        if ( null == bean ) {
+            Instance<T> instance = instanceBuilder
+                    .newInstance( reader, ctx, params, bufferedProperties, bufferedPropertiesValues, typeInfoPropertyName );
+            bean = instance.getInstance();
+            bufferedProperties = instance.getBufferedProperties();
+            bufferedPropertiesValues = instance.getBufferedPropertiesValues();
+        }
 
         // we save the instance if we have an id
         if ( null != id ) {
@@ -392,10 +517,8 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             ctx.addObjectId( identityInfo.newIdKey( id ), bean );
         }
 
-        // we flush any buffered properties
-        flushBufferedProperties( bean, bufferedProperties, requiredPropertiesLeft, ctx, ignoreUnknown, ignoredProperties );
-
-        // in case there is a property that need the type info
+        // in case there is a property that need the type info. It is set before the buffered properties so a real property with the
+        // same name, read under a wrapper object or array, is kept
         if ( null != typeInfo && null != typeInfo.getPropertyName() && null != type ) {
             BeanPropertyDeserializer deserializer = getPropertyDeserializer( typeInfo.getPropertyName(), ctx, true );
             if ( null != deserializer ) {
@@ -403,45 +526,68 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
             }
         }
 
+        // we flush any buffered properties
+        requiredFound = flushBufferedProperties( bean, bufferedProperties, requiredFound, requiredFoundWide, ctx, ignoreUnknown,
+                paramsIgnoredProperties, typeInfoPropertyName, listener );
+        requiredFound = flushBufferedPropertiesValues( bean, bufferedPropertiesValues, requiredFound, requiredFoundWide, ctx );
+
         while ( JsonToken.NAME.equals( reader.peek() ) ) {
             String propertyName = reader.nextName();
 
-            requiredPropertiesLeft.remove( propertyName );
-
-            if ( ignoredProperties.contains( propertyName ) ) {
+            if ( isIgnoredProperty( propertyName, paramsIgnoredProperties ) || propertyName.equals( typeInfoPropertyName ) ) {
+                requiredFound = markRequiredProperty( deserializers.get( propertyName ), requiredFound, requiredFoundWide );
                 reader.skipValue();
+                if ( null != listener && !propertyName.equals( typeInfoPropertyName ) ) {
+                    listener.onSkippedValue( getDeserializedType(), propertyName );
+                }
                 continue;
             }
 
             BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer( propertyName, ctx, ignoreUnknown );
             if ( null != property ) {
+                requiredFound = markRequiredProperty( property, requiredFound, requiredFoundWide );
+                if ( null != listener ) {
+                    listener.onProperty( Operation.DESERIALIZATION, getDeserializedType(), propertyName );
+                }
                 property.deserialize( reader, bean, ctx );
             } else if ( null != anySetterDeserializer ) {
+                if ( null != listener ) {
+                    listener.onProperty( Operation.DESERIALIZATION, getDeserializedType(), propertyName );
+                }
                 anySetterDeserializer.deserialize( reader, bean, propertyName, ctx );
             } else {
                 reader.skipValue();
+                if ( null != listener ) {
+                    listener.onSkippedValue( getDeserializedType(), propertyName );
+                }
             }
         }
 
-        if ( !requiredPropertiesLeft.isEmpty() ) {
-            throw ctx.traceError( "Required properties are missing : " + requiredPropertiesLeft, reader );
+        if ( requiredPropertiesCount > 0 && !areRequiredPropertiesFound( requiredFound, requiredFoundWide ) ) {
+            throw ctx.traceError( "Required properties are missing : " + getMissingRequiredProperties( requiredFound,
+                    requiredFoundWide ), reader );
         }
         return bean;
     }
 
-    private void flushBufferedProperties( T bean, Map<String, String> bufferedProperties, Set<String> requiredPropertiesLeft,
-                                          JsonDeserializationContext ctx, boolean ignoreUnknown, Set<String> ignoredProperties ) {
+    private int flushBufferedProperties( T bean, Map<String, String> bufferedProperties, int requiredFound, int[] requiredFoundWide,
+                                         JsonDeserializationContext ctx, boolean ignoreUnknown, Set<String> paramsIgnoredProperties,
+                                         String typeInfoPropertyName, JsonMappingListener listener ) {
         if ( null != bufferedProperties && !bufferedProperties.isEmpty() ) {
             for ( Entry<String, String> bufferedProperty : bufferedProperties.entrySet() ) {
                 String propertyName = bufferedProperty.getKey();
 
-                requiredPropertiesLeft.remove( propertyName );
-
-                if ( ignoredProperties.contains( propertyName ) ) {
+                if ( isIgnoredProperty( propertyName, paramsIgnoredProperties ) || propertyName.equals( typeInfoPropertyName ) ) {
+                    requiredFound = markRequiredProperty( deserializers.get( propertyName ), requiredFound, requiredFoundWide );
                     continue;
                 }
 
                 BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer( propertyName, ctx, ignoreUnknown );
+                requiredFound = markRequiredProperty( property, requiredFound, requiredFoundWide );
+                if ( null != listener && (null != property || null != anySetterDeserializer) ) {
+                    listener.onBufferedProperty( getDeserializedType(), propertyName );
+                    listener.onProperty( Operation.DESERIALIZATION, getDeserializedType(), propertyName );
+                }
                 if ( null != property ) {
                     property.deserialize( ctx.newJsonReader( bufferedProperty.getValue() ), bean, ctx );
                 } else if ( null != anySetterDeserializer ) {
@@ -449,6 +595,246 @@ public abstract class AbstractBeanJsonDeserializer<T> extends JsonDeserializer<T
                 }
             }
         }
+        return requiredFound;
+    }
+
+    private int flushBufferedPropertiesValues( T bean, Map<String, Object> bufferedPropertiesValues, int requiredFound, int[]
+            requiredFoundWide, JsonDeserializationContext ctx ) {
+        if ( null != bufferedPropertiesValues && !bufferedPropertiesValues.isEmpty() ) {
+            for ( Entry<String, Object> bufferedProperty : bufferedPropertiesValues.entrySet() ) {
+                String propertyName = bufferedProperty.getKey();
+
+                BeanPropertyDeserializer property = deserializers.get( propertyName );
+                requiredFound = markRequiredProperty( property, requiredFound, requiredFoundWide );
+
+                Object value = bufferedProperty.getValue();
+                if ( IGNORED_PROPERTY_VALUE == value ) {
+                    continue;
+                }
+
+                if ( null != property ) {
+                    property.setValueAndBackReferences( bean, value, ctx );
+                } else {
+                    ((AnySetterDeserializer) anySetterDeserializer)
+                            .setValue( bean, ctx.isInternKeys() ? ctx.intern( propertyName ) : propertyName, value, ctx );
+                }
+            }
+        }
+        return requiredFound;
+    }
+
+    /**
+     * Marks the property as found if it is required.
+     *
+     * @param property the property, can be null
+     * @param requiredFound mask of the first 32 required properties found
+     * @param requiredFoundWide masks of the other required properties found, null if the bean has 32 required properties or less
+     *
+     * @return the updated mask of the first 32 required properties
+     */
+    private int markRequiredProperty( BeanPropertyDeserializer<T, ?> property, int requiredFound, int[] requiredFoundWide ) {
+        if ( null == property ) {
+            return requiredFound;
+        }
+        int index = property.getRequiredIndex();
+        if ( index < 0 ) {
+            return requiredFound;
+        }
+        if ( index < 32 ) {
+            return requiredFound | (1 << index);
+        }
+        requiredFoundWide[(index >> 5) - 1] |= 1 << (index & 31);
+        return requiredFound;
+    }
+
+    private boolean isRequiredPropertyFound( int index, int requiredFound, int[] requiredFoundWide ) {
+        int mask = index < 32 ? requiredFound : requiredFoundWide[(index >> 5) - 1];
+        return (mask & (1 << (index & 31))) != 0;
+    }
+
+    private boolean areRequiredPropertiesFound( int requiredFound, int[] requiredFoundWide ) {
+        for ( int i = 0; i < requiredPropertiesCount; i++ ) {
+            if ( !isRequiredPropertyFound( i, requiredFound, requiredFoundWide ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<String> getMissingRequiredProperties( int requiredFound, int[] requiredFoundWide ) {
+        List<String> missing = new ArrayList<String>();
+        for ( String propertyName : requiredProperties ) {
+            BeanPropertyDeserializer<T, ?> property = deserializers.get( propertyName );
+            if ( null != property && !isRequiredPropertyFound( property.getRequiredIndex(), requiredFound, requiredFoundWide ) ) {
+                missing.add( propertyName );
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Deserializes the value of a property found while the bean cannot be instantiated yet because some of the creator's parameters
+     * are still missing. The value is kept in {@code bufferedPropertiesValues} and set on the bean once it is instantiated so each
+     * property is only parsed once.
+     *
+     * @param propertyName name of the property
+     * @param reader reader positioned on the value of the property
+     * @param ctx context of the deserialization process
+     * @param params parameters of the deserialization process
+     * @param bufferedPropertiesValues properties already buffered, can be null
+     * @param typeInfoPropertyName name of the property containing the type information still present in the reader, null if there is
+     * none
+     *
+     * @return the map containing the buffered properties
+     */
+    protected final Map<String, Object> bufferPropertyValue( String propertyName, JsonReader reader, JsonDeserializationContext ctx,
+                                                             JsonDeserializerParameters params, Map<String, Object>
+                                                                     bufferedPropertiesValues, String typeInfoPropertyName ) {
+        if ( null == bufferedPropertiesValues ) {
+            bufferedPropertiesValues = new HashMap<String, Object>();
+        }
+
+        if ( isIgnoredProperty( propertyName, params.getIgnoredProperties() ) || propertyName.equals( typeInfoPropertyName ) ) {
+            reader.skipValue();
+            bufferedPropertiesValues.put( propertyName, IGNORED_PROPERTY_VALUE );
+            return bufferedPropertiesValues;
+        }
+
+        final JsonMappingListener listener = ctx.getListener();
+        BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer( propertyName, ctx, params.isIgnoreUnknown() ||
+                isDefaultIgnoreUnknown() );
+        if ( null != property ) {
+            if ( null != listener ) {
+                listener.onProperty( Operation.DESERIALIZATION, getDeserializedType(), propertyName );
+            }
+            bufferedPropertiesValues.put( propertyName, property.deserialize( reader, ctx ) );
+        } else if ( null != anySetterDeserializer ) {
+            if ( null != listener ) {
+                listener.onProperty( Operation.DESERIALIZATION, getDeserializedType(), propertyName );
+            }
+            bufferedPropertiesValues.put( propertyName, anySetterDeserializer.deserialize( reader, ctx ) );
+        } else {
+            reader.skipValue();
+            if ( null != listener ) {
+                listener.onSkippedValue( getDeserializedType(), propertyName );
+            }
+        }
+        return bufferedPropertiesValues;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The properties present in the input are applied on {@code existing}. The beans, collections and maps it references are updated
+     * in place when their deserializer supports it. The properties set through the creator cannot be changed on an existing instance
+     * and are skipped. A new instance is returned when {@code existing} is null, when the bean uses identity or when the type
+     * information found in the input does not match the type of {@code existing}.
+     */
+    @Override
+    public T deserializeInto( JsonReader reader, T existing, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        final IdentityDeserializationInfo identityInfo = null == params.getIdentityInfo() ? defaultIdentityInfo : params.getIdentityInfo();
+        final TypeDeserializationInfo typeInfo = null == params.getTypeInfo() ? defaultTypeInfo : params.getTypeInfo();
+
+        // the object ids have to be registered so an instance with identity is always read again
+        if ( null == existing || null != identityInfo || !JsonToken.BEGIN_OBJECT.equals( reader.peek() ) ) {
+            return deserialize( reader, ctx, params );
+        }
+
+        T result;
+        if ( null == typeInfo ) {
+            reader.beginObject();
+            result = updateInline( reader, existing, ctx, params, null );
+            reader.endObject();
+        } else if ( As.PROPERTY == typeInfo.getInclude() && reader instanceof JsonPropertyScanner ) {
+            reader.beginObject();
+            String typeInfoProperty = ((JsonPropertyScanner) reader).scanPropertyValue( typeInfo.getPropertyName() );
+            if ( null == typeInfoProperty ) {
+                throw ctx.traceError( "Cannot find the property " + typeInfo
+                        .getPropertyName() + " containing the type information", reader );
+            }
+            InternalDeserializer<T, ? extends JsonDeserializer<T>> deserializer = getDeserializer( reader, ctx, typeInfo,
+                    typeInfoProperty );
+            if ( existing.getClass() == typeInfo.getTypeClass( typeInfoProperty ) && deserializer
+                    .getDeserializer() instanceof AbstractBeanJsonDeserializer ) {
+                result = ((AbstractBeanJsonDeserializer<T>) deserializer.getDeserializer())
+                        .updateInline( reader, existing, ctx, params, typeInfo.getPropertyName() );
+            } else {
+                result = deserializer.deserializeInline( reader, ctx, params, null, typeInfo, typeInfoProperty, null );
+            }
+            reader.endObject();
+        } else {
+            result = deserialize( reader, ctx, params );
+        }
+        return result;
+    }
+
+    /**
+     * Applies the properties of the current json object on an existing bean. The {@link JsonReader} must be in a json object.
+     */
+    private T updateInline( JsonReader reader, T bean, JsonDeserializationContext ctx, JsonDeserializerParameters params, String
+            typeInfoPropertyName ) {
+        final JsonMappingListener listener = ctx.getListener();
+        if ( null == listener ) {
+            return doUpdateInline( reader, bean, ctx, params, typeInfoPropertyName, null );
+        }
+
+        listener.onBeanStart( Operation.DESERIALIZATION, getDeserializedType() );
+        try {
+            return doUpdateInline( reader, bean, ctx, params, typeInfoPropertyName, listener );
+        } finally {
+            listener.onBeanEnd( Operation.DESERIALIZATION, getDeserializedType() );
+        }
+    }
+
+    private T doUpdateInline( JsonReader reader, T bean, JsonDeserializationContext ctx, JsonDeserializerParameters params, String
+            typeInfoPropertyName, JsonMappingListener listener ) {
+        final boolean ignoreUnknown = params.isIgnoreUnknown() || isDefaultIgnoreUnknown();
+        final Set<String> paramsIgnoredProperties = params.getIgnoredProperties();
+
+        while ( JsonToken.NAME.equals( reader.peek() ) ) {
+            String propertyName = reader.nextName();
+
+            if ( isIgnoredProperty( propertyName, paramsIgnoredProperties ) || propertyName.equals( typeInfoPropertyName ) ) {
+                reader.skipValue();
+                if ( null != listener && !propertyName.equals( typeInfoPropertyName ) ) {
+                    listener.onSkippedValue( getDeserializedType(), propertyName );
+                }
+                continue;
+            }
+
+            BeanPropertyDeserializer<T, ?> property = deserializers.get( propertyName );
+            if ( null != property ) {
+                if ( null != listener ) {
+                    listener.onProperty( Operation.DESERIALIZATION, getDeserializedType(), propertyName );
+                }
+                property.deserializeInto( reader, bean, ctx );
+            } else if ( null != instanceBuilder && null != instanceBuilder.getParametersDeserializer().get( propertyName ) ) {
+                reader.skipValue();
+                if ( null != listener ) {
+                    listener.onSkippedValue( getDeserializedType(), propertyName );
+                }
+            } else {
+                // fails if the unknown properties are not allowed
+                getPropertyDeserializer( propertyName, ctx, ignoreUnknown );
+                if ( null != anySetterDeserializer ) {
+                    if ( null != listener ) {
+                        listener.onProperty( Operation.DESERIALIZATION, getDeserializedType(), propertyName );
+                    }
+                    anySetterDeserializer.deserialize( reader, bean, propertyName, ctx );
+                } else {
+                    reader.skipValue();
+                    if ( null != listener ) {
+                        listener.onSkippedValue( getDeserializedType(), propertyName );
+                    }
+                }
+            }
+        }
+        return bean;
+    }
+
+    private boolean isIgnoredProperty( String propertyName, Set<String> paramsIgnoredProperties ) {
+        return defaultIgnoredProperties.contains( propertyName ) || (null != paramsIgnoredProperties && paramsIgnoredProperties
+                .contains( propertyName ));
     }
 
     private BeanPropertyDeserializer<T, ?> getPropertyDeserializer( String propertyName, JsonDeserializationContext ctx, boolean
@@ -16,6 +16,11 @@
 
 package com.github.nmorel.gwtjackson.client.deser.bean;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.NumberJsonDeserializer;
@@ -25,6 +30,13 @@ import com.github.nmorel.gwtjackson.client.deser.collection.ArrayListJsonDeseria
 import com.github.nmorel.gwtjackson.client.deser.map.LinkedHashMapJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.map.key.StringKeyDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.github.nmorel.gwtjackson.client.stream.impl.NonBufferedJsonReader;
+import com.github.nmorel.gwtjackson.client.tree.JsonNodeReader;
+import com.github.nmorel.gwtjackson.client.utils.CapacityUtils;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
 
 /**
  * <p>Abstract AbstractObjectBeanJsonDeserializer class.</p>
@@ -49,6 +61,25 @@ public abstract class AbstractObjectBeanJsonDeserializer extends AbstractBeanJso
     @Override
     public Object deserializeWrapped( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
                                       IdentityDeserializationInfo identityInfo, TypeDeserializationInfo typeInfo, String typeInformation ) {
+        if ( null == identityInfo && null == typeInfo ) {
+            // no identity or type information to handle, we can read the whole value in one walk
+            JsonToken token = reader.peek();
+            if ( GWT.isScript() && (JsonToken.BEGIN_ARRAY == token || JsonToken.BEGIN_OBJECT == token)
+                    && (reader instanceof NonBufferedJsonReader || reader instanceof JsonNodeReader) ) {
+                // the browser parses the value natively, we only convert the result
+                boolean internStrings = params.isInternStrings() || ctx.isInternStrings();
+                return toJava( reader.nextJavaScriptObject( ctx.isUseSafeEval() ), ctx, internStrings, ctx.isInternKeys() );
+            }
+            switch ( token ) {
+                case BEGIN_ARRAY:
+                    return readList( reader, ctx, params, params.getExpectedSize() );
+                case BEGIN_OBJECT:
+                    return readMap( reader, ctx, params, params.getExpectedSize() );
+                default:
+                    return readValue( reader, ctx, params );
+            }
+        }
+
         switch ( reader.peek() ) {
             case NUMBER:
                 return NumberJsonDeserializer.getInstance().doDeserialize( reader, ctx, params );
@@ -74,4 +105,158 @@ public abstract class AbstractObjectBeanJsonDeserializer extends AbstractBeanJso
         }
     }
 
+    /**
+     * Reads an untyped value. Objects and arrays are read recursively into {@link LinkedHashMap} and {@link ArrayList} without going
+     * through a deserializer for each value.
+     */
+    private Object readValue( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        switch ( reader.peek() ) {
+            case NUMBER:
+                return reader.nextNumber();
+            case STRING:
+                String value = reader.nextString();
+                return params.isInternStrings() || ctx.isInternStrings() ? ctx.intern( value ) : value;
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case BEGIN_ARRAY:
+                return readList( reader, ctx, params, 0 );
+            case BEGIN_OBJECT:
+                return readMap( reader, ctx, params, 0 );
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                throw ctx.traceError( "Unexpected token " + reader.peek() + " for java.lang.Object deserialization", reader );
+        }
+    }
+
+    private List<Object> readList( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, int
+            expectedSize ) {
+        List<Object> list;
+        if ( expectedSize > 0 ) {
+            list = new ArrayList<Object>( expectedSize );
+        } else {
+            list = new ArrayList<Object>();
+        }
+        reader.beginArray();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            list.add( readValue( reader, ctx, params ) );
+        }
+        reader.endArray();
+        return list;
+    }
+
+    private Map<String, Object> readMap( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, int
+            expectedSize ) {
+        Map<String, Object> map;
+        if ( expectedSize > 0 ) {
+            map = new LinkedHashMap<String, Object>( CapacityUtils.getInitialCapacity( expectedSize ) );
+        } else {
+            map = new LinkedHashMap<String, Object>();
+        }
+        boolean internKeys = ctx.isInternKeys();
+        reader.beginObject();
+        while ( JsonToken.END_OBJECT != reader.peek() ) {
+            String name = reader.nextName();
+            map.put( internKeys ? ctx.intern( name ) : name, readValue( reader, ctx, params ) );
+        }
+        reader.endObject();
+        return map;
+    }
+
+    /**
+     * Converts a natively parsed object or array into {@link LinkedHashMap} and {@link ArrayList} in one recursive walk. The numbers are
+     * JavaScript numbers : an integral number is returned as an int or a long, any other as a double.
+     */
+    private static Object toJava( JavaScriptObject value, JsonDeserializationContext ctx, boolean internStrings, boolean internKeys ) {
+        if ( isArray( value ) ) {
+            int length = length( value );
+            List<Object> list = new ArrayList<Object>( length );
+            for ( int i = 0; i < length; i++ ) {
+                list.add( toJava( value, String.valueOf( i ), ctx, internStrings, internKeys ) );
+            }
+            return list;
+        } else {
+            JsArrayString keys = keys( value );
+            int length = keys.length();
+            Map<String, Object> map = new LinkedHashMap<String, Object>( CapacityUtils.getInitialCapacity( length ) );
+            for ( int i = 0; i < length; i++ ) {
+                String key = keys.get( i );
+                map.put( internKeys ? ctx.intern( key ) : key, toJava( value, key, ctx, internStrings, internKeys ) );
+            }
+            return map;
+        }
+    }
+
+    private static Object toJava( JavaScriptObject container, String key, JsonDeserializationContext ctx, boolean internStrings,
+                                  boolean internKeys ) {
+        switch ( typeOf( container, key ) ) {
+            case 1:
+                String value = getString( container, key );
+                return internStrings ? ctx.intern( value ) : value;
+            case 2:
+                double number = getNumber( container, key );
+                if ( number == (int) number ) {
+                    return (int) number;
+                } else if ( number == (long) number ) {
+                    return (long) number;
+                } else {
+                    return number;
+                }
+            case 3:
+                return getBoolean( container, key );
+            case 0:
+                return toJava( getObject( container, key ), ctx, internStrings, internKeys );
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return 0 for an object or an array, 1 for a string, 2 for a number, 3 for a boolean and 4 for null
+     */
+    private static native int typeOf( JavaScriptObject container, String key ) /*-{
+        var value = container[key];
+        if (value === null || value === undefined) {
+            return 4;
+        }
+        switch (typeof value) {
+            case 'string':
+                return 1;
+            case 'number':
+                return 2;
+            case 'boolean':
+                return 3;
+            default:
+                return 0;
+        }
+    }-*/;
+
+    private static native JavaScriptObject getObject( JavaScriptObject container, String key ) /*-{
+        return container[key];
+    }-*/;
+
+    private static native String getString( JavaScriptObject container, String key ) /*-{
+        return container[key];
+    }-*/;
+
+    private static native double getNumber( JavaScriptObject container, String key ) /*-{
+        return container[key];
+    }-*/;
+
+    private static native boolean getBoolean( JavaScriptObject container, String key ) /*-{
+        return container[key];
+    }-*/;
+
+    private static native boolean isArray( JavaScriptObject value ) /*-{
+        return Array.isArray(value);
+    }-*/;
+
+    private static native int length( JavaScriptObject array ) /*-{
+        return array.length;
+    }-*/;
+
+    private static native JsArrayString keys( JavaScriptObject object ) /*-{
+        return Object.keys(object);
+    }-*/;
 }
@@ -29,7 +29,8 @@ import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 public abstract class AnySetterDeserializer<T, V> extends HasDeserializerAndParameters<V, JsonDeserializer<V>> {
 
     /**
-     * Deserializes the property defined for this instance.
+     * Deserializes the property defined for this instance. The property name is interned if
+     * {@link JsonDeserializationContext#isInternKeys()} is enabled.
      *
      * @param reader reader
      * @param bean bean to set the deserialized property to
@@ -37,7 +38,7 @@ public abstract class AnySetterDeserializer<T, V> extends HasDeserializerAndPara
      * @param ctx context of the deserialization process
      */
     public void deserialize( JsonReader reader, T bean, String propertyName, JsonDeserializationContext ctx ) {
-        setValue( bean, propertyName, deserialize( reader, ctx ), ctx );
+        setValue( bean, ctx.isInternKeys() ? ctx.intern( propertyName ) : propertyName, deserialize( reader, ctx ), ctx );
     }
 
     /**
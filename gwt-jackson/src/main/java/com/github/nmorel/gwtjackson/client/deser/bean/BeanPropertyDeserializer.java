@@ -28,6 +28,19 @@ import com.github.nmorel.gwtjackson.client.stream.JsonReader;
  */
 public abstract class BeanPropertyDeserializer<T, V> extends HasDeserializerAndParameters<V, JsonDeserializer<V>> {
 
+    /**
+     * Index of the property among the required properties of the bean or -1 if the property is not required
+     */
+    private int requiredIndex = -1;
+
+    int getRequiredIndex() {
+        return requiredIndex;
+    }
+
+    void setRequiredIndex( int requiredIndex ) {
+        this.requiredIndex = requiredIndex;
+    }
+
     /**
      * Deserializes the property defined for this instance.
      *
@@ -36,7 +49,76 @@ public abstract class BeanPropertyDeserializer<T, V> extends HasDeserializerAndP
      * @param ctx context of the deserialization process
      */
     public void deserialize( JsonReader reader, T bean, JsonDeserializationContext ctx ) {
-        setValue( bean, deserialize( reader, ctx ), ctx );
+        String managedReference = getManagedReference();
+        if ( null == managedReference ) {
+            setValue( bean, deserialize( reader, ctx ), ctx );
+            return;
+        }
+
+        // the beans read as value of the property set their back reference to this bean while they are deserialized
+        String previousName = ctx.getManagedReferenceName();
+        Object previousReference = ctx.getManagedReference();
+        ctx.setManagedReference( managedReference, bean );
+        V value;
+        try {
+            value = deserialize( reader, ctx );
+        } finally {
+            ctx.setManagedReference( previousName, previousReference );
+        }
+        setValue( bean, value, ctx );
+    }
+
+    /**
+     * Deserializes the property defined for this instance into its current value. The current value is updated in place when its
+     * deserializer supports it.
+     *
+     * @param reader reader
+     * @param bean bean to update
+     * @param ctx context of the deserialization process
+     */
+    public void deserializeInto( JsonReader reader, T bean, JsonDeserializationContext ctx ) {
+        V existing = getValue( bean, ctx );
+        // the value is set even if it is the same instance so the back references of the new elements are set too
+        setValueAndBackReferences( bean, getDeserializer().deserializeInto( reader, existing, ctx, getParameters() ), ctx );
+    }
+
+    /**
+     * Sets a value deserialized apart from the bean. If the property is a managed reference, the back references are set by walking
+     * through the value.
+     *
+     * @param bean bean to set the value to
+     * @param value value to set
+     * @param ctx context of the deserialization process
+     */
+    public void setValueAndBackReferences( T bean, V value, JsonDeserializationContext ctx ) {
+        setValue( bean, value, ctx );
+        String managedReference = getManagedReference();
+        if ( null != managedReference ) {
+            getDeserializer().setBackReference( managedReference, bean, value, ctx );
+        }
+    }
+
+    /**
+     * Returns the name of the managed reference if the property is annotated with
+     * {@link com.fasterxml.jackson.annotation.JsonManagedReference}, null otherwise.
+     *
+     * @return the name of the managed reference or null
+     */
+    protected String getManagedReference() {
+        return null;
+    }
+
+    /**
+     * Returns the current value of the property. The default implementation returns null so the value is always replaced. It is
+     * overridden when the property has a visible getter.
+     *
+     * @param bean a T object.
+     * @param ctx a {@link com.github.nmorel.gwtjackson.client.JsonDeserializationContext} object.
+     *
+     * @return the current value of the property
+     */
+    public V getValue( T bean, JsonDeserializationContext ctx ) {
+        return null;
     }
 
     /**
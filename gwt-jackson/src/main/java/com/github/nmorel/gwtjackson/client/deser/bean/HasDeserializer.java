@@ -19,14 +19,14 @@ package com.github.nmorel.gwtjackson.client.deser.bean;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 
 /**
- * Lazy initialize a {@link JsonDeserializer}
+ * Lazy initialize a {@link JsonDeserializer}. The deserializer is safely published so the instance can be shared between threads.
  *
  * @author Nicolas Morel
  * @version $Id: $
  */
 public abstract class HasDeserializer<V, S extends JsonDeserializer<V>> {
 
-    private S deserializer;
+    private volatile S deserializer;
 
     /**
      * <p>Getter for the field <code>deserializer</code>.</p>
@@ -34,10 +34,12 @@ public abstract class HasDeserializer<V, S extends JsonDeserializer<V>> {
      * @return a S object.
      */
     public S getDeserializer() {
-        if ( null == deserializer ) {
-            deserializer = (S) newDeserializer();
+        S result = deserializer;
+        if ( null == result ) {
+            result = (S) newDeserializer();
+            deserializer = result;
         }
-        return deserializer;
+        return result;
     }
 
     /**
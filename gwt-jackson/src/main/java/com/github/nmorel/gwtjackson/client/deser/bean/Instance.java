@@ -30,6 +30,8 @@ public class Instance<T> {
 
     private final Map<String, String> bufferedProperties;
 
+    private final Map<String, Object> bufferedPropertiesValues;
+
     /**
      * <p>Constructor for Instance.</p>
      *
@@ -37,8 +39,20 @@ public class Instance<T> {
      * @param bufferedProperties a {@link java.util.Map} object.
      */
     public Instance( T instance, Map<String, String> bufferedProperties ) {
+        this( instance, bufferedProperties, null );
+    }
+
+    /**
+     * <p>Constructor for Instance.</p>
+     *
+     * @param instance a T object.
+     * @param bufferedProperties a {@link java.util.Map} object.
+     * @param bufferedPropertiesValues the properties already deserialized that still have to be set on the instance
+     */
+    public Instance( T instance, Map<String, String> bufferedProperties, Map<String, Object> bufferedPropertiesValues ) {
         this.instance = instance;
         this.bufferedProperties = bufferedProperties;
+        this.bufferedPropertiesValues = bufferedPropertiesValues;
     }
 
     /**
@@ -58,4 +72,13 @@ public class Instance<T> {
     public Map<String, String> getBufferedProperties() {
         return bufferedProperties;
     }
+
+    /**
+     * <p>Getter for the field <code>bufferedPropertiesValues</code>.</p>
+     *
+     * @return a {@link java.util.Map} object.
+     */
+    public Map<String, Object> getBufferedPropertiesValues() {
+        return bufferedPropertiesValues;
+    }
 }
@@ -39,10 +39,11 @@ public interface InstanceBuilder<T> {
      * @param bufferedProperties a {@link java.util.Map} object.
      * @param bufferedPropertiesValues a {@link java.util.Map} object.
      * @param bufferedPropertiesValues a {@link java.util.Map} object.
+     * @param typeInfoPropertyName name of the property containing the type information still present in the reader, null if there is none
      * @return a {@link com.github.nmorel.gwtjackson.client.deser.bean.Instance} object.
      */
     Instance<T> newInstance( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params, Map<String, String> bufferedProperties,
-                             Map<String, Object> bufferedPropertiesValues );
+                             Map<String, Object> bufferedPropertiesValues, String typeInfoPropertyName );
 
     /**
      * <p>getParametersDeserializer</p>
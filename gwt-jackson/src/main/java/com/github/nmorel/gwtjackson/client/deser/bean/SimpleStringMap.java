@@ -17,6 +17,7 @@
 package com.github.nmorel.gwtjackson.client.deser.bean;
 
 import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
 
 /**
  * <p>SimpleStringMap class.</p>
@@ -55,4 +56,19 @@ public class SimpleStringMap<V> extends JavaScriptObject {
         this[':' + key] = value;
     }-*/;
 
+    /**
+     * Returns the keys of the map.
+     *
+     * @return the keys
+     */
+    public final native JsArrayString keys()  /*-{
+        var keys = [];
+        for (var key in this) {
+            if (this.hasOwnProperty(key) && key.charAt(0) == ':') {
+                keys.push(key.substring(1));
+            }
+        }
+        return keys;
+    }-*/;
+
 }
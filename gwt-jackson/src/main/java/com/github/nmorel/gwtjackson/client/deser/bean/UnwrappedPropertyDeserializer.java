@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.bean;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+
+/**
+ * Deserializes a property of a bean annotated with {@link JsonUnwrapped}. The property is read from the json object of the parent
+ * bean and set directly on the unwrapped bean, created the first time one of its properties is found.
+ *
+ * @param <T> type of the parent bean
+ * @param <U> type of the unwrapped bean
+ * @param <V> type of the property
+ *
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+final class UnwrappedPropertyDeserializer<T, U, V> extends BeanPropertyDeserializer<T, V> {
+
+    private final BeanPropertyDeserializer<T, U> unwrappedProperty;
+
+    private final AbstractBeanJsonDeserializer<U> unwrappedDeserializer;
+
+    private final BeanPropertyDeserializer<U, V> property;
+
+    UnwrappedPropertyDeserializer( BeanPropertyDeserializer<T, U> unwrappedProperty, AbstractBeanJsonDeserializer<U>
+            unwrappedDeserializer, BeanPropertyDeserializer<U, V> property ) {
+        this.unwrappedProperty = unwrappedProperty;
+        this.unwrappedDeserializer = unwrappedDeserializer;
+        this.property = property;
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDeserializer() {
+        return property.getDeserializer();
+    }
+
+    @Override
+    protected JsonDeserializerParameters getParameters() {
+        return property.getParameters();
+    }
+
+    @Override
+    public void deserialize( JsonReader reader, T bean, JsonDeserializationContext ctx ) {
+        property.deserialize( reader, getOrCreateUnwrappedBean( bean, ctx ), ctx );
+    }
+
+    @Override
+    public void deserializeInto( JsonReader reader, T bean, JsonDeserializationContext ctx ) {
+        property.deserializeInto( reader, getOrCreateUnwrappedBean( bean, ctx ), ctx );
+    }
+
+    @Override
+    public V getValue( T bean, JsonDeserializationContext ctx ) {
+        U unwrappedBean = unwrappedProperty.getValue( bean, ctx );
+        return null == unwrappedBean ? null : property.getValue( unwrappedBean, ctx );
+    }
+
+    @Override
+    public void setValue( T bean, V value, JsonDeserializationContext ctx ) {
+        property.setValueAndBackReferences( getOrCreateUnwrappedBean( bean, ctx ), value, ctx );
+    }
+
+    private U getOrCreateUnwrappedBean( T bean, JsonDeserializationContext ctx ) {
+        U unwrappedBean = unwrappedProperty.getValue( bean, ctx );
+        if ( null == unwrappedBean ) {
+            unwrappedBean = unwrappedDeserializer.newDefaultInstance();
+            if ( null == unwrappedBean ) {
+                throw ctx.traceError( "Cannot instantiate the unwrapped type " + unwrappedDeserializer.getDeserializedType().getName() );
+            }
+            unwrappedProperty.setValue( bean, unwrappedBean, ctx );
+        }
+        return unwrappedBean;
+    }
+}
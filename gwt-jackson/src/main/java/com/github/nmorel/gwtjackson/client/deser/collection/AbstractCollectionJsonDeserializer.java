@@ -53,4 +53,13 @@ public class AbstractCollectionJsonDeserializer<T> extends BaseCollectionJsonDes
     protected AbstractCollection<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected AbstractCollection<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new ArrayList<T>( expectedSize );
+        }
+        return newCollection();
+    }
 }
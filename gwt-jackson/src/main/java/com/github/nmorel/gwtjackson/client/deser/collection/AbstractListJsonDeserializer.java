@@ -53,4 +53,13 @@ public class AbstractListJsonDeserializer<T> extends BaseListJsonDeserializer<Ab
     protected AbstractList<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected AbstractList<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new ArrayList<T>( expectedSize );
+        }
+        return newCollection();
+    }
 }
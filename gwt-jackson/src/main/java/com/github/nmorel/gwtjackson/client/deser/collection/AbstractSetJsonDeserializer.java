@@ -21,6 +21,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.CapacityUtils;
 
 /**
  * Default {@link JsonDeserializer} implementation for {@link Set}. The deserialization process returns a {@link LinkedHashSet}.
@@ -54,4 +55,13 @@ public final class AbstractSetJsonDeserializer<T> extends BaseSetJsonDeserialize
     protected AbstractSet<T> newCollection() {
         return new LinkedHashSet<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected AbstractSet<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new LinkedHashSet<T>( CapacityUtils.getInitialCapacity( expectedSize ) );
+        }
+        return newCollection();
+    }
 }
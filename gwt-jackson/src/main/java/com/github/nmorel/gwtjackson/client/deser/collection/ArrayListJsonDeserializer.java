@@ -52,4 +52,13 @@ public class ArrayListJsonDeserializer<T> extends BaseListJsonDeserializer<Array
     protected ArrayList<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected ArrayList<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new ArrayList<T>( expectedSize );
+        }
+        return newCollection();
+    }
 }
@@ -16,11 +16,20 @@
 
 package com.github.nmorel.gwtjackson.client.deser.collection;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.DoubleJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.LongJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.BooleanJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.StringJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
@@ -34,6 +43,31 @@ import com.github.nmorel.gwtjackson.client.stream.JsonToken;
  */
 public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T> extends BaseIterableJsonDeserializer<C, T> {
 
+    /**
+     * Kind of the elements when they can be read directly from the {@link JsonReader}.
+     */
+    private enum ElementKind {
+        STRING, INTEGER, LONG, DOUBLE, BOOLEAN, OTHER
+    }
+
+    private static ElementKind getElementKind( JsonDeserializer<?> deserializer ) {
+        if ( deserializer == StringJsonDeserializer.getInstance() ) {
+            return ElementKind.STRING;
+        } else if ( deserializer == IntegerJsonDeserializer.getInstance() ) {
+            return ElementKind.INTEGER;
+        } else if ( deserializer == LongJsonDeserializer.getInstance() ) {
+            return ElementKind.LONG;
+        } else if ( deserializer == DoubleJsonDeserializer.getInstance() ) {
+            return ElementKind.DOUBLE;
+        } else if ( deserializer == BooleanJsonDeserializer.getInstance() ) {
+            return ElementKind.BOOLEAN;
+        } else {
+            return ElementKind.OTHER;
+        }
+    }
+
+    private final ElementKind elementKind;
+
     /**
      * <p>Constructor for BaseCollectionJsonDeserializer.</p>
      *
@@ -41,6 +75,7 @@ public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T>
      */
     public BaseCollectionJsonDeserializer( JsonDeserializer<T> deserializer ) {
         super( deserializer );
+        this.elementKind = getElementKind( deserializer );
     }
 
     /** {@inheritDoc} */
@@ -48,23 +83,28 @@ public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T>
     public C doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
         if ( JsonToken.BEGIN_ARRAY == reader.peek() ) {
 
-            C result = newCollection();
+            C result = newCollection( params.getExpectedSize() );
+            JsonDeserializerParameters elementParams = params.getElementParameters();
 
             reader.beginArray();
-            while ( JsonToken.END_ARRAY != reader.peek() ) {
-                T element = deserializer.deserialize( reader, ctx, params );
-                if ( isNullValueAllowed() || null != element ) {
-                    result.add( element );
-                }
+            if ( ElementKind.OTHER == elementKind ) {
+                deserializeElements( reader, ctx, elementParams, result );
+            } else {
+                deserializeScalarElements( reader, ctx, elementParams, result );
             }
             reader.endArray();
 
+            JsonMappingListener listener = ctx.getListener();
+            if ( null != listener ) {
+                listener.onElements( Operation.DESERIALIZATION, result.size() );
+            }
+
             return result;
 
         } else if ( ctx.isAcceptSingleValueAsArray() ) {
 
             C result = newCollection();
-            result.add( deserializer.deserialize( reader, ctx, params ) );
+            result.add( deserializer.deserialize( reader, ctx, params.getElementParameters() ) );
             return result;
 
         } else {
@@ -72,6 +112,134 @@ public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T>
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The content of {@code existing} is replaced by the elements read, the elements of a {@link List} being updated in place by index
+     * when their deserializer supports it. If {@link JsonDeserializationContext#isMergeCollections()} is enabled, the elements read are
+     * appended instead. With {@link JsonDeserializationContext#isMergePatch()}, the elements are always replaced by new ones. A new
+     * collection is returned if {@code existing} cannot be modified.
+     */
+    @Override
+    public C deserializeInto( JsonReader reader, C existing, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( null == existing || JsonToken.BEGIN_ARRAY != reader.peek() ) {
+            return deserialize( reader, ctx, params );
+        }
+
+        // a merge patch contains the whole collection
+        boolean merge = ctx.isMergeCollections() && !ctx.isMergePatch();
+        List<T> elements = new ArrayList<T>();
+        JsonDeserializerParameters elementParams = params.getElementParameters();
+
+        reader.beginArray();
+        if ( ElementKind.OTHER != elementKind ) {
+            deserializeScalarElements( reader, ctx, elementParams, elements );
+        } else if ( merge || ctx.isMergePatch() || !(existing instanceof List) ) {
+            deserializeElements( reader, ctx, elementParams, elements );
+        } else {
+            List<T> existingElements = (List<T>) existing;
+            boolean nullValueAllowed = isNullValueAllowed();
+            int index = 0;
+            while ( JsonToken.END_ARRAY != reader.peek() ) {
+                T previous = index < existingElements.size() ? existingElements.get( index ) : null;
+                T element = deserializer.deserializeInto( reader, previous, ctx, elementParams );
+                index++;
+                if ( nullValueAllowed || null != element ) {
+                    elements.add( element );
+                }
+            }
+        }
+        reader.endArray();
+
+        try {
+            if ( !merge ) {
+                existing.clear();
+            }
+            existing.addAll( elements );
+            return existing;
+        } catch ( UnsupportedOperationException e ) {
+            C result = newCollection( merge ? existing.size() + elements.size() : elements.size() );
+            if ( merge ) {
+                result.addAll( existing );
+            }
+            result.addAll( elements );
+            return result;
+        }
+    }
+
+    private void deserializeElements( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
+                                      Collection<T> result ) {
+        boolean nullValueAllowed = isNullValueAllowed();
+        while ( JsonToken.END_ARRAY != reader.peek() ) {
+            T element = deserializer.deserialize( reader, ctx, params );
+            if ( nullValueAllowed || null != element ) {
+                result.add( element );
+            }
+        }
+    }
+
+    /**
+     * Reads the elements directly from the reader when their token is the expected one. Any other token, like null or a number
+     * written as a string, goes through the element deserializer.
+     */
+    @SuppressWarnings( "unchecked" )
+    private void deserializeScalarElements( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params,
+                                            Collection<T> result ) {
+        Collection<Object> values = (Collection<Object>) result;
+        boolean nullValueAllowed = isNullValueAllowed();
+        boolean intern = ElementKind.STRING == elementKind && (params.isInternStrings() || ctx.isInternStrings());
+
+        JsonToken token = reader.peek();
+        while ( JsonToken.END_ARRAY != token ) {
+            if ( !addScalarElement( reader, ctx, token, intern, values ) ) {
+                T element = deserializer.deserialize( reader, ctx, params );
+                if ( nullValueAllowed || null != element ) {
+                    result.add( element );
+                }
+            }
+            token = reader.peek();
+        }
+    }
+
+    private boolean addScalarElement( JsonReader reader, JsonDeserializationContext ctx, JsonToken token, boolean intern,
+                                      Collection<Object> values ) {
+        switch ( elementKind ) {
+            case STRING:
+                if ( JsonToken.STRING != token ) {
+                    return false;
+                }
+                String value = reader.nextString();
+                values.add( intern ? ctx.intern( value ) : value );
+                return true;
+            case INTEGER:
+                if ( JsonToken.NUMBER != token ) {
+                    return false;
+                }
+                values.add( reader.nextInt() );
+                return true;
+            case LONG:
+                if ( JsonToken.NUMBER != token ) {
+                    return false;
+                }
+                values.add( reader.nextLong() );
+                return true;
+            case DOUBLE:
+                if ( JsonToken.NUMBER != token ) {
+                    return false;
+                }
+                values.add( reader.nextDouble() );
+                return true;
+            case BOOLEAN:
+                if ( JsonToken.BOOLEAN != token ) {
+                    return false;
+                }
+                values.add( reader.nextBoolean() );
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Instantiates a new collection for deserialization process.
      *
@@ -79,6 +247,20 @@ public abstract class BaseCollectionJsonDeserializer<C extends Collection<T>, T>
      */
     protected abstract C newCollection();
 
+    /**
+     * Instantiates a new collection for deserialization process, presized for the expected number of elements when the collection
+     * supports it. The default implementation ignores the hint and calls {@link #newCollection()}.
+     *
+     * @param expectedSize expected number of elements or 0 if unknown
+     *
+     * @return the new collection
+     *
+     * @see JsonDeserializerParameters#setExpectedSize(int)
+     */
+    protected C newCollection( int expectedSize ) {
+        return newCollection();
+    }
+
     /**
      * <p>isNullValueAllowed</p>
      *
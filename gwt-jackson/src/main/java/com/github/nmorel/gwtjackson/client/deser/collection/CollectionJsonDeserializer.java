@@ -53,4 +53,13 @@ public class CollectionJsonDeserializer<T> extends BaseCollectionJsonDeserialize
     protected Collection<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Collection<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new ArrayList<T>( expectedSize );
+        }
+        return newCollection();
+    }
 }
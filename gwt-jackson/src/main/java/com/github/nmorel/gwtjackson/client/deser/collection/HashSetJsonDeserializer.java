@@ -19,6 +19,7 @@ package com.github.nmorel.gwtjackson.client.deser.collection;
 import java.util.HashSet;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.CapacityUtils;
 
 /**
  * Default {@link JsonDeserializer} implementation for {@link HashSet}.
@@ -52,4 +53,13 @@ public class HashSetJsonDeserializer<T> extends BaseSetJsonDeserializer<HashSet<
     protected HashSet<T> newCollection() {
         return new HashSet<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected HashSet<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new HashSet<T>( CapacityUtils.getInitialCapacity( expectedSize ) );
+        }
+        return newCollection();
+    }
 }
@@ -58,10 +58,11 @@ public class IterableJsonDeserializer<T> extends BaseIterableJsonDeserializer<It
         if ( JsonToken.BEGIN_ARRAY == reader.peek() ) {
 
             Collection<T> result = new ArrayList<T>();
+            JsonDeserializerParameters elementParams = params.getElementParameters();
 
             reader.beginArray();
             while ( JsonToken.END_ARRAY != reader.peek() ) {
-                result.add( deserializer.deserialize( reader, ctx, params ) );
+                result.add( deserializer.deserialize( reader, ctx, elementParams ) );
             }
             reader.endArray();
             return result;
@@ -69,7 +70,7 @@ public class IterableJsonDeserializer<T> extends BaseIterableJsonDeserializer<It
         } else if ( ctx.isAcceptSingleValueAsArray() ) {
 
             Collection<T> result = new ArrayList<T>();
-            result.add( deserializer.deserialize( reader, ctx, params ) );
+            result.add( deserializer.deserialize( reader, ctx, params.getElementParameters() ) );
             return result;
 
         } else {
@@ -19,6 +19,7 @@ package com.github.nmorel.gwtjackson.client.deser.collection;
 import java.util.LinkedHashSet;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.CapacityUtils;
 
 /**
  * Default {@link JsonDeserializer} implementation for {@link LinkedHashSet}.
@@ -52,4 +53,13 @@ public class LinkedHashSetJsonDeserializer<T> extends BaseSetJsonDeserializer<Li
     protected LinkedHashSet<T> newCollection() {
         return new LinkedHashSet<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected LinkedHashSet<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new LinkedHashSet<T>( CapacityUtils.getInitialCapacity( expectedSize ) );
+        }
+        return newCollection();
+    }
 }
@@ -53,4 +53,13 @@ public final class ListJsonDeserializer<T> extends BaseListJsonDeserializer<List
     protected List<T> newCollection() {
         return new ArrayList<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected List<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new ArrayList<T>( expectedSize );
+        }
+        return newCollection();
+    }
 }
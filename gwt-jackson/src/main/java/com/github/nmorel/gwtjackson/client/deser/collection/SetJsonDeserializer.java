@@ -20,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.CapacityUtils;
 
 /**
  * Default {@link JsonDeserializer} implementation for {@link Set}. The deserialization process returns a {@link LinkedHashSet}.
@@ -53,4 +54,13 @@ public final class SetJsonDeserializer<T> extends BaseSetJsonDeserializer<Set<T>
     protected Set<T> newCollection() {
         return new LinkedHashSet<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Set<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new LinkedHashSet<T>( CapacityUtils.getInitialCapacity( expectedSize ) );
+        }
+        return newCollection();
+    }
 }
@@ -52,4 +52,13 @@ public class VectorJsonDeserializer<T> extends BaseListJsonDeserializer<Vector<T
     protected Vector<T> newCollection() {
         return new Vector<T>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Vector<T> newCollection( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new Vector<T>( expectedSize );
+        }
+        return newCollection();
+    }
 }
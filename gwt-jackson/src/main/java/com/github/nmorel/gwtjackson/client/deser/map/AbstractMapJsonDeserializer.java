@@ -21,6 +21,7 @@ import java.util.LinkedHashMap;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.map.key.KeyDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.CapacityUtils;
 
 /**
  * Default {@link JsonDeserializer} implementation for {@link AbstractMap}. The deserialization process returns a {@link LinkedHashMap}.
@@ -60,4 +61,13 @@ public final class AbstractMapJsonDeserializer<K, V> extends BaseMapJsonDeserial
     protected AbstractMap<K, V> newMap() {
         return new LinkedHashMap<K, V>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected AbstractMap<K, V> newMap( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new LinkedHashMap<K, V>( CapacityUtils.getInitialCapacity( expectedSize ) );
+        }
+        return newMap();
+    }
 }
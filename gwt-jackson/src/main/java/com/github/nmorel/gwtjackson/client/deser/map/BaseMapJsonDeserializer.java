@@ -16,12 +16,18 @@
 
 package com.github.nmorel.gwtjackson.client.deser.map;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
 import com.github.nmorel.gwtjackson.client.deser.map.key.KeyDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.map.key.StringKeyDeserializer;
 import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 
@@ -46,6 +52,11 @@ public abstract class BaseMapJsonDeserializer<M extends Map<K, V>, K, V> extends
      */
     protected final JsonDeserializer<V> valueDeserializer;
 
+    /**
+     * True if the keys are plain strings. The property name read is then used directly as key.
+     */
+    private final boolean stringKeys;
+
     /**
      * <p>Constructor for BaseMapJsonDeserializer.</p>
      *
@@ -61,25 +72,100 @@ public abstract class BaseMapJsonDeserializer<M extends Map<K, V>, K, V> extends
         }
         this.keyDeserializer = keyDeserializer;
         this.valueDeserializer = valueDeserializer;
+        this.stringKeys = keyDeserializer == StringKeyDeserializer.getInstance();
     }
 
     /** {@inheritDoc} */
     @Override
     public M doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
-        M result = newMap();
+        M result = newMap( params.getExpectedSize() );
 
+        boolean nullKeyAllowed = isNullKeyAllowed();
+        boolean rawKeys = stringKeys && !ctx.isInternKeys();
+        JsonDeserializerParameters valueParams = params.getElementParameters();
         reader.beginObject();
         while ( JsonToken.END_OBJECT != reader.peek() ) {
             String name = reader.nextName();
-            K key = keyDeserializer.deserialize( name, ctx );
-            V value = valueDeserializer.deserialize( reader, ctx, params );
+            K key = rawKeys ? (K) name : keyDeserializer.deserialize( name, ctx );
+            if ( null == key && !nullKeyAllowed ) {
+                reader.skipValue();
+                continue;
+            }
+            V value = valueDeserializer.deserialize( reader, ctx, valueParams );
             result.put( key, value );
         }
         reader.endObject();
 
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onElements( Operation.DESERIALIZATION, result.size() );
+        }
+
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The values of the keys already present in {@code existing} are updated in place when their deserializer supports it. The keys
+     * absent from the input are removed unless {@link JsonDeserializationContext#isMergeMaps()} is enabled. With
+     * {@link JsonDeserializationContext#isMergePatch()}, these keys are kept and the keys with a null value are removed. A new map is
+     * returned if {@code existing} cannot be modified.
+     */
+    @Override
+    public M deserializeInto( JsonReader reader, M existing, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+        if ( null == existing || JsonToken.BEGIN_OBJECT != reader.peek() ) {
+            return deserialize( reader, ctx, params );
+        }
+
+        boolean merge = ctx.isMergeMaps() || ctx.isMergePatch();
+        Map<K, V> values = new LinkedHashMap<K, V>();
+        Set<K> removedKeys = null;
+
+        boolean nullKeyAllowed = isNullKeyAllowed();
+        JsonDeserializerParameters valueParams = params.getElementParameters();
+        reader.beginObject();
+        while ( JsonToken.END_OBJECT != reader.peek() ) {
+            String name = reader.nextName();
+            K key = keyDeserializer.deserialize( name, ctx );
+            if ( null == key && !nullKeyAllowed ) {
+                reader.skipValue();
+                continue;
+            }
+            if ( ctx.isMergePatch() && JsonToken.NULL == reader.peek() ) {
+                reader.skipValue();
+                if ( null == removedKeys ) {
+                    removedKeys = new HashSet<K>();
+                }
+                removedKeys.add( key );
+                continue;
+            }
+            values.put( key, valueDeserializer.deserializeInto( reader, existing.get( key ), ctx, valueParams ) );
+        }
+        reader.endObject();
+
+        try {
+            updateMap( existing, values, removedKeys, merge );
+            return existing;
+        } catch ( UnsupportedOperationException e ) {
+            M result = newMap( merge ? existing.size() + values.size() : values.size() );
+            if ( merge ) {
+                result.putAll( existing );
+            }
+            updateMap( result, values, removedKeys, merge );
+            return result;
+        }
+    }
+
+    private void updateMap( M map, Map<K, V> values, Set<K> removedKeys, boolean merge ) {
+        if ( !merge ) {
+            map.keySet().retainAll( values.keySet() );
+        } else if ( null != removedKeys ) {
+            map.keySet().removeAll( removedKeys );
+        }
+        map.putAll( values );
+    }
+
     /**
      * Instantiates a new map for deserialization process.
      *
@@ -87,6 +173,29 @@ public abstract class BaseMapJsonDeserializer<M extends Map<K, V>, K, V> extends
      */
     protected abstract M newMap();
 
+    /**
+     * Instantiates a new map for deserialization process, presized for the expected number of entries when the map supports it. The
+     * default implementation ignores the hint and calls {@link #newMap()}.
+     *
+     * @param expectedSize expected number of entries or 0 if unknown
+     *
+     * @return the new map
+     *
+     * @see JsonDeserializerParameters#setExpectedSize(int)
+     */
+    protected M newMap( int expectedSize ) {
+        return newMap();
+    }
+
+    /**
+     * <p>isNullKeyAllowed</p>
+     *
+     * @return true if the map accepts null key. If false, the entries with a null key are skipped.
+     */
+    protected boolean isNullKeyAllowed() {
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void setBackReference( String referenceName, Object reference, M value, JsonDeserializationContext ctx ) {
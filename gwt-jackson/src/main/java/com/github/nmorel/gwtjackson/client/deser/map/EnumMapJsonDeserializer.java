@@ -65,4 +65,10 @@ public final class EnumMapJsonDeserializer<E extends Enum<E>, V> extends BaseMap
     protected EnumMap<E, V> newMap() {
         return new EnumMap<E, V>( enumClass );
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isNullKeyAllowed() {
+        return false;
+    }
 }
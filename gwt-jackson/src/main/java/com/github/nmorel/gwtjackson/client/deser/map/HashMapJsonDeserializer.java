@@ -20,6 +20,7 @@ import java.util.HashMap;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.map.key.KeyDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.CapacityUtils;
 
 /**
  * Default {@link JsonDeserializer} implementation for {@link HashMap}.
@@ -59,4 +60,13 @@ public final class HashMapJsonDeserializer<K, V> extends BaseMapJsonDeserializer
     protected HashMap<K, V> newMap() {
         return new HashMap<K, V>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected HashMap<K, V> newMap( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new HashMap<K, V>( CapacityUtils.getInitialCapacity( expectedSize ) );
+        }
+        return newMap();
+    }
 }
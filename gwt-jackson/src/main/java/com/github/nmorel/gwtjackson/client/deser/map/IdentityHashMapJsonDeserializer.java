@@ -59,4 +59,13 @@ public final class IdentityHashMapJsonDeserializer<K, V> extends BaseMapJsonDese
     protected IdentityHashMap<K, V> newMap() {
         return new IdentityHashMap<K, V>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected IdentityHashMap<K, V> newMap( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new IdentityHashMap<K, V>( expectedSize );
+        }
+        return newMap();
+    }
 }
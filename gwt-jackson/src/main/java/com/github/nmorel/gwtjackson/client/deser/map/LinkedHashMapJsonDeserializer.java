@@ -20,6 +20,7 @@ import java.util.LinkedHashMap;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.map.key.KeyDeserializer;
+import com.github.nmorel.gwtjackson.client.utils.CapacityUtils;
 
 /**
  * Default {@link JsonDeserializer} implementation for {@link LinkedHashMap}.
@@ -59,4 +60,13 @@ public final class LinkedHashMapJsonDeserializer<K, V> extends BaseMapJsonDeseri
     protected LinkedHashMap<K, V> newMap() {
         return new LinkedHashMap<K, V>();
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected LinkedHashMap<K, V> newMap( int expectedSize ) {
+        if ( expectedSize > 0 ) {
+            return new LinkedHashMap<K, V>( CapacityUtils.getInitialCapacity( expectedSize ) );
+        }
+        return newMap();
+    }
 }
@@ -17,6 +17,7 @@
 package com.github.nmorel.gwtjackson.client.deser.map.key;
 
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.utils.EnumLookup;
 
 /**
  * Default {@link KeyDeserializer} implementation for {@link Enum}.
@@ -40,6 +41,8 @@ public final class EnumKeyDeserializer<E extends Enum<E>> extends KeyDeserialize
 
     private final Class<E> enumClass;
 
+    private final EnumLookup<E> lookup;
+
     /**
      * @param enumClass class of the enumeration
      */
@@ -48,19 +51,13 @@ public final class EnumKeyDeserializer<E extends Enum<E>> extends KeyDeserialize
             throw new IllegalArgumentException( "enumClass cannot be null" );
         }
         this.enumClass = enumClass;
+        this.lookup = new EnumLookup<E>( enumClass );
     }
 
     /** {@inheritDoc} */
     @Override
     protected E doDeserialize( String key, JsonDeserializationContext ctx ) {
-        try {
-            return Enum.valueOf( enumClass, key );
-        } catch ( IllegalArgumentException ex ) {
-            if ( ctx.isReadUnknownEnumValuesAsNull() ) {
-                return null;
-            }
-            throw ex;
-        }
+        return lookup.get( key, ctx.isReadUnknownEnumValuesAsNull() );
     }
 
     /**
@@ -42,6 +42,9 @@ public final class StringKeyDeserializer extends KeyDeserializer<String> {
     /** {@inheritDoc} */
     @Override
     protected String doDeserialize( String key, JsonDeserializationContext ctx ) {
+        if ( ctx.isInternKeys() ) {
+            return ctx.intern( key );
+        }
         return key;
     }
 }
@@ -17,7 +17,10 @@
 package com.github.nmorel.gwtjackson.client.ser;
 
 import java.util.Collection;
+import java.util.Iterator;
 
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
@@ -86,5 +89,48 @@ public class CollectionJsonSerializer<C extends Collection<T>, T> extends JsonSe
             }
             writer.endArray();
         }
+
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onElements( Operation.SERIALIZATION, values.size() );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * An emptied collection is always written, even if {@link JsonSerializationContext#isWriteEmptyJsonArrays()} is disabled, otherwise
+     * the change would be lost.
+     */
+    @Override
+    public void serializePatch( JsonWriter writer, C baseline, C values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        if ( values.isEmpty() ) {
+            writer.beginArray();
+            writer.endArray();
+        } else {
+            doSerialize( writer, values, ctx, params );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Two collections are equal if they contain equal elements in the same order.
+     */
+    @Override
+    public boolean isEqual( C baseline, C values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        if ( baseline == values ) {
+            return true;
+        }
+        if ( null == baseline || null == values || baseline.size() != values.size() ) {
+            return false;
+        }
+        Iterator<T> baselineIterator = baseline.iterator();
+        for ( T value : values ) {
+            if ( !serializer.isEqual( baselineIterator.next(), value, ctx, params ) ) {
+                return false;
+            }
+        }
+        return true;
     }
 }
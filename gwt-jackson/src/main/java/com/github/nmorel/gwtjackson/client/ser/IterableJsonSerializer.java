@@ -18,6 +18,8 @@ package com.github.nmorel.gwtjackson.client.ser;
 
 import java.util.Iterator;
 
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
@@ -78,9 +80,11 @@ public class IterableJsonSerializer<I extends Iterable<T>, T> extends JsonSerial
             return;
         }
 
+        int count = 0;
         if ( ctx.isWriteSingleElemArraysUnwrapped() ) {
 
             T first = iterator.next();
+            count++;
 
             if ( iterator.hasNext() ) {
                 // there is more than one element, we write the array normally
@@ -88,6 +92,7 @@ public class IterableJsonSerializer<I extends Iterable<T>, T> extends JsonSerial
                 serializer.serialize( writer, first, ctx, params );
                 while ( iterator.hasNext() ) {
                     serializer.serialize( writer, iterator.next(), ctx, params );
+                    count++;
                 }
                 writer.endArray();
             } else {
@@ -99,8 +104,53 @@ public class IterableJsonSerializer<I extends Iterable<T>, T> extends JsonSerial
             writer.beginArray();
             while ( iterator.hasNext() ) {
                 serializer.serialize( writer, iterator.next(), ctx, params );
+                count++;
             }
             writer.endArray();
         }
+
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onElements( Operation.SERIALIZATION, count );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * An emptied collection is always written, even if {@link JsonSerializationContext#isWriteEmptyJsonArrays()} is disabled, otherwise
+     * the change would be lost.
+     */
+    @Override
+    public void serializePatch( JsonWriter writer, I baseline, I values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        if ( !values.iterator().hasNext() ) {
+            writer.beginArray();
+            writer.endArray();
+        } else {
+            doSerialize( writer, values, ctx, params );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Two iterables are equal if they contain equal elements in the same order.
+     */
+    @Override
+    public boolean isEqual( I baseline, I values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        if ( baseline == values ) {
+            return true;
+        }
+        if ( null == baseline || null == values ) {
+            return false;
+        }
+        Iterator<T> baselineIterator = baseline.iterator();
+        Iterator<T> iterator = values.iterator();
+        while ( baselineIterator.hasNext() && iterator.hasNext() ) {
+            if ( !serializer.isEqual( baselineIterator.next(), iterator.next(), ctx, params ) ) {
+                return false;
+            }
+        }
+        return !baselineIterator.hasNext() && !iterator.hasNext();
     }
 }
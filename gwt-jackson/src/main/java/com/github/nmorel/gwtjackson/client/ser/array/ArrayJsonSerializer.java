@@ -16,6 +16,8 @@
 
 package com.github.nmorel.gwtjackson.client.ser.array;
 
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
@@ -78,5 +80,48 @@ public class ArrayJsonSerializer<T> extends JsonSerializer<T[]> {
             }
             writer.endArray();
         }
+
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onElements( Operation.SERIALIZATION, values.length );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * An emptied array is always written, even if {@link JsonSerializationContext#isWriteEmptyJsonArrays()} is disabled, otherwise
+     * the change would be lost.
+     */
+    @Override
+    public void serializePatch( JsonWriter writer, T[] baseline, T[] values, JsonSerializationContext ctx,
+            JsonSerializerParameters params ) {
+        if ( values.length == 0 ) {
+            writer.beginArray();
+            writer.endArray();
+        } else {
+            doSerialize( writer, values, ctx, params );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Two arrays are equal if they contain equal elements in the same order.
+     */
+    @Override
+    public boolean isEqual( T[] baseline, T[] values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        if ( baseline == values ) {
+            return true;
+        }
+        if ( null == baseline || null == values || baseline.length != values.length ) {
+            return false;
+        }
+        for ( int i = 0; i < values.length; i++ ) {
+            if ( !serializer.isEqual( baseline[i], values[i], ctx, params ) ) {
+                return false;
+            }
+        }
+        return true;
     }
 }
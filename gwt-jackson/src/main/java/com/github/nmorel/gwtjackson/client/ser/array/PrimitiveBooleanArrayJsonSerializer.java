@@ -16,6 +16,8 @@
 
 package com.github.nmorel.gwtjackson.client.ser.array;
 
+import java.util.Arrays;
+
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
@@ -66,4 +68,27 @@ public class PrimitiveBooleanArrayJsonSerializer extends JsonSerializer<boolean[
             writer.endArray();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * An emptied array is always written, even if {@link JsonSerializationContext#isWriteEmptyJsonArrays()} is disabled, otherwise
+     * the change would be lost.
+     */
+    @Override
+    public void serializePatch( JsonWriter writer, boolean[] baseline, boolean[] values, JsonSerializationContext ctx,
+            JsonSerializerParameters params ) {
+        if ( values.length == 0 ) {
+            writer.beginArray();
+            writer.endArray();
+        } else {
+            doSerialize( writer, values, ctx, params );
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEqual( boolean[] baseline, boolean[] values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        return Arrays.equals( baseline, values );
+    }
 }
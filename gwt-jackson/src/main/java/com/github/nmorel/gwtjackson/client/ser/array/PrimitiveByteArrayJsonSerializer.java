@@ -16,6 +16,8 @@
 
 package com.github.nmorel.gwtjackson.client.ser.array;
 
+import java.util.Arrays;
+
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
@@ -54,4 +56,26 @@ public class PrimitiveByteArrayJsonSerializer extends JsonSerializer<byte[]> {
 
         writer.unescapeValue( Base64Utils.toBase64( values ) );
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * An emptied array is always written, even if {@link JsonSerializationContext#isWriteEmptyJsonArrays()} is disabled, otherwise
+     * the change would be lost.
+     */
+    @Override
+    public void serializePatch( JsonWriter writer, byte[] baseline, byte[] values, JsonSerializationContext ctx,
+            JsonSerializerParameters params ) {
+        if ( values.length == 0 ) {
+            writer.value( "" );
+        } else {
+            doSerialize( writer, values, ctx, params );
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEqual( byte[] baseline, byte[] values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        return Arrays.equals( baseline, values );
+    }
 }
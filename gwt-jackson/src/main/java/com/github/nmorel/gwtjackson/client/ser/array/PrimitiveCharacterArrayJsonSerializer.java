@@ -16,6 +16,8 @@
 
 package com.github.nmorel.gwtjackson.client.ser.array;
 
+import java.util.Arrays;
+
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
@@ -66,4 +68,31 @@ public class PrimitiveCharacterArrayJsonSerializer extends JsonSerializer<char[]
             writer.value( new String( values ) );
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * An emptied array is always written, even if {@link JsonSerializationContext#isWriteEmptyJsonArrays()} is disabled, otherwise
+     * the change would be lost.
+     */
+    @Override
+    public void serializePatch( JsonWriter writer, char[] baseline, char[] values, JsonSerializationContext ctx,
+            JsonSerializerParameters params ) {
+        if ( values.length == 0 ) {
+            if ( ctx.isWriteCharArraysAsJsonArrays() ) {
+                writer.beginArray();
+                writer.endArray();
+            } else {
+                writer.value( "" );
+            }
+        } else {
+            doSerialize( writer, values, ctx, params );
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEqual( char[] baseline, char[] values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        return Arrays.equals( baseline, values );
+    }
 }
@@ -16,6 +16,8 @@
 
 package com.github.nmorel.gwtjackson.client.ser.array;
 
+import java.util.Arrays;
+
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
@@ -66,4 +68,27 @@ public class PrimitiveFloatArrayJsonSerializer extends JsonSerializer<float[]> {
             writer.endArray();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * An emptied array is always written, even if {@link JsonSerializationContext#isWriteEmptyJsonArrays()} is disabled, otherwise
+     * the change would be lost.
+     */
+    @Override
+    public void serializePatch( JsonWriter writer, float[] baseline, float[] values, JsonSerializationContext ctx,
+            JsonSerializerParameters params ) {
+        if ( values.length == 0 ) {
+            writer.beginArray();
+            writer.endArray();
+        } else {
+            doSerialize( writer, values, ctx, params );
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEqual( float[] baseline, float[] values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        return Arrays.equals( baseline, values );
+    }
 }
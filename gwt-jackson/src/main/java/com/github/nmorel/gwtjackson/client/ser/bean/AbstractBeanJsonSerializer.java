@@ -24,6 +24,9 @@ import java.util.logging.Level;
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
@@ -117,6 +120,133 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
         getSerializer( writer, value, ctx ).serializeInternally( writer, value, ctx, params, defaultIdentityInfo, defaultTypeInfo );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Only the properties that changed are written, nested beans and maps being patched recursively. The bean is written entirely
+     * when the baseline is null or of another type and when it uses identity or a type information that is not a property.
+     */
+    @Override
+    public void serializePatch( JsonWriter writer, T baseline, T value, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        final IdentitySerializationInfo identityInfo = null == params.getIdentityInfo() ? defaultIdentityInfo : params.getIdentityInfo();
+        final TypeSerializationInfo typeInfo = null == params.getTypeInfo() ? defaultTypeInfo : params.getTypeInfo();
+
+        AbstractBeanJsonSerializer<T> serializer = null;
+        if ( null != baseline && baseline.getClass() == value.getClass() && null == identityInfo ) {
+            serializer = getBeanSerializer( value );
+        }
+        String typeInformation = null;
+        if ( null != serializer && null != typeInfo ) {
+            typeInformation = typeInfo.getTypeInfo( value.getClass() );
+            if ( As.PROPERTY != typeInfo.getInclude() || null == typeInformation ) {
+                serializer = null;
+            }
+        }
+        if ( null == serializer || !serializer.isPatchSupported() ) {
+            doSerialize( writer, value, ctx, params );
+            return;
+        }
+
+        final Set<String> ignoredProperties = null == params.getIgnoredProperties() ? Collections.<String>emptySet() : params
+                .getIgnoredProperties();
+
+        if ( params.isUnwrapped() ) {
+            serializer.serializePropertiesPatch( writer, baseline, value, ctx, ignoredProperties );
+            return;
+        }
+
+        writer.beginObject();
+        if ( null != typeInformation ) {
+            // the type information is needed to update the bean
+            writer.name( typeInfo.getPropertyName() );
+            writer.value( typeInformation );
+        }
+        serializer.serializePropertiesPatch( writer, baseline, value, ctx, ignoredProperties );
+        writer.endObject();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Two beans of the same type are equal if all their properties are equal.
+     */
+    @Override
+    public boolean isEqual( T baseline, T value, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        if ( baseline == value ) {
+            return true;
+        }
+        if ( null == baseline || null == value || baseline.getClass() != value.getClass() ) {
+            return false;
+        }
+        AbstractBeanJsonSerializer<T> serializer = getBeanSerializer( value );
+        if ( null == serializer ) {
+            return baseline.equals( value );
+        }
+        return serializer.arePropertiesEqual( baseline, value, ctx, params );
+    }
+
+    /**
+     * Returns true if the properties can be written individually in a patch.
+     *
+     * @return true if the bean can be patched
+     */
+    protected boolean isPatchSupported() {
+        return true;
+    }
+
+    /**
+     * Returns true if all the serialized properties of the two beans are equal.
+     *
+     * @param baseline previous version of the bean
+     * @param value current version of the bean
+     * @param ctx context of the serialization process
+     * @param params parameters of the serialization
+     *
+     * @return true if the bean did not change
+     */
+    protected boolean arePropertiesEqual( T baseline, T value, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        final Set<String> ignoredProperties = null == params.getIgnoredProperties() ? Collections.<String>emptySet() : params
+                .getIgnoredProperties();
+        for ( BeanPropertySerializer<T, ?> propertySerializer : serializers ) {
+            if ( !ignoredProperties.contains( propertySerializer.getPropertyName() ) && !propertySerializer
+                    .isValueEqual( baseline, value, ctx ) ) {
+                return false;
+            }
+        }
+        return null == anyGetterPropertySerializer || anyGetterPropertySerializer.isValueEqual( baseline, value, ctx );
+    }
+
+    private void serializePropertiesPatch( JsonWriter writer, T baseline, T value, JsonSerializationContext ctx, Set<String>
+            ignoredProperties ) {
+        for ( BeanPropertySerializer<T, ?> propertySerializer : serializers ) {
+            if ( !ignoredProperties.contains( propertySerializer.getPropertyName() ) ) {
+                propertySerializer.serializePatch( writer, baseline, value, ctx );
+            }
+        }
+
+        if ( null != anyGetterPropertySerializer ) {
+            anyGetterPropertySerializer.serializePatch( writer, baseline, value, ctx );
+        }
+    }
+
+    /**
+     * Returns the bean serializer handling the properties of the given value, or null if the value is not handled by a bean serializer.
+     */
+    private AbstractBeanJsonSerializer<T> getBeanSerializer( T value ) {
+        if ( value.getClass() == getSerializedType() ) {
+            return this;
+        }
+        SubtypeSerializer subtypeSerializer = subtypeClassToSerializer.get( value.getClass() );
+        if ( null == subtypeSerializer ) {
+            // same fallback as the serialization
+            return this;
+        }
+        if ( subtypeSerializer instanceof SubtypeSerializer.BeanSubtypeSerializer ) {
+            return ((SubtypeSerializer.BeanSubtypeSerializer<T>) subtypeSerializer).getSerializer();
+        }
+        return null;
+    }
+
     private InternalSerializer<T> getSerializer( JsonWriter writer, T value, JsonSerializationContext ctx ) {
         if ( value.getClass() == getSerializedType() ) {
             return this;
@@ -135,6 +265,22 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
     /** {@inheritDoc} */
     public void serializeInternally( JsonWriter writer, T value, JsonSerializationContext ctx, JsonSerializerParameters params,
                                      IdentitySerializationInfo<T> defaultIdentityInfo, TypeSerializationInfo<T> defaultTypeInfo ) {
+        final JsonMappingListener listener = ctx.getListener();
+        if ( null == listener ) {
+            doSerializeInternally( writer, value, ctx, params, defaultIdentityInfo, defaultTypeInfo );
+            return;
+        }
+
+        listener.onBeanStart( Operation.SERIALIZATION, value.getClass() );
+        try {
+            doSerializeInternally( writer, value, ctx, params, defaultIdentityInfo, defaultTypeInfo );
+        } finally {
+            listener.onBeanEnd( Operation.SERIALIZATION, value.getClass() );
+        }
+    }
+
+    private void doSerializeInternally( JsonWriter writer, T value, JsonSerializationContext ctx, JsonSerializerParameters params,
+                                        IdentitySerializationInfo<T> defaultIdentityInfo, TypeSerializationInfo<T> defaultTypeInfo ) {
 
         // Processing the parameters. We fallback to default if parameter is not present.
         final IdentitySerializationInfo identityInfo = null == params.getIdentityInfo() ? defaultIdentityInfo : params.getIdentityInfo();
@@ -251,13 +397,36 @@ public abstract class AbstractBeanJsonSerializer<T> extends JsonSerializer<T> im
         writer.endObject();
     }
 
+    /**
+     * Serializes all the properties of the bean in a single method. It is overridden by the generated serializers of the beans
+     * configured with {@link com.github.nmorel.gwtjackson.client.AbstractConfiguration#inlineProperties(String)}. It is not called
+     * when properties are ignored, when the identifier is a property or when a listener is set.
+     *
+     * @param writer writer
+     * @param value bean to serialize
+     * @param ctx context of the serialization process
+     *
+     * @return true if the properties have been serialized, false to serialize them with the {@link #serializers}
+     */
+    protected boolean serializePropertiesInline( JsonWriter writer, T value, JsonSerializationContext ctx ) {
+        return false;
+    }
+
     private void serializeProperties( JsonWriter writer, T value, JsonSerializationContext ctx, Set<String> ignoredProperties,
                                       IdentitySerializationInfo identityInfo ) {
-        for ( BeanPropertySerializer<T, ?> propertySerializer : serializers ) {
-            if ( (null == identityInfo || !identityInfo.isProperty() || !identityInfo.getPropertyName().equals( propertySerializer
-                    .getPropertyName() )) && !ignoredProperties.contains( propertySerializer.getPropertyName() ) ) {
-                propertySerializer.serializePropertyName( writer, value, ctx );
-                propertySerializer.serialize( writer, value, ctx );
+        final JsonMappingListener listener = ctx.getListener();
+        boolean inlined = null == listener && ignoredProperties.isEmpty() && (null == identityInfo || !identityInfo.isProperty())
+                && serializePropertiesInline( writer, value, ctx );
+        if ( !inlined ) {
+            for ( BeanPropertySerializer<T, ?> propertySerializer : serializers ) {
+                if ( (null == identityInfo || !identityInfo.isProperty() || !identityInfo.getPropertyName().equals( propertySerializer
+                        .getPropertyName() )) && !ignoredProperties.contains( propertySerializer.getPropertyName() ) ) {
+                    if ( null != listener ) {
+                        listener.onProperty( Operation.SERIALIZATION, value.getClass(), propertySerializer.getPropertyName() );
+                    }
+                    propertySerializer.serializePropertyName( writer, value, ctx );
+                    propertySerializer.serialize( writer, value, ctx );
+                }
             }
         }
 
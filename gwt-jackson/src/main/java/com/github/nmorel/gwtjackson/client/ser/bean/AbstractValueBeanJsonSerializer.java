@@ -19,6 +19,7 @@ package com.github.nmorel.gwtjackson.client.ser.bean;
 import java.util.Set;
 
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
 
 /**
@@ -53,4 +54,17 @@ public abstract class AbstractValueBeanJsonSerializer<T> extends AbstractBeanJso
             typeInformation ) {
         serializer.serialize( writer, value, ctx );
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isPatchSupported() {
+        // the bean is serialized as a single value
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean arePropertiesEqual( T baseline, T value, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        return serializer.isValueEqual( baseline, value, ctx );
+    }
 }
@@ -60,4 +60,14 @@ public abstract class AnyGetterPropertySerializer<T> extends BeanPropertySeriali
             ((MapJsonSerializer) getSerializer()).serializeValues( writer, map, ctx, getParameters() );
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Serializes the entries that changed since the baseline.
+     */
+    public void serializePatch( JsonWriter writer, T baseline, T bean, JsonSerializationContext ctx ) {
+        ((MapJsonSerializer) getSerializer()).serializeValuesPatch( writer, getValue( baseline, ctx ), getValue( bean, ctx ), ctx,
+                getParameters() );
+    }
 }
@@ -31,7 +31,7 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
 
     protected final String propertyName;
 
-    private JsonSerializerParameters parameters;
+    private volatile JsonSerializerParameters parameters;
 
     /**
      * <p>Constructor for BeanPropertySerializer.</p>
@@ -48,10 +48,12 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
      * @return a {@link com.github.nmorel.gwtjackson.client.JsonSerializerParameters} object.
      */
     protected JsonSerializerParameters getParameters() {
-        if ( null == parameters ) {
-            parameters = newParameters();
+        JsonSerializerParameters result = parameters;
+        if ( null == result ) {
+            result = newParameters();
+            parameters = result;
         }
-        return parameters;
+        return result;
     }
 
     /**
@@ -102,4 +104,42 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, Json
     public void serialize( JsonWriter writer, T bean, JsonSerializationContext ctx ) {
         getSerializer().serialize( writer, getValue( bean, ctx ), ctx, getParameters() );
     }
+
+    /**
+     * Returns true if the property has the same value in both beans.
+     *
+     * @param baseline previous version of the bean
+     * @param bean current version of the bean
+     * @param ctx context of the serialization process
+     *
+     * @return true if the property did not change
+     */
+    public boolean isValueEqual( T baseline, T bean, JsonSerializationContext ctx ) {
+        return getSerializer().isEqual( getValue( baseline, ctx ), getValue( bean, ctx ), ctx, getParameters() );
+    }
+
+    /**
+     * Serializes the property if its value changed since the baseline. A value set to null is written as null so it is removed when
+     * the patch is applied.
+     *
+     * @param writer writer
+     * @param baseline previous version of the bean
+     * @param bean bean containing the property to serialize
+     * @param ctx context of the serialization process
+     */
+    public void serializePatch( JsonWriter writer, T baseline, T bean, JsonSerializationContext ctx ) {
+        V previous = getValue( baseline, ctx );
+        V value = getValue( bean, ctx );
+        JsonSerializer<V> serializer = getSerializer();
+        if ( serializer.isEqual( previous, value, ctx, getParameters() ) ) {
+            return;
+        }
+
+        serializePropertyName( writer, bean, ctx );
+        if ( null == value ) {
+            writer.nullValue();
+        } else {
+            serializer.serializePatch( writer, previous, value, ctx, getParameters() );
+        }
+    }
 }
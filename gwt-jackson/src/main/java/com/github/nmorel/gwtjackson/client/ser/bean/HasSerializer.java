@@ -19,14 +19,14 @@ package com.github.nmorel.gwtjackson.client.ser.bean;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 
 /**
- * Lazy initialize a {@link JsonSerializer}
+ * Lazy initialize a {@link JsonSerializer}. The serializer is safely published so the instance can be shared between threads.
  *
  * @author Nicolas Morel
  * @version $Id: $
  */
 public abstract class HasSerializer<V, S extends JsonSerializer<V>> {
 
-    private S serializer;
+    private volatile S serializer;
 
     /**
      * <p>Getter for the field <code>serializer</code>.</p>
@@ -34,10 +34,12 @@ public abstract class HasSerializer<V, S extends JsonSerializer<V>> {
      * @return a S object.
      */
     protected S getSerializer() {
-        if ( null == serializer ) {
-            serializer = (S) newSerializer();
+        S result = serializer;
+        if ( null == result ) {
+            result = (S) newSerializer();
+            serializer = result;
         }
-        return serializer;
+        return result;
     }
 
     /**
@@ -16,11 +16,16 @@
 
 package com.github.nmorel.gwtjackson.client.ser.map;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SortedMap;
-import java.util.TreeMap;
 
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
@@ -38,6 +43,26 @@ import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
  */
 public class MapJsonSerializer<M extends Map<K, V>, K, V> extends JsonSerializer<M> {
 
+    /**
+     * Orders the entries by their keys, null key first. Like a {@link java.util.TreeMap}, the keys must be {@link Comparable}.
+     */
+    private static final Comparator<Entry<?, ?>> KEY_COMPARATOR = new Comparator<Entry<?, ?>>() {
+        @Override
+        public int compare( Entry<?, ?> o1, Entry<?, ?> o2 ) {
+            Object key1 = o1.getKey();
+            Object key2 = o2.getKey();
+            if ( null == key1 ) {
+                return null == key2 ? 0 : -1;
+            }
+            if ( null == key2 ) {
+                return 1;
+            }
+            @SuppressWarnings( "unchecked" )
+            Comparable<Object> comparable = (Comparable<Object>) key1;
+            return comparable.compareTo( key2 );
+        }
+    };
+
     /**
      * <p>newInstance</p>
      *
@@ -86,6 +111,11 @@ public class MapJsonSerializer<M extends Map<K, V>, K, V> extends JsonSerializer
         serializeValues( writer, values, ctx, params );
 
         writer.endObject();
+
+        JsonMappingListener listener = ctx.getListener();
+        if ( null != listener ) {
+            listener.onElements( Operation.SERIALIZATION, values.size() );
+        }
     }
 
     /**
@@ -98,33 +128,21 @@ public class MapJsonSerializer<M extends Map<K, V>, K, V> extends JsonSerializer
      */
     public void serializeValues( JsonWriter writer, M values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
         if ( !values.isEmpty() ) {
-            Map<K, V> map = values;
-            if ( ctx.isOrderMapEntriesByKeys() && !(values instanceof SortedMap<?, ?>) ) {
-                map = new TreeMap<K, V>( map );
-            }
+            // the escaping of the keys only depends on the key serializer and the context
+            final boolean escapeKeys = keySerializer.mustBeEscaped( ctx );
 
             if ( ctx.isWriteNullMapValues() ) {
 
-                for ( Entry<K, V> entry : map.entrySet() ) {
-                    String name = keySerializer.serialize( entry.getKey(), ctx );
-                    if ( keySerializer.mustBeEscaped( ctx ) ) {
-                        writer.name( name );
-                    } else {
-                        writer.unescapeName( name );
-                    }
+                for ( Entry<K, V> entry : getEntries( values, ctx ) ) {
+                    serializeKey( writer, entry.getKey(), escapeKeys, ctx );
                     valueSerializer.serialize( writer, entry.getValue(), ctx, params );
                 }
 
             } else {
 
-                for ( Entry<K, V> entry : map.entrySet() ) {
+                for ( Entry<K, V> entry : getEntries( values, ctx ) ) {
                     if ( null != entry.getValue() ) {
-                        String name = keySerializer.serialize( entry.getKey(), ctx );
-                        if ( keySerializer.mustBeEscaped( ctx ) ) {
-                            writer.name( name );
-                        } else {
-                            writer.unescapeName( name );
-                        }
+                        serializeKey( writer, entry.getKey(), escapeKeys, ctx );
                         valueSerializer.serialize( writer, entry.getValue(), ctx, params );
                     }
                 }
@@ -132,4 +150,111 @@ public class MapJsonSerializer<M extends Map<K, V>, K, V> extends JsonSerializer
             }
         }
     }
+
+    /**
+     * Returns the entries of the map, ordered by keys if {@link JsonSerializationContext#isOrderMapEntriesByKeys()} is enabled. The
+     * entries are sorted once in an array instead of copying the whole map into a {@link java.util.TreeMap}.
+     *
+     * @param map the map
+     * @param ctx a {@link com.github.nmorel.gwtjackson.client.JsonSerializationContext} object.
+     *
+     * @return the entries to write
+     */
+    protected Collection<Entry<K, V>> getEntries( Map<K, V> map, JsonSerializationContext ctx ) {
+        if ( !ctx.isOrderMapEntriesByKeys() || map instanceof SortedMap<?, ?> || map.size() < 2 ) {
+            return map.entrySet();
+        }
+        @SuppressWarnings( {"unchecked", "rawtypes"} )
+        Entry<K, V>[] entries = map.entrySet().toArray( new Entry[map.size()] );
+        Arrays.sort( entries, KEY_COMPARATOR );
+        return Arrays.asList( entries );
+    }
+
+    private void serializeKey( JsonWriter writer, K key, boolean escapeKey, JsonSerializationContext ctx ) {
+        String name = keySerializer.serialize( key, ctx );
+        if ( escapeKey ) {
+            writer.name( name );
+        } else {
+            writer.unescapeName( name );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Only the entries that changed are written. The values are patched recursively and the removed keys are written with a null
+     * value. As a consequence, a null value cannot be distinguished from a removed key.
+     */
+    @Override
+    public void serializePatch( JsonWriter writer, M baseline, M values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        if ( null == baseline ) {
+            doSerialize( writer, values, ctx, params );
+            return;
+        }
+
+        writer.beginObject();
+
+        serializeValuesPatch( writer, baseline, values, ctx, params );
+
+        writer.endObject();
+    }
+
+    /**
+     * Serializes the entries that changed since the baseline.
+     *
+     * @param writer a {@link com.github.nmorel.gwtjackson.client.stream.JsonWriter} object.
+     * @param baseline previous version of the map, can be null
+     * @param values current version of the map, can be null
+     * @param ctx a {@link com.github.nmorel.gwtjackson.client.JsonSerializationContext} object.
+     * @param params a {@link com.github.nmorel.gwtjackson.client.JsonSerializerParameters} object.
+     */
+    public void serializeValuesPatch( JsonWriter writer, M baseline, M values, JsonSerializationContext ctx, JsonSerializerParameters
+            params ) {
+        Map<K, V> previous = null == baseline ? Collections.<K, V>emptyMap() : baseline;
+        Map<K, V> map = null == values ? Collections.<K, V>emptyMap() : values;
+        final boolean escapeKeys = keySerializer.mustBeEscaped( ctx );
+
+        for ( Entry<K, V> entry : getEntries( map, ctx ) ) {
+            V previousValue = previous.get( entry.getKey() );
+            V value = entry.getValue();
+            if ( null == value ) {
+                if ( null != previousValue ) {
+                    serializeKey( writer, entry.getKey(), escapeKeys, ctx );
+                    writer.nullValue();
+                }
+            } else if ( null == previousValue || !valueSerializer.isEqual( previousValue, value, ctx, params ) ) {
+                serializeKey( writer, entry.getKey(), escapeKeys, ctx );
+                valueSerializer.serializePatch( writer, previousValue, value, ctx, params );
+            }
+        }
+
+        for ( Entry<K, V> entry : previous.entrySet() ) {
+            if ( null != entry.getValue() && !map.containsKey( entry.getKey() ) ) {
+                serializeKey( writer, entry.getKey(), escapeKeys, ctx );
+                writer.nullValue();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Two maps are equal if they contain the same keys with equal values.
+     */
+    @Override
+    public boolean isEqual( M baseline, M values, JsonSerializationContext ctx, JsonSerializerParameters params ) {
+        if ( baseline == values ) {
+            return true;
+        }
+        if ( null == baseline || null == values || baseline.size() != values.size() ) {
+            return false;
+        }
+        for ( Entry<K, V> entry : values.entrySet() ) {
+            if ( !baseline.containsKey( entry.getKey() ) || !valueSerializer.isEqual( baseline.get( entry.getKey() ), entry
+                    .getValue(), ctx, params ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream;
+
+/**
+ * Implemented by the {@link JsonReader} able to look ahead in the current object without consuming it. It is used to find the type
+ * information of a polymorphic bean without buffering the properties placed before. All the readers of gwt-jackson implement it, the
+ * properties are buffered with the other readers.
+ *
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public interface JsonPropertyScanner {
+
+    /**
+     * Scans ahead the remaining properties of the current object looking for the property named {@code propertyName} and returns
+     * its value as a String. The values of the other properties are skipped without being read. Nothing is consumed : once the scan
+     * is done, the reader is back to the position it had before the call.
+     *
+     * @param propertyName name of the property to look for
+     * @return the value of the property or null if the current object does not contain it or if its value is not a string or a number
+     */
+    String scanPropertyValue( String propertyName );
+}
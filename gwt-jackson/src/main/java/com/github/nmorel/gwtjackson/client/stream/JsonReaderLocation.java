@@ -0,0 +1,44 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream;
+
+/**
+ * Implemented by the {@link JsonReader} able to tell where they are in the input. It is used to log the location of an error
+ * instead of the whole input. All the readers of gwt-jackson implement it.
+ *
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public interface JsonReaderLocation {
+
+    /**
+     * Returns the location of the reader in the document as a <a href="https://tools.ietf.org/html/rfc6901">JSON pointer</a>, for
+     * example {@code /lines/2/name}. The names and indices are maintained while reading so building the path is cheap.
+     *
+     * @return the JSON pointer to the current value, an empty string for the root value
+     */
+    String getPath();
+
+    /**
+     * Returns a part of the input around the current position, to be used in error messages instead of the whole input.
+     *
+     * @param maxLength maximum number of characters or bytes taken from the input
+     *
+     * @return the excerpt of the input
+     */
+    String getInputExcerpt( int maxLength );
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream;
+
+/**
+ * Implemented by the {@link JsonWriter} able to tell where they are in the output. It is used to log the location of an error
+ * instead of the whole output. All the writers of gwt-jackson implement it.
+ *
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public interface JsonWriterLocation {
+
+    /**
+     * Returns the location of the writer in the document as a <a href="https://tools.ietf.org/html/rfc6901">JSON pointer</a>, for
+     * example {@code /lines/2/name}. It points to the last property named or to the last array element started.
+     *
+     * @return the JSON pointer to the current value, an empty string for the root value
+     */
+    String getPath();
+
+    /**
+     * Returns the end of the output written so far, to be used in error messages instead of the whole output.
+     *
+     * @param maxLength maximum number of characters or bytes taken from the output
+     *
+     * @return the excerpt of the output
+     */
+    String getOutputExcerpt( int maxLength );
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+/**
+ * Constants of the <a href="https://tools.ietf.org/html/rfc7049">CBOR</a> encoding shared by {@link CborJsonReader} and
+ * {@link CborJsonWriter}.
+ * <p>
+ * The binary payload is carried inside a {@link String} holding one char per byte, each char being in the range [0, 255].
+ * </p>
+ *
+ * @author Nicolas Morel
+ */
+final class CborConstants {
+
+    static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+
+    static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+
+    static final int MAJOR_TYPE_BYTE_STRING = 2;
+
+    static final int MAJOR_TYPE_TEXT_STRING = 3;
+
+    static final int MAJOR_TYPE_ARRAY = 4;
+
+    static final int MAJOR_TYPE_MAP = 5;
+
+    static final int MAJOR_TYPE_TAG = 6;
+
+    static final int MAJOR_TYPE_SIMPLE = 7;
+
+    static final int ONE_BYTE = 24;
+
+    static final int TWO_BYTES = 25;
+
+    static final int FOUR_BYTES = 26;
+
+    static final int EIGHT_BYTES = 27;
+
+    static final int INDEFINITE_LENGTH = 31;
+
+    static final int SIMPLE_FALSE = 20;
+
+    static final int SIMPLE_TRUE = 21;
+
+    static final int SIMPLE_NULL = 22;
+
+    static final int SIMPLE_UNDEFINED = 23;
+
+    static final int BREAK = 0xff;
+
+    static final int TAG_POSITIVE_BIGNUM = 2;
+
+    static final int TAG_NEGATIVE_BIGNUM = 3;
+
+    static final int TAG_DECIMAL_FRACTION = 4;
+
+    static final int TAG_STRING_REFERENCE = 25;
+
+    static final int TAG_STRING_REFERENCE_NAMESPACE = 256;
+
+    private CborConstants() {}
+
+    /**
+     * Returns true if a string of {@code byteLength} bytes has to be added to a string table already containing {@code
+     * tableSize} strings. A string is only added if it is at least as long as the reference that would replace it.
+     *
+     * @param byteLength length in bytes of the string
+     * @param tableSize current size of the string table
+     *
+     * @return true if the string has to be added to the table
+     */
+    static boolean isReferenceable( int byteLength, int tableSize ) {
+        if ( tableSize < 24 ) {
+            return byteLength >= 3;
+        } else if ( tableSize < 256 ) {
+            return byteLength >= 4;
+        } else if ( tableSize < 65536 ) {
+            return byteLength >= 5;
+        } else {
+            return byteLength >= 7;
+        }
+    }
+}
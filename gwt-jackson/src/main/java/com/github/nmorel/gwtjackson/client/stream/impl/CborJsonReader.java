@@ -0,0 +1,1007 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.stream.JsonPropertyScanner;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonReaderLocation;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.utils.Base64Utils;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsonUtils;
+
+import static com.github.nmorel.gwtjackson.client.stream.impl.CborConstants.*;
+
+/**
+ * {@link JsonReader} reading <a href="https://tools.ietf.org/html/rfc7049">CBOR</a> instead of JSON text. The input holds one
+ * char per byte, like the output of {@link CborJsonWriter}.
+ * <p>
+ * The payload is binary carried in a {@link String}. It must reach the reader unchanged : a char above 0x7f sent as text, in a
+ * websocket text frame for example, is encoded as two bytes in UTF-8 and must be decoded back before being read.
+ * </p>
+ * <p>
+ * Definite and indefinite length items are supported. Byte strings are read as Base64 strings, bignums and decimal fractions
+ * as {@link BigInteger} and {@link BigDecimal}, string references are resolved and the other tags are ignored. Map keys that
+ * are not strings are read as their string form.
+ * </p>
+ *
+ * @author Nicolas Morel
+ */
+public class CborJsonReader implements JsonReader, JsonPropertyScanner, JsonReaderLocation {
+
+    private static final int NO_TAG = -1;
+
+    private static final BigInteger TWO_POW_64 = BigInteger.ONE.shiftLeft( 64 );
+
+    private final String in;
+
+    private final int length;
+
+    private int pos = 0;
+
+    private boolean closed;
+
+    /*
+     * For each opened array or object, the number of items left to read or -1 if the length is indefinite and the number of
+     * items read. In an object, an even number of items read means the next item is a name.
+     */
+    private int[] stackRemaining = new int[32];
+
+    private int[] stackRead = new int[32];
+
+    private boolean[] stackObject = new boolean[32];
+
+    /** For each opened object, the last name read. Only used to build the path of the reader. */
+    private String[] stackName = new String[32];
+
+    private int stackSize = 0;
+
+    private JsonToken peeked;
+
+    /** Position of the peeked item, including its tags */
+    private int peekedStart;
+
+    /** Last tag read before the peeked item */
+    private int peekedTag = NO_TAG;
+
+    /** Table of the strings that can be referenced, null outside a string reference namespace */
+    private List<String> stringTable;
+
+    /** Whether the peeked item opened a string reference namespace */
+    private boolean peekedNamespace;
+
+    /** Table of the enclosing namespace, restored once the peeked item opening a namespace is read */
+    private List<String> peekedOuterStringTable;
+
+    /** For each opened array or object, whether it opened a string reference namespace */
+    private boolean[] stackNamespace = new boolean[32];
+
+    /** Tables of the enclosing namespaces of the opened arrays and objects that opened a namespace */
+    private List<List<String>> outerStringTables = new ArrayList<List<String>>();
+
+    /**
+     * Creates a new instance reading the CBOR payload {@code in}.
+     *
+     * @param in the input, one char per byte
+     */
+    public CborJsonReader( String in ) {
+        if ( in == null ) {
+            throw new NullPointerException( "in == null" );
+        }
+        this.in = in;
+        this.length = in.length();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * CBOR has no syntax to relax so this has no effect.
+     */
+    @Override
+    public void setLenient( boolean lenient ) {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void beginArray() {
+        if ( peek() != JsonToken.BEGIN_ARRAY ) {
+            throw new IllegalStateException( "Expected BEGIN_ARRAY but was " + peek() + " at position " + pos );
+        }
+        int remaining = readContainerLength( MAJOR_TYPE_ARRAY );
+        consumed();
+        push( remaining, false );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void endArray() {
+        if ( peek() != JsonToken.END_ARRAY ) {
+            throw new IllegalStateException( "Expected END_ARRAY but was " + peek() + " at position " + pos );
+        }
+        pop();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void beginObject() {
+        if ( peek() != JsonToken.BEGIN_OBJECT ) {
+            throw new IllegalStateException( "Expected BEGIN_OBJECT but was " + peek() + " at position " + pos );
+        }
+        int remaining = readContainerLength( MAJOR_TYPE_MAP );
+        if ( remaining > 0 ) {
+            if ( remaining > Integer.MAX_VALUE / 2 ) {
+                throw syntaxError( "Map too large" );
+            }
+            // a name and a value for each entry
+            remaining *= 2;
+        }
+        consumed();
+        push( remaining, true );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void endObject() {
+        if ( peek() != JsonToken.END_OBJECT ) {
+            throw new IllegalStateException( "Expected END_OBJECT but was " + peek() + " at position " + pos );
+        }
+        pop();
+    }
+
+    private void push( int remaining, boolean object ) {
+        if ( stackSize == stackRemaining.length ) {
+            int newLength = stackSize * 2;
+            int[] newRemaining = new int[newLength];
+            int[] newRead = new int[newLength];
+            boolean[] newObject = new boolean[newLength];
+            String[] newName = new String[newLength];
+            boolean[] newNamespace = new boolean[newLength];
+            System.arraycopy( stackRemaining, 0, newRemaining, 0, stackSize );
+            System.arraycopy( stackRead, 0, newRead, 0, stackSize );
+            System.arraycopy( stackObject, 0, newObject, 0, stackSize );
+            System.arraycopy( stackName, 0, newName, 0, stackSize );
+            System.arraycopy( stackNamespace, 0, newNamespace, 0, stackSize );
+            stackRemaining = newRemaining;
+            stackRead = newRead;
+            stackObject = newObject;
+            stackName = newName;
+            stackNamespace = newNamespace;
+        }
+        stackRemaining[stackSize] = remaining;
+        stackRead[stackSize] = 0;
+        stackObject[stackSize] = object;
+        stackName[stackSize] = null;
+        // the namespace opened by the container lasts until its end
+        stackNamespace[stackSize] = peekedNamespace;
+        if ( peekedNamespace ) {
+            outerStringTables.add( peekedOuterStringTable );
+            peekedNamespace = false;
+            peekedOuterStringTable = null;
+        }
+        stackSize++;
+    }
+
+    private void pop() {
+        if ( stackRemaining[stackSize - 1] < 0 ) {
+            // break byte of an indefinite length container
+            pos++;
+        }
+        stackSize--;
+        peeked = null;
+        if ( stackNamespace[stackSize] ) {
+            stringTable = outerStringTables.remove( outerStringTables.size() - 1 );
+        }
+    }
+
+    /**
+     * Marks the peeked item as consumed.
+     */
+    private void consumed() {
+        if ( peekedNamespace && peeked != JsonToken.BEGIN_ARRAY && peeked != JsonToken.BEGIN_OBJECT ) {
+            // the namespace only covered this item, an array or object keeps it until its end
+            stringTable = peekedOuterStringTable;
+            peekedNamespace = false;
+            peekedOuterStringTable = null;
+        }
+        peeked = null;
+        peekedTag = NO_TAG;
+        if ( stackSize > 0 ) {
+            int top = stackSize - 1;
+            stackRead[top]++;
+            if ( stackRemaining[top] > 0 ) {
+                stackRemaining[top]--;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonToken peek() {
+        if ( closed ) {
+            throw new IllegalStateException( "JsonReader is closed" );
+        }
+        if ( null != peeked ) {
+            return peeked;
+        }
+
+        boolean name = false;
+        if ( stackSize > 0 ) {
+            int top = stackSize - 1;
+            int remaining = stackRemaining[top];
+            if ( remaining == 0 || remaining < 0 && byteAt( pos ) == BREAK ) {
+                peeked = stackObject[top] ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+                return peeked;
+            }
+            name = stackObject[top] && (stackRead[top] & 1) == 0;
+        } else if ( pos >= length ) {
+            peeked = JsonToken.END_DOCUMENT;
+            return peeked;
+        }
+
+        peekedStart = pos;
+        peekedTag = readTags();
+        if ( name ) {
+            peeked = JsonToken.NAME;
+            return peeked;
+        }
+
+        int initialByte = byteAt( pos );
+        int additionalInfo = initialByte & 0x1f;
+        if ( peekedTag == TAG_STRING_REFERENCE ) {
+            peeked = JsonToken.STRING;
+            return peeked;
+        }
+        switch ( initialByte >> 5 ) {
+            case MAJOR_TYPE_UNSIGNED_INTEGER:
+            case MAJOR_TYPE_NEGATIVE_INTEGER:
+                peeked = JsonToken.NUMBER;
+                break;
+            case MAJOR_TYPE_BYTE_STRING:
+                if ( peekedTag == TAG_POSITIVE_BIGNUM || peekedTag == TAG_NEGATIVE_BIGNUM ) {
+                    peeked = JsonToken.NUMBER;
+                } else {
+                    peeked = JsonToken.STRING;
+                }
+                break;
+            case MAJOR_TYPE_TEXT_STRING:
+                peeked = JsonToken.STRING;
+                break;
+            case MAJOR_TYPE_ARRAY:
+                peeked = peekedTag == TAG_DECIMAL_FRACTION ? JsonToken.NUMBER : JsonToken.BEGIN_ARRAY;
+                break;
+            case MAJOR_TYPE_MAP:
+                peeked = JsonToken.BEGIN_OBJECT;
+                break;
+            default:
+                switch ( additionalInfo ) {
+                    case SIMPLE_FALSE:
+                    case SIMPLE_TRUE:
+                        peeked = JsonToken.BOOLEAN;
+                        break;
+                    case SIMPLE_NULL:
+                    case SIMPLE_UNDEFINED:
+                        peeked = JsonToken.NULL;
+                        break;
+                    case TWO_BYTES:
+                    case FOUR_BYTES:
+                    case EIGHT_BYTES:
+                        peeked = JsonToken.NUMBER;
+                        break;
+                    default:
+                        throw syntaxError( "Unexpected value" );
+                }
+        }
+        return peeked;
+    }
+
+    /**
+     * Reads the tags preceding the next item and returns the last one read.
+     */
+    private int readTags() {
+        int tag = NO_TAG;
+        while ( byteAt( pos ) >> 5 == MAJOR_TYPE_TAG ) {
+            long value = readArgument( readByte() & 0x1f );
+            if ( value == TAG_STRING_REFERENCE_NAMESPACE ) {
+                // the namespace only covers the tagged item, the enclosing table is restored once it is read
+                if ( !peekedNamespace ) {
+                    peekedNamespace = true;
+                    peekedOuterStringTable = stringTable;
+                }
+                stringTable = new ArrayList<String>();
+                tag = NO_TAG;
+            } else if ( value == TAG_STRING_REFERENCE || value == TAG_POSITIVE_BIGNUM || value == TAG_NEGATIVE_BIGNUM || value ==
+                    TAG_DECIMAL_FRACTION ) {
+                tag = (int) value;
+            } else {
+                // unsupported tag, the item is read as is
+                tag = NO_TAG;
+            }
+        }
+        return tag;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String nextName() {
+        if ( peek() != JsonToken.NAME ) {
+            throw new IllegalStateException( "Expected a name but was " + peek() + " at position " + pos );
+        }
+        String result = readString();
+        consumed();
+        stackName[stackSize - 1] = result;
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String nextString() {
+        JsonToken token = peek();
+        String result;
+        if ( token == JsonToken.STRING ) {
+            result = readString();
+        } else if ( token == JsonToken.NUMBER ) {
+            result = readNumber( peekedTag ).toString();
+        } else {
+            throw new IllegalStateException( "Expected a string but was " + peek() + " at position " + pos );
+        }
+        consumed();
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean nextBoolean() {
+        if ( peek() != JsonToken.BOOLEAN ) {
+            throw new IllegalStateException( "Expected a boolean but was " + peek() + " at position " + pos );
+        }
+        boolean result = (readByte() & 0x1f) == SIMPLE_TRUE;
+        consumed();
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextNull() {
+        if ( peek() != JsonToken.NULL ) {
+            throw new IllegalStateException( "Expected null but was " + peek() + " at position " + pos );
+        }
+        readByte();
+        consumed();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double nextDouble() {
+        JsonToken token = peek();
+        double result;
+        if ( token == JsonToken.NUMBER ) {
+            result = readNumber( peekedTag ).doubleValue();
+        } else if ( token == JsonToken.STRING ) {
+            result = Double.parseDouble( readString() );
+        } else {
+            throw new IllegalStateException( "Expected a double but was " + peek() + " at position " + pos );
+        }
+        consumed();
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long nextLong() {
+        JsonToken token = peek();
+        long result;
+        if ( token == JsonToken.NUMBER ) {
+            result = toLong( readNumber( peekedTag ) );
+        } else if ( token == JsonToken.STRING ) {
+            String value = readString();
+            try {
+                result = Long.parseLong( value );
+            } catch ( NumberFormatException e ) {
+                result = toLong( new BigDecimal( value ) );
+            }
+        } else {
+            throw new IllegalStateException( "Expected a long but was " + peek() + " at position " + pos );
+        }
+        consumed();
+        return result;
+    }
+
+    private long toLong( Number number ) {
+        if ( number instanceof Integer || number instanceof Long ) {
+            return number.longValue();
+        }
+
+        if ( number instanceof Double ) {
+            double value = number.doubleValue();
+            long result = (long) value;
+            if ( result != value ) {
+                throw new NumberFormatException( "Expected a long but was " + number + " at position " + pos );
+            }
+            return result;
+        }
+
+        BigInteger value;
+        if ( number instanceof BigDecimal ) {
+            try {
+                value = ((BigDecimal) number).toBigIntegerExact();
+            } catch ( ArithmeticException e ) {
+                throw new NumberFormatException( "Expected a long but was " + number + " at position " + pos );
+            }
+        } else {
+            value = (BigInteger) number;
+        }
+        if ( value.bitLength() >= 64 ) {
+            throw new NumberFormatException( "Expected a long but was " + number + " at position " + pos );
+        }
+        return value.longValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int nextInt() {
+        long result = nextLong();
+        if ( result != (int) result ) {
+            throw new NumberFormatException( "Expected an int but was " + result + " at position " + pos );
+        }
+        return (int) result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Number nextNumber() {
+        if ( peek() != JsonToken.NUMBER ) {
+            throw new IllegalStateException( "Expected a number but was " + peek() + " at position " + pos );
+        }
+        Number result = readNumber( peekedTag );
+        consumed();
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        peeked = null;
+        stackSize = 0;
+        stringTable = null;
+        peekedNamespace = false;
+        peekedOuterStringTable = null;
+        outerStringTables.clear();
+        closed = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void skipValue() {
+        switch ( peek() ) {
+            case BEGIN_ARRAY:
+                beginArray();
+                while ( hasNext() ) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case BEGIN_OBJECT:
+                beginObject();
+                while ( hasNext() ) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case NAME:
+                nextName();
+                break;
+            case NUMBER:
+                nextNumber();
+                break;
+            case BOOLEAN:
+                nextBoolean();
+                break;
+            case NULL:
+                nextNull();
+                break;
+            case STRING:
+                // strings are read to keep the string table up to date
+                nextString();
+                break;
+            default:
+                throw new IllegalStateException( "Expected a value but was " + peek() + " at position " + pos );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The value is returned as CBOR so it can be read by another {@link CborJsonReader}.
+     */
+    @Override
+    public String nextValue() {
+        peek();
+        if ( null == stringTable ) {
+            // the value is self-contained, we return it as is
+            int start = peekedStart;
+            skipValue();
+            return in.substring( start, pos );
+        }
+
+        // the value may reference strings outside of it so we write it again without references
+        JsonWriter writer = new CborJsonWriter( new StringBuilder(), false );
+        writer.setLenient( true );
+        copyValue( writer );
+        writer.close();
+        return writer.getOutput();
+    }
+
+    private void copyValue( JsonWriter writer ) {
+        JsonToken token = peek();
+        switch ( token ) {
+            case BEGIN_ARRAY:
+                beginArray();
+                writer.beginArray();
+                while ( hasNext() ) {
+                    copyValue( writer );
+                }
+                endArray();
+                writer.endArray();
+                break;
+            case BEGIN_OBJECT:
+                beginObject();
+                writer.beginObject();
+                while ( hasNext() ) {
+                    writer.name( nextName() );
+                    copyValue( writer );
+                }
+                endObject();
+                writer.endObject();
+                break;
+            case STRING:
+                writer.value( nextString() );
+                break;
+            case NUMBER:
+                writer.value( nextNumber() );
+                break;
+            case BOOLEAN:
+                writer.value( nextBoolean() );
+                break;
+            case NULL:
+                nextNull();
+                writer.nullValue();
+                break;
+            default:
+                throw new IllegalStateException( "Expected a value but was " + token + " at position " + pos );
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String scanPropertyValue( String propertyName ) {
+        // we save the current state to restore it once the scan is done
+        int savedPos = pos;
+        JsonToken savedPeeked = peeked;
+        int savedPeekedStart = peekedStart;
+        int savedPeekedTag = peekedTag;
+        int savedStackSize = stackSize;
+        int savedStackRemaining = stackRemaining[stackSize - 1];
+        int savedStackRead = stackRead[stackSize - 1];
+        String savedStackName = stackName[stackSize - 1];
+        List<String> savedStringTable = stringTable;
+        int savedStringTableSize = null == stringTable ? 0 : stringTable.size();
+        boolean savedPeekedNamespace = peekedNamespace;
+        List<String> savedPeekedOuterStringTable = peekedOuterStringTable;
+        int savedOuterStringTablesSize = outerStringTables.size();
+
+        String result = null;
+        try {
+            while ( peek() == JsonToken.NAME ) {
+                if ( propertyName.equals( nextName() ) ) {
+                    JsonToken token = peek();
+                    if ( token == JsonToken.STRING || token == JsonToken.NUMBER ) {
+                        result = nextString();
+                    }
+                    break;
+                }
+                skipValue();
+            }
+        } finally {
+            pos = savedPos;
+            peeked = savedPeeked;
+            peekedStart = savedPeekedStart;
+            peekedTag = savedPeekedTag;
+            stackSize = savedStackSize;
+            stackRemaining[stackSize - 1] = savedStackRemaining;
+            stackRead[stackSize - 1] = savedStackRead;
+            stackName[stackSize - 1] = savedStackName;
+            stringTable = savedStringTable;
+            if ( null != stringTable ) {
+                while ( stringTable.size() > savedStringTableSize ) {
+                    stringTable.remove( stringTable.size() - 1 );
+                }
+            }
+            peekedNamespace = savedPeekedNamespace;
+            peekedOuterStringTable = savedPeekedOuterStringTable;
+            while ( outerStringTables.size() > savedOuterStringTablesSize ) {
+                outerStringTables.remove( outerStringTables.size() - 1 );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * There is no line in a binary input, always returns 1.
+     */
+    @Override
+    public int getLineNumber() {
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns the position of the next byte to read, starting at 1.
+     */
+    @Override
+    public int getColumnNumber() {
+        return pos + 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getInput() {
+        return in;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPath() {
+        StringBuilder builder = new StringBuilder();
+        for ( int i = 0; i < stackSize; i++ ) {
+            if ( !stackObject[i] ) {
+                // the index of the current element is the number of elements read before it
+                JsonPath.appendIndex( builder, Math.max( 0, stackRead[i] - (i == stackSize - 1 ? 0 : 1) ) );
+            } else if ( null != stackName[i] ) {
+                JsonPath.appendName( builder, stackName[i] );
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The bytes are written in hexadecimal.
+     */
+    @Override
+    public String getInputExcerpt( int maxLength ) {
+        return JsonPath.hexExcerpt( in, pos, maxLength );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JavaScriptObject nextJavaScriptObject( boolean useSafeEval ) {
+        JsonToken token = peek();
+        if ( token != JsonToken.BEGIN_OBJECT && token != JsonToken.BEGIN_ARRAY ) {
+            throw new IllegalStateException( "Expected an array or object to evaluate a JavaScriptObject but was " + token + " at " +
+                    "position " + pos );
+        }
+        JsonWriter writer = new DefaultJsonWriter( new StringBuilder() );
+        writer.setLenient( true );
+        copyValue( writer );
+        writer.close();
+        String toEval = writer.getOutput();
+        return useSafeEval ? JsonUtils.safeEval( toEval ) : JsonUtils.unsafeEval( toEval );
+    }
+
+    private int readContainerLength( int majorType ) {
+        int initialByte = readByte();
+        if ( initialByte >> 5 != majorType ) {
+            throw syntaxError( "Unexpected major type " + (initialByte >> 5) );
+        }
+        int additionalInfo = initialByte & 0x1f;
+        if ( additionalInfo == INDEFINITE_LENGTH ) {
+            return -1;
+        }
+        return readLength( additionalInfo );
+    }
+
+    /**
+     * Reads the string item at the current position. Numbers and booleans are returned in their string form.
+     */
+    private String readString() {
+        int initialByte = byteAt( pos );
+        int majorType = initialByte >> 5;
+        int additionalInfo = initialByte & 0x1f;
+
+        if ( peekedTag == TAG_STRING_REFERENCE ) {
+            pos++;
+            long index = readArgument( additionalInfo );
+            if ( null == stringTable || index < 0 || index >= stringTable.size() ) {
+                throw syntaxError( "Invalid string reference " + index );
+            }
+            return stringTable.get( (int) index );
+        }
+
+        if ( majorType == MAJOR_TYPE_TEXT_STRING || majorType == MAJOR_TYPE_BYTE_STRING ) {
+            pos++;
+            if ( additionalInfo == INDEFINITE_LENGTH ) {
+                // chunks are not added to the string table
+                StringBuilder builder = new StringBuilder();
+                while ( byteAt( pos ) != BREAK ) {
+                    int chunkByte = readByte();
+                    if ( chunkByte >> 5 != majorType || (chunkByte & 0x1f) == INDEFINITE_LENGTH ) {
+                        throw syntaxError( "Invalid chunk in indefinite length string" );
+                    }
+                    int chunkLength = readLength( chunkByte & 0x1f );
+                    if ( majorType == MAJOR_TYPE_TEXT_STRING ) {
+                        builder.append( readUtf8( chunkLength ) );
+                    } else {
+                        builder.append( Base64Utils.toBase64( readBytes( chunkLength ) ) );
+                    }
+                }
+                pos++;
+                return builder.toString();
+            }
+
+            int byteLength = readLength( additionalInfo );
+            String result;
+            if ( majorType == MAJOR_TYPE_TEXT_STRING ) {
+                result = readUtf8( byteLength );
+            } else {
+                result = Base64Utils.toBase64( readBytes( byteLength ) );
+            }
+            if ( null != stringTable && isReferenceable( byteLength, stringTable.size() ) ) {
+                stringTable.add( result );
+            }
+            return result;
+        }
+
+        if ( majorType == MAJOR_TYPE_SIMPLE && (additionalInfo == SIMPLE_FALSE || additionalInfo == SIMPLE_TRUE) ) {
+            pos++;
+            return additionalInfo == SIMPLE_TRUE ? "true" : "false";
+        }
+
+        return readNumber( peekedTag ).toString();
+    }
+
+    private String readUtf8( int byteLength ) {
+        int end = pos + byteLength;
+        if ( end > length ) {
+            throw syntaxError( "Unexpected end of input" );
+        }
+
+        int i = pos;
+        while ( i < end && in.charAt( i ) < 0x80 ) {
+            i++;
+        }
+        if ( i == end ) {
+            // only ASCII characters, each byte is already a char
+            String result = in.substring( pos, end );
+            pos = end;
+            return result;
+        }
+
+        StringBuilder builder = new StringBuilder( byteLength );
+        builder.append( in, pos, i );
+        pos = i;
+        while ( pos < end ) {
+            int b = readByte();
+            if ( b < 0x80 ) {
+                builder.append( (char) b );
+            } else if ( b < 0xe0 ) {
+                builder.append( (char) ((b & 0x1f) << 6 | readContinuationByte()) );
+            } else if ( b < 0xf0 ) {
+                int c = (b & 0x0f) << 12;
+                c |= readContinuationByte() << 6;
+                c |= readContinuationByte();
+                builder.append( (char) c );
+            } else {
+                int codePoint = (b & 0x07) << 18;
+                codePoint |= readContinuationByte() << 12;
+                codePoint |= readContinuationByte() << 6;
+                codePoint |= readContinuationByte();
+                codePoint -= 0x10000;
+                builder.append( (char) (0xd800 + (codePoint >> 10)) );
+                builder.append( (char) (0xdc00 + (codePoint & 0x3ff)) );
+            }
+        }
+        if ( pos != end ) {
+            throw syntaxError( "Invalid UTF-8 sequence" );
+        }
+        return builder.toString();
+    }
+
+    private int readContinuationByte() {
+        int b = readByte();
+        if ( (b & 0xc0) != 0x80 ) {
+            throw syntaxError( "Invalid UTF-8 sequence" );
+        }
+        return b & 0x3f;
+    }
+
+    private byte[] readBytes( int byteLength ) {
+        if ( pos + byteLength > length ) {
+            throw syntaxError( "Unexpected end of input" );
+        }
+        byte[] result = new byte[byteLength];
+        for ( int i = 0; i < byteLength; i++ ) {
+            result[i] = (byte) readByte();
+        }
+        return result;
+    }
+
+    /**
+     * Reads the number item at the current position. Integers are returned as {@link Integer} if they fit, {@link Long} or
+     * {@link BigInteger} otherwise and floating-point numbers as {@link Double}.
+     */
+    private Number readNumber( int tag ) {
+        int initialByte = readByte();
+        int additionalInfo = initialByte & 0x1f;
+        switch ( initialByte >> 5 ) {
+            case MAJOR_TYPE_UNSIGNED_INTEGER: {
+                long value = readArgument( additionalInfo );
+                if ( value < 0 ) {
+                    // greater than Long.MAX_VALUE
+                    return BigInteger.valueOf( value ).add( TWO_POW_64 );
+                }
+                return narrow( value );
+            }
+            case MAJOR_TYPE_NEGATIVE_INTEGER: {
+                long value = readArgument( additionalInfo );
+                if ( value < 0 ) {
+                    return BigInteger.valueOf( value ).add( TWO_POW_64 ).add( BigInteger.ONE ).negate();
+                }
+                return narrow( -1 - value );
+            }
+            case MAJOR_TYPE_BYTE_STRING: {
+                if ( tag != TAG_POSITIVE_BIGNUM && tag != TAG_NEGATIVE_BIGNUM ) {
+                    break;
+                }
+                BigInteger value = new BigInteger( 1, readBytes( readLength( additionalInfo ) ) );
+                if ( tag == TAG_NEGATIVE_BIGNUM ) {
+                    value = value.add( BigInteger.ONE ).negate();
+                }
+                return value.bitLength() < 64 ? narrow( value.longValue() ) : value;
+            }
+            case MAJOR_TYPE_ARRAY: {
+                if ( tag != TAG_DECIMAL_FRACTION || additionalInfo != 2 ) {
+                    break;
+                }
+                Number exponent = readNumber( readTags() );
+                Number mantissa = readNumber( readTags() );
+                if ( !(exponent instanceof Integer) || mantissa instanceof Double ) {
+                    throw syntaxError( "Invalid decimal fraction" );
+                }
+                BigInteger unscaledValue = mantissa instanceof BigInteger ? (BigInteger) mantissa : BigInteger.valueOf( mantissa
+                        .longValue() );
+                return new BigDecimal( unscaledValue, -exponent.intValue() );
+            }
+            case MAJOR_TYPE_SIMPLE:
+                if ( additionalInfo == TWO_BYTES ) {
+                    int bits = readByte() << 8 | readByte();
+                    return toDouble( bits >> 15, bits >> 10 & 0x1f, bits & 0x3ff, 5, 10 );
+                } else if ( additionalInfo == FOUR_BYTES ) {
+                    long bits = readArgument( FOUR_BYTES );
+                    return toDouble( (int) (bits >> 31), (int) (bits >> 23) & 0xff, bits & 0x7fffff, 8, 23 );
+                } else if ( additionalInfo == EIGHT_BYTES ) {
+                    return Double.longBitsToDouble( readArgument( EIGHT_BYTES ) );
+                }
+                break;
+            default:
+        }
+        throw syntaxError( "Expected a number" );
+    }
+
+    /**
+     * Decodes a half or single precision floating-point number.
+     */
+    private static Double toDouble( int sign, int exponent, long mantissa, int exponentBits, int mantissaBits ) {
+        int bias = (1 << (exponentBits - 1)) - 1;
+        int maxExponent = (1 << exponentBits) - 1;
+        double value;
+        if ( exponent == 0 ) {
+            value = mantissa * Math.pow( 2, 1 - bias - mantissaBits );
+        } else if ( exponent == maxExponent ) {
+            value = mantissa == 0 ? Double.POSITIVE_INFINITY : Double.NaN;
+        } else {
+            value = (mantissa + (1L << mantissaBits)) * Math.pow( 2, exponent - bias - mantissaBits );
+        }
+        return sign == 0 ? value : -value;
+    }
+
+    private static Number narrow( long value ) {
+        if ( value == (int) value ) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    private int readLength( int additionalInfo ) {
+        long value = readArgument( additionalInfo );
+        if ( value < 0 || value > Integer.MAX_VALUE ) {
+            throw syntaxError( "Length too large" );
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads the argument of an item whose initial byte has already been read. Unsigned 64-bit values greater than
+     * {@link Long#MAX_VALUE} are returned as negative values.
+     */
+    private long readArgument( int additionalInfo ) {
+        if ( additionalInfo < ONE_BYTE ) {
+            return additionalInfo;
+        }
+        if ( additionalInfo < EIGHT_BYTES ) {
+            // up to four bytes, the argument is built with int operations as the long ones are emulated in compiled mode
+            int result = readByte();
+            if ( additionalInfo == ONE_BYTE ) {
+                return result;
+            }
+            result = result << 8 | readByte();
+            if ( additionalInfo == TWO_BYTES ) {
+                return result;
+            }
+            result = result << 16 | readByte() << 8 | readByte();
+            // an argument greater than Integer.MAX_VALUE overflows the int
+            return result >= 0 ? result : result & 0xffffffffL;
+        }
+        if ( additionalInfo != EIGHT_BYTES ) {
+            throw syntaxError( "Invalid additional information " + additionalInfo );
+        }
+        long result = 0;
+        for ( int i = 0; i < 8; i++ ) {
+            result = result << 8 | readByte();
+        }
+        return result;
+    }
+
+    private int readByte() {
+        int result = byteAt( pos );
+        pos++;
+        return result;
+    }
+
+    private int byteAt( int position ) {
+        if ( position >= length ) {
+            throw syntaxError( "Unexpected end of input" );
+        }
+        char c = in.charAt( position );
+        if ( c > 0xff ) {
+            throw syntaxError( "Invalid byte " + (int) c );
+        }
+        return c;
+    }
+
+    private MalformedJsonException syntaxError( String message ) {
+        return new MalformedJsonException( message + " at position " + pos );
+    }
+}
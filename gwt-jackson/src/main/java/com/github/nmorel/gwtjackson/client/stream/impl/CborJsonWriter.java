@@ -0,0 +1,626 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriterLocation;
+import com.google.gwt.core.client.JavaScriptObject;
+
+import static com.github.nmorel.gwtjackson.client.stream.impl.CborConstants.*;
+
+/**
+ * {@link JsonWriter} producing <a href="https://tools.ietf.org/html/rfc7049">CBOR</a> instead of JSON text.
+ * <p>
+ * Objects and arrays are written with an indefinite length so nothing has to be buffered, integers use the shortest encoding
+ * and strings are written in UTF-8. The result returned by {@link #getOutput()} holds one char per byte.
+ * </p>
+ * <p>
+ * The output is binary carried in a {@link String}, it is only smaller than JSON when sent as bytes. Sent as text, in a websocket
+ * text frame for example, each char above 0x7f is encoded as two bytes in UTF-8. To send it as binary, each char must be
+ * written as one byte, in an {@code ArrayBuffer} or a binary websocket frame for example.
+ * </p>
+ * <p>
+ * When string references are enabled, each top-level value is wrapped in a string reference namespace and a property name or
+ * string value already written is replaced by a reference to its first occurrence, as described in
+ * <a href="http://cbor.schmorp.de/stringref">the stringref extension</a>. This greatly reduces the size of arrays of beans.
+ * </p>
+ *
+ * @author Nicolas Morel
+ */
+public class CborJsonWriter implements JsonWriter, JsonWriterLocation {
+
+    private static final Logger logger = Logger.getLogger( "JsonWriter" );
+
+    private final StringBuilder out;
+
+    private final boolean stringReferences;
+
+    private Map<String, Integer> stringTable;
+
+    private int[] stack = new int[32];
+
+    private int stackSize = 0;
+
+    /** For each scope, the last name of an object or the index of the last element of an array. Only used to build the path. */
+    private String[] pathNames = new String[32];
+
+    private int[] pathIndices = new int[32];
+
+    private boolean lenient;
+
+    private String deferredName;
+
+    private boolean serializeNulls = true;
+
+    /**
+     * Creates a new instance writing CBOR to {@code out}.
+     *
+     * @param out the output
+     * @param stringReferences true to replace repeated strings by references
+     */
+    public CborJsonWriter( StringBuilder out, boolean stringReferences ) {
+        if ( out == null ) {
+            throw new NullPointerException( "out == null" );
+        }
+        this.out = out;
+        this.stringReferences = stringReferences;
+        push( JsonScope.EMPTY_DOCUMENT );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Indentation has no meaning in a binary format so it is ignored.
+     */
+    @Override
+    public void setIndent( String indent ) {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLenient( boolean lenient ) {
+        this.lenient = lenient;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSerializeNulls( boolean serializeNulls ) {
+        this.serializeNulls = serializeNulls;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean getSerializeNulls() {
+        return serializeNulls;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter beginArray() {
+        writeDeferredName();
+        beforeValue( true );
+        push( JsonScope.EMPTY_ARRAY );
+        writeByte( MAJOR_TYPE_ARRAY << 5 | INDEFINITE_LENGTH );
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter endArray() {
+        return close( JsonScope.EMPTY_ARRAY );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter beginObject() {
+        writeDeferredName();
+        beforeValue( true );
+        push( JsonScope.EMPTY_OBJECT );
+        writeByte( MAJOR_TYPE_MAP << 5 | INDEFINITE_LENGTH );
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter endObject() {
+        return close( JsonScope.EMPTY_OBJECT );
+    }
+
+    private CborJsonWriter close( int scope ) {
+        if ( peek() != scope ) {
+            throw new IllegalStateException( "Nesting problem." );
+        }
+        if ( deferredName != null ) {
+            throw new IllegalStateException( "Dangling name: " + deferredName );
+        }
+        stackSize--;
+        writeByte( BREAK );
+        return this;
+    }
+
+    private void push( int scope ) {
+        if ( stackSize == stack.length ) {
+            int[] newStack = new int[stackSize * 2];
+            String[] newPathNames = new String[stackSize * 2];
+            int[] newPathIndices = new int[stackSize * 2];
+            System.arraycopy( stack, 0, newStack, 0, stackSize );
+            System.arraycopy( pathNames, 0, newPathNames, 0, stackSize );
+            System.arraycopy( pathIndices, 0, newPathIndices, 0, stackSize );
+            stack = newStack;
+            pathNames = newPathNames;
+            pathIndices = newPathIndices;
+        }
+        pathNames[stackSize] = null;
+        pathIndices[stackSize] = -1;
+        stack[stackSize++] = scope;
+    }
+
+    private int peek() {
+        if ( stackSize == 0 ) {
+            throw new IllegalStateException( "JsonWriter is closed." );
+        }
+        return stack[stackSize - 1];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter name( String name ) {
+        if ( name == null ) {
+            throw new NullPointerException( "name == null" );
+        }
+        if ( deferredName != null ) {
+            throw new IllegalStateException();
+        }
+        if ( stackSize == 0 ) {
+            throw new IllegalStateException( "JsonWriter is closed." );
+        }
+        deferredName = name;
+        pathNames[stackSize - 1] = name;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * There is no escaping in CBOR so this is the same as {@link #name(String)}.
+     */
+    @Override
+    public CborJsonWriter unescapeName( String name ) {
+        return name( name );
+    }
+
+    private void writeDeferredName() {
+        if ( deferredName != null ) {
+            if ( peek() != JsonScope.EMPTY_OBJECT ) {
+                throw new IllegalStateException( "Nesting problem." );
+            }
+            string( deferredName );
+            stack[stackSize - 1] = JsonScope.DANGLING_NAME;
+            deferredName = null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter value( String value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+        writeDeferredName();
+        beforeValue( false );
+        string( value );
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * There is no escaping in CBOR so this is the same as {@link #value(String)}.
+     */
+    @Override
+    public CborJsonWriter unescapeValue( String value ) {
+        return value( value );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter nullValue() {
+        if ( deferredName != null && !serializeNulls ) {
+            deferredName = null;
+            return this; // skip the name and the value
+        }
+        writeDeferredName();
+        beforeValue( false );
+        writeByte( MAJOR_TYPE_SIMPLE << 5 | SIMPLE_NULL );
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter cancelName() {
+        deferredName = null;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter value( boolean value ) {
+        writeDeferredName();
+        beforeValue( false );
+        writeByte( MAJOR_TYPE_SIMPLE << 5 | (value ? SIMPLE_TRUE : SIMPLE_FALSE) );
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter value( double value ) {
+        if ( !lenient && (Double.isNaN( value ) || Double.isInfinite( value )) ) {
+            throw new IllegalArgumentException( "Numeric values must be finite, but was " + value );
+        }
+        writeDeferredName();
+        beforeValue( false );
+        doubleValue( value );
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter value( long value ) {
+        writeDeferredName();
+        beforeValue( false );
+        longValue( value );
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CborJsonWriter value( Number value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+
+        if ( value instanceof Double || value instanceof Float ) {
+            double doubleValue = value.doubleValue();
+            if ( !lenient && (Double.isNaN( doubleValue ) || Double.isInfinite( doubleValue )) ) {
+                throw new IllegalArgumentException( "Numeric values must be finite, but was " + value );
+            }
+            writeDeferredName();
+            beforeValue( false );
+            doubleValue( doubleValue );
+        } else if ( value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte ) {
+            writeDeferredName();
+            beforeValue( false );
+            longValue( value.longValue() );
+        } else if ( value instanceof BigInteger ) {
+            writeDeferredName();
+            beforeValue( false );
+            bigIntegerValue( (BigInteger) value );
+        } else {
+            BigDecimal decimal = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal( value.toString() );
+            writeDeferredName();
+            beforeValue( false );
+            // decimal fraction : [exponent, mantissa]
+            writeTypeAndLength( MAJOR_TYPE_TAG, TAG_DECIMAL_FRACTION );
+            writeTypeAndLength( MAJOR_TYPE_ARRAY, 2 );
+            longValue( -decimal.scale() );
+            bigIntegerValue( decimal.unscaledValue() );
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The object is converted to JSON and the JSON is then encoded in CBOR.
+     */
+    @Override
+    public CborJsonWriter value( JavaScriptObject value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+        return rawValue( stringify( value ) );
+    }
+
+    private native String stringify( JavaScriptObject jso ) /*-{
+        return JSON.stringify(jso);
+    }-*/;
+
+    /**
+     * {@inheritDoc}
+     *
+     * The value is expected to be JSON text. It is parsed and encoded in CBOR.
+     */
+    @Override
+    public CborJsonWriter rawValue( Object value ) {
+        if ( value == null ) {
+            return nullValue();
+        }
+        JsonReader reader = new NonBufferedJsonReader( value.toString() );
+        reader.setLenient( true );
+        transcode( reader );
+        return this;
+    }
+
+    private void transcode( JsonReader reader ) {
+        JsonToken token = reader.peek();
+        switch ( token ) {
+            case BEGIN_ARRAY:
+                reader.beginArray();
+                beginArray();
+                while ( reader.hasNext() ) {
+                    transcode( reader );
+                }
+                reader.endArray();
+                endArray();
+                break;
+            case BEGIN_OBJECT:
+                reader.beginObject();
+                beginObject();
+                while ( reader.hasNext() ) {
+                    name( reader.nextName() );
+                    transcode( reader );
+                }
+                reader.endObject();
+                endObject();
+                break;
+            case STRING:
+                value( reader.nextString() );
+                break;
+            case NUMBER:
+                value( reader.nextNumber() );
+                break;
+            case BOOLEAN:
+                value( reader.nextBoolean() );
+                break;
+            case NULL:
+                reader.nextNull();
+                // the null is part of the raw value, it is kept whatever the serializeNulls option
+                writeDeferredName();
+                beforeValue( false );
+                writeByte( MAJOR_TYPE_SIMPLE << 5 | SIMPLE_NULL );
+                break;
+            default:
+                throw new IllegalStateException( "Unexpected token " + token );
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush() {
+        if ( stackSize == 0 ) {
+            throw new IllegalStateException( "JsonWriter is closed." );
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        int size = stackSize;
+        if ( size > 1 || size == 1 && stack[size - 1] != JsonScope.NONEMPTY_DOCUMENT ) {
+            logger.log( Level.SEVERE, "Incomplete document" );
+            throw new JsonSerializationException( "Incomplete document" );
+        }
+        stackSize = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getOutput() {
+        return out.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPath() {
+        StringBuilder builder = new StringBuilder();
+        for ( int i = 0; i < stackSize; i++ ) {
+            if ( stack[i] == JsonScope.EMPTY_ARRAY ) {
+                JsonPath.appendIndex( builder, Math.max( 0, pathIndices[i] ) );
+            } else if ( (stack[i] == JsonScope.EMPTY_OBJECT || stack[i] == JsonScope.DANGLING_NAME) && null != pathNames[i] ) {
+                JsonPath.appendName( builder, pathNames[i] );
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The bytes are written in hexadecimal.
+     */
+    @Override
+    public String getOutputExcerpt( int maxLength ) {
+        return JsonPath.hexExcerpt( out, out.length(), maxLength );
+    }
+
+    private void beforeValue( boolean root ) {
+        switch ( peek() ) {
+            case JsonScope.NONEMPTY_DOCUMENT:
+                if ( !lenient ) {
+                    throw new IllegalStateException( "JSON must have only one top-level value." );
+                }
+                // fall-through
+            case JsonScope.EMPTY_DOCUMENT:
+                if ( !lenient && !root ) {
+                    throw new IllegalStateException( "JSON must start with an array or an object." );
+                }
+                stack[stackSize - 1] = JsonScope.NONEMPTY_DOCUMENT;
+                if ( stringReferences ) {
+                    // each top-level value gets its own string table
+                    writeTypeAndLength( MAJOR_TYPE_TAG, TAG_STRING_REFERENCE_NAMESPACE );
+                    stringTable = new HashMap<String, Integer>();
+                }
+                break;
+            case JsonScope.EMPTY_ARRAY:
+                pathIndices[stackSize - 1]++;
+                break;
+            case JsonScope.DANGLING_NAME:
+                stack[stackSize - 1] = JsonScope.EMPTY_OBJECT;
+                break;
+            default:
+                throw new IllegalStateException( "Nesting problem." );
+        }
+    }
+
+    private void string( String value ) {
+        if ( null != stringTable ) {
+            Integer index = stringTable.get( value );
+            if ( null != index ) {
+                writeTypeAndLength( MAJOR_TYPE_TAG, TAG_STRING_REFERENCE );
+                writeTypeAndLength( MAJOR_TYPE_UNSIGNED_INTEGER, index );
+                return;
+            }
+        }
+
+        int length = value.length();
+        int byteLength = utf8Length( value );
+        writeTypeAndLength( MAJOR_TYPE_TEXT_STRING, byteLength );
+        if ( byteLength == length ) {
+            // only ASCII characters, each char is already a byte
+            out.append( value );
+        } else {
+            writeUtf8( value );
+        }
+
+        if ( null != stringTable && isReferenceable( byteLength, stringTable.size() ) ) {
+            stringTable.put( value, stringTable.size() );
+        }
+    }
+
+    private static int utf8Length( String value ) {
+        int length = value.length();
+        int byteLength = length;
+        for ( int i = 0; i < length; i++ ) {
+            char c = value.charAt( i );
+            if ( c >= 0x80 ) {
+                if ( c < 0x800 ) {
+                    byteLength += 1;
+                } else if ( Character.isHighSurrogate( c ) && i + 1 < length && Character.isLowSurrogate( value.charAt( i + 1 ) ) ) {
+                    // 4 bytes for the 2 chars
+                    byteLength += 2;
+                    i++;
+                } else {
+                    byteLength += 2;
+                }
+            }
+        }
+        return byteLength;
+    }
+
+    private void writeUtf8( String value ) {
+        int length = value.length();
+        for ( int i = 0; i < length; i++ ) {
+            char c = value.charAt( i );
+            if ( c < 0x80 ) {
+                out.append( c );
+            } else if ( c < 0x800 ) {
+                writeByte( 0xc0 | c >> 6 );
+                writeByte( 0x80 | c & 0x3f );
+            } else if ( Character.isHighSurrogate( c ) && i + 1 < length && Character.isLowSurrogate( value.charAt( i + 1 ) ) ) {
+                int codePoint = ((c - 0xd800) << 10) + (value.charAt( ++i ) - 0xdc00) + 0x10000;
+                writeByte( 0xf0 | codePoint >> 18 );
+                writeByte( 0x80 | codePoint >> 12 & 0x3f );
+                writeByte( 0x80 | codePoint >> 6 & 0x3f );
+                writeByte( 0x80 | codePoint & 0x3f );
+            } else {
+                writeByte( 0xe0 | c >> 12 );
+                writeByte( 0x80 | c >> 6 & 0x3f );
+                writeByte( 0x80 | c & 0x3f );
+            }
+        }
+    }
+
+    private void longValue( long value ) {
+        if ( value < 0 ) {
+            writeTypeAndLength( MAJOR_TYPE_NEGATIVE_INTEGER, -1 - value );
+        } else {
+            writeTypeAndLength( MAJOR_TYPE_UNSIGNED_INTEGER, value );
+        }
+    }
+
+    private void doubleValue( double value ) {
+        writeByte( MAJOR_TYPE_SIMPLE << 5 | EIGHT_BYTES );
+        writeLong( Double.doubleToLongBits( value ) );
+    }
+
+    private void bigIntegerValue( BigInteger value ) {
+        if ( value.bitLength() < 64 ) {
+            longValue( value.longValue() );
+            return;
+        }
+
+        BigInteger magnitude;
+        if ( value.signum() < 0 ) {
+            writeTypeAndLength( MAJOR_TYPE_TAG, TAG_NEGATIVE_BIGNUM );
+            magnitude = value.negate().subtract( BigInteger.ONE );
+        } else {
+            writeTypeAndLength( MAJOR_TYPE_TAG, TAG_POSITIVE_BIGNUM );
+            magnitude = value;
+        }
+        byte[] bytes = magnitude.toByteArray();
+        // toByteArray may add a leading zero byte for the sign
+        int offset = bytes[0] == 0 ? 1 : 0;
+        writeTypeAndLength( MAJOR_TYPE_BYTE_STRING, bytes.length - offset );
+        for ( int i = offset; i < bytes.length; i++ ) {
+            writeByte( bytes[i] );
+        }
+    }
+
+    private void writeTypeAndLength( int majorType, long length ) {
+        int type = majorType << 5;
+        if ( length < ONE_BYTE ) {
+            writeByte( type | (int) length );
+        } else if ( length <= 0xffL ) {
+            writeByte( type | ONE_BYTE );
+            writeByte( (int) length );
+        } else if ( length <= 0xffffL ) {
+            writeByte( type | TWO_BYTES );
+            writeByte( (int) (length >> 8) );
+            writeByte( (int) length );
+        } else if ( length <= 0xffffffffL ) {
+            writeByte( type | FOUR_BYTES );
+            writeByte( (int) (length >> 24) );
+            writeByte( (int) (length >> 16) );
+            writeByte( (int) (length >> 8) );
+            writeByte( (int) length );
+        } else {
+            writeByte( type | EIGHT_BYTES );
+            writeLong( length );
+        }
+    }
+
+    private void writeLong( long value ) {
+        for ( int shift = 56; shift >= 0; shift -= 8 ) {
+            writeByte( (int) (value >> shift) );
+        }
+    }
+
+    private void writeByte( int value ) {
+        out.append( (char) (value & 0xff) );
+    }
+}
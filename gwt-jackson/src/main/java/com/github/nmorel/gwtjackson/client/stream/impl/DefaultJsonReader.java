@@ -25,7 +25,6 @@ import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationExceptio
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
 import com.google.gwt.core.client.JavaScriptObject;
-import com.google.gwt.core.client.JsArrayInteger;
 import com.google.gwt.core.client.JsonUtils;
 
 /**
@@ -193,7 +192,9 @@ import com.google.gwt.core.client.JsonUtils;
  * @since 1.6
  * @version $Id: $
  */
-public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.stream.JsonReader
+public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.stream.JsonReader,
+    com.github.nmorel.gwtjackson.client.stream.JsonPropertyScanner,
+    com.github.nmorel.gwtjackson.client.stream.JsonReaderLocation
 {
   private static final Logger logger = Logger.getLogger( "JsonReader" );
 
@@ -281,12 +282,19 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
   /*
    * The nesting stack. Using a manual array rather than an ArrayList saves 20%.
    */
-  private JsArrayInteger stack = JsArrayInteger.createArray().cast();
+  private IntArray stack = IntArray.create();
   private int stackSize = 0;
   {
     stack.set(stackSize++, JsonScope.EMPTY_DOCUMENT);
   }
 
+  /*
+   * For each scope of the stack, the name of the current property of an object or the index of the current element of an array.
+   * They are only used to build the path of the reader.
+   */
+  private StringArray pathNames = StringArray.create();
+  private IntArray pathIndices = IntArray.create();
+
   /**
    * Creates a new instance that reads a JSON-encoded stream from {@code in}.
    *
@@ -449,6 +457,7 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
       case ';':
         checkLenient(); // fall-through
       case ',':
+        pathIndices.set(stackSize - 1, pathIndices.get(stackSize - 1) + 1);
         break;
       default:
         throw syntaxError("Unterminated array");
@@ -774,6 +783,7 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
           + " at line " + getLineNumber() + " column " + getColumnNumber());
     }
     peeked = PEEKED_NONE;
+    pathNames.set(stackSize - 1, result);
     return result;
   }
 
@@ -796,7 +806,7 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
       result = peekedString;
       peekedString = null;
     } else if (p == PEEKED_LONG) {
-      result = Long.toString( peekedLong );
+      result = NumberCodec.formatLong( peekedLong );
     } else if (p == PEEKED_NUMBER) {
       result = new String(buffer, pos, peekedNumberLength);
       pos += peekedNumberLength;
@@ -858,9 +868,17 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
     }
 
     if (p == PEEKED_NUMBER) {
-      peekedString = new String(buffer, pos, peekedNumberLength);
+      // the number has already been validated, no need to check it again
+      double result = NumberCodec.parseDouble(new String(buffer, pos, peekedNumberLength));
       pos += peekedNumberLength;
-    } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
+      peeked = PEEKED_NONE;
+      if (!lenient && Double.isInfinite( result )) {
+        throw syntaxError( "JSON forbids NaN and infinities: " + result);
+      }
+      return result;
+    }
+
+    if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
       peekedString = nextQuotedValue(p == PEEKED_SINGLE_QUOTED ? '\'' : '"');
     } else if (p == PEEKED_UNQUOTED) {
       peekedString = nextUnquotedValue();
@@ -936,7 +954,9 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
   {
     // Like nextNonWhitespace, this uses locals 'p' and 'l' to save inner-loop field access.
     char[] buffer = this.buffer;
-    StringBuilder builder = new StringBuilder();
+    // The builder is only created when an escape is found or the value spans several buffers, an escape-free value is read with a
+    // single copy.
+    StringBuilder builder = null;
     while (true) {
       int p = pos;
       int l = limit;
@@ -947,10 +967,16 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
 
         if (c == quote) {
           pos = p;
+          if (builder == null) {
+            return new String(buffer, start, p - start - 1);
+          }
           builder.append(buffer, start, p - start - 1);
           return builder.toString();
         } else if (c == '\\') {
           pos = p;
+          if (builder == null) {
+            builder = new StringBuilder();
+          }
           builder.append(buffer, start, p - start - 1);
           builder.append(readEscapeCharacter());
           p = pos;
@@ -962,6 +988,9 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
         }
       }
 
+      if (builder == null) {
+        builder = new StringBuilder();
+      }
       builder.append(buffer, start, p - start);
       pos = p;
       if (!fillBuffer(1)) {
@@ -1190,6 +1219,8 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
   }
 
   private void push(int newTop) {
+    pathNames.set(stackSize, null);
+    pathIndices.set(stackSize, 0);
     stack.set(stackSize++, newTop);
   }
 
@@ -1499,6 +1530,18 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
     return in.getInput();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String getPath() {
+    return JsonPath.toPointer(stack, stackSize, pathNames, pathIndices);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getInputExcerpt(int maxLength) {
+    return JsonPath.excerpt(in.getInput(), in.getPosition() - limit + pos, maxLength);
+  }
+
   /** {@inheritDoc} */
   @Override
   public String nextValue()
@@ -1552,7 +1595,7 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
       } else if (p == PEEKED_DOUBLE_QUOTED) {
         writer.value(nextQuotedValue( '"' ));
       } else if (p == PEEKED_NUMBER) {
-        writer.value( new String(buffer, pos, peekedNumberLength) );
+        writer.rawValue( new String(buffer, pos, peekedNumberLength) );
         pos += peekedNumberLength;
       } else if (p == PEEKED_TRUE) {
         writer.value(true);
@@ -1572,6 +1615,63 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
     return writer.getOutput();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String scanPropertyValue( String propertyName )
+  {
+    // we save the current state to restore it once the scan is done. Positions are saved relative to the input because the buffer
+    // may be refilled during the scan.
+    int bufferStart = in.getPosition() - limit;
+    int savedPos = bufferStart + pos;
+    int savedLineNumber = lineNumber;
+    int savedLineStart = bufferStart + lineStart;
+    int savedPeeked = peeked;
+    long savedPeekedLong = peekedLong;
+    int savedPeekedNumberLength = peekedNumberLength;
+    String savedPeekedString = peekedString;
+    int savedStackSize = stackSize;
+    int savedStackTop = stack.get(stackSize - 1);
+    String savedPathName = pathNames.get(stackSize - 1);
+
+    String result = null;
+    try {
+      while (peek() == JsonToken.NAME) {
+        if (propertyName.equals(nextName())) {
+          JsonToken token = peek();
+          if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            result = nextString();
+          }
+          break;
+        }
+        skipValue();
+      }
+    } finally {
+      if (in.getPosition() - limit == bufferStart) {
+        // the buffer has not been refilled, we can simply rewind inside it
+        pos = savedPos - bufferStart;
+        lineStart = savedLineStart - bufferStart;
+      } else {
+        in.setPosition(savedPos);
+        pos = 0;
+        limit = 0;
+        lineStart = savedLineStart - savedPos;
+      }
+      lineNumber = savedLineNumber;
+      peeked = savedPeeked;
+      peekedLong = savedPeekedLong;
+      peekedNumberLength = savedPeekedNumberLength;
+      peekedString = savedPeekedString;
+      stackSize = savedStackSize;
+      stack.set(stackSize - 1, savedStackTop);
+      pathNames.set(stackSize - 1, savedPathName);
+      if (peeked == PEEKED_NUMBER && limit - pos < peekedNumberLength) {
+        // the peeked number is read directly from the buffer
+        fillBuffer(peekedNumberLength);
+      }
+    }
+    return result;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Number nextNumber()
@@ -1604,11 +1704,8 @@ public class DefaultJsonReader implements com.github.nmorel.gwtjackson.client.st
     }
 
     if (p == PEEKED_NUMBER) {
-      peekedString = new String(buffer, pos, peekedNumberLength);
+      result = NumberCodec.parseDouble(new String(buffer, pos, peekedNumberLength));
       pos += peekedNumberLength;
-      peeked = PEEKED_BUFFERED;
-      result = Double.parseDouble( peekedString );
-      peekedString = null;
       peeked = PEEKED_NONE;
       return result;
     }
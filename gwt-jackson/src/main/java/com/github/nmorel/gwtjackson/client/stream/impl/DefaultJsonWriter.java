@@ -21,8 +21,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
+import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.JavaScriptObject;
-import com.google.gwt.core.client.JsArrayInteger;
 
 /**
  * Writes a JSON (<a href="http://www.ietf.org/rfc/rfc4627.txt">RFC 4627</a>)
@@ -123,7 +123,8 @@ import com.google.gwt.core.client.JsArrayInteger;
  * @since 1.6
  * @version $Id: $
  */
-public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.stream.JsonWriter {
+public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.stream.JsonWriter,
+    com.github.nmorel.gwtjackson.client.stream.JsonWriterLocation {
 
   private static final Logger logger = Logger.getLogger( "JsonWriter" );
 
@@ -162,8 +163,15 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
   /** The output data, containing at most one top-level array or object. */
   private final StringBuilder out;
 
-  private JsArrayInteger stack = JsArrayInteger.createArray().cast();
+  private IntArray stack = IntArray.create();
   private int stackSize = 0;
+
+  /*
+   * For each scope of the stack, the name of the current property of an object or the index of the current element of an array.
+   * They are only used to build the path of the writer.
+   */
+  private StringArray pathNames = StringArray.create();
+  private IntArray pathIndices = IntArray.create();
   {
     push( JsonScope.EMPTY_DOCUMENT);
   }
@@ -303,6 +311,8 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
   }
 
   private void push(int newTop) {
+    pathNames.set(stackSize, null);
+    pathIndices.set(stackSize, 0);
     stack.set(stackSize++, newTop);
   }
 
@@ -328,6 +338,7 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
   public DefaultJsonWriter name( String name ) {
     checkName(name);
     deferredName = name;
+    pathNames.set(stackSize - 1, name);
     return this;
   }
 
@@ -336,6 +347,7 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
   public DefaultJsonWriter unescapeName( String name ) {
     checkName(name);
     deferredUnescapeName = name;
+    pathNames.set(stackSize - 1, name);
     return this;
   }
 
@@ -432,7 +444,7 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
     }
     writeDeferredName();
     beforeValue(false);
-    out.append(Double.toString(value));
+    out.append(NumberCodec.formatDouble(value));
     return this;
   }
 
@@ -441,7 +453,7 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
   public DefaultJsonWriter value( long value ) {
     writeDeferredName();
     beforeValue(false);
-    out.append(Long.toString(value));
+    out.append(NumberCodec.formatLong(value));
     return this;
   }
 
@@ -453,7 +465,7 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
     }
 
     writeDeferredName();
-    String string = value.toString();
+    String string = NumberCodec.formatNumber(value);
     if (!lenient
         && (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN"))) {
       throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
@@ -511,11 +523,40 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
   }
 
   private void string(String value) {
-    out.append("\"");
-    encodeString( value, out );
-    out.append("\"");
+    out.append('\"');
+    if (GWT.isScript() && isEscapeFree(value)) {
+      // a single native test is faster than the loop on each character
+      out.append(value);
+    } else {
+      encodeString( value, out );
+    }
+    out.append('\"');
   }
 
+  /**
+   * Returns true if the value can be written between quotes without escaping. Only the printable ASCII characters other than '"'
+   * and '\\' are accepted so the result does not depend on the escaping implementation.
+   *
+   * @param value the value to test
+   * @return true if the value does not need escaping
+   */
+  static boolean isEscapeFree(String value) {
+    if (GWT.isScript()) {
+      return nativeIsEscapeFree(value);
+    }
+    for (int i = 0, length = value.length(); i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static native boolean nativeIsEscapeFree(String value) /*-{
+    return /^[\x20\x21\x23-\x5b\x5d-\x7e]*$/.test(value);
+  }-*/;
+
   private static void encodeString(final String value, final StringBuilder out) {
     String[] replacements = REPLACEMENT_CHARS;
     int last = 0;
@@ -615,6 +656,7 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
       break;
 
     case JsonScope.NONEMPTY_ARRAY: // another in array
+      pathIndices.set(stackSize - 1, pathIndices.get(stackSize - 1) + 1);
       out.append(',');
       newline();
       break;
@@ -634,5 +676,17 @@ public class DefaultJsonWriter implements com.github.nmorel.gwtjackson.client.st
   public String getOutput() {
     return out.toString();
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getPath() {
+    return JsonPath.toPointer(stack, stackSize, pathNames, pathIndices);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getOutputExcerpt(int maxLength) {
+    return JsonPath.excerpt(out, out.length(), maxLength);
+  }
 }
 //@formatter:on
@@ -22,7 +22,6 @@ import java.util.logging.Logger;
 
 import com.github.nmorel.gwtjackson.client.exception.JsonSerializationException;
 import com.google.gwt.core.client.JavaScriptObject;
-import com.google.gwt.core.client.JsArrayInteger;
 import com.google.gwt.core.client.JsonUtils;
 
 /**
@@ -31,15 +30,23 @@ import com.google.gwt.core.client.JsonUtils;
  * @author nicolasmorel
  * @version $Id: $
  */
-public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.stream.JsonWriter {
+public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.stream.JsonWriter,
+    com.github.nmorel.gwtjackson.client.stream.JsonWriterLocation {
 
   private static final Logger logger = Logger.getLogger( "JsonWriter" );
 
   /** The output data, containing at most one top-level array or object. */
   private final StringBuilder out;
 
-  private JsArrayInteger stack = JsArrayInteger.createArray().cast();
+  private IntArray stack = IntArray.create();
   private int stackSize = 0;
+
+  /*
+   * For each scope of the stack, the name of the current property of an object or the index of the current element of an array.
+   * They are only used to build the path of the writer.
+   */
+  private StringArray pathNames = StringArray.create();
+  private IntArray pathIndices = IntArray.create();
   {
     push( JsonScope.EMPTY_DOCUMENT);
   }
@@ -179,6 +186,8 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
   }
 
   private void push(int newTop) {
+    pathNames.set(stackSize, null);
+    pathIndices.set(stackSize, 0);
     stack.set(stackSize++, newTop);
   }
 
@@ -204,6 +213,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
   public FastJsonWriter name( String name ) {
     checkName(name);
     deferredName = name;
+    pathNames.set(stackSize - 1, name);
     return this;
   }
 
@@ -212,6 +222,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
   public FastJsonWriter unescapeName( String name ) {
     checkName(name);
     deferredUnescapeName = name;
+    pathNames.set(stackSize - 1, name);
     return this;
   }
 
@@ -308,7 +319,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
     }
     writeDeferredName();
     beforeValue(false);
-    out.append(Double.toString(value));
+    out.append(NumberCodec.formatDouble(value));
     return this;
   }
 
@@ -317,7 +328,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
   public FastJsonWriter value( long value ) {
     writeDeferredName();
     beforeValue(false);
-    out.append(Long.toString(value));
+    out.append(NumberCodec.formatLong(value));
     return this;
   }
 
@@ -329,7 +340,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
     }
 
     writeDeferredName();
-    String string = value.toString();
+    String string = NumberCodec.formatNumber(value);
     if (!lenient
         && (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN"))) {
       throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
@@ -387,7 +398,11 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
   }
 
   private void string(String value) {
-    out.append(JsonUtils.escapeValue(value));
+    if (DefaultJsonWriter.isEscapeFree(value)) {
+      out.append('\"').append(value).append('\"');
+    } else {
+      out.append(JsonUtils.escapeValue(value));
+    }
   }
 
   private void newline() {
@@ -447,6 +462,7 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
       break;
 
     case JsonScope.NONEMPTY_ARRAY: // another in array
+      pathIndices.set(stackSize - 1, pathIndices.get(stackSize - 1) + 1);
       out.append(',');
       newline();
       break;
@@ -466,5 +482,17 @@ public class FastJsonWriter implements com.github.nmorel.gwtjackson.client.strea
   public String getOutput() {
     return out.toString();
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getPath() {
+    return JsonPath.toPointer(stack, stackSize, pathNames, pathIndices);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getOutputExcerpt(int maxLength) {
+    return JsonPath.excerpt(out, out.length(), maxLength);
+  }
 }
 //@formatter:on
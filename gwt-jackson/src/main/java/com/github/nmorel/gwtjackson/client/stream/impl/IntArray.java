@@ -0,0 +1,92 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JsArrayInteger;
+
+/**
+ * Growable array of ints used by the readers and writers to keep their scope stack and path. In compiled mode, it is backed by a
+ * JavaScript array. Elsewhere, it is backed by a Java array so the readers and writers also run on a JVM.
+ *
+ * @author Nicolas Morel
+ */
+abstract class IntArray {
+
+    /**
+     * Creates the implementation matching the current runtime.
+     *
+     * @return a new empty array
+     */
+    static IntArray create() {
+        if ( GWT.isScript() ) {
+            return new JsIntArray();
+        } else {
+            return new JavaIntArray();
+        }
+    }
+
+    /**
+     * @param index index of the value, lower than the size set so far
+     *
+     * @return the value at the given index
+     */
+    abstract int get( int index );
+
+    /**
+     * Sets the value at the given index, growing the array if needed.
+     *
+     * @param index index of the value
+     * @param value the value
+     */
+    abstract void set( int index, int value );
+
+    private static final class JsIntArray extends IntArray {
+
+        private final JsArrayInteger values = JsArrayInteger.createArray().cast();
+
+        @Override
+        int get( int index ) {
+            return values.get( index );
+        }
+
+        @Override
+        void set( int index, int value ) {
+            values.set( index, value );
+        }
+    }
+
+    private static final class JavaIntArray extends IntArray {
+
+        private int[] values = new int[32];
+
+        @Override
+        int get( int index ) {
+            return values[index];
+        }
+
+        @Override
+        void set( int index, int value ) {
+            if ( index >= values.length ) {
+                int[] newValues = new int[Math.max( values.length * 2, index + 1 )];
+                System.arraycopy( values, 0, newValues, 0, values.length );
+                values = newValues;
+            }
+            values[index] = value;
+        }
+    }
+}
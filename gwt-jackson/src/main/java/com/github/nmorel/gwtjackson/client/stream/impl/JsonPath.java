@@ -0,0 +1,153 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+/**
+ * Helpers used by the readers and writers to describe where they are when an error occurs. The location is given as a
+ * <a href="https://tools.ietf.org/html/rfc6901">JSON pointer</a> built from the names and indices they maintain while reading or
+ * writing, and the input or output around the error is limited to a few characters.
+ *
+ * @author Nicolas Morel
+ */
+final class JsonPath {
+
+    private static final String ELLIPSIS = "...";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private JsonPath() {
+    }
+
+    /**
+     * Builds the JSON pointer corresponding to a scope stack.
+     *
+     * @param stack the scopes as defined in {@link JsonScope}
+     * @param stackSize the number of scopes
+     * @param names for each object scope, the name of the current property or null
+     * @param indices for each array scope, the index of the current element
+     *
+     * @return the JSON pointer, an empty string for the root value
+     */
+    static String toPointer( IntArray stack, int stackSize, StringArray names, IntArray indices ) {
+        StringBuilder builder = new StringBuilder();
+        for ( int i = 0; i < stackSize; i++ ) {
+            int scope = stack.get( i );
+            if ( scope == JsonScope.EMPTY_ARRAY || scope == JsonScope.NONEMPTY_ARRAY ) {
+                appendIndex( builder, indices.get( i ) );
+            } else if ( scope == JsonScope.EMPTY_OBJECT || scope == JsonScope.DANGLING_NAME || scope == JsonScope.NONEMPTY_OBJECT ) {
+                String name = names.get( i );
+                if ( null != name ) {
+                    appendName( builder, name );
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends a property name to a JSON pointer.
+     *
+     * @param builder the JSON pointer
+     * @param name the property name
+     */
+    static void appendName( StringBuilder builder, String name ) {
+        builder.append( '/' );
+        if ( name.indexOf( '~' ) < 0 && name.indexOf( '/' ) < 0 ) {
+            builder.append( name );
+            return;
+        }
+        for ( int i = 0; i < name.length(); i++ ) {
+            char c = name.charAt( i );
+            if ( c == '~' ) {
+                builder.append( "~0" );
+            } else if ( c == '/' ) {
+                builder.append( "~1" );
+            } else {
+                builder.append( c );
+            }
+        }
+    }
+
+    /**
+     * Appends an array index to a JSON pointer.
+     *
+     * @param builder the JSON pointer
+     * @param index the index
+     */
+    static void appendIndex( StringBuilder builder, int index ) {
+        builder.append( '/' ).append( index );
+    }
+
+    /**
+     * Returns at most {@code maxLength} characters of {@code text} around {@code position}. The excerpt starts or ends with an
+     * ellipsis when the text is truncated.
+     *
+     * @param text the text
+     * @param position the position of the error
+     * @param maxLength maximum number of characters taken from the text
+     *
+     * @return the excerpt
+     */
+    static String excerpt( CharSequence text, int position, int maxLength ) {
+        int length = text.length();
+        if ( length <= maxLength ) {
+            return text.toString();
+        }
+        int start = Math.max( 0, Math.min( position - maxLength / 2, length - maxLength ) );
+        int end = start + maxLength;
+        StringBuilder builder = new StringBuilder( maxLength + 2 * ELLIPSIS.length() );
+        if ( start > 0 ) {
+            builder.append( ELLIPSIS );
+        }
+        builder.append( text, start, end );
+        if ( end < length ) {
+            builder.append( ELLIPSIS );
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Same as {@link #excerpt(CharSequence, int, int)} for a binary content holding one char per byte. The bytes are written in
+     * hexadecimal.
+     *
+     * @param bytes the binary content
+     * @param position the position of the error
+     * @param maxLength maximum number of bytes taken from the content
+     *
+     * @return the excerpt
+     */
+    static String hexExcerpt( CharSequence bytes, int position, int maxLength ) {
+        int length = bytes.length();
+        int start = Math.max( 0, Math.min( position - maxLength / 2, length - maxLength ) );
+        int end = Math.min( length, start + maxLength );
+        StringBuilder builder = new StringBuilder( 3 * (end - start) + 2 * ELLIPSIS.length() );
+        if ( start > 0 ) {
+            builder.append( ELLIPSIS );
+        }
+        for ( int i = start; i < end; i++ ) {
+            if ( i > start ) {
+                builder.append( ' ' );
+            }
+            int b = bytes.charAt( i ) & 0xff;
+            builder.append( HEX_DIGITS[b >> 4] ).append( HEX_DIGITS[b & 0xf] );
+        }
+        if ( end < length ) {
+            builder.append( ELLIPSIS );
+        }
+        return builder.toString();
+    }
+}
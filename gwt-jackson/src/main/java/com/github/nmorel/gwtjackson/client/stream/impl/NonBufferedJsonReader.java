@@ -25,7 +25,6 @@ import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationExceptio
 import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
 import com.google.gwt.core.client.JavaScriptObject;
-import com.google.gwt.core.client.JsArrayInteger;
 import com.google.gwt.core.client.JsonUtils;
 
 /**
@@ -193,7 +192,9 @@ import com.google.gwt.core.client.JsonUtils;
  * @since 1.6
  * @version $Id: $
  */
-public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.client.stream.JsonReader
+public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.client.stream.JsonReader,
+    com.github.nmorel.gwtjackson.client.stream.JsonPropertyScanner,
+    com.github.nmorel.gwtjackson.client.stream.JsonReaderLocation
 {
   private static final Logger logger = Logger.getLogger( "JsonReader" );
 
@@ -274,12 +275,19 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
   /*
    * The nesting stack. Using a manual array rather than an ArrayList saves 20%.
    */
-  private JsArrayInteger stack = JsArrayInteger.createArray().cast();
+  private IntArray stack = IntArray.create();
   private int stackSize = 0;
   {
     stack.set(stackSize++, JsonScope.EMPTY_DOCUMENT);
   }
 
+  /*
+   * For each scope of the stack, the name of the current property of an object or the index of the current element of an array.
+   * They are only used to build the path of the reader.
+   */
+  private StringArray pathNames = StringArray.create();
+  private IntArray pathIndices = IntArray.create();
+
   /**
    * Creates a new instance that reads a JSON-encoded stream from {@code in}.
    *
@@ -476,6 +484,7 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
       case ';':
         checkLenient(); // fall-through
       case ',':
+        pathIndices.set(stackSize - 1, pathIndices.get(stackSize - 1) + 1);
         break;
       default:
         throw syntaxError("Unterminated array");
@@ -786,6 +795,7 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
           + " at line " + getLineNumber() + " column " + getColumnNumber());
     }
     peeked = PEEKED_NONE;
+    pathNames.set(stackSize - 1, result);
     return result;
   }
 
@@ -808,7 +818,7 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
       result = peekedString;
       peekedString = null;
     } else if (p == PEEKED_LONG) {
-      result = Long.toString( peekedLong );
+      result = NumberCodec.formatLong( peekedLong );
     } else if (p == PEEKED_NUMBER) {
       result = in.substring( pos, pos + peekedNumberLength);
       pos += peekedNumberLength;
@@ -870,9 +880,17 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     }
 
     if (p == PEEKED_NUMBER) {
-      peekedString = in.substring(pos, pos + peekedNumberLength);
+      // the number has already been validated, no need to check it again
+      double result = NumberCodec.parseDouble(in, pos, pos + peekedNumberLength);
       pos += peekedNumberLength;
-    } else if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
+      peeked = PEEKED_NONE;
+      if (!lenient && Double.isInfinite( result )) {
+        throw syntaxError( "JSON forbids NaN and infinities: " + result);
+      }
+      return result;
+    }
+
+    if (p == PEEKED_SINGLE_QUOTED || p == PEEKED_DOUBLE_QUOTED) {
       peekedString = nextQuotedValue(p == PEEKED_SINGLE_QUOTED ? '\'' : '"');
     } else if (p == PEEKED_UNQUOTED) {
       peekedString = nextUnquotedValue();
@@ -947,7 +965,8 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
   private String nextQuotedValue(char quote)
   {
     // Like nextNonWhitespace, this uses locals 'p' and 'l' to save inner-loop field access.
-    StringBuilder builder = new StringBuilder();
+    // The builder is only created when an escape is found, an escape-free value is a single substring.
+    StringBuilder builder = null;
     int p = pos;
     /* the index of the first character not yet appended to the builder. */
     int start = p;
@@ -956,11 +975,17 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
 
       if (c == quote) {
         pos = p;
-        builder.append(in.substring(start, p - 1));
+        if (builder == null) {
+          return in.substring(start, p - 1);
+        }
+        builder.append(in, start, p - 1);
         return builder.toString();
       } else if (c == '\\') {
         pos = p;
-        builder.append(in.substring(start, p - 1));
+        if (builder == null) {
+          builder = new StringBuilder();
+        }
+        builder.append(in, start, p - 1);
         builder.append(readEscapeCharacter());
         p = pos;
         start = p;
@@ -1157,6 +1182,8 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
   }
 
   private void push(int newTop) {
+    pathNames.set(stackSize, null);
+    pathIndices.set(stackSize, 0);
     stack.set(stackSize++, newTop);
   }
 
@@ -1417,6 +1444,18 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     return in;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String getPath() {
+    return JsonPath.toPointer(stack, stackSize, pathNames, pathIndices);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getInputExcerpt(int maxLength) {
+    return JsonPath.excerpt(in, pos, maxLength);
+  }
+
   /** {@inheritDoc} */
   @Override
   public String nextValue()
@@ -1472,7 +1511,7 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
       } else if (p == PEEKED_DOUBLE_QUOTED) {
         writer.value(nextQuotedValue( '"' ));
       } else if (p == PEEKED_NUMBER) {
-        writer.value( in.substring( pos, pos + peekedNumberLength) );
+        writer.rawValue( in.substring( pos, pos + peekedNumberLength) );
         pos += peekedNumberLength;
       } else if (p == PEEKED_TRUE) {
         writer.value( true );
@@ -1492,6 +1531,92 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     return writer.getOutput();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String scanPropertyValue( String propertyName )
+  {
+    // we save the current state to restore it once the scan is done
+    int savedPos = pos;
+    int savedLineNumber = lineNumber;
+    int savedLineStart = lineStart;
+    int savedPeeked = peeked;
+    long savedPeekedLong = peekedLong;
+    int savedPeekedNumberLength = peekedNumberLength;
+    String savedPeekedString = peekedString;
+    int savedStackSize = stackSize;
+    int savedStackTop = stack.get(stackSize - 1);
+    String savedPathName = pathNames.get(stackSize - 1);
+
+    String result = null;
+    try {
+      while (true) {
+        int p = peeked;
+        if (p == PEEKED_NONE) {
+          p = doPeek();
+        }
+        if (p != PEEKED_DOUBLE_QUOTED_NAME && p != PEEKED_SINGLE_QUOTED_NAME && p != PEEKED_UNQUOTED_NAME) {
+          break;
+        }
+        if (skipNameAndMatch(p, propertyName)) {
+          JsonToken token = peek();
+          if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            result = nextString();
+          }
+          break;
+        }
+        skipValue();
+      }
+    } finally {
+      pos = savedPos;
+      lineNumber = savedLineNumber;
+      lineStart = savedLineStart;
+      peeked = savedPeeked;
+      peekedLong = savedPeekedLong;
+      peekedNumberLength = savedPeekedNumberLength;
+      peekedString = savedPeekedString;
+      stackSize = savedStackSize;
+      stack.set(stackSize - 1, savedStackTop);
+      pathNames.set(stackSize - 1, savedPathName);
+    }
+    return result;
+  }
+
+  /**
+   * Consumes the peeked name and returns true if it is equal to {@code name}. The name is compared directly against the input to
+   * avoid creating a String unless it contains escaped characters.
+   */
+  private boolean skipNameAndMatch(int p, String name)
+  {
+    int start = pos;
+    int length;
+    if (p == PEEKED_UNQUOTED_NAME) {
+      skipUnquotedValue();
+      length = pos - start;
+    } else {
+      skipQuotedValue(p == PEEKED_SINGLE_QUOTED_NAME ? '\'' : '"');
+      length = pos - 1 - start;
+    }
+    peeked = PEEKED_NONE;
+
+    if (length == name.length() && in.regionMatches(start, name, 0, length)) {
+      return true;
+    }
+    if (p == PEEKED_UNQUOTED_NAME) {
+      return false;
+    }
+    for (int i = start; i < start + length; i++) {
+      if (in.charAt(i) == '\\') {
+        // the name contains escaped characters, we have to unescape it before comparing
+        int end = pos;
+        pos = start;
+        boolean match = name.equals(nextQuotedValue(p == PEEKED_SINGLE_QUOTED_NAME ? '\'' : '"'));
+        pos = end;
+        return match;
+      }
+    }
+    return false;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Number nextNumber()
@@ -1524,11 +1649,8 @@ public class NonBufferedJsonReader implements com.github.nmorel.gwtjackson.clien
     }
 
     if (p == PEEKED_NUMBER) {
-      peekedString = in.substring(pos, pos + peekedNumberLength);
+      result = NumberCodec.parseDouble(in, pos, pos + peekedNumberLength);
       pos += peekedNumberLength;
-      peeked = PEEKED_BUFFERED;
-      result = Double.parseDouble( peekedString );
-      peekedString = null;
       peeked = PEEKED_NONE;
       return result;
     }
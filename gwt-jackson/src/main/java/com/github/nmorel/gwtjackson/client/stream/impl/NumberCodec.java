@@ -0,0 +1,270 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Formats and parses the numbers written and read by the {@link com.github.nmorel.gwtjackson.client.stream.JsonWriter}s and
+ * {@link com.github.nmorel.gwtjackson.client.stream.JsonReader}s.
+ * <p>In compiled mode, the browser's number formatting and parsing are used. They are much faster than the emulated {@link Long}
+ * and {@link BigDecimal}, and the browser already produces the shortest string that reads back to the same double.</p>
+ * <p>On the JVM, the simple decimals are parsed directly from the input without creating a substring.</p>
+ *
+ * @author Nicolas Morel
+ */
+public final class NumberCodec {
+
+    /**
+     * 2^53, all the integers with a lower absolute value have an exact representation as a double
+     */
+    private static final double MAX_SAFE_INTEGER = 9007199254740992d;
+
+    /**
+     * Maximum number of digits read in a double. Any integer with that many digits is lower than 2^53.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    /**
+     * Powers of ten with an exact representation as a double
+     */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14,
+            1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private NumberCodec() {
+    }
+
+    /**
+     * Formats a finite double the same way as {@link Double#toString(double)} does in the current environment. In compiled mode,
+     * it is the shortest string that reads back to the same double.
+     *
+     * @param value the value to format
+     *
+     * @return the formatted value
+     */
+    public static String formatDouble( double value ) {
+        if ( GWT.isScript() ) {
+            return nativeToString( value );
+        }
+        return Double.toString( value );
+    }
+
+    /**
+     * Formats a long.
+     *
+     * @param value the value to format
+     *
+     * @return the formatted value
+     */
+    public static String formatLong( long value ) {
+        if ( GWT.isScript() ) {
+            double asDouble = (double) value;
+            if ( Math.abs( asDouble ) < MAX_SAFE_INTEGER ) {
+                // the value is exact, we avoid the emulated long
+                return nativeToString( asDouble );
+            }
+        }
+        return Long.toString( value );
+    }
+
+    /**
+     * Formats a number. The {@link Double}, {@link Long}, {@link BigInteger} and {@link BigDecimal} have faster paths, the other
+     * types use {@link Number#toString()}.
+     *
+     * @param value the value to format
+     *
+     * @return the formatted value
+     */
+    public static String formatNumber( Number value ) {
+        if ( value instanceof Double ) {
+            double asDouble = value.doubleValue();
+            if ( Double.isNaN( asDouble ) || Double.isInfinite( asDouble ) ) {
+                return value.toString();
+            }
+            return formatDouble( asDouble );
+        }
+        if ( value instanceof Long ) {
+            return formatLong( value.longValue() );
+        }
+        if ( value instanceof BigInteger ) {
+            BigInteger bigInteger = (BigInteger) value;
+            if ( bigInteger.bitLength() < 53 ) {
+                return formatLong( bigInteger.longValue() );
+            }
+        } else if ( value instanceof BigDecimal ) {
+            BigDecimal bigDecimal = (BigDecimal) value;
+            if ( bigDecimal.scale() == 0 && bigDecimal.unscaledValue().bitLength() < 53 ) {
+                return formatLong( bigDecimal.longValue() );
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * Parses a number already validated by a reader.
+     *
+     * @param value the number
+     *
+     * @return the parsed value
+     */
+    public static double parseDouble( String value ) {
+        return parseDouble( value, 0, value.length() );
+    }
+
+    /**
+     * Parses a number already validated by a reader directly from its input.
+     *
+     * @param in the input
+     * @param start index of the first character of the number
+     * @param end index after the last character of the number
+     *
+     * @return the parsed value
+     */
+    public static double parseDouble( String in, int start, int end ) {
+        if ( GWT.isScript() ) {
+            return nativeParseDouble( in.substring( start, end ) );
+        }
+
+        // when the mantissa and the power of ten are both exact, a single operation gives the correctly rounded result
+        int i = start;
+        boolean negative = in.charAt( i ) == '-';
+        if ( negative ) {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        for ( ; i < end; i++ ) {
+            char c = in.charAt( i );
+            if ( c >= '0' && c <= '9' ) {
+                if ( mantissa == 0 && c == '0' ) {
+                    // leading zeros are not significant
+                } else if ( ++digits > MAX_EXACT_DIGITS ) {
+                    return Double.parseDouble( in.substring( start, end ) );
+                } else {
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+                if ( fraction ) {
+                    exponent--;
+                }
+            } else if ( c == '.' ) {
+                fraction = true;
+            } else if ( end - i > 6 ) {
+                // exponent too large to be handled here
+                return Double.parseDouble( in.substring( start, end ) );
+            } else {
+                exponent += Integer.parseInt( in.substring( in.charAt( i + 1 ) == '+' ? i + 2 : i + 1, end ) );
+                break;
+            }
+        }
+
+        double result;
+        if ( mantissa == 0 ) {
+            result = 0;
+        } else if ( exponent >= 0 && exponent < POWERS_OF_TEN.length ) {
+            result = mantissa * POWERS_OF_TEN[exponent];
+        } else if ( exponent < 0 && -exponent < POWERS_OF_TEN.length ) {
+            result = mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            return Double.parseDouble( in.substring( start, end ) );
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Parses a {@link BigInteger}. The values with less than 16 digits are built from a long.
+     *
+     * @param value the value to parse
+     *
+     * @return the parsed value
+     */
+    public static BigInteger parseBigInteger( String value ) {
+        double small = parseSmallDecimal( value, false );
+        if ( !Double.isNaN( small ) ) {
+            return BigInteger.valueOf( (long) small );
+        }
+        return new BigInteger( value );
+    }
+
+    /**
+     * Parses a {@link BigDecimal}. The values with less than 16 digits and no exponent are built from a long and a scale.
+     *
+     * @param value the value to parse
+     *
+     * @return the parsed value
+     */
+    public static BigDecimal parseBigDecimal( String value ) {
+        int dot = value.indexOf( '.' );
+        double small = parseSmallDecimal( value, true );
+        if ( !Double.isNaN( small ) ) {
+            return BigDecimal.valueOf( (long) small, dot < 0 ? 0 : value.length() - dot - 1 );
+        }
+        return new BigDecimal( value );
+    }
+
+    /**
+     * Reads the digits of a decimal number without exponent, ignoring the dot.
+     *
+     * @return the digits read as an integer or NaN if the value is not a simple decimal or has too many digits
+     */
+    private static double parseSmallDecimal( String value, boolean allowDot ) {
+        int length = value.length();
+        int i = 0;
+        boolean negative = length > 0 && value.charAt( 0 ) == '-';
+        if ( negative ) {
+            i++;
+        }
+        if ( i == length || length - i > MAX_EXACT_DIGITS + 1 ) {
+            return Double.NaN;
+        }
+
+        // accumulating in a double is exact with that many digits and avoids the emulated long in compiled mode
+        double result = 0;
+        boolean dot = false;
+        int digits = 0;
+        for ( ; i < length; i++ ) {
+            char c = value.charAt( i );
+            if ( c >= '0' && c <= '9' ) {
+                if ( ++digits > MAX_EXACT_DIGITS ) {
+                    return Double.NaN;
+                }
+                result = result * 10 + (c - '0');
+            } else if ( c == '.' && allowDot && !dot ) {
+                dot = true;
+            } else {
+                return Double.NaN;
+            }
+        }
+        if ( digits == 0 || (dot && value.charAt( length - 1 ) == '.') ) {
+            // let the constructor decide
+            return Double.NaN;
+        }
+        return negative ? -result : result;
+    }
+
+    private static native String nativeToString( double value ) /*-{
+        return String(value);
+    }-*/;
+
+    private static native double nativeParseDouble( String value ) /*-{
+        return parseFloat(value);
+    }-*/;
+}
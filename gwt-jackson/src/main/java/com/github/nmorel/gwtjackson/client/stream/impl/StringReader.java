@@ -53,6 +53,27 @@ public class StringReader {
         return in;
     }
 
+    /**
+     * Returns the position of the next character to read.
+     *
+     * @return the number of characters already read
+     */
+    public int getPosition() {
+        return next;
+    }
+
+    /**
+     * Moves the reader to the given position. The next call to {@link #read(char[], int, int)} will start from this position.
+     *
+     * @param position the position of the next character to read
+     */
+    public void setPosition( int position ) {
+        if ( position < 0 || position > length ) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.next = position;
+    }
+
     /**
      * Reads characters into a portion of an array.
      *
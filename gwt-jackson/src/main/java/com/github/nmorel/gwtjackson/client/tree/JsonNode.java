@@ -0,0 +1,287 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.tree;
+
+import java.util.Iterator;
+
+import com.github.nmorel.gwtjackson.client.ObjectTreeReader;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsonUtils;
+
+/**
+ * Node of a JSON tree.
+ * <p>The tree is built lazily. In compiled mode, the input is parsed with the browser's native {@code JSON.parse} and a node only
+ * wraps the resulting JavaScript value. Otherwise, a node only keeps the position of its value inside the JSON input : the members of
+ * an object or the elements of an array are indexed the first time they are accessed and the nested values are only skipped over.
+ * In both cases, a document can be inspected at a few paths without binding the rest of it, and a subtree can be bound to a bean with
+ * {@link ObjectTreeReader#treeToValue(JsonNode)}.</p>
+ * <p>The input must be a valid JSON as specified by <a href="http://www.ietf.org/rfc/rfc4627.txt">RFC 4627</a>.</p>
+ *
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public abstract class JsonNode {
+
+    /**
+     * Parses the JSON input into a tree. The nodes of the nested values are only created when they are accessed.
+     *
+     * @param input JSON input
+     * @return the root node
+     * @throws JsonDeserializationException if the input is not a single JSON value
+     */
+    public static JsonNode parse( String input ) throws JsonDeserializationException {
+        if ( null == input ) {
+            throw new IllegalArgumentException( "input cannot be null" );
+        }
+        if ( GWT.isScript() ) {
+            return NativeJsonNode.newRoot( input );
+        } else {
+            return TextJsonNode.newRoot( input );
+        }
+    }
+
+    JsonNode() {
+    }
+
+    /**
+     * <p>getNodeType</p>
+     *
+     * @return the type of this node
+     */
+    public abstract JsonNodeType getNodeType();
+
+    /**
+     * <p>isObject</p>
+     *
+     * @return true if this node is a JSON object
+     */
+    public boolean isObject() {
+        return JsonNodeType.OBJECT == getNodeType();
+    }
+
+    /**
+     * <p>isArray</p>
+     *
+     * @return true if this node is a JSON array
+     */
+    public boolean isArray() {
+        return JsonNodeType.ARRAY == getNodeType();
+    }
+
+    /**
+     * <p>isValueNode</p>
+     *
+     * @return true if this node is a string, a number, a boolean or null
+     */
+    public boolean isValueNode() {
+        return !isObject() && !isArray();
+    }
+
+    /**
+     * <p>isNull</p>
+     *
+     * @return true if this node is the null literal
+     */
+    public boolean isNull() {
+        return JsonNodeType.NULL == getNodeType();
+    }
+
+    /**
+     * Returns the number of members of an object or the number of elements of an array.
+     *
+     * @return the size of the container or 0 for a value node
+     */
+    public abstract int size();
+
+    /**
+     * Returns the value of the member named {@code fieldName}.
+     *
+     * @param fieldName name of the member
+     * @return the member's value or null if this node is not an object or has no member with this name
+     */
+    public abstract JsonNode get( String fieldName );
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index index of the element
+     * @return the element or null if this node is not an array or the index is out of its bounds
+     */
+    public abstract JsonNode get( int index );
+
+    /**
+     * Returns true if this node is an object with a member named {@code fieldName}.
+     *
+     * @param fieldName name of the member
+     * @return true if the member exists
+     */
+    public boolean has( String fieldName ) {
+        return null != get( fieldName );
+    }
+
+    /**
+     * Returns the node located by the given <a href="https://tools.ietf.org/html/rfc6901">JSON Pointer</a>, for example
+     * {@code /users/0/name}.
+     *
+     * @param pointer the JSON Pointer
+     * @return the node or null if there is no node at this location
+     * @throws IllegalArgumentException if the pointer is invalid
+     */
+    public JsonNode at( String pointer ) {
+        if ( null == pointer || pointer.isEmpty() ) {
+            return this;
+        }
+        if ( pointer.charAt( 0 ) != '/' ) {
+            throw new IllegalArgumentException( "Invalid JSON Pointer '" + pointer + "' : it must start with '/'" );
+        }
+
+        JsonNode node = this;
+        int segmentStart = 1;
+        while ( null != node ) {
+            int segmentEnd = pointer.indexOf( '/', segmentStart );
+            if ( segmentEnd < 0 ) {
+                segmentEnd = pointer.length();
+            }
+            String segment = unescapePointerSegment( pointer.substring( segmentStart, segmentEnd ) );
+
+            if ( node.isObject() ) {
+                node = node.get( segment );
+            } else if ( node.isArray() ) {
+                node = node.get( parseIndex( segment ) );
+            } else {
+                node = null;
+            }
+
+            if ( segmentEnd == pointer.length() ) {
+                break;
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the names of the members of an object in the order they appear in the input.
+     *
+     * @return the names or an empty iterator if this node is not an object
+     */
+    public abstract Iterator<String> fieldNames();
+
+    /**
+     * Returns the elements of an array.
+     *
+     * @return the elements or an empty iterator if this node is not an array
+     */
+    public abstract Iterator<JsonNode> elements();
+
+    /**
+     * Returns the value of a string node.
+     *
+     * @return the unescaped string or null if this node is not a string
+     */
+    public abstract String textValue();
+
+    /**
+     * Returns the value of a value node as a string : the unescaped value of a string, the text of a number or a boolean, and
+     * "null" for the null literal.
+     *
+     * @return the text of the value or an empty string for an object or an array
+     */
+    public abstract String asText();
+
+    /**
+     * <p>booleanValue</p>
+     *
+     * @return the value of a boolean node, false for any other node
+     */
+    public abstract boolean booleanValue();
+
+    /**
+     * Returns the value of a number node. If the number is not decimal, an int is returned if it fits into an int, else a long
+     * else a {@link java.math.BigInteger}. For decimal number, a double is returned.
+     *
+     * @return the number or null if this node is not a number
+     */
+    public abstract Number numberValue();
+
+    /**
+     * <p>intValue</p>
+     *
+     * @return the value of a number node converted to an int, 0 for any other node
+     */
+    public int intValue() {
+        Number number = numberValue();
+        return null == number ? 0 : number.intValue();
+    }
+
+    /**
+     * <p>longValue</p>
+     *
+     * @return the value of a number node converted to a long, 0 for any other node
+     */
+    public long longValue() {
+        Number number = numberValue();
+        return null == number ? 0l : number.longValue();
+    }
+
+    /**
+     * <p>doubleValue</p>
+     *
+     * @return the value of a number node converted to a double, 0 for any other node
+     */
+    public double doubleValue() {
+        Number number = numberValue();
+        return null == number ? 0d : number.doubleValue();
+    }
+
+    /**
+     * Returns the JSON of this node.
+     *
+     * @return the JSON of this node
+     */
+    @Override
+    public abstract String toString();
+
+    /**
+     * Returns the {@link JavaScriptObject} of an object or an array node.
+     *
+     * @param useSafeEval whether it should use {@link JsonUtils#safeEval(String)} or {@link JsonUtils#unsafeEval(String)} when the
+     * JSON has to be evaluated
+     * @return the {@link JavaScriptObject}
+     */
+    JavaScriptObject toJavaScriptObject( boolean useSafeEval ) {
+        String json = toString();
+        return useSafeEval ? JsonUtils.safeEval( json ) : JsonUtils.unsafeEval( json );
+    }
+
+    private static String unescapePointerSegment( String segment ) {
+        if ( segment.indexOf( '~' ) < 0 ) {
+            return segment;
+        }
+        return segment.replace( "~1", "/" ).replace( "~0", "~" );
+    }
+
+    private static int parseIndex( String segment ) {
+        try {
+            return Integer.parseInt( segment );
+        } catch ( NumberFormatException e ) {
+            return -1;
+        }
+    }
+}
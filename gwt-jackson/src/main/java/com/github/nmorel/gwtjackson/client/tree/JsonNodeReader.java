@@ -0,0 +1,342 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.tree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.JavaScriptObject;
+
+/**
+ * {@link JsonReader} walking the nodes of a {@link JsonNode} tree. The values are taken from the nodes, the JSON is never read again.
+ * A skipped value is not walked at all.
+ *
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public class JsonNodeReader implements JsonReader {
+
+    /**
+     * Object or array being read
+     */
+    private static class Container {
+
+        private final JsonNode node;
+
+        /**
+         * Remaining names of an object, null for an array
+         */
+        private final Iterator<String> names;
+
+        /**
+         * Remaining elements of an array, null for an object
+         */
+        private final Iterator<JsonNode> elements;
+
+        private Container( JsonNode node, Iterator<String> names, Iterator<JsonNode> elements ) {
+            this.node = node;
+            this.names = names;
+            this.elements = elements;
+        }
+    }
+
+    private final JsonNode root;
+
+    private final List<Container> stack = new ArrayList<Container>();
+
+    /**
+     * Next value to read, null if the next token is a name, the end of a container or the end of the document
+     */
+    private JsonNode next;
+
+    /**
+     * <p>Constructor for JsonNodeReader.</p>
+     *
+     * @param root the node to read
+     */
+    public JsonNodeReader( JsonNode root ) {
+        this.root = root;
+        this.next = root;
+    }
+
+    /**
+     * The tree is already parsed, the lenient mode has no effect.
+     *
+     * @param lenient a boolean.
+     */
+    @Override
+    public void setLenient( boolean lenient ) {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void beginArray() {
+        JsonNode node = nextNode( JsonToken.BEGIN_ARRAY );
+        stack.add( new Container( node, null, node.elements() ) );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void endArray() {
+        expect( JsonToken.END_ARRAY );
+        stack.remove( stack.size() - 1 );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void beginObject() {
+        JsonNode node = nextNode( JsonToken.BEGIN_OBJECT );
+        stack.add( new Container( node, node.fieldNames(), null ) );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void endObject() {
+        expect( JsonToken.END_OBJECT );
+        stack.remove( stack.size() - 1 );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonToken peek() {
+        if ( null != next ) {
+            return tokenOf( next );
+        }
+        if ( stack.isEmpty() ) {
+            return JsonToken.END_DOCUMENT;
+        }
+        Container container = stack.get( stack.size() - 1 );
+        if ( null != container.names ) {
+            return container.names.hasNext() ? JsonToken.NAME : JsonToken.END_OBJECT;
+        }
+        if ( container.elements.hasNext() ) {
+            next = container.elements.next();
+            return tokenOf( next );
+        }
+        return JsonToken.END_ARRAY;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String nextName() {
+        expect( JsonToken.NAME );
+        Container container = stack.get( stack.size() - 1 );
+        String name = container.names.next();
+        next = container.node.get( name );
+        return name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String nextString() {
+        JsonNode node = nextLiteral();
+        return node.asText();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean nextBoolean() {
+        return nextNode( JsonToken.BOOLEAN ).booleanValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextNull() {
+        nextNode( JsonToken.NULL );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double nextDouble() {
+        JsonNode node = nextLiteral();
+        if ( JsonNodeType.NUMBER == node.getNodeType() ) {
+            return node.doubleValue();
+        }
+        return Double.parseDouble( node.textValue() );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long nextLong() {
+        JsonNode node = nextLiteral();
+        if ( JsonNodeType.NUMBER != node.getNodeType() ) {
+            return Long.parseLong( node.textValue() );
+        }
+        Number number = node.numberValue();
+        if ( number instanceof Integer || number instanceof Long ) {
+            return number.longValue();
+        }
+        double value = number.doubleValue();
+        long result = (long) value;
+        if ( !(number instanceof Double) || result != value ) {
+            throw new NumberFormatException( "Expected a long but was " + node.asText() );
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int nextInt() {
+        JsonNode node = nextLiteral();
+        if ( JsonNodeType.NUMBER != node.getNodeType() ) {
+            return Integer.parseInt( node.textValue() );
+        }
+        Number number = node.numberValue();
+        if ( number instanceof Integer ) {
+            return number.intValue();
+        }
+        double value = number.doubleValue();
+        int result = (int) value;
+        if ( !(number instanceof Double) || result != value ) {
+            throw new NumberFormatException( "Expected an int but was " + node.asText() );
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        next = null;
+        stack.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void skipValue() {
+        JsonToken token = peek();
+        if ( JsonToken.NAME == token ) {
+            nextName();
+        } else if ( null == next ) {
+            throw new IllegalStateException( "Expected a value but was " + token );
+        }
+        next = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String nextValue() {
+        JsonToken token = peek();
+        if ( null == next ) {
+            throw new IllegalStateException( "Expected a value but was " + token );
+        }
+        JsonNode node = next;
+        next = null;
+        return node.toString();
+    }
+
+    /**
+     * A tree has no line, 1 is always returned.
+     *
+     * @return a int.
+     */
+    @Override
+    public int getLineNumber() {
+        return 1;
+    }
+
+    /**
+     * A tree has no column, the depth of the current value is returned.
+     *
+     * @return a int.
+     */
+    @Override
+    public int getColumnNumber() {
+        return stack.size();
+    }
+
+    /**
+     * Returns the JSON of the root node.
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    @Override
+    public String getInput() {
+        return root.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Number nextNumber() {
+        return nextNode( JsonToken.NUMBER ).numberValue();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JavaScriptObject nextJavaScriptObject( boolean useSafeEval ) {
+        JsonToken token = peek();
+        if ( JsonToken.BEGIN_OBJECT != token && JsonToken.BEGIN_ARRAY != token ) {
+            throw new IllegalStateException( "Expected an array or object to evaluate a JavaScriptObject but was " + token );
+        }
+        JsonNode node = next;
+        next = null;
+        return node.toJavaScriptObject( useSafeEval );
+    }
+
+    private void expect( JsonToken expected ) {
+        JsonToken token = peek();
+        if ( expected != token ) {
+            throw new IllegalStateException( "Expected " + expected + " but was " + token );
+        }
+    }
+
+    private JsonNode nextNode( JsonToken expected ) {
+        expect( expected );
+        JsonNode node = next;
+        next = null;
+        return node;
+    }
+
+    /**
+     * Consumes the next value, asserting that it is a string or a number.
+     */
+    private JsonNode nextLiteral() {
+        JsonToken token = peek();
+        if ( JsonToken.STRING != token && JsonToken.NUMBER != token ) {
+            throw new IllegalStateException( "Expected a string or a number but was " + token );
+        }
+        JsonNode node = next;
+        next = null;
+        return node;
+    }
+
+    private static JsonToken tokenOf( JsonNode node ) {
+        switch ( node.getNodeType() ) {
+            case OBJECT:
+                return JsonToken.BEGIN_OBJECT;
+            case ARRAY:
+                return JsonToken.BEGIN_ARRAY;
+            case STRING:
+                return JsonToken.STRING;
+            case NUMBER:
+                return JsonToken.NUMBER;
+            case BOOLEAN:
+                return JsonToken.BOOLEAN;
+            default:
+                return JsonToken.NULL;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.google.gwt.core.client.JavaScriptException;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArrayString;
+
+/**
+ * {@link JsonNode} backed by the value returned by the native {@code JSON.parse}. A node is only created when a value is accessed and
+ * wraps the value in place.
+ * <p>The numbers are JavaScript numbers : {@link #numberValue()} returns an int or a long when the number is integral, a double
+ * otherwise, and the digits beyond the precision of a double are lost. {@link #toString()} returns the JSON produced by
+ * {@code JSON.stringify}, not the text of the input.</p>
+ *
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+final class NativeJsonNode extends JsonNode {
+
+    private static final JsonNodeType[] TYPES = JsonNodeType.values();
+
+    static NativeJsonNode newRoot( String input ) throws JsonDeserializationException {
+        JavaScriptObject root;
+        try {
+            root = parseNative( input );
+        } catch ( JavaScriptException e ) {
+            throw new JsonDeserializationException( e.getMessage(), e );
+        }
+        return new NativeJsonNode( root, "0" );
+    }
+
+    /**
+     * The value is wrapped in an array so a primitive root value can be handled like any member.
+     */
+    private static native JavaScriptObject parseNative( String input ) /*-{
+        return [JSON.parse(input)];
+    }-*/;
+
+    /**
+     * Object or array containing the value of this node
+     */
+    private final JavaScriptObject container;
+
+    /**
+     * Name or index of the value of this node inside its container
+     */
+    private final String key;
+
+    private final JsonNodeType type;
+
+    /**
+     * Value of this node if it is an object or an array, null otherwise
+     */
+    private final JavaScriptObject value;
+
+    private NativeJsonNode( JavaScriptObject container, String key ) {
+        this.container = container;
+        this.key = key;
+        this.type = TYPES[typeOf( container, key )];
+        this.value = JsonNodeType.OBJECT == type || JsonNodeType.ARRAY == type ? getObject( container, key ) : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonNodeType getNodeType() {
+        return type;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        if ( isObject() ) {
+            return keys( value ).length();
+        } else if ( isArray() ) {
+            return length( value );
+        } else {
+            return 0;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonNode get( String fieldName ) {
+        if ( !isObject() || !hasOwnProperty( value, fieldName ) ) {
+            return null;
+        }
+        return new NativeJsonNode( value, fieldName );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonNode get( int index ) {
+        if ( !isArray() || index < 0 || index >= length( value ) ) {
+            return null;
+        }
+        return new NativeJsonNode( value, String.valueOf( index ) );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<String> fieldNames() {
+        if ( !isObject() ) {
+            return Collections.<String>emptyList().iterator();
+        }
+        JsArrayString keys = keys( value );
+        List<String> result = new ArrayList<String>( keys.length() );
+        for ( int i = 0; i < keys.length(); i++ ) {
+            result.add( keys.get( i ) );
+        }
+        return Collections.unmodifiableList( result ).iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<JsonNode> elements() {
+        if ( !isArray() ) {
+            return Collections.<JsonNode>emptyList().iterator();
+        }
+        int length = length( value );
+        List<JsonNode> result = new ArrayList<JsonNode>( length );
+        for ( int i = 0; i < length; i++ ) {
+            result.add( new NativeJsonNode( value, String.valueOf( i ) ) );
+        }
+        return Collections.unmodifiableList( result ).iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String textValue() {
+        if ( JsonNodeType.STRING != type ) {
+            return null;
+        }
+        return getString( container, key );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String asText() {
+        switch ( type ) {
+            case STRING:
+                return textValue();
+            case NUMBER:
+            case BOOLEAN:
+            case NULL:
+                return toString();
+            default:
+                return "";
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean booleanValue() {
+        return JsonNodeType.BOOLEAN == type && getBoolean( container, key );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Number numberValue() {
+        if ( JsonNodeType.NUMBER != type ) {
+            return null;
+        }
+        double number = getNumber( container, key );
+        if ( number == (int) number ) {
+            return (int) number;
+        } else if ( number == (long) number ) {
+            return (long) number;
+        } else {
+            return number;
+        }
+    }
+
+    /**
+     * Returns the JSON of this node, as produced by {@code JSON.stringify}.
+     *
+     * @return the JSON of this node
+     */
+    @Override
+    public String toString() {
+        return stringify( container, key );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    JavaScriptObject toJavaScriptObject( boolean useSafeEval ) {
+        if ( null != value ) {
+            // the value has already been parsed, no need to evaluate it again
+            return value;
+        }
+        return super.toJavaScriptObject( useSafeEval );
+    }
+
+    /**
+     * Returns the ordinal of the {@link JsonNodeType} of the value.
+     */
+    private static native int typeOf( JavaScriptObject container, String key ) /*-{
+        var value = container[key];
+        if (value === null) {
+            return 5;
+        }
+        switch (typeof value) {
+            case 'string':
+                return 2;
+            case 'number':
+                return 3;
+            case 'boolean':
+                return 4;
+            default:
+                return Array.isArray(value) ? 1 : 0;
+        }
+    }-*/;
+
+    private static native JavaScriptObject getObject( JavaScriptObject container, String key ) /*-{
+        return container[key];
+    }-*/;
+
+    private static native String getString( JavaScriptObject container, String key ) /*-{
+        return container[key];
+    }-*/;
+
+    private static native double getNumber( JavaScriptObject container, String key ) /*-{
+        return container[key];
+    }-*/;
+
+    private static native boolean getBoolean( JavaScriptObject container, String key ) /*-{
+        return container[key];
+    }-*/;
+
+    private static native String stringify( JavaScriptObject container, String key ) /*-{
+        return JSON.stringify(container[key]);
+    }-*/;
+
+    private static native boolean hasOwnProperty( JavaScriptObject object, String name ) /*-{
+        return Object.prototype.hasOwnProperty.call(object, name);
+    }-*/;
+
+    private static native JsArrayString keys( JavaScriptObject object ) /*-{
+        return Object.keys(object);
+    }-*/;
+
+    private static native int length( JavaScriptObject array ) /*-{
+        return array.length;
+    }-*/;
+}
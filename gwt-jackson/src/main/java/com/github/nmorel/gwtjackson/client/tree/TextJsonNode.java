@@ -0,0 +1,475 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.tree;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+
+/**
+ * {@link JsonNode} indexing the JSON input on demand. A node only keeps the position of its value inside the input. The members of an
+ * object or the elements of an array are indexed the first time they are accessed and the nested values are only skipped over.
+ *
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+final class TextJsonNode extends JsonNode {
+
+    static TextJsonNode newRoot( String input ) throws JsonDeserializationException {
+        int start = skipWhitespace( input, 0 );
+        int end = valueEnd( input, start );
+        if ( skipWhitespace( input, end ) != input.length() ) {
+            throw syntaxError( end, "Unexpected character after the root value" );
+        }
+        return new TextJsonNode( input, start, end );
+    }
+
+    private final String input;
+
+    private final int start;
+
+    private final int end;
+
+    private final JsonNodeType type;
+
+    private Map<String, JsonNode> fields;
+
+    private List<JsonNode> elements;
+
+    private TextJsonNode( String input, int start, int end ) {
+        this.input = input;
+        this.start = start;
+        this.end = end;
+        this.type = typeOf( input, start );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonNodeType getNodeType() {
+        return type;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        if ( isObject() ) {
+            return getFields().size();
+        } else if ( isArray() ) {
+            return getElements().size();
+        } else {
+            return 0;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonNode get( String fieldName ) {
+        if ( !isObject() ) {
+            return null;
+        }
+        return getFields().get( fieldName );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JsonNode get( int index ) {
+        if ( !isArray() ) {
+            return null;
+        }
+        List<JsonNode> elements = getElements();
+        if ( index < 0 || index >= elements.size() ) {
+            return null;
+        }
+        return elements.get( index );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<String> fieldNames() {
+        if ( !isObject() ) {
+            return Collections.<String>emptyList().iterator();
+        }
+        return Collections.unmodifiableSet( getFields().keySet() ).iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<JsonNode> elements() {
+        if ( !isArray() ) {
+            return Collections.<JsonNode>emptyList().iterator();
+        }
+        return Collections.unmodifiableList( getElements() ).iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String textValue() {
+        if ( JsonNodeType.STRING != type ) {
+            return null;
+        }
+        return unescapeString( input, start + 1, end - 1 );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String asText() {
+        switch ( type ) {
+            case STRING:
+                return textValue();
+            case NUMBER:
+            case BOOLEAN:
+            case NULL:
+                return input.substring( start, end );
+            default:
+                return "";
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean booleanValue() {
+        return JsonNodeType.BOOLEAN == type && input.charAt( start ) == 't';
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Number numberValue() {
+        if ( JsonNodeType.NUMBER != type ) {
+            return null;
+        }
+        String text = input.substring( start, end );
+        for ( int i = 0; i < text.length(); i++ ) {
+            char c = text.charAt( i );
+            if ( c == '.' || c == 'e' || c == 'E' ) {
+                return Double.parseDouble( text );
+            }
+        }
+        if ( text.length() < 10 ) {
+            return Integer.parseInt( text );
+        }
+        BigInteger value = new BigInteger( text );
+        if ( value.bitLength() < 32 ) {
+            return value.intValue();
+        } else if ( value.bitLength() < 64 ) {
+            return value.longValue();
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * Returns the JSON of this node, as found in the input.
+     *
+     * @return the JSON of this node
+     */
+    @Override
+    public String toString() {
+        return input.substring( start, end );
+    }
+
+    private Map<String, JsonNode> getFields() {
+        if ( null == fields ) {
+            Map<String, JsonNode> result = new LinkedHashMap<String, JsonNode>();
+            int i = skipWhitespace( input, start + 1 );
+            if ( input.charAt( i ) == '}' ) {
+                fields = result;
+                return fields;
+            }
+            while ( true ) {
+                if ( i >= end || input.charAt( i ) != '"' ) {
+                    throw syntaxError( i, "Expected a property name" );
+                }
+                int nameEnd = stringEnd( input, i );
+                String name = unescapeString( input, i + 1, nameEnd - 1 );
+
+                i = skipWhitespace( input, nameEnd );
+                if ( i >= end || input.charAt( i ) != ':' ) {
+                    throw syntaxError( i, "Expected ':'" );
+                }
+
+                int valueStart = skipWhitespace( input, i + 1 );
+                int valueEnd = valueEnd( input, valueStart );
+                result.put( name, new TextJsonNode( input, valueStart, valueEnd ) );
+
+                i = skipWhitespace( input, valueEnd );
+                char c = i < end ? input.charAt( i ) : 0;
+                if ( c == '}' ) {
+                    break;
+                } else if ( c != ',' ) {
+                    throw syntaxError( i, "Expected ',' or '}'" );
+                }
+                i = skipWhitespace( input, i + 1 );
+            }
+            fields = result;
+        }
+        return fields;
+    }
+
+    private List<JsonNode> getElements() {
+        if ( null == elements ) {
+            List<JsonNode> result = new ArrayList<JsonNode>();
+            int i = skipWhitespace( input, start + 1 );
+            if ( input.charAt( i ) == ']' ) {
+                elements = result;
+                return elements;
+            }
+            while ( true ) {
+                int valueEnd = valueEnd( input, i );
+                result.add( new TextJsonNode( input, i, valueEnd ) );
+
+                i = skipWhitespace( input, valueEnd );
+                char c = i < end ? input.charAt( i ) : 0;
+                if ( c == ']' ) {
+                    break;
+                } else if ( c != ',' ) {
+                    throw syntaxError( i, "Expected ',' or ']'" );
+                }
+                i = skipWhitespace( input, i + 1 );
+            }
+            elements = result;
+        }
+        return elements;
+    }
+
+    private static JsonNodeType typeOf( String input, int start ) {
+        switch ( input.charAt( start ) ) {
+            case '{':
+                return JsonNodeType.OBJECT;
+            case '[':
+                return JsonNodeType.ARRAY;
+            case '"':
+                return JsonNodeType.STRING;
+            case 't':
+            case 'f':
+                return JsonNodeType.BOOLEAN;
+            case 'n':
+                return JsonNodeType.NULL;
+            default:
+                return JsonNodeType.NUMBER;
+        }
+    }
+
+    private static int skipWhitespace( String input, int i ) {
+        int length = input.length();
+        while ( i < length ) {
+            char c = input.charAt( i );
+            if ( c != ' ' && c != '\n' && c != '\r' && c != '\t' ) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the position right after the value starting at {@code start}. Nested objects and arrays are skipped by counting
+     * brackets, their content is not validated until they are accessed.
+     */
+    private static int valueEnd( String input, int start ) {
+        int length = input.length();
+        if ( start >= length ) {
+            throw syntaxError( start, "Expected a value" );
+        }
+
+        char c = input.charAt( start );
+        if ( c == '"' ) {
+            return stringEnd( input, start );
+        }
+
+        if ( c == '{' || c == '[' ) {
+            int depth = 0;
+            int i = start;
+            while ( i < length ) {
+                c = input.charAt( i );
+                if ( c == '"' ) {
+                    i = stringEnd( input, i );
+                    continue;
+                }
+                if ( c == '{' || c == '[' ) {
+                    depth++;
+                } else if ( c == '}' || c == ']' ) {
+                    depth--;
+                    if ( depth == 0 ) {
+                        return i + 1;
+                    }
+                }
+                i++;
+            }
+            throw syntaxError( length, "Unterminated " + (input.charAt( start ) == '{' ? "object" : "array") );
+        }
+
+        int i = start;
+        while ( i < length ) {
+            c = input.charAt( i );
+            if ( c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t' ) {
+                break;
+            }
+            i++;
+        }
+        if ( i == start ) {
+            throw syntaxError( start, "Expected a value" );
+        }
+        String literal = input.substring( start, i );
+        if ( !literal.equals( "true" ) && !literal.equals( "false" ) && !literal.equals( "null" ) && !isNumber( literal ) ) {
+            throw syntaxError( start, "Unexpected value '" + literal + "'" );
+        }
+        return i;
+    }
+
+    /**
+     * Returns true if the literal is a number as defined by the JSON grammar : an optional minus sign, an integer part without leading
+     * zero, an optional fraction part and an optional exponent.
+     */
+    private static boolean isNumber( String literal ) {
+        int length = literal.length();
+        int i = 0;
+        if ( literal.charAt( i ) == '-' ) {
+            i++;
+        }
+
+        // integer part
+        if ( i < length && literal.charAt( i ) == '0' ) {
+            i++;
+        } else {
+            int digitsStart = i;
+            i = skipDigits( literal, i );
+            if ( i == digitsStart ) {
+                return false;
+            }
+        }
+
+        // fraction part
+        if ( i < length && literal.charAt( i ) == '.' ) {
+            int digitsStart = ++i;
+            i = skipDigits( literal, i );
+            if ( i == digitsStart ) {
+                return false;
+            }
+        }
+
+        // exponent
+        if ( i < length && (literal.charAt( i ) == 'e' || literal.charAt( i ) == 'E') ) {
+            i++;
+            if ( i < length && (literal.charAt( i ) == '+' || literal.charAt( i ) == '-') ) {
+                i++;
+            }
+            int digitsStart = i;
+            i = skipDigits( literal, i );
+            if ( i == digitsStart ) {
+                return false;
+            }
+        }
+
+        return i == length;
+    }
+
+    private static int skipDigits( String literal, int i ) {
+        int length = literal.length();
+        while ( i < length ) {
+            char c = literal.charAt( i );
+            if ( c < '0' || c > '9' ) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the position right after the closing quote of the string starting at {@code start}.
+     */
+    private static int stringEnd( String input, int start ) {
+        int length = input.length();
+        int i = start + 1;
+        while ( i < length ) {
+            char c = input.charAt( i );
+            if ( c == '\\' ) {
+                i += 2;
+            } else if ( c == '"' ) {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        throw syntaxError( length, "Unterminated string" );
+    }
+
+    private static String unescapeString( String input, int start, int end ) {
+        int escape = input.indexOf( '\\', start );
+        if ( escape < 0 || escape >= end ) {
+            return input.substring( start, end );
+        }
+
+        StringBuilder builder = new StringBuilder( end - start );
+        builder.append( input.substring( start, escape ) );
+        int i = escape;
+        while ( i < end ) {
+            char c = input.charAt( i++ );
+            if ( c != '\\' ) {
+                builder.append( c );
+                continue;
+            }
+            if ( i >= end ) {
+                throw syntaxError( i, "Unterminated escape sequence" );
+            }
+            c = input.charAt( i++ );
+            switch ( c ) {
+                case 'b':
+                    builder.append( '\b' );
+                    break;
+                case 'f':
+                    builder.append( '\f' );
+                    break;
+                case 'n':
+                    builder.append( '\n' );
+                    break;
+                case 'r':
+                    builder.append( '\r' );
+                    break;
+                case 't':
+                    builder.append( '\t' );
+                    break;
+                case 'u':
+                    if ( i + 4 > end ) {
+                        throw syntaxError( i, "Unterminated escape sequence" );
+                    }
+                    try {
+                        builder.append( (char) Integer.parseInt( input.substring( i, i + 4 ), 16 ) );
+                    } catch ( NumberFormatException e ) {
+                        throw syntaxError( i, "Invalid escape sequence" );
+                    }
+                    i += 4;
+                    break;
+                default:
+                    // '"', '\\', '/' and the other characters are kept as is
+                    builder.append( c );
+                    break;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static JsonDeserializationException syntaxError( int position, String message ) {
+        return new JsonDeserializationException( message + " at position " + position );
+    }
+}
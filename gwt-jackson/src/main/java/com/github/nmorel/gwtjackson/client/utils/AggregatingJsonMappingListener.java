@@ -0,0 +1,387 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.nmorel.gwtjackson.client.JsonMappingListener;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * {@link JsonMappingListener} aggregating the events into counters and timings per operation and per bean type. The same instance
+ * can be shared by several contexts to collect the metrics of a whole screen. The result is available through
+ * {@link #getStats(Operation)} or as a text report with {@link #getReport()}, that can be logged in the browser console or on the
+ * JVM.
+ * <p>The time spent in a bean includes the time spent in the nested beans. The self time excludes it. In the browser, the time is
+ * measured with {@code performance.now()} when available. On the JVM, it is measured with {@link System#currentTimeMillis()} unless
+ * {@link #now()} is overridden.</p>
+ * <p>This class is not thread-safe.</p>
+ *
+ * @author Nicolas Morel
+ */
+public class AggregatingJsonMappingListener extends JsonMappingListener {
+
+    /**
+     * Metrics of a bean type.
+     */
+    public static final class BeanStats {
+
+        private final Class<?> beanType;
+
+        private int count;
+
+        private double timeMillis;
+
+        private double selfTimeMillis;
+
+        private int propertyCount;
+
+        private int bufferedPropertyCount;
+
+        private int skippedValueCount;
+
+        private BeanStats( Class<?> beanType ) {
+            this.beanType = beanType;
+        }
+
+        public Class<?> getBeanType() {
+            return beanType;
+        }
+
+        /**
+         * @return the number of beans read or written
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return the time spent in the beans, including the nested beans
+         */
+        public double getTimeMillis() {
+            return timeMillis;
+        }
+
+        /**
+         * @return the time spent in the beans, excluding the nested beans
+         */
+        public double getSelfTimeMillis() {
+            return selfTimeMillis;
+        }
+
+        /**
+         * @return the number of properties read or written
+         */
+        public int getPropertyCount() {
+            return propertyCount;
+        }
+
+        /**
+         * @return the number of property values buffered during the deserialization
+         */
+        public int getBufferedPropertyCount() {
+            return bufferedPropertyCount;
+        }
+
+        /**
+         * @return the number of property values skipped during the deserialization
+         */
+        public int getSkippedValueCount() {
+            return skippedValueCount;
+        }
+    }
+
+    /**
+     * Metrics of an operation.
+     */
+    public static final class OperationStats {
+
+        private final Map<Class<?>, BeanStats> beanStats = new LinkedHashMap<Class<?>, BeanStats>();
+
+        private int mappingCount;
+
+        private long length;
+
+        private double timeMillis;
+
+        private int containerCount;
+
+        private long elementCount;
+
+        private BeanStats getOrCreateBeanStats( Class<?> beanType ) {
+            BeanStats stats = beanStats.get( beanType );
+            if ( null == stats ) {
+                stats = new BeanStats( beanType );
+                beanStats.put( beanType, stats );
+            }
+            return stats;
+        }
+
+        /**
+         * @return the number of values read or written by a mapper
+         */
+        public int getMappingCount() {
+            return mappingCount;
+        }
+
+        /**
+         * @return the number of characters read or written by the mappers
+         */
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * @return the time spent in the mappers
+         */
+        public double getTimeMillis() {
+            return timeMillis;
+        }
+
+        /**
+         * @return the number of collections, arrays and maps read or written
+         */
+        public int getContainerCount() {
+            return containerCount;
+        }
+
+        /**
+         * @return the number of elements and entries inside the collections, arrays and maps read or written
+         */
+        public long getElementCount() {
+            return elementCount;
+        }
+
+        /**
+         * @param beanType type of the bean
+         *
+         * @return the metrics of the given bean type or null if no bean of this type has been read or written
+         */
+        public BeanStats getBeanStats( Class<?> beanType ) {
+            return beanStats.get( beanType );
+        }
+
+        /**
+         * @return the metrics of all the bean types, sorted by decreasing self time
+         */
+        public List<BeanStats> getAllBeanStats() {
+            List<BeanStats> result = new ArrayList<BeanStats>( beanStats.values() );
+            Collections.sort( result, new Comparator<BeanStats>() {
+                @Override
+                public int compare( BeanStats o1, BeanStats o2 ) {
+                    return Double.compare( o2.selfTimeMillis, o1.selfTimeMillis );
+                }
+            } );
+            return result;
+        }
+    }
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private static native double nowNative() /*-{
+        if ($wnd.performance && $wnd.performance.now) {
+            return $wnd.performance.now();
+        }
+        return Date.now();
+    }-*/;
+
+    private final OperationStats serializationStats = new OperationStats();
+
+    private final OperationStats deserializationStats = new OperationStats();
+
+    private double mappingStart;
+
+    private int mappingDepth;
+
+    /**
+     * Start time of the beans in progress.
+     */
+    private double[] beanStarts = new double[INITIAL_DEPTH];
+
+    /**
+     * Time spent in the nested beans of the beans in progress.
+     */
+    private double[] beanChildTimes = new double[INITIAL_DEPTH];
+
+    private int beanDepth;
+
+    /**
+     * Returns the current time in milliseconds, used to compute the durations.
+     *
+     * @return the current time in milliseconds
+     */
+    protected double now() {
+        if ( GWT.isScript() ) {
+            return nowNative();
+        }
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * @param operation the operation
+     *
+     * @return the metrics collected for the given operation
+     */
+    public OperationStats getStats( Operation operation ) {
+        return Operation.SERIALIZATION == operation ? serializationStats : deserializationStats;
+    }
+
+    /**
+     * Clears all the metrics collected.
+     */
+    public void reset() {
+        for ( Operation operation : Operation.values() ) {
+            OperationStats stats = getStats( operation );
+            stats.beanStats.clear();
+            stats.mappingCount = 0;
+            stats.length = 0;
+            stats.timeMillis = 0;
+            stats.containerCount = 0;
+            stats.elementCount = 0;
+        }
+        mappingDepth = 0;
+        beanDepth = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMappingStart( Operation operation, String rootName ) {
+        if ( mappingDepth++ == 0 ) {
+            mappingStart = now();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMappingEnd( Operation operation, String rootName, int length ) {
+        OperationStats stats = getStats( operation );
+        stats.mappingCount++;
+        stats.length += length;
+        if ( mappingDepth > 0 && --mappingDepth == 0 ) {
+            stats.timeMillis += now() - mappingStart;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onBeanStart( Operation operation, Class<?> beanType ) {
+        if ( beanDepth == beanStarts.length ) {
+            beanStarts = copyOf( beanStarts, beanDepth * 2 );
+            beanChildTimes = copyOf( beanChildTimes, beanDepth * 2 );
+        }
+        beanStarts[beanDepth] = now();
+        beanChildTimes[beanDepth] = 0;
+        beanDepth++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onBeanEnd( Operation operation, Class<?> beanType ) {
+        if ( beanDepth == 0 ) {
+            // the listener has been reset during the mapping
+            return;
+        }
+        beanDepth--;
+        double time = now() - beanStarts[beanDepth];
+        if ( beanDepth > 0 ) {
+            beanChildTimes[beanDepth - 1] += time;
+        }
+
+        BeanStats stats = getStats( operation ).getOrCreateBeanStats( beanType );
+        stats.count++;
+        stats.timeMillis += time;
+        stats.selfTimeMillis += time - beanChildTimes[beanDepth];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onProperty( Operation operation, Class<?> beanType, String propertyName ) {
+        getStats( operation ).getOrCreateBeanStats( beanType ).propertyCount++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onElements( Operation operation, int count ) {
+        OperationStats stats = getStats( operation );
+        stats.containerCount++;
+        stats.elementCount += count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onBufferedProperty( Class<?> beanType, String propertyName ) {
+        deserializationStats.getOrCreateBeanStats( beanType ).bufferedPropertyCount++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSkippedValue( Class<?> beanType, String propertyName ) {
+        deserializationStats.getOrCreateBeanStats( beanType ).skippedValueCount++;
+    }
+
+    /**
+     * Returns a text report of the metrics collected, with one line per operation followed by one line per bean type sorted by
+     * decreasing self time.
+     *
+     * @return the report
+     */
+    public String getReport() {
+        StringBuilder builder = new StringBuilder();
+        for ( Operation operation : Operation.values() ) {
+            OperationStats stats = getStats( operation );
+            if ( stats.mappingCount == 0 && stats.beanStats.isEmpty() ) {
+                continue;
+            }
+            builder.append( operation ).append( ": " ).append( stats.mappingCount ).append( " mappings, " ).append( stats.length )
+                    .append( " chars, " ).append( formatMillis( stats.timeMillis ) ).append( ", " ).append( stats.elementCount )
+                    .append( " elements in " ).append( stats.containerCount ).append( " containers\n" );
+            for ( BeanStats beanStats : stats.getAllBeanStats() ) {
+                builder.append( "  " ).append( beanStats.beanType.getName() ).append( ": " ).append( beanStats.count )
+                        .append( " beans, " ).append( formatMillis( beanStats.timeMillis ) ).append( " (" )
+                        .append( formatMillis( beanStats.selfTimeMillis ) ).append( " self), " ).append( beanStats.propertyCount )
+                        .append( " properties" );
+                if ( Operation.DESERIALIZATION == operation ) {
+                    builder.append( ", " ).append( beanStats.bufferedPropertyCount ).append( " buffered, " )
+                            .append( beanStats.skippedValueCount ).append( " skipped" );
+                }
+                builder.append( '\n' );
+            }
+        }
+        return builder.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return getReport();
+    }
+
+    private static String formatMillis( double millis ) {
+        return Math.round( millis * 1000 ) / 1000d + " ms";
+    }
+
+    private static double[] copyOf( double[] array, int length ) {
+        double[] copy = new double[length];
+        System.arraycopy( array, 0, copy, 0, array.length );
+        return copy;
+    }
+}
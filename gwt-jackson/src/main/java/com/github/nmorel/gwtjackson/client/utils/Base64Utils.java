@@ -16,6 +16,8 @@
 
 package com.github.nmorel.gwtjackson.client.utils;
 
+import com.google.gwt.core.client.GWT;
+
 /**
  * A utility to decode and encode byte arrays as Strings, using only "safe"
  * characters.
@@ -51,6 +53,11 @@ public class Base64Utils {
    */
   private static final byte[] base64Values = new byte[128];
 
+  /**
+   * Whether the browser's atob and btoa functions can be used. Computed on first use in compiled mode.
+   */
+  private static Boolean nativeBase64Supported;
+
   /**
    * Initialize the base 64 encoder values.
    */
@@ -80,42 +87,77 @@ public class Base64Utils {
       return new byte[0];
     }
 
-    char[] chars = new char[len];
-    data.getChars(0, len, chars, 0);
+    if (GWT.isScript()) {
+      // the browser decodes much faster than us
+      String binary = atob(data);
+      if (binary != null) {
+        int blen = binary.length();
+        byte[] bytes = new byte[blen];
+        for (int i = 0; i < blen; i++) {
+          bytes[i] = (byte) binary.charAt(i);
+        }
+        return bytes;
+      }
+    }
 
     int olen = 3 * (len / 4);
-    if (chars[len - 2] == '=') {
+    if (data.charAt(len - 2) == '=') {
       --olen;
     }
-    if (chars[len - 1] == '=') {
+    if (data.charAt(len - 1) == '=') {
       --olen;
     }
 
     byte[] bytes = new byte[olen];
 
+    // every group of 4 chars gives 3 bytes except the last one if there is padding
+    int groups = olen / 3;
     int iidx = 0;
     int oidx = 0;
-    while (iidx < len) {
-      int c0 = base64Values[chars[iidx++] & 0xff];
-      int c1 = base64Values[chars[iidx++] & 0xff];
-      int c2 = base64Values[chars[iidx++] & 0xff];
-      int c3 = base64Values[chars[iidx++] & 0xff];
-      int c24 = (c0 << 18) | (c1 << 12) | (c2 << 6) | c3;
+    for (int i = 0; i < groups; i++) {
+      int c24 = (base64Values[data.charAt(iidx) & 0xff] << 18)
+          | (base64Values[data.charAt(iidx + 1) & 0xff] << 12)
+          | (base64Values[data.charAt(iidx + 2) & 0xff] << 6)
+          | base64Values[data.charAt(iidx + 3) & 0xff];
+      iidx += 4;
 
       bytes[oidx++] = (byte) (c24 >> 16);
-      if (oidx == olen) {
-        break;
-      }
       bytes[oidx++] = (byte) (c24 >> 8);
-      if (oidx == olen) {
-        break;
-      }
       bytes[oidx++] = (byte) c24;
     }
 
+    int remaining = olen - oidx;
+    if (remaining > 0) {
+      int c24 = (base64Values[data.charAt(iidx) & 0xff] << 18)
+          | (base64Values[data.charAt(iidx + 1) & 0xff] << 12);
+      if (remaining > 1) {
+        c24 |= base64Values[data.charAt(iidx + 2) & 0xff] << 6;
+      }
+      bytes[oidx++] = (byte) (c24 >> 16);
+      if (remaining > 1) {
+        bytes[oidx] = (byte) (c24 >> 8);
+      }
+    }
+
     return bytes;
   }
 
+  /**
+   * Decodes the base64 string with the browser's atob function.
+   *
+   * @return the decoded binary string or null if atob is not available or the string is invalid
+   */
+  private static native String atob(String data) /*-{
+    if (!@com.github.nmorel.gwtjackson.client.utils.Base64Utils::isNativeBase64Supported()()) {
+      return null;
+    }
+    try {
+      return $wnd.atob(data);
+    } catch (e) {
+      return null;
+    }
+  }-*/;
+
   /**
    * Decode a base64 string into a long value.
    *
@@ -154,34 +196,87 @@ public class Base64Utils {
       return "";
     }
 
+    if (GWT.isScript()) {
+      // the browser encodes much faster than us
+      char[] binary = new char[len];
+      for (int i = 0; i < len; i++) {
+        binary[i] = (char) (data[i] & 0xff);
+      }
+      String result = btoa(String.valueOf(binary));
+      if (result != null) {
+        return result;
+      }
+    }
+
     int olen = 4 * ((len + 2) / 3);
     char[] chars = new char[olen];
 
+    // every group of 3 bytes gives 4 chars, the last incomplete group is padded
+    int groups = len / 3;
     int iidx = 0;
     int oidx = 0;
-    int charsLeft = len;
-    while (charsLeft > 0) {
-      int b0 = data[iidx++] & 0xff;
-      int b1 = (charsLeft > 1) ? data[iidx++] & 0xff : 0;
-      int b2 = (charsLeft > 2) ? data[iidx++] & 0xff : 0;
-      int b24 = (b0 << 16) | (b1 << 8) | b2;
+    for (int i = 0; i < groups; i++) {
+      int b24 = ((data[iidx] & 0xff) << 16) | ((data[iidx + 1] & 0xff) << 8) | (data[iidx + 2] & 0xff);
+      iidx += 3;
 
-      int c0 = (b24 >> 18) & 0x3f;
-      int c1 = (b24 >> 12) & 0x3f;
-      int c2 = (b24 >> 6) & 0x3f;
-      int c3 = b24 & 0x3f;
-
-      chars[oidx++] = base64Chars[c0];
-      chars[oidx++] = base64Chars[c1];
-      chars[oidx++] = (charsLeft > 1) ? base64Chars[c2] : '=';
-      chars[oidx++] = (charsLeft > 2) ? base64Chars[c3] : '=';
+      chars[oidx++] = base64Chars[(b24 >> 18) & 0x3f];
+      chars[oidx++] = base64Chars[(b24 >> 12) & 0x3f];
+      chars[oidx++] = base64Chars[(b24 >> 6) & 0x3f];
+      chars[oidx++] = base64Chars[b24 & 0x3f];
+    }
 
-      charsLeft -= 3;
+    int remaining = len - iidx;
+    if (remaining > 0) {
+      int b24 = (data[iidx] & 0xff) << 16;
+      if (remaining > 1) {
+        b24 |= (data[iidx + 1] & 0xff) << 8;
+      }
+      chars[oidx++] = base64Chars[(b24 >> 18) & 0x3f];
+      chars[oidx++] = base64Chars[(b24 >> 12) & 0x3f];
+      chars[oidx++] = (remaining > 1) ? base64Chars[(b24 >> 6) & 0x3f] : '=';
+      chars[oidx] = '=';
     }
 
     return new String(chars);
   }
 
+  /**
+   * Encodes the binary string with the browser's btoa function.
+   *
+   * @return the base64 string or null if btoa is not available
+   */
+  private static native String btoa(String binary) /*-{
+    if (!@com.github.nmorel.gwtjackson.client.utils.Base64Utils::isNativeBase64Supported()()) {
+      return null;
+    }
+    return $wnd.btoa(binary);
+  }-*/;
+
+  /**
+   * Checks once that the browser has atob and btoa functions handling the whole byte range. Some implementations encode the
+   * chars above 0x7f in UTF-8 and can't be used.
+   *
+   * @return true if atob and btoa can be used
+   */
+  private static boolean isNativeBase64Supported() {
+    if (nativeBase64Supported == null) {
+      nativeBase64Supported = checkNativeBase64();
+    }
+    return nativeBase64Supported;
+  }
+
+  private static native boolean checkNativeBase64() /*-{
+    if (typeof $wnd.atob !== 'function' || typeof $wnd.btoa !== 'function') {
+      return false;
+    }
+    try {
+      var binary = String.fromCharCode(0xff, 0x80);
+      return $wnd.btoa(binary) === "/4A=" && $wnd.atob("/4A=") === binary;
+    } catch (e) {
+      return false;
+    }
+  }-*/;
+
   /**
    * Return a string containing a base-64 encoded version of the given long
    * value.  Leading groups of all zero bits are omitted.
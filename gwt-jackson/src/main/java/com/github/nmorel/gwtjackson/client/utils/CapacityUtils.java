@@ -0,0 +1,40 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+/**
+ * Helper to presize the hash based collections and maps built during a deserialization.
+ *
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public final class CapacityUtils {
+
+    private CapacityUtils() { }
+
+    /**
+     * Returns the initial capacity of a hash based {@link java.util.Set} or {@link java.util.Map} so it can hold the expected number of
+     * elements without being rehashed, with the default load factor.
+     *
+     * @param expectedSize expected number of elements
+     *
+     * @return the initial capacity
+     */
+    public static int getInitialCapacity( int expectedSize ) {
+        return Math.max( (int) (expectedSize / .75f) + 1, 16 );
+    }
+}
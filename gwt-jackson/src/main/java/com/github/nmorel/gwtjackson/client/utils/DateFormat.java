@@ -86,6 +86,9 @@ public final class DateFormat {
      */
     public static final TimeZone UTC_TIMEZONE = TimeZone.createTimeZone( 0 );
 
+    /**
+     * Cache of the parsers by pattern. The accesses are synchronized because the cache is shared by all the mappers.
+     */
     private static final Map<String, DateParser> CACHE_PARSERS = new HashMap<String, DateParser>();
 
     /**
@@ -181,10 +184,16 @@ public final class DateFormat {
         if ( null == pattern ) {
             return parse( DateFormat.DATE_FORMAT_STR_ISO8601, date );
         } else {
-            String patternCacheKey = pattern + useBrowserTimezone;
+            return getParser( useBrowserTimezone, pattern, hasTz ).parse( date );
+        }
+    }
+
+    private static DateParser getParser( boolean useBrowserTimezone, String pattern, Boolean hasTz ) {
+        String patternCacheKey = pattern + useBrowserTimezone;
+        synchronized ( CACHE_PARSERS ) {
             DateParser parser = CACHE_PARSERS.get( patternCacheKey );
             if ( null == parser ) {
-                boolean patternHasTz = useBrowserTimezone || (hasTz == null ? hasTz(pattern) : hasTz.booleanValue());
+                boolean patternHasTz = useBrowserTimezone || (hasTz == null ? hasTz( pattern ) : hasTz.booleanValue());
                 if ( patternHasTz ) {
                     parser = new DateParser( pattern );
                 } else {
@@ -193,7 +202,7 @@ public final class DateFormat {
                 }
                 CACHE_PARSERS.put( patternCacheKey, parser );
             }
-            return parser.parse( date );
+            return parser;
         }
     }
 
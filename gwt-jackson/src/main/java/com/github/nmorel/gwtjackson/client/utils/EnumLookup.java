@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup table of the constants of an enumeration by their name. The table is built once from the constants of the enumeration.
+ * Unlike {@link Enum#valueOf(Class, String)}, looking up an unknown name returns null instead of throwing an exception.
+ *
+ * @param <E> Type of the enum
+ * @author Nicolas Morel
+ * @version $Id: $
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final Class<E> enumClass;
+
+    private final Map<String, E> valuesByName;
+
+    /**
+     * <p>Constructor for EnumLookup.</p>
+     *
+     * @param enumClass class of the enumeration
+     */
+    public EnumLookup( Class<E> enumClass ) {
+        if ( null == enumClass ) {
+            throw new IllegalArgumentException( "enumClass cannot be null" );
+        }
+        this.enumClass = enumClass;
+
+        E[] values = enumClass.getEnumConstants();
+        this.valuesByName = new HashMap<String, E>( CapacityUtils.getInitialCapacity( values.length ) );
+        for ( E value : values ) {
+            valuesByName.put( value.name(), value );
+        }
+    }
+
+    /**
+     * Returns the constant with the given name.
+     *
+     * @param name name of the constant
+     * @param unknownAsNull true to return null if there is no constant with this name, false to throw an exception
+     * @return the constant
+     * @throws IllegalArgumentException if there is no constant with this name and unknownAsNull is false
+     */
+    public E get( String name, boolean unknownAsNull ) {
+        E value = valuesByName.get( name );
+        if ( null == value && !unknownAsNull ) {
+            throw new IllegalArgumentException( "No enum constant " + enumClass.getName() + "." + name );
+        }
+        return value;
+    }
+}
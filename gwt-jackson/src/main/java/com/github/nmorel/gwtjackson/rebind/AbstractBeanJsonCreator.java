@@ -38,6 +38,7 @@ import com.github.nmorel.gwtjackson.rebind.bean.BeanInfo;
 import com.github.nmorel.gwtjackson.rebind.bean.BeanTypeInfo;
 import com.github.nmorel.gwtjackson.rebind.exception.UnsupportedTypeException;
 import com.github.nmorel.gwtjackson.rebind.property.PropertyInfo;
+import com.github.nmorel.gwtjackson.rebind.type.JMapperType;
 import com.google.gwt.core.ext.GeneratorContext;
 import com.google.gwt.core.ext.TreeLogger;
 import com.google.gwt.core.ext.TreeLogger.Type;
@@ -304,6 +305,20 @@ public abstract class AbstractBeanJsonCreator extends AbstractCreator {
         }
     }
 
+    /**
+     * Returns true if the serializer or deserializer is the default one of its type, obtained with {@code getInstance()}. Its behaviour
+     * is known so the generated code can read or write the value directly.
+     *
+     * @param mapperType the serializer or deserializer
+     * @param defaultMapper the class of the default serializer or deserializer
+     *
+     * @return true if the serializer or deserializer is the default one
+     */
+    protected final boolean isDefaultMapper( JMapperType mapperType, Class<?> defaultMapper ) {
+        return CodeBlock.builder().add( "$T.getInstance()", defaultMapper ).build().toString()
+                .equals( mapperType.getInstance().toString() );
+    }
+
     /**
      * <p>filterSubtypes</p>
      *
@@ -18,8 +18,6 @@ package com.github.nmorel.gwtjackson.rebind;
 
 import javax.lang.model.element.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
@@ -31,6 +29,10 @@ import java.util.Set;
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.DoubleJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.LongJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.BooleanJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.bean.AbstractBeanJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.bean.AbstractIdentityDeserializationInfo;
 import com.github.nmorel.gwtjackson.client.deser.bean.AnySetterDeserializer;
@@ -64,11 +66,10 @@ import com.google.gwt.core.ext.UnableToCompleteException;
 import com.google.gwt.core.ext.typeinfo.JAbstractMethod;
 import com.google.gwt.core.ext.typeinfo.JClassType;
 import com.google.gwt.core.ext.typeinfo.JParameter;
+import com.google.gwt.core.ext.typeinfo.JPrimitiveType;
 import com.google.gwt.core.ext.typeinfo.JType;
-import com.google.gwt.thirdparty.guava.common.base.Function;
 import com.google.gwt.thirdparty.guava.common.base.Joiner;
 import com.google.gwt.thirdparty.guava.common.base.Optional;
-import com.google.gwt.thirdparty.guava.common.collect.Collections2;
 import com.google.gwt.thirdparty.guava.common.collect.ImmutableList;
 import com.google.gwt.thirdparty.guava.common.collect.ImmutableMap;
 import com.squareup.javapoet.ClassName;
@@ -100,6 +101,15 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
 
     private static final String INSTANCE_BUILDER_DESERIALIZER_PREFIX = "deserializer_";
 
+    /**
+     * Default deserializers of the primitive types that can be read without boxing the value
+     */
+    private static final ImmutableMap<JPrimitiveType, Class<?>> PRIMITIVE_DESERIALIZERS = ImmutableMap.<JPrimitiveType, Class<?>>of(
+            JPrimitiveType.INT, IntegerJsonDeserializer.class,
+            JPrimitiveType.LONG, LongJsonDeserializer.class,
+            JPrimitiveType.DOUBLE, DoubleJsonDeserializer.class,
+            JPrimitiveType.BOOLEAN, BooleanJsonDeserializer.class );
+
     /**
      * <p>Constructor for BeanJsonDeserializerCreator.</p>
      *
@@ -129,6 +139,18 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             typeBuilder.addMethod( buildInitInstanceBuilderMethod() );
         }
 
+        if ( isCreatedWithDefaultConstructor() ) {
+            // the create method is declared on the deserializer so the bean can be instantiated without the instance builder
+            MethodSpec createMethod = buildInstanceBuilderCreateMethod();
+            typeBuilder.addMethod( createMethod );
+            typeBuilder.addMethod( MethodSpec.methodBuilder( "newDefaultInstance" )
+                    .addModifiers( Modifier.PROTECTED )
+                    .addAnnotation( Override.class )
+                    .returns( typeName( beanInfo.getType() ) )
+                    .addStatement( "return $N()", createMethod )
+                    .build() );
+        }
+
         // no need to generate properties for non instantiable class
         if ( (beanInfo.getCreatorMethod().isPresent() && !beanInfo.isCreatorDelegation()) &&
                 (!properties.isEmpty() || beanInfo
@@ -213,6 +235,10 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                 .build();
     }
 
+    private boolean isCreatedWithDefaultConstructor() {
+        return !beanInfo.getBuilder().isPresent() && beanInfo.getCreatorMethod().isPresent() && beanInfo.isCreatorDefaultConstructor();
+    }
+
     private TypeSpec buildInstanceBuilderClass() {
         MethodSpec createMethod = null;
         if ( !beanInfo.getBuilder().isPresent() ) {
@@ -227,7 +253,8 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                 .addParameter( JsonDeserializationContext.class, "ctx" )
                 .addParameter( JsonDeserializerParameters.class, "params" )
                 .addParameter( ParameterizedTypeName.get( Map.class, String.class, String.class ), "bufferedProperties" )
-                .addParameter( ParameterizedTypeName.get( Map.class, String.class, Object.class ), "bufferedPropertiesValues" );
+                .addParameter( ParameterizedTypeName.get( Map.class, String.class, Object.class ), "bufferedPropertiesValues" )
+                .addParameter( String.class, "typeInfoPropertyName" );
 
         if ( beanInfo.getBuilder().isPresent() ) {
             buildNewInstanceMethodForBuilder( newInstanceMethodBuilder );
@@ -251,7 +278,8 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                 .addMethod( newInstanceMethodBuilder.build() )
                 .addMethod( deserializersGetter.build() );
 
-        if ( null != createMethod ) {
+        // with a default constructor, the create method is declared on the deserializer
+        if ( null != createMethod && !isCreatedWithDefaultConstructor() ) {
             instanceBuilder.addMethod( createMethod );
         }
 
@@ -262,7 +290,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
      * Generate the instance builder class body for a builder.
      *
      * @param newInstanceMethodBuilder builder for the
-     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map)}
+     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map, String)}
      * method
      */
     private void buildNewInstanceMethodForBuilder( MethodSpec.Builder newInstanceMethodBuilder ) {
@@ -275,7 +303,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
      * set the properties to it
      *
      * @param newInstanceMethodBuilder builder for the
-     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map)}
+     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map, String)}
      * method
      * @param createMethod the create method
      */
@@ -289,7 +317,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
      * instanciate the bean only on build() method when all properties have been deserialiazed
      *
      * @param newInstanceMethodBuilder builder for the
-     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map)} method
+     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map, String)} method
      * @param createMethod the create method
      */
     private void buildNewInstanceMethodForConstructorOrFactoryMethod( MethodSpec.Builder newInstanceMethodBuilder,
@@ -316,19 +344,9 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
 
         newInstanceMethodBuilder.addStatement( "int nbParamToFind = $L", beanInfo.getCreatorParameters().size() );
 
-        if ( !requiredProperties.isEmpty() ) {
-            CodeBlock code = CodeBlock.builder()
-                    .add( Joiner.on( ", " ).join( Collections2.transform( requiredProperties, new Function<String, Object>() {
-                        @Override
-                        public Object apply( String s ) {
-                            return "$S";
-                        }
-                    } ) ), requiredProperties.toArray() ).build();
-
-            newInstanceMethodBuilder.addStatement( "$T requiredProperties = new $T($T.asList($L))",
-                    ParameterizedTypeName.get( Set.class, String.class ),
-                    ParameterizedTypeName.get( HashSet.class, String.class ),
-                    Arrays.class, code );
+        // the required properties found are marked in int masks, 32 properties per mask
+        for ( int i = 0; i < requiredProperties.size(); i += 32 ) {
+            newInstanceMethodBuilder.addStatement( "int $L = 0", requiredMaskVariable( i ) );
         }
 
         newInstanceMethodBuilder.addCode( "\n" );
@@ -345,7 +363,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             newInstanceMethodBuilder.addStatement( "$L = ($T) value", variableName, typeName( true, propertyInfo.getType() ) );
             newInstanceMethodBuilder.addStatement( "nbParamToFind--" );
             if ( propertyInfo.isRequired() ) {
-                newInstanceMethodBuilder.addStatement( "requiredProperties.remove($S)", name );
+                addMarkRequiredStatement( newInstanceMethodBuilder, requiredProperties.indexOf( name ) );
             }
             newInstanceMethodBuilder.endControlFlow();
         }
@@ -371,7 +389,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             }
             newInstanceMethodBuilder.addStatement( "nbParamToFind--" );
             if ( propertyInfo.isRequired() ) {
-                newInstanceMethodBuilder.addStatement( "requiredProperties.remove($S)", name );
+                addMarkRequiredStatement( newInstanceMethodBuilder, requiredProperties.indexOf( name ) );
             }
             newInstanceMethodBuilder.endControlFlow();
         }
@@ -394,7 +412,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                     variableName, INSTANCE_BUILDER_DESERIALIZER_PREFIX + variableName );
             newInstanceMethodBuilder.addStatement( "nbParamToFind--" );
             if ( propertyInfo.isRequired() ) {
-                newInstanceMethodBuilder.addStatement( "requiredProperties.remove($S)", name );
+                addMarkRequiredStatement( newInstanceMethodBuilder, requiredProperties.indexOf( name ) );
             }
             newInstanceMethodBuilder.addStatement( "continue" );
             newInstanceMethodBuilder.endControlFlow();
@@ -402,35 +420,57 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             newInstanceMethodBuilder.addCode( "\n" );
         }
 
-        newInstanceMethodBuilder.beginControlFlow( "if (null == bufferedProperties)" );
-        newInstanceMethodBuilder.addStatement( "bufferedProperties = new $T()",
-                ParameterizedTypeName.get( HashMap.class, String.class, String.class ) );
-        newInstanceMethodBuilder.endControlFlow();
-        newInstanceMethodBuilder.addStatement( "bufferedProperties.put(name, reader.nextValue())" );
+        // the other properties are deserialized right away and set on the bean once it is created
+        newInstanceMethodBuilder
+                .addStatement( "bufferedPropertiesValues = bufferPropertyValue(name, reader, ctx, params, bufferedPropertiesValues, "
+                        + "typeInfoPropertyName)" );
 
         newInstanceMethodBuilder.endControlFlow();
 
         newInstanceMethodBuilder.addCode( "\n" );
 
         if ( !requiredProperties.isEmpty() ) {
-            newInstanceMethodBuilder.beginControlFlow( "if (!requiredProperties.isEmpty())" );
+            List<String> conditions = new ArrayList<String>();
+            for ( int i = 0; i < requiredProperties.size(); i += 32 ) {
+                int nbProperties = Math.min( 32, requiredProperties.size() - i );
+                conditions.add( String.format( "%s != %s", requiredMaskVariable( i ), nbProperties == 32 ? "-1" : "0x" + Integer
+                        .toHexString( (1 << nbProperties) - 1 ) ) );
+            }
+            newInstanceMethodBuilder.beginControlFlow( "if ($L)", Joiner.on( " || " ).join( conditions ) );
+            newInstanceMethodBuilder.addStatement( "$T missingProperties = new $T()", ParameterizedTypeName
+                    .get( List.class, String.class ), ParameterizedTypeName.get( ArrayList.class, String.class ) );
+            for ( int i = 0; i < requiredProperties.size(); i++ ) {
+                newInstanceMethodBuilder.beginControlFlow( "if (($L & 0x$L) == 0)", requiredMaskVariable( i ), Integer
+                        .toHexString( 1 << (i & 31) ) );
+                newInstanceMethodBuilder.addStatement( "missingProperties.add($S)", requiredProperties.get( i ) );
+                newInstanceMethodBuilder.endControlFlow();
+            }
             newInstanceMethodBuilder
-                    .addStatement( "throw ctx.traceError(\"Required properties are missing : \" + requiredProperties, reader)" );
+                    .addStatement( "throw ctx.traceError(\"Required properties are missing : \" + missingProperties, reader)" );
             newInstanceMethodBuilder.endControlFlow();
             newInstanceMethodBuilder.addCode( "\n" );
         }
 
-        newInstanceMethodBuilder.addStatement( "return new $T($N($L), bufferedProperties)",
+        newInstanceMethodBuilder.addStatement( "return new $T($N($L), bufferedProperties, bufferedPropertiesValues)",
                 parameterizedName( Instance.class, beanInfo.getType() ),
                 createMethod,
                 Joiner.on( ", " ).join( propertyNameToVariable.values() ) );
     }
 
+    private String requiredMaskVariable( int requiredIndex ) {
+        return "requiredProperties_" + (requiredIndex >> 5);
+    }
+
+    private void addMarkRequiredStatement( MethodSpec.Builder newInstanceMethodBuilder, int requiredIndex ) {
+        newInstanceMethodBuilder.addStatement( "$L |= 0x$L", requiredMaskVariable( requiredIndex ), Integer
+                .toHexString( 1 << (requiredIndex & 31) ) );
+    }
+
     /**
      * Generate the instance builder class body for a constructor or factory method with delegation.
      *
      * @param newInstanceMethodBuilder builder for the
-     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map)}
+     * {@link InstanceBuilder#newInstance(JsonReader, JsonDeserializationContext, JsonDeserializerParameters, Map, Map, String)}
      * method
      * @param createMethod the create method
      */
@@ -487,6 +527,7 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         List<PropertyInfo> requiredProperties = new ArrayList<PropertyInfo>();
         Map<PropertyInfo, JDeserializerType> deserializerProperties = new LinkedHashMap<PropertyInfo, JDeserializerType>();
         List<PropertyInfo> backReferenceProperties = new ArrayList<PropertyInfo>();
+        Map<PropertyInfo, JDeserializerType> unwrappedProperties = new LinkedHashMap<PropertyInfo, JDeserializerType>();
 
         for ( PropertyInfo property : properties.values() ) {
             if ( null != beanInfo.getCreatorParameters() && beanInfo.getCreatorParameters().containsKey( property.getPropertyName() ) ) {
@@ -504,6 +545,21 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                 continue;
             }
 
+            if ( property.isUnwrapped() ) {
+                // the unwrapped bean is created when the first of its properties is found, the next ones are set on the same instance
+                if ( !property.getGetterAccessor().isPresent() || !isGetterAssignableTo( property.getGetterAccessor().get(), property
+                        .getType() ) ) {
+                    logger.log( Type.WARN, "Unwrapped property '" + property.getPropertyName() + "' has no getter and is ignored" );
+                    continue;
+                }
+                try {
+                    unwrappedProperties.put( property, getJsonDeserializerFromType( property.getType() ) );
+                } catch ( UnsupportedTypeException e ) {
+                    logger.log( Type.WARN, "Property '" + property.getPropertyName() + "' is ignored" );
+                }
+                continue;
+            }
+
             if ( !property.getBackReference().isPresent() ) {
                 try {
                     JDeserializerType deserializerType = getJsonDeserializerFromType( property.getType() );
@@ -524,6 +580,10 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             typeBuilder.addMethod( buildInitDeserializersMethod( deserializerProperties ) );
         }
 
+        if ( !unwrappedProperties.isEmpty() ) {
+            typeBuilder.addMethod( buildInitUnwrappedDeserializersMethod( unwrappedProperties ) );
+        }
+
         if ( !backReferenceProperties.isEmpty() ) {
             typeBuilder.addMethod( buildInitBackReferenceDeserializersMethod( backReferenceProperties ) );
         }
@@ -592,6 +652,28 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         return builder.build();
     }
 
+    private MethodSpec buildInitUnwrappedDeserializersMethod( Map<PropertyInfo, JDeserializerType> properties )
+            throws UnableToCompleteException {
+
+        TypeName propertyDeserializerType = ParameterizedTypeName.get( ClassName.get( BeanPropertyDeserializer.class ),
+                typeName( beanInfo.getType() ), DEFAULT_WILDCARD );
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder( "initUnwrappedDeserializers" )
+                .addModifiers( Modifier.PROTECTED )
+                .addAnnotation( Override.class )
+                .returns( ParameterizedTypeName.get( ClassName.get( List.class ), propertyDeserializerType ) )
+                .addStatement( "$T list = new $T($L)", ParameterizedTypeName.get( ClassName.get( List.class ), propertyDeserializerType ),
+                        ParameterizedTypeName.get( ClassName.get( ArrayList.class ), propertyDeserializerType ), properties.size() );
+
+        for ( Entry<PropertyInfo, JDeserializerType> entry : properties.entrySet() ) {
+            PropertyInfo property = entry.getKey();
+            builder.addStatement( "list.add($L)", buildDeserializer( property, property.getType(), entry.getValue() ) );
+        }
+
+        builder.addStatement( "return list" );
+        return builder.build();
+    }
+
     private TypeSpec buildDeserializer( PropertyInfo property, JType propertyType, JDeserializerType deserializerType )
             throws UnableToCompleteException {
         final String paramValue = "value";
@@ -628,20 +710,93 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
                 .addParameter( JsonDeserializationContext.class, "ctx" )
                 .addStatement( "$L", accessor.getAccessor() );
 
+        builder.addMethod( methodBuilder.build() );
+
         if ( property.getManagedReference().isPresent() ) {
-            methodBuilder.addStatement( "getDeserializer().setBackReference($S, $L, $L, ctx)",
-                    property.getManagedReference().get(), paramBean, paramValue );
+            builder.addMethod( MethodSpec.methodBuilder( "getManagedReference" )
+                    .addModifiers( Modifier.PROTECTED )
+                    .addAnnotation( Override.class )
+                    .returns( String.class )
+                    .addStatement( "return $S", property.getManagedReference().get() )
+                    .build() );
         }
 
-        builder.addMethod( methodBuilder.build() );
-
         if ( accessor.getAdditionalMethod().isPresent() ) {
             builder.addMethod( accessor.getAdditionalMethod().get() );
         }
 
+        if ( isPrimitiveReadDirectly( property, propertyType, deserializerType ) ) {
+            // the value is read and set without going through the deserializer to avoid boxing it. The other tokens, like null or
+            // a number written as a string, are still handled by the deserializer.
+            JPrimitiveType primitiveType = propertyType.isPrimitive();
+            String simpleName = primitiveType.getSimpleSourceName();
+            JsonToken token = JPrimitiveType.BOOLEAN == primitiveType ? JsonToken.BOOLEAN : JsonToken.NUMBER;
+
+            builder.addMethod( MethodSpec.methodBuilder( "deserialize" )
+                    .addModifiers( Modifier.PUBLIC )
+                    .addAnnotation( Override.class )
+                    .addParameter( JsonReader.class, "reader" )
+                    .addParameter( typeName( beanInfo.getType() ), paramBean )
+                    .addParameter( JsonDeserializationContext.class, "ctx" )
+                    .beginControlFlow( "if ($T.$L == reader.peek())", JsonToken.class, token.name() )
+                    .addStatement( "$T $L = reader.next$L()", typeName( primitiveType ), paramValue, Character
+                            .toUpperCase( simpleName.charAt( 0 ) ) + simpleName.substring( 1 ) )
+                    .addStatement( "$L", accessor.getAccessor() )
+                    .nextControlFlow( "else" )
+                    .addStatement( "super.deserialize(reader, $L, ctx)", paramBean )
+                    .endControlFlow()
+                    .build() );
+        }
+
+        // the current value is used to update an existing bean in place
+        if ( !property.isAnySetter() && property.getGetterAccessor().isPresent() && isGetterAssignableTo( property.getGetterAccessor()
+                .get(), propertyType ) ) {
+            Accessor getterAccessor = property.getGetterAccessor().get().getAccessor( paramBean );
+
+            builder.addMethod( MethodSpec.methodBuilder( "getValue" )
+                    .addModifiers( Modifier.PUBLIC )
+                    .addAnnotation( Override.class )
+                    .returns( rawName( true, propertyType ) )
+                    .addParameter( typeName( beanInfo.getType() ), paramBean )
+                    .addParameter( JsonDeserializationContext.class, "ctx" )
+                    .addStatement( "return $L", getterAccessor.getAccessor() )
+                    .build() );
+
+            if ( getterAccessor.getAdditionalMethod().isPresent() ) {
+                builder.addMethod( getterAccessor.getAdditionalMethod().get() );
+            }
+        }
+
         return builder.build();
     }
 
+    /**
+     * The getter may return a supertype of the deserialized type, when the property is annotated with
+     * {@code @JsonDeserialize(as=...)} for example. Its value can't be updated in that case.
+     */
+    private boolean isGetterAssignableTo( FieldAccessor getterAccessor, JType type ) {
+        List<JType> getterTypes = new ArrayList<JType>();
+        if ( getterAccessor.getMethod().isPresent() ) {
+            getterTypes.add( getterAccessor.getMethod().get().getReturnType() );
+        }
+        if ( getterAccessor.getField().isPresent() ) {
+            getterTypes.add( getterAccessor.getField().get().getType() );
+        }
+
+        for ( JType getterType : getterTypes ) {
+            if ( getterType.getErasedType().equals( type.getErasedType() ) ) {
+                continue;
+            }
+            JClassType getterClassType = getterType.isClassOrInterface();
+            JClassType classType = type.isClassOrInterface();
+            if ( null == getterClassType || null == classType || !getterClassType.getErasedType().isAssignableTo( classType
+                    .getErasedType() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private List<MethodSpec> buildCommonPropertyDeserializerMethods( PropertyInfo property )
             throws UnableToCompleteException, UnsupportedTypeException {
         return buildCommonPropertyDeserializerMethods( property, getJsonDeserializerFromType( property.getType() ) );
@@ -666,14 +821,33 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
         return result;
     }
 
+    /**
+     * Returns true if the property has a primitive type handled by its default deserializer without any parameter. Its value can be
+     * read directly with the corresponding {@link JsonReader} method.
+     */
+    private boolean isPrimitiveReadDirectly( PropertyInfo property, JType propertyType, JDeserializerType deserializerType ) {
+        if ( property.isAnySetter() || property.getManagedReference().isPresent() || hasPropertyDeserializerParameters( property ) ) {
+            return false;
+        }
+        JPrimitiveType primitiveType = propertyType.isPrimitive();
+        return null != primitiveType && PRIMITIVE_DESERIALIZERS.containsKey( primitiveType ) && isDefaultMapper( deserializerType,
+                PRIMITIVE_DESERIALIZERS.get( primitiveType ) );
+    }
+
+    private boolean hasPropertyDeserializerParameters( PropertyInfo property ) {
+        return property.getFormat().isPresent()
+                || property.getIgnoredProperties().isPresent()
+                || property.getIgnoreUnknown().isPresent()
+                || property.getIdentityInfo().isPresent()
+                || property.getTypeInfo().isPresent()
+                || property.isInternStrings()
+                || property.getExpectedSize().isPresent();
+    }
+
     private Optional<MethodSpec> buildPropertyDeserializerParameters( PropertyInfo property, JDeserializerType deserializerType )
             throws UnableToCompleteException {
 
-        if ( !property.getFormat().isPresent()
-                && !property.getIgnoredProperties().isPresent()
-                && !property.getIgnoreUnknown().isPresent()
-                && !property.getIdentityInfo().isPresent()
-                && !property.getTypeInfo().isPresent() ) {
+        if ( !hasPropertyDeserializerParameters( property ) ) {
             // none of the parameter are set so we don't generate the method
             return Optional.absent();
         }
@@ -691,6 +865,14 @@ public class BeanJsonDeserializerCreator extends AbstractBeanJsonCreator {
             paramBuilder.add( "\n.setIgnoreUnknown($L)", Boolean.toString( property.getIgnoreUnknown().get() ) );
         }
 
+        if ( property.isInternStrings() ) {
+            paramBuilder.add( "\n.setInternStrings(true)" );
+        }
+
+        if ( property.getExpectedSize().isPresent() ) {
+            paramBuilder.add( "\n.setExpectedSize($L)", property.getExpectedSize().get() );
+        }
+
         if ( property.getIdentityInfo().isPresent() ) {
             try {
                 BeanIdentityInfo identityInfo = property.getIdentityInfo().get();
@@ -28,7 +28,12 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerator;
 import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
 import com.github.nmorel.gwtjackson.client.JsonSerializer;
 import com.github.nmorel.gwtjackson.client.JsonSerializerParameters;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.DoubleJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.IntegerJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.BaseNumberJsonSerializer.LongJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.BooleanJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.RawValueJsonSerializer;
+import com.github.nmorel.gwtjackson.client.ser.StringJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.bean.AbstractBeanJsonSerializer;
 import com.github.nmorel.gwtjackson.client.ser.bean.AbstractIdentitySerializationInfo;
 import com.github.nmorel.gwtjackson.client.ser.bean.AnyGetterPropertySerializer;
@@ -52,11 +57,13 @@ import com.google.gwt.core.ext.TreeLogger;
 import com.google.gwt.core.ext.TreeLogger.Type;
 import com.google.gwt.core.ext.UnableToCompleteException;
 import com.google.gwt.core.ext.typeinfo.JClassType;
+import com.google.gwt.core.ext.typeinfo.JPrimitiveType;
 import com.google.gwt.core.ext.typeinfo.JType;
 import com.google.gwt.i18n.client.TimeZone;
 import com.google.gwt.thirdparty.guava.common.base.Optional;
 import com.google.gwt.thirdparty.guava.common.base.Strings;
 import com.google.gwt.thirdparty.guava.common.collect.ImmutableList;
+import com.google.gwt.thirdparty.guava.common.collect.ImmutableMap;
 import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
@@ -118,6 +125,9 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
                 }
                 if ( !propertiesMap.isEmpty() ) {
                     typeBuilder.addMethod( buildInitSerializersMethod( propertiesMap ) );
+                    if ( configuration.isInlineProperties( logger, beanInfo.getType() ) ) {
+                        typeBuilder.addMethod( buildSerializePropertiesInlineMethod( propertiesMap ) );
+                    }
                 }
             }
         }
@@ -145,6 +155,15 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
         }
     }
 
+    /**
+     * Default serializers of the primitive types that can be written without boxing the value
+     */
+    private static final ImmutableMap<JPrimitiveType, Class<?>> PRIMITIVE_SERIALIZERS = ImmutableMap.<JPrimitiveType, Class<?>>of(
+            JPrimitiveType.INT, IntegerJsonSerializer.class,
+            JPrimitiveType.LONG, LongJsonSerializer.class,
+            JPrimitiveType.DOUBLE, DoubleJsonSerializer.class,
+            JPrimitiveType.BOOLEAN, BooleanJsonSerializer.class );
+
     private JSerializerType getJsonSerializerFromProperty( PropertyInfo propertyInfo ) throws UnableToCompleteException {
         if ( null != propertyInfo && propertyInfo.getGetterAccessor().isPresent() && !propertyInfo.isIgnored() ) {
             if ( propertyInfo.isRawValue() ) {
@@ -190,6 +209,55 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
         return builder.build();
     }
 
+    /**
+     * Builds the method serializing all the properties. The primitive and {@link String} properties are written directly, the others
+     * are delegated to their property serializer at the same index in the array built by
+     * {@link #buildInitSerializersMethod(Map)}.
+     */
+    private MethodSpec buildSerializePropertiesInlineMethod( Map<PropertyInfo, JSerializerType> properties ) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder( "serializePropertiesInline" )
+                .addModifiers( Modifier.PROTECTED )
+                .addAnnotation( Override.class )
+                .returns( boolean.class )
+                .addParameter( JsonWriter.class, "writer" )
+                .addParameter( typeName( beanInfo.getType() ), "bean" )
+                .addParameter( JsonSerializationContext.class, "ctx" );
+
+        int i = 0;
+        for ( Entry<PropertyInfo, JSerializerType> entry : properties.entrySet() ) {
+            PropertyInfo property = entry.getKey();
+            String propertyName = property.getPropertyName();
+            String nameMethod = propertyName.equals( escapeString( propertyName ) ) ? "unescapeName" : "name";
+            Accessor getterAccessor = property.getGetterAccessor().get().getAccessor( "bean" );
+
+            if ( getterAccessor.getAdditionalMethod().isPresent() ) {
+                // the value is only accessible with JSNI, the method is generated in the property serializer
+                builder.addStatement( "serializers[$L].serializePropertyName(writer, bean, ctx)", i );
+                builder.addStatement( "serializers[$L].serialize(writer, bean, ctx)", i );
+            } else if ( isPrimitiveWrittenDirectly( property, entry.getValue() ) ) {
+                builder.addStatement( "writer.$L($S)", nameMethod, propertyName );
+                builder.addStatement( "writer.value($L)", getterAccessor.getAccessor() );
+            } else if ( isStringWrittenDirectly( property, entry.getValue() ) ) {
+                String variable = "value" + i;
+                builder.addStatement( "$T $L = $L", String.class, variable, getterAccessor.getAccessor() )
+                        .beginControlFlow( "if (null != $L)", variable )
+                        .addStatement( "writer.$L($S)", nameMethod, propertyName )
+                        .addStatement( "writer.value($L)", variable )
+                        .nextControlFlow( "else if (ctx.isSerializeNulls())" )
+                        .addStatement( "writer.$L($S)", nameMethod, propertyName )
+                        .addStatement( "writer.nullValue()" )
+                        .endControlFlow();
+            } else {
+                builder.addStatement( "serializers[$L].serializePropertyName(writer, bean, ctx)", i );
+                builder.addStatement( "serializers[$L].serialize(writer, bean, ctx)", i );
+            }
+            i++;
+        }
+
+        builder.addStatement( "return true" );
+        return builder.build();
+    }
+
     private MethodSpec buildInitAnyGetterPropertySerializerMethod( PropertyInfo anyGetterPropertyInfo )
             throws UnableToCompleteException {
         return MethodSpec.methodBuilder( "initAnyGetterPropertySerializer" )
@@ -217,6 +285,18 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
 
         buildBeanPropertySerializerBody( builder, beanInfo.getType(), property, serializerType );
 
+        if ( isPrimitiveWrittenDirectly( property, serializerType ) ) {
+            // the value is written without going through the serializer to avoid boxing it
+            builder.addMethod( MethodSpec.methodBuilder( "serialize" )
+                    .addModifiers( Modifier.PUBLIC )
+                    .addAnnotation( Override.class )
+                    .addParameter( JsonWriter.class, "writer" )
+                    .addParameter( typeName( beanInfo.getType() ), "bean" )
+                    .addParameter( JsonSerializationContext.class, "ctx" )
+                    .addStatement( "writer.value($L)", property.getGetterAccessor().get().getAccessor( "bean" ).getAccessor() )
+                    .build() );
+        }
+
         boolean requireEscaping = !property.getPropertyName().equals( escapedPropertyName );
         if ( property.isUnwrapped() || requireEscaping ) {
             MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder( "serializePropertyName" )
@@ -403,16 +483,42 @@ public class BeanJsonSerializerCreator extends AbstractBeanJsonCreator {
         }
     }
 
+    /**
+     * Returns true if the property has a primitive type handled by its default serializer without any parameter. Its value can be
+     * written directly with the corresponding {@link JsonWriter} method.
+     */
+    private boolean isPrimitiveWrittenDirectly( PropertyInfo property, JSerializerType serializerType ) {
+        if ( property.isAnyGetter() || property.isRawValue() || hasPropertySerializerParameters( property ) ) {
+            return false;
+        }
+        JPrimitiveType primitiveType = property.getType().isPrimitive();
+        return null != primitiveType && PRIMITIVE_SERIALIZERS.containsKey( primitiveType ) && isDefaultMapper( serializerType,
+                PRIMITIVE_SERIALIZERS.get( primitiveType ) );
+    }
+
+    /**
+     * Returns true if the property is a {@link String} handled by its default serializer without any parameter.
+     */
+    private boolean isStringWrittenDirectly( PropertyInfo property, JSerializerType serializerType ) {
+        return !property.isAnyGetter() && !property.isRawValue() && !hasPropertySerializerParameters( property )
+                && String.class.getName().equals( property.getType().getQualifiedSourceName() )
+                && isDefaultMapper( serializerType, StringJsonSerializer.class );
+    }
+
+    private boolean hasPropertySerializerParameters( PropertyInfo property ) {
+        return property.getFormat().isPresent()
+                || property.getIgnoredProperties().isPresent()
+                || property.getIgnoreUnknown().isPresent()
+                || property.getIdentityInfo().isPresent()
+                || property.getTypeInfo().isPresent()
+                || property.getInclude().isPresent()
+                || property.isUnwrapped();
+    }
+
     private Optional<MethodSpec> generatePropertySerializerParameters( PropertyInfo property, JSerializerType serializerType )
             throws UnableToCompleteException {
 
-        if ( !property.getFormat().isPresent()
-                && !property.getIgnoredProperties().isPresent()
-                && !property.getIgnoreUnknown().isPresent()
-                && !property.getIdentityInfo().isPresent()
-                && !property.getTypeInfo().isPresent()
-                && !property.getInclude().isPresent()
-                && !property.isUnwrapped() ) {
+        if ( !hasPropertySerializerParameters( property ) ) {
             // none of the parameter are set so we don't generate the method
             return Optional.absent();
         }
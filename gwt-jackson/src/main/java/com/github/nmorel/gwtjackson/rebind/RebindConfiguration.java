@@ -183,6 +183,8 @@ public final class RebindConfiguration {
 
     private final TypeFilter additionalSupportedTypes;
 
+    private final TypeFilter inlinedTypes;
+
     private final JsonAutoDetect.Visibility defaultFieldVisibility;
 
     private final JsonAutoDetect.Visibility defaultGetterVisibility;
@@ -216,6 +218,7 @@ public final class RebindConfiguration {
         Builder<JClassType> allSupportedSerializationClassBuilder = ImmutableSet.builder();
         Builder<JClassType> allSupportedDeserializationClassBuilder = ImmutableSet.builder();
         List<String> whitelist = new ArrayList<String>();
+        List<String> inlinedTypesList = new ArrayList<String>();
 
         JsonAutoDetect.Visibility fieldVisibility = JsonAutoDetect.Visibility.DEFAULT;
         JsonAutoDetect.Visibility getterVisibility = JsonAutoDetect.Visibility.DEFAULT;
@@ -229,6 +232,7 @@ public final class RebindConfiguration {
             }
             addMixInAnnotations( configuration.getMapMixInAnnotations(), rootMapperClass.getAnnotation( JsonMixIns.class ) );
             whitelist.addAll( configuration.getWhitelist() );
+            inlinedTypesList.addAll( configuration.getInlinedTypes() );
 
             fieldVisibility = configuration.getFieldVisibility();
             getterVisibility = configuration.getGetterVisibility();
@@ -240,6 +244,7 @@ public final class RebindConfiguration {
         this.allSupportedSerializationClass = allSupportedSerializationClassBuilder.build();
         this.allSupportedDeserializationClass = allSupportedDeserializationClassBuilder.build();
         this.additionalSupportedTypes = new TypeFilter( logger, whitelist );
+        this.inlinedTypes = new TypeFilter( logger, inlinedTypesList );
 
         this.defaultFieldVisibility = fieldVisibility;
         this.defaultGetterVisibility = getterVisibility;
@@ -602,6 +607,17 @@ public final class RebindConfiguration {
         return specificTypes.contains( beanType );
     }
 
+    /**
+     * <p>isInlineProperties</p>
+     *
+     * @param logger a {@link com.google.gwt.core.ext.TreeLogger} object.
+     * @param beanType type
+     * @return true if the properties of beanType are serialized by a single generated method
+     */
+    public boolean isInlineProperties( TreeLogger logger, JClassType beanType ) {
+        return inlinedTypes.isIncluded( logger, beanType.getQualifiedSourceName() );
+    }
+
     /**
      * <p>isTypeSupportedForSerialization</p>
      *
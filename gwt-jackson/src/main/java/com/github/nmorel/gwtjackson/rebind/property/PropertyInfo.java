@@ -69,13 +69,18 @@ public final class PropertyInfo {
 
     private final Optional<String[]> ignoredProperties;
 
+    private final boolean internStrings;
+
+    private final Optional<Integer> expectedSize;
+
     PropertyInfo( String propertyName, JType type, boolean ignored, boolean required, boolean rawValue, boolean value, boolean
             anyGetter, boolean anySetter, boolean unwrapped, Optional<String> managedReference, Optional<String> backReference,
                   Optional<? extends
                           FieldAccessor> getterAccessor, Optional<? extends FieldAccessor> setterAccessor, Optional<BeanIdentityInfo>
             identityInfo,
                   Optional<BeanTypeInfo> typeInfo, Optional<JsonFormat> format, Optional<Include> include, Optional<Boolean>
-                          ignoreUnknown, Optional<String[]> ignoredProperties ) {
+                          ignoreUnknown, Optional<String[]> ignoredProperties, boolean internStrings,
+                  Optional<Integer> expectedSize ) {
         this.propertyName = propertyName;
         this.type = type;
         this.ignored = ignored;
@@ -95,6 +100,8 @@ public final class PropertyInfo {
         this.include = include;
         this.ignoreUnknown = ignoreUnknown;
         this.ignoredProperties = ignoredProperties;
+        this.internStrings = internStrings;
+        this.expectedSize = expectedSize;
     }
 
     /**
@@ -267,4 +274,22 @@ public final class PropertyInfo {
     public Optional<String[]> getIgnoredProperties() {
         return ignoredProperties;
     }
+
+    /**
+     * <p>isInternStrings</p>
+     *
+     * @return a boolean.
+     */
+    public boolean isInternStrings() {
+        return internStrings;
+    }
+
+    /**
+     * <p>Getter for the field <code>expectedSize</code>.</p>
+     *
+     * @return a {@link com.google.gwt.thirdparty.guava.common.base.Optional} object.
+     */
+    public Optional<Integer> getExpectedSize() {
+        return expectedSize;
+    }
 }
@@ -66,6 +66,10 @@ final class PropertyInfoBuilder {
 
     private Optional<String[]> ignoredProperties = Optional.absent();
 
+    private boolean internStrings = false;
+
+    private Optional<Integer> expectedSize = Optional.absent();
+
     PropertyInfoBuilder( String propertyName, JType type ) {
         this.propertyName = propertyName;
         this.type = type;
@@ -215,9 +219,25 @@ final class PropertyInfoBuilder {
         this.ignoredProperties = ignoredProperties;
     }
 
+    boolean isInternStrings() {
+        return internStrings;
+    }
+
+    void setInternStrings( boolean internStrings ) {
+        this.internStrings = internStrings;
+    }
+
+    Optional<Integer> getExpectedSize() {
+        return expectedSize;
+    }
+
+    void setExpectedSize( Optional<Integer> expectedSize ) {
+        this.expectedSize = expectedSize;
+    }
+
     PropertyInfo build() {
         return new PropertyInfo( propertyName, type, ignored, required, rawValue, value, anyGetter, anySetter, unwrapped,
                 managedReference, backReference, getterAccessor, setterAccessor, identityInfo, typeInfo, format, include, ignoreUnknown,
-                ignoredProperties );
+                ignoredProperties, internStrings, expectedSize );
     }
 }
@@ -43,6 +43,8 @@ import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.github.nmorel.gwtjackson.client.annotation.JsonExpectedSize;
+import com.github.nmorel.gwtjackson.client.annotation.JsonInternStrings;
 import com.github.nmorel.gwtjackson.rebind.JacksonTypeOracle;
 import com.github.nmorel.gwtjackson.rebind.RebindConfiguration;
 import com.github.nmorel.gwtjackson.rebind.bean.BeanInfo;
@@ -254,6 +256,13 @@ public final class PropertyProcessor {
             builder.setUnwrapped( true );
         }
 
+        builder.setInternStrings( propertyAccessors.getAnnotation( JsonInternStrings.class ).isPresent() );
+
+        Optional<JsonExpectedSize> jsonExpectedSize = propertyAccessors.getAnnotation( JsonExpectedSize.class );
+        if ( jsonExpectedSize.isPresent() && jsonExpectedSize.get().value() > 0 ) {
+            builder.setExpectedSize( Optional.of( jsonExpectedSize.get().value() ) );
+        }
+
         processBeanAnnotation( logger, typeOracle, configuration, type, propertyAccessors, builder );
 
         builder.setFormat( propertyAccessors.getAnnotation( JsonFormat.class ) );
@@ -45,6 +45,7 @@ import com.github.nmorel.gwtjackson.client.annotation.JsonAnyGetterSetterGwtTest
 import com.github.nmorel.gwtjackson.client.annotation.JsonAutoDetectGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonCreatorGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonDeserializeBuilderGwtTest;
+import com.github.nmorel.gwtjackson.client.annotation.JsonExpectedSizeGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonFormatGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonIgnoreGwtTest;
 import com.github.nmorel.gwtjackson.client.annotation.JsonIgnoreTypeGwtTest;
@@ -63,6 +64,8 @@ import com.github.nmorel.gwtjackson.client.deser.VoidJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.array.ArrayJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.array.ByteArray2dJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.array.ByteArrayJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.array.DoubleArrayJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.array.IntegerArrayJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.CollectionJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.IterableJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.collection.ListJsonDeserializerTest;
@@ -104,9 +107,15 @@ import com.github.nmorel.gwtjackson.client.mapper.CustomIterableGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.EnumMapperGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.ErrorGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.IgnoreStaticGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.InlinePropertiesGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.MappingListenerGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.PrimitivePropertyGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.PropertyNamingGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.ReadIntoGwtTest;
+import com.github.nmorel.gwtjackson.client.mapper.RequiredPropertiesGwtTest;
 import com.github.nmorel.gwtjackson.client.mapper.SimpleBeanObjectReaderTest;
 import com.github.nmorel.gwtjackson.client.mapper.SimpleBeanObjectWriterTest;
+import com.github.nmorel.gwtjackson.client.mapper.WritePatchGwtTest;
 import com.github.nmorel.gwtjackson.client.mixins.MixinDeserForClassGwtTest;
 import com.github.nmorel.gwtjackson.client.mixins.MixinDeserForCreatorsGwtTest;
 import com.github.nmorel.gwtjackson.client.mixins.MixinInheritanceGwtTest;
@@ -115,6 +124,9 @@ import com.github.nmorel.gwtjackson.client.mixins.MixinSerForMethodsGwtTest;
 import com.github.nmorel.gwtjackson.client.options.CharArrayOptionGwtTest;
 import com.github.nmorel.gwtjackson.client.options.DateOptionsGwtTest;
 import com.github.nmorel.gwtjackson.client.options.IndentGwtTest;
+import com.github.nmorel.gwtjackson.client.options.CborOptionGwtTest;
+import com.github.nmorel.gwtjackson.client.options.InternStringsOptionGwtTest;
+import com.github.nmorel.gwtjackson.client.options.OrderMapEntriesByKeysOptionGwtTest;
 import com.github.nmorel.gwtjackson.client.options.SingleArrayOptionGwtTest;
 import com.github.nmorel.gwtjackson.client.options.WriteEmptyJsonArraysOptionGwtTest;
 import com.github.nmorel.gwtjackson.client.options.WriteNullMapValuesOptionGwtTest;
@@ -160,10 +172,16 @@ import com.github.nmorel.gwtjackson.client.ser.number.FloatJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.number.IntegerJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.number.LongJsonSerializerTest;
 import com.github.nmorel.gwtjackson.client.ser.number.ShortJsonSerializerTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.CborJsonTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.DefaultJsonReaderTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.DefaultJsonWriterTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.FastJsonWriterTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.IntArrayTest;
 import com.github.nmorel.gwtjackson.client.stream.impl.NonBufferedJsonReaderTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.NumberCodecTest;
+import com.github.nmorel.gwtjackson.client.stream.impl.StringArrayTest;
+import com.github.nmorel.gwtjackson.client.tree.JsonNodeTest;
+import com.github.nmorel.gwtjackson.client.tree.NativeJsonNodeTest;
 import com.google.gwt.junit.tools.GWTTestSuite;
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -181,6 +199,14 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( NonBufferedJsonReaderTest.class );
         suite.addTestSuite( DefaultJsonWriterTest.class );
         suite.addTestSuite( FastJsonWriterTest.class );
+        suite.addTestSuite( CborJsonTest.class );
+        suite.addTestSuite( NumberCodecTest.class );
+        suite.addTestSuite( IntArrayTest.class );
+        suite.addTestSuite( StringArrayTest.class );
+
+        // Tree
+        suite.addTestSuite( JsonNodeTest.class );
+        suite.addTestSuite( NativeJsonNodeTest.class );
 
         // Default json serializers
         suite.addTestSuite( ArrayJsonSerializerTest.class );
@@ -231,6 +257,8 @@ public class GwtJacksonTestSuite extends TestCase {
         // Default deserializers
         suite.addTestSuite( ArrayJsonDeserializerTest.class );
         suite.addTestSuite( ByteArrayJsonDeserializerTest.class );
+        suite.addTestSuite( IntegerArrayJsonDeserializerTest.class );
+        suite.addTestSuite( DoubleArrayJsonDeserializerTest.class );
         suite.addTestSuite( ByteArray2dJsonDeserializerTest.class );
         suite.addTestSuite( BigDecimalJsonDeserializerTest.class );
         suite.addTestSuite( BigIntegerJsonDeserializerTest.class );
@@ -281,8 +309,14 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( AllMapsObjectMapperTest.class );
         suite.addTestSuite( CommonJsonMapperTest.class );
         suite.addTestSuite( IgnoreStaticGwtTest.class );
+        suite.addTestSuite( InlinePropertiesGwtTest.class );
+        suite.addTestSuite( MappingListenerGwtTest.class );
+        suite.addTestSuite( PrimitivePropertyGwtTest.class );
         suite.addTestSuite( CustomIterableGwtTest.class );
         suite.addTestSuite( PropertyNamingGwtTest.class );
+        suite.addTestSuite( ReadIntoGwtTest.class );
+        suite.addTestSuite( RequiredPropertiesGwtTest.class );
+        suite.addTestSuite( WritePatchGwtTest.class );
         suite.addTestSuite( ErrorGwtTest.class );
         suite.addTestSuite( AutoDetectionGwtTest.class );
         suite.addTestSuite( EnumMapperGwtTest.class );
@@ -296,6 +330,7 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( JsonManagedAndBackReferenceGwtTest.class );
         suite.addTestSuite( JsonRootNameGwtTest.class );
         suite.addTestSuite( JsonRawValueGwtTest.class );
+        suite.addTestSuite( JsonExpectedSizeGwtTest.class );
         suite.addTestSuite( JsonFormatGwtTest.class );
         suite.addTestSuite( JsonAnyGetterSetterGwtTest.class );
         suite.addTestSuite( JsonUnwrappedGwtTest.class );
@@ -339,8 +374,11 @@ public class GwtJacksonTestSuite extends TestCase {
         suite.addTestSuite( DateOptionsGwtTest.class );
         suite.addTestSuite( CharArrayOptionGwtTest.class );
         suite.addTestSuite( WriteNullMapValuesOptionGwtTest.class );
+        suite.addTestSuite( OrderMapEntriesByKeysOptionGwtTest.class );
         suite.addTestSuite( WriteEmptyJsonArraysOptionGwtTest.class );
         suite.addTestSuite( SingleArrayOptionGwtTest.class );
+        suite.addTestSuite( InternStringsOptionGwtTest.class );
+        suite.addTestSuite( CborOptionGwtTest.class );
 
         // Mix-in
         suite.addTestSuite( MixinDeserForClassGwtTest.class );
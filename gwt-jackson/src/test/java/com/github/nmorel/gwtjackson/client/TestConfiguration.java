@@ -36,6 +36,10 @@ public class TestConfiguration extends AbstractConfiguration {
         whitelist( "com.github.nmorel.gwtjackson.shared.advanced.ObjectTester.InnerObject" );
         whitelist( "com.github.nmorel.gwtjackson.shared.advanced.ObjectTester.Person" );
 
+        // inlined properties tests
+        inlineProperties( "com\\.github\\.nmorel\\.gwtjackson\\.client\\.mapper\\.InlinePropertiesGwtTest\\..*" );
+        inlineProperties( "com\\.github\\.nmorel\\.gwtjackson\\.shared\\.model\\.SimpleBean" );
+
         // visibility
         setterVisibility( Visibility.PUBLIC_ONLY ).creatorVisibility( Visibility.ANY );
     }
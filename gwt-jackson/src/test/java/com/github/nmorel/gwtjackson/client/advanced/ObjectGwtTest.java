@@ -18,8 +18,11 @@ package com.github.nmorel.gwtjackson.client.advanced;
 
 import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
 import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.shared.ObjectReaderTester;
 import com.github.nmorel.gwtjackson.shared.ObjectMapperTester;
 import com.github.nmorel.gwtjackson.shared.advanced.ObjectTester;
+import com.github.nmorel.gwtjackson.shared.advanced.ObjectTester.AttributesBean;
 import com.github.nmorel.gwtjackson.shared.advanced.ObjectTester.ObjectWrapper;
 import com.google.gwt.core.client.GWT;
 
@@ -33,6 +36,11 @@ public class ObjectGwtTest extends GwtJacksonTestCase {
         static ObjectWrapperMapper INSTANCE = GWT.create( ObjectWrapperMapper.class );
     }
 
+    public interface AttributesBeanReader extends ObjectReader<AttributesBean>, ObjectReaderTester<AttributesBean> {
+
+        static AttributesBeanReader INSTANCE = GWT.create( AttributesBeanReader.class );
+    }
+
     private ObjectTester tester = ObjectTester.INSTANCE;
 
     public void testSerializeObject() {
@@ -43,4 +51,8 @@ public class ObjectGwtTest extends GwtJacksonTestCase {
         tester.testDeserializeObject( ObjectWrapperMapper.INSTANCE );
     }
 
+    public void testDeserializeNestedUntyped() {
+        tester.testDeserializeNestedUntyped( AttributesBeanReader.INSTANCE );
+    }
+
 }
@@ -16,12 +16,18 @@
 
 package com.github.nmorel.gwtjackson.client.advanced.jsontype;
 
+import com.github.nmorel.gwtjackson.client.AbstractObjectMapper;
 import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
 import com.github.nmorel.gwtjackson.shared.ObjectMapperTester;
+import com.github.nmorel.gwtjackson.shared.ObjectReaderTester;
 import com.github.nmorel.gwtjackson.shared.advanced.jsontype.PolymorphismIdClassAsPropertyTester;
 import com.github.nmorel.gwtjackson.shared.advanced.jsontype.PolymorphismIdClassAsPropertyTester.Person;
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
 
 /**
  * @author Nicolas Morel
@@ -33,6 +39,128 @@ public class PolymorphismIdClassAsPropertyGwtTest extends GwtJacksonTestCase {
         static PolymorphismMapper INSTANCE = GWT.create( PolymorphismMapper.class );
     }
 
+    /**
+     * Reader that cannot scan ahead, like a third-party implementation of {@link JsonReader}.
+     */
+    private static class NonScanningJsonReader implements JsonReader {
+
+        private final JsonReader reader;
+
+        private NonScanningJsonReader( JsonReader reader ) {
+            this.reader = reader;
+        }
+
+        @Override
+        public void setLenient( boolean lenient ) {
+            reader.setLenient( lenient );
+        }
+
+        @Override
+        public void beginArray() {
+            reader.beginArray();
+        }
+
+        @Override
+        public void endArray() {
+            reader.endArray();
+        }
+
+        @Override
+        public void beginObject() {
+            reader.beginObject();
+        }
+
+        @Override
+        public void endObject() {
+            reader.endObject();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return reader.hasNext();
+        }
+
+        @Override
+        public JsonToken peek() {
+            return reader.peek();
+        }
+
+        @Override
+        public String nextName() {
+            return reader.nextName();
+        }
+
+        @Override
+        public String nextString() {
+            return reader.nextString();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return reader.nextBoolean();
+        }
+
+        @Override
+        public void nextNull() {
+            reader.nextNull();
+        }
+
+        @Override
+        public double nextDouble() {
+            return reader.nextDouble();
+        }
+
+        @Override
+        public long nextLong() {
+            return reader.nextLong();
+        }
+
+        @Override
+        public int nextInt() {
+            return reader.nextInt();
+        }
+
+        @Override
+        public void close() {
+            reader.close();
+        }
+
+        @Override
+        public void skipValue() {
+            reader.skipValue();
+        }
+
+        @Override
+        public String nextValue() {
+            return reader.nextValue();
+        }
+
+        @Override
+        public int getLineNumber() {
+            return reader.getLineNumber();
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return reader.getColumnNumber();
+        }
+
+        @Override
+        public String getInput() {
+            return reader.getInput();
+        }
+
+        @Override
+        public Number nextNumber() {
+            return reader.nextNumber();
+        }
+
+        @Override
+        public JavaScriptObject nextJavaScriptObject( boolean useSafeEval ) {
+            return reader.nextJavaScriptObject( useSafeEval );
+        }
+    }
+
     private PolymorphismIdClassAsPropertyTester tester = PolymorphismIdClassAsPropertyTester.INSTANCE;
 
     public void testSerialize() {
@@ -42,4 +170,20 @@ public class PolymorphismIdClassAsPropertyGwtTest extends GwtJacksonTestCase {
     public void testDeserialize() {
         tester.testDeserialize( PolymorphismMapper.INSTANCE );
     }
+
+    public void testDeserializeTypeNotFirst() {
+        tester.testDeserializeTypeNotFirst( PolymorphismMapper.INSTANCE );
+    }
+
+    public void testDeserializeTypeNotFirstWithoutScanner() {
+        // the properties placed before the type are buffered when the reader cannot scan ahead
+        tester.testDeserializeTypeNotFirst( new ObjectReaderTester<Person[]>() {
+            @Override
+            public Person[] read( String input ) {
+                JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+                return ((AbstractObjectMapper<Person[]>) PolymorphismMapper.INSTANCE).getDeserializer()
+                        .deserialize( new NonScanningJsonReader( ctx.newJsonReader( input ) ), ctx );
+            }
+        } );
+    }
 }
@@ -18,8 +18,11 @@ package com.github.nmorel.gwtjackson.client.advanced.jsontype;
 
 import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
 import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
 import com.github.nmorel.gwtjackson.shared.ObjectMapperTester;
+import com.github.nmorel.gwtjackson.shared.ObjectReaderTester;
 import com.github.nmorel.gwtjackson.shared.advanced.jsontype.PolymorphismIdNameAsWrapperObjectTester;
+import com.github.nmorel.gwtjackson.shared.advanced.jsontype.PolymorphismIdNameAsWrapperObjectTester.Animal;
 import com.github.nmorel.gwtjackson.shared.advanced.jsontype.PolymorphismIdNameAsWrapperObjectTester.Person;
 import com.google.gwt.core.client.GWT;
 
@@ -33,6 +36,11 @@ public class PolymorphismIdNameAsWrapperObjectGwtTest extends GwtJacksonTestCase
         static PolymorphismMapper INSTANCE = GWT.create( PolymorphismMapper.class );
     }
 
+    public interface AnimalReader extends ObjectReader<Animal>, ObjectReaderTester<Animal> {
+
+        static AnimalReader INSTANCE = GWT.create( AnimalReader.class );
+    }
+
     private PolymorphismIdNameAsWrapperObjectTester tester = PolymorphismIdNameAsWrapperObjectTester.INSTANCE;
 
     public void testSerialize() {
@@ -42,4 +50,12 @@ public class PolymorphismIdNameAsWrapperObjectGwtTest extends GwtJacksonTestCase
     public void testDeserialize() {
         tester.testDeserialize( PolymorphismMapper.INSTANCE );
     }
+
+    public void testDeserializePropertyWithTypePropertyName() {
+        tester.testDeserializePropertyWithTypePropertyName( AnimalReader.INSTANCE );
+    }
+
+    public void testDeserializeCreatorPropertyWithTypePropertyName() {
+        tester.testDeserializeCreatorPropertyWithTypePropertyName( AnimalReader.INSTANCE );
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.annotation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.deser.map.LinkedHashMapJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.map.key.StringKeyDeserializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsonExpectedSizeGwtTest extends GwtJacksonTestCase {
+
+    public interface BeanReader extends ObjectReader<Bean> {
+
+        static BeanReader INSTANCE = GWT.create( BeanReader.class );
+    }
+
+    static class Bean {
+
+        @JsonExpectedSize( 2 )
+        public List<Integer> values;
+
+        private Set<String> tags;
+
+        public Set<String> getTags() {
+            return tags;
+        }
+
+        @JsonExpectedSize( 50 )
+        public void setTags( Set<String> tags ) {
+            this.tags = tags;
+        }
+
+        @JsonExpectedSize( 100 )
+        public Map<String, Integer> counts;
+
+        @JsonExpectedSize( 1000 )
+        public List<List<Integer>> matrix;
+
+        @JsonExpectedSize( 1000 )
+        public Map<String, List<Integer>> groups;
+    }
+
+    /**
+     * Records the expected size given to each value.
+     */
+    static class SizeRecordingDeserializer extends JsonDeserializer<Integer> {
+
+        private final List<Integer> expectedSizes = new ArrayList<Integer>();
+
+        @Override
+        protected Integer doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+            expectedSizes.add( params.getExpectedSize() );
+            return reader.nextInt();
+        }
+    }
+
+    public void testDeserialize() {
+        Bean bean = BeanReader.INSTANCE.read( "{\"values\":[1,2,3,4],\"tags\":[\"a\",\"b\"]}" );
+        assertEquals( Arrays.asList( 1, 2, 3, 4 ), bean.values );
+        assertEquals( new HashSet<String>( Arrays.asList( "a", "b" ) ), bean.getTags() );
+    }
+
+    public void testDeserializeNested() {
+        Bean bean = BeanReader.INSTANCE.read( "{\"matrix\":[[1,2],[],[3]]}" );
+        assertEquals( Arrays.asList( Arrays.asList( 1, 2 ), Arrays.<Integer>asList(), Arrays.asList( 3 ) ), bean.matrix );
+    }
+
+    public void testDeserializeMap() {
+        Bean bean = BeanReader.INSTANCE.read( "{\"counts\":{\"b\":2,\"a\":1,\"c\":3}}" );
+
+        Map<String, Integer> expected = new LinkedHashMap<String, Integer>();
+        expected.put( "b", 2 );
+        expected.put( "a", 1 );
+        expected.put( "c", 3 );
+        assertEquals( expected, bean.counts );
+        assertEquals( Arrays.asList( "b", "a", "c" ), Arrays.asList( bean.counts.keySet().toArray() ) );
+    }
+
+    public void testDeserializeNestedMap() {
+        Bean bean = BeanReader.INSTANCE.read( "{\"groups\":{\"a\":[1,2],\"b\":[]}}" );
+        assertEquals( Arrays.asList( 1, 2 ), bean.groups.get( "a" ) );
+        assertTrue( bean.groups.get( "b" ).isEmpty() );
+    }
+
+    public void testExpectedSizeIsNotPassedToMapValues() {
+        SizeRecordingDeserializer valueDeserializer = new SizeRecordingDeserializer();
+        LinkedHashMapJsonDeserializer<String, Integer> deserializer = LinkedHashMapJsonDeserializer.newInstance( StringKeyDeserializer
+                .getInstance(), valueDeserializer );
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+        JsonDeserializerParameters params = new JsonDeserializerParameters().setExpectedSize( 100 );
+
+        LinkedHashMap<String, Integer> map = deserializer.deserialize( ctx.newJsonReader( "{\"a\":1,\"b\":2}" ), ctx, params );
+        assertEquals( 2, map.size() );
+        assertEquals( Arrays.asList( 0, 0 ), valueDeserializer.expectedSizes );
+
+        deserializer.deserializeInto( ctx.newJsonReader( "{\"a\":3}" ), map, ctx, params );
+        assertEquals( Integer.valueOf( 3 ), map.get( "a" ) );
+        assertEquals( Arrays.asList( 0, 0, 0 ), valueDeserializer.expectedSizes );
+    }
+}
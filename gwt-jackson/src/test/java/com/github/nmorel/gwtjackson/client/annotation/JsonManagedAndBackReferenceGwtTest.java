@@ -26,6 +26,7 @@ import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferen
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.NodeArray;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.NodeList;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.NodeMap;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.Owner;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.Parent;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.SimpleTreeNode;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.SimpleTreeNode2;
@@ -81,6 +82,11 @@ public class JsonManagedAndBackReferenceGwtTest extends GwtJacksonTestCase {
         static Advertisement708Mapper INSTANCE = GWT.create( Advertisement708Mapper.class );
     }
 
+    public interface OwnerMapper extends ObjectMapper<Owner>, ObjectMapperTester<Owner> {
+
+        static OwnerMapper INSTANCE = GWT.create( OwnerMapper.class );
+    }
+
     private final JsonManagedAndBackReferenceTester tester = JsonManagedAndBackReferenceTester.INSTANCE;
 
     public void testBackReferenceWithoutManaged() {
@@ -122,4 +128,8 @@ public class JsonManagedAndBackReferenceGwtTest extends GwtJacksonTestCase {
     public void testIssue708() {
         tester.testIssue708( Advertisement708Mapper.INSTANCE );
     }
+
+    public void testNestedBeanWithoutBackReference() {
+        tester.testNestedBeanWithoutBackReference( OwnerMapper.INSTANCE );
+    }
 }
@@ -23,6 +23,7 @@ import com.github.nmorel.gwtjackson.shared.ObjectReaderTester;
 import com.github.nmorel.gwtjackson.shared.ObjectWriterTester;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonUnwrappedTester;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonUnwrappedTester.BeanWrapper;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonUnwrappedTester.Person;
 import com.google.gwt.core.client.GWT;
 
 /**
@@ -40,14 +41,22 @@ public class JsonUnwrappedGwtTest extends GwtJacksonTestCase {
         static BeanWrapperReader INSTANCE = GWT.create( BeanWrapperReader.class );
     }
 
+    public interface PersonReader extends ObjectReader<Person>, ObjectReaderTester<Person> {
+
+        static PersonReader INSTANCE = GWT.create( PersonReader.class );
+    }
+
     private JsonUnwrappedTester tester = JsonUnwrappedTester.INSTANCE;
 
     public void testSerialize() {
         tester.testSerialize( BeanWrapperWriter.INSTANCE );
     }
 
-    // TODO Implements @JsonUnwrapped deserialization
-    //    public void testDeserialize() {
-    //        tester.testDeserialize( BeanWrapperReader.INSTANCE );
-    //    }
+    public void testDeserialize() {
+        tester.testDeserialize( BeanWrapperReader.INSTANCE );
+    }
+
+    public void testDeserializeNested() {
+        tester.testDeserializeNested( PersonReader.INSTANCE );
+    }
 }
@@ -16,9 +16,12 @@
 
 package com.github.nmorel.gwtjackson.client.deser;
 
+import java.util.EnumSet;
+
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.EnumJsonDeserializerTest.EnumTest;
+import com.github.nmorel.gwtjackson.client.deser.collection.EnumSetJsonDeserializer;
 
 /**
  * @author Nicolas Morel
@@ -47,4 +50,11 @@ public class EnumJsonDeserializerTest extends AbstractJsonDeserializerTest<EnumT
         }
         assertDeserialization( JsonDeserializationContext.builder().readUnknownEnumValuesAsNull( true ).build(), null, "\"UNKNOWN\"" );
     }
+
+    public void testDeserializeUnknownValueInEnumSet() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().readUnknownEnumValuesAsNull( true ).build();
+        EnumSet<EnumTest> result = EnumSetJsonDeserializer.newInstance( EnumJsonDeserializer.newInstance( EnumTest.class ) )
+                .deserialize( ctx.newJsonReader( "[\"ONE\",\"UNKNOWN\",\"THREE\"]" ), ctx );
+        assertEquals( EnumSet.of( EnumTest.ONE, EnumTest.THREE ), result );
+    }
 }
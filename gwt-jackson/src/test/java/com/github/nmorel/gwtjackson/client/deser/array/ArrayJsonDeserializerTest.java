@@ -16,12 +16,17 @@
 
 package com.github.nmorel.gwtjackson.client.deser.array;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.StringJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.array.ArrayJsonDeserializer.ArrayCreator;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 
 /**
  * @author Nicolas Morel
@@ -45,4 +50,26 @@ public class ArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<Stri
         assertTrue( Arrays.deepEquals( new String[0], deserialize( "[]" ) ) );
     }
 
+    public void testExpectedSizeNotPassedToElements() {
+        final List<Integer> elementExpectedSizes = new ArrayList<Integer>();
+        JsonDeserializer<int[]> elementDeserializer = new JsonDeserializer<int[]>() {
+            @Override
+            protected int[] doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+                elementExpectedSizes.add( params.getExpectedSize() );
+                return PrimitiveIntegerArrayJsonDeserializer.getInstance().deserialize( reader, ctx, params );
+            }
+        };
+        JsonDeserializer<int[][]> deserializer = ArrayJsonDeserializer.newInstance( elementDeserializer, new ArrayCreator<int[]>() {
+            @Override
+            public int[][] create( int length ) {
+                return new int[length][];
+            }
+        } );
+
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+        int[][] result = deserializer.deserialize( ctx.newJsonReader( "[[1, 2], [], [3]]" ), ctx, new JsonDeserializerParameters()
+                .setExpectedSize( 50 ) );
+        assertTrue( Arrays.deepEquals( new int[][]{{1, 2}, {}, {3}}, result ) );
+        assertEquals( Arrays.asList( 0, 0, 0 ), elementExpectedSizes );
+    }
 }
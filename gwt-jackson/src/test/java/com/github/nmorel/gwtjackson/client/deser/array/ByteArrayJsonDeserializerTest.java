@@ -37,6 +37,22 @@ public class ByteArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<
         assertDeserialization( new byte[]{0, -11, -22, -33}, "\"APXq3w==\"" );
         assertDeserialization( new byte[]{0, 100, -100, 0}, "\"AGScAA==\"" );
         assertDeserialization( new byte[0], "\"\"" );
+        assertDeserialization( new byte[]{1}, "\"AQ==\"" );
+        assertDeserialization( new byte[]{1, 2}, "\"AQI=\"" );
+        assertDeserialization( new byte[]{1, 2, 3}, "\"AQID\"" );
+    }
+
+    public void testDeserializeArrayOfNumbers() {
+        assertDeserialization( new byte[]{1, -2, 0, 4}, "[1, -2, null, \"4\"]" );
+
+        byte[] expected = new byte[40];
+        StringBuilder builder = new StringBuilder( "[" );
+        for ( int i = 0; i < expected.length; i++ ) {
+            expected[i] = (byte) (i * 7);
+            builder.append( i == 0 ? "" : "," ).append( expected[i] );
+        }
+        builder.append( "]" );
+        assertDeserialization( expected, builder.toString() );
     }
 
     protected void assertDeserialization( byte[] expected, String value ) {
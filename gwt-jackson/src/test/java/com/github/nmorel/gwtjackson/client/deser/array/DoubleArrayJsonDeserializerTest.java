@@ -0,0 +1,51 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array;
+
+import java.util.Arrays;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+
+/**
+ * Test double array deserialization.
+ */
+public class DoubleArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<double[]> {
+
+    @Override
+    protected JsonDeserializer<double[]> createDeserializer() {
+        return PrimitiveDoubleArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        assertTrue( Arrays.equals( new double[]{1.5, -2, 0, 3.25, 1e-10}, deserialize( "[1.5, -2, null, \"3.25\", 1e-10]" ) ) );
+        assertTrue( Arrays.equals( new double[0], deserialize( "[]" ) ) );
+    }
+
+    public void testDeserializeLargeArray() {
+        double[] expected = new double[100];
+        StringBuilder builder = new StringBuilder( "[" );
+        for ( int i = 0; i < expected.length; i++ ) {
+            expected[i] = i * 0.5;
+            builder.append( i == 0 ? "" : "," ).append( expected[i] );
+        }
+        builder.append( "]" );
+        assertTrue( Arrays.equals( expected, deserialize( builder.toString() ) ) );
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.deser.array;
+
+import java.util.Arrays;
+
+import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+
+/**
+ * Test int array deserialization.
+ */
+public class IntegerArrayJsonDeserializerTest extends AbstractJsonDeserializerTest<int[]> {
+
+    @Override
+    protected JsonDeserializer<int[]> createDeserializer() {
+        return PrimitiveIntegerArrayJsonDeserializer.getInstance();
+    }
+
+    @Override
+    public void testDeserializeValue() {
+        assertTrue( Arrays.equals( new int[]{1, -2, 0, 3, Integer.MAX_VALUE}, deserialize( "[1, -2, null, \"3\", 2147483647]" ) ) );
+        assertTrue( Arrays.equals( new int[0], deserialize( "[]" ) ) );
+    }
+
+    public void testDeserializeLargeArray() {
+        int[] expected = new int[100];
+        StringBuilder builder = new StringBuilder( "[" );
+        for ( int i = 0; i < expected.length; i++ ) {
+            expected[i] = i;
+            builder.append( i == 0 ? "" : "," ).append( expected[i] );
+        }
+        builder.append( "]" );
+        assertTrue( Arrays.equals( expected, deserialize( builder.toString() ) ) );
+    }
+
+}
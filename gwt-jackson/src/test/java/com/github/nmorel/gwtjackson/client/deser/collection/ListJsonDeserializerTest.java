@@ -16,13 +16,21 @@
 
 package com.github.nmorel.gwtjackson.client.deser.collection;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.DoubleJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.LongJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.BooleanJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.StringJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
 
 /**
  * @author Nicolas Morel
@@ -40,4 +48,43 @@ public class ListJsonDeserializerTest extends AbstractJsonDeserializerTest<List<
         assertDeserialization( Collections.<String>emptyList(), "[]" );
     }
 
+    public void testDeserializeMixedTokens() {
+        assertDeserialization( Arrays.asList( "Hello", null, "12" ), "[\"Hello\", null, 12]" );
+        assertEquals( Arrays.asList( 1, 2, null, 3 ), deserialize( IntegerJsonDeserializer.getInstance(), "[1, \"2\", null, 3]" ) );
+        assertEquals( Arrays.asList( 1l, null, 3l ), deserialize( LongJsonDeserializer.getInstance(), "[1, null, \"3\"]" ) );
+        assertEquals( Arrays.asList( 1.5d, null, 3d ), deserialize( DoubleJsonDeserializer.getInstance(), "[1.5, null, \"3\"]" ) );
+        assertEquals( Arrays.asList( true, false, null, true ), deserialize( BooleanJsonDeserializer.getInstance(),
+                "[true, \"false\", null, 1]" ) );
+    }
+
+    public void testDeserializeWithExpectedSize() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+        JsonDeserializerParameters params = new JsonDeserializerParameters().setExpectedSize( 2 );
+        assertEquals( Arrays.asList( "a", "b", "c" ), createDeserializer().deserialize( ctx
+                .newJsonReader( "[\"a\", \"b\", \"c\"]" ), ctx, params ) );
+    }
+
+    public void testExpectedSizeNotPassedToElements() {
+        final List<Integer> elementExpectedSizes = new ArrayList<Integer>();
+        JsonDeserializer<String> elementDeserializer = new JsonDeserializer<String>() {
+            @Override
+            protected String doDeserialize( JsonReader reader, JsonDeserializationContext ctx, JsonDeserializerParameters params ) {
+                elementExpectedSizes.add( params.getExpectedSize() );
+                return reader.nextString();
+            }
+        };
+
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+        JsonDeserializerParameters params = new JsonDeserializerParameters().setExpectedSize( 50 ).setInternStrings( true );
+        assertEquals( Arrays.asList( "a", "b" ), ListJsonDeserializer.newInstance( elementDeserializer ).deserialize( ctx
+                .newJsonReader( "[\"a\", \"b\"]" ), ctx, params ) );
+        assertEquals( Arrays.asList( 0, 0 ), elementExpectedSizes );
+        assertEquals( 50, params.getExpectedSize() );
+        assertTrue( params.getElementParameters().isInternStrings() );
+    }
+
+    private <T> List<T> deserialize( JsonDeserializer<T> elementDeserializer, String value ) {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+        return ListJsonDeserializer.newInstance( elementDeserializer ).deserialize( ctx.newJsonReader( value ), ctx );
+    }
 }
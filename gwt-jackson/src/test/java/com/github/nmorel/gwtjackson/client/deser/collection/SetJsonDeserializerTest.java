@@ -21,7 +21,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
 import com.github.nmorel.gwtjackson.client.JsonDeserializer;
+import com.github.nmorel.gwtjackson.client.JsonDeserializerParameters;
 import com.github.nmorel.gwtjackson.client.deser.AbstractJsonDeserializerTest;
 import com.github.nmorel.gwtjackson.client.deser.StringJsonDeserializer;
 
@@ -42,4 +44,10 @@ public class SetJsonDeserializerTest extends AbstractJsonDeserializerTest<Set<St
         assertDeserialization( Collections.<String>emptySet(), "[]" );
     }
 
+    public void testDeserializeWithExpectedSize() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+        JsonDeserializerParameters params = new JsonDeserializerParameters().setExpectedSize( 100 );
+        assertEquals( new HashSet<String>( Arrays.asList( "a", "b" ) ), createDeserializer().deserialize( ctx
+                .newJsonReader( "[\"a\", \"b\", \"a\"]" ), ctx, params ) );
+    }
 }
@@ -16,7 +16,11 @@
 
 package com.github.nmorel.gwtjackson.client.deser.map.key;
 
+import java.util.EnumMap;
+
 import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.deser.BaseNumberJsonDeserializer.IntegerJsonDeserializer;
+import com.github.nmorel.gwtjackson.client.deser.map.EnumMapJsonDeserializer;
 import com.github.nmorel.gwtjackson.client.deser.map.key.EnumKeyDeserializerTest.EnumTest;
 
 /**
@@ -46,4 +50,15 @@ public class EnumKeyDeserializerTest extends AbstractKeyDeserializerTest<EnumTes
         }
         assertDeserialization( JsonDeserializationContext.builder().readUnknownEnumValuesAsNull( true ).build(), null, "UNKNOWN" );
     }
+
+    public void testDeserializeUnknownKeyInEnumMap() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().readUnknownEnumValuesAsNull( true ).build();
+        EnumMap<EnumTest, Integer> result = EnumMapJsonDeserializer.newInstance( createDeserializer(), IntegerJsonDeserializer
+                .getInstance() ).deserialize( ctx.newJsonReader( "{\"ONE\":1,\"UNKNOWN\":{\"a\":2},\"FOUR\":4}" ), ctx );
+
+        EnumMap<EnumTest, Integer> expected = new EnumMap<EnumTest, Integer>( EnumTest.class );
+        expected.put( EnumTest.ONE, 1 );
+        expected.put( EnumTest.FOUR, 4 );
+        assertEquals( expected, result );
+    }
 }
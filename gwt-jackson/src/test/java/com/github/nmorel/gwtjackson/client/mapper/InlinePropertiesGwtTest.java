@@ -0,0 +1,132 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.utils.AggregatingJsonMappingListener;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Tests the beans configured to serialize their properties in a single generated method. See
+ * {@link com.github.nmorel.gwtjackson.client.TestConfiguration}.
+ *
+ * @author Nicolas Morel
+ */
+public class InlinePropertiesGwtTest extends GwtJacksonTestCase {
+
+    public interface InlinedBeanMapper extends ObjectMapper<InlinedBean> {
+
+        static InlinedBeanMapper INSTANCE = GWT.create( InlinedBeanMapper.class );
+    }
+
+    public interface ContainerMapper extends ObjectMapper<Container> {
+
+        static ContainerMapper INSTANCE = GWT.create( ContainerMapper.class );
+    }
+
+    @JsonPropertyOrder( {"id", "name", "optional", "a\"b", "hidden", "count", "tags", "child"} )
+    public static class InlinedBean {
+
+        public int id;
+
+        public String name;
+
+        @JsonInclude( Include.NON_NULL )
+        public String optional;
+
+        @JsonProperty( "a\"b" )
+        public boolean escaped;
+
+        @JsonProperty
+        private String hidden;
+
+        private long count;
+
+        public List<String> tags;
+
+        public InlinedBean child;
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount( long count ) {
+            this.count = count;
+        }
+    }
+
+    public static class Container {
+
+        @JsonIgnoreProperties( {"name", "tags"} )
+        public InlinedBean bean;
+    }
+
+    private InlinedBean newBean() {
+        InlinedBean bean = new InlinedBean();
+        bean.id = 1;
+        bean.name = "first";
+        bean.escaped = true;
+        bean.hidden = "h";
+        bean.setCount( 3 );
+        bean.tags = Arrays.asList( "x", "y" );
+
+        InlinedBean child = new InlinedBean();
+        child.id = 2;
+        child.optional = "o";
+        bean.child = child;
+        return bean;
+    }
+
+    public void testSerialize() {
+        assertEquals( "{\"id\":1,\"name\":\"first\",\"a\\\"b\":true,\"hidden\":\"h\",\"count\":3,\"tags\":[\"x\",\"y\"]," +
+                "\"child\":{\"id\":2,\"name\":null,\"optional\":\"o\",\"a\\\"b\":false,\"hidden\":null,\"count\":0,\"tags\":null," +
+                "\"child\":null}}", InlinedBeanMapper.INSTANCE.write( newBean() ) );
+    }
+
+    public void testSerializeWithoutNulls() {
+        assertEquals( "{\"id\":1,\"name\":\"first\",\"a\\\"b\":true,\"hidden\":\"h\",\"count\":3,\"tags\":[\"x\",\"y\"]," +
+                "\"child\":{\"id\":2,\"optional\":\"o\",\"a\\\"b\":false,\"count\":0}}", InlinedBeanMapper.INSTANCE.write( newBean(),
+                JsonSerializationContext.builder().serializeNulls( false ).build() ) );
+    }
+
+    public void testSerializeWithIgnoredProperties() {
+        Container container = new Container();
+        container.bean = newBean();
+        container.bean.child = null;
+        assertEquals( "{\"bean\":{\"id\":1,\"a\\\"b\":true,\"hidden\":\"h\",\"count\":3,\"child\":null}}", ContainerMapper.INSTANCE.write( container ) );
+    }
+
+    public void testSerializeWithListener() {
+        AggregatingJsonMappingListener listener = new AggregatingJsonMappingListener();
+        String json = InlinedBeanMapper.INSTANCE.write( newBean(), JsonSerializationContext.builder().listener( listener ).build() );
+
+        assertEquals( InlinedBeanMapper.INSTANCE.write( newBean() ), json );
+        // the properties are serialized one by one to notify the listener
+        assertEquals( 16, listener.getStats( Operation.SERIALIZATION ).getBeanStats( InlinedBean.class ).getPropertyCount() );
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonMappingListener.Operation;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.utils.AggregatingJsonMappingListener;
+import com.github.nmorel.gwtjackson.client.utils.AggregatingJsonMappingListener.BeanStats;
+import com.github.nmorel.gwtjackson.client.utils.AggregatingJsonMappingListener.OperationStats;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class MappingListenerGwtTest extends GwtJacksonTestCase {
+
+    public interface OrderMapper extends ObjectMapper<Order> {
+
+        static OrderMapper INSTANCE = GWT.create( OrderMapper.class );
+    }
+
+    public interface ScoresMapper extends ObjectMapper<Scores> {
+
+        static ScoresMapper INSTANCE = GWT.create( ScoresMapper.class );
+    }
+
+    @JsonIdentityInfo( generator = ObjectIdGenerators.PropertyGenerator.class, property = "id" )
+    public static class Customer {
+
+        public int id;
+
+        public String name;
+    }
+
+    @JsonPropertyOrder( alphabetic = true )
+    public static class Line {
+
+        public String product;
+
+        public int quantity;
+    }
+
+    @JsonIgnoreProperties( value = {"internal"}, ignoreUnknown = true )
+    @JsonPropertyOrder( {"id", "customer", "lines", "counts"} )
+    public static class Order {
+
+        public int id;
+
+        public Customer customer;
+
+        public List<Line> lines;
+
+        public Map<String, Integer> counts;
+    }
+
+    public static class Scores {
+
+        public int[] values;
+
+        public double[] weights;
+
+        public long[] empty;
+    }
+
+    private static final String ORDER_JSON = "{\"id\":1,\"internal\":\"x\",\"unknown\":true,\"customer\":{\"name\":\"Bob\",\"id\":7}," +
+            "\"lines\":[{\"product\":\"a\",\"quantity\":1},{\"product\":\"b\",\"quantity\":2}],\"counts\":{\"a\":1}}";
+
+    private Order newOrder() {
+        Order order = new Order();
+        order.id = 1;
+        order.customer = new Customer();
+        order.customer.id = 7;
+        order.customer.name = "Bob";
+        order.lines = new ArrayList<Line>();
+        for ( int i = 1; i <= 2; i++ ) {
+            Line line = new Line();
+            line.product = "p" + i;
+            line.quantity = i;
+            order.lines.add( line );
+        }
+        order.counts = new LinkedHashMap<String, Integer>();
+        order.counts.put( "a", 1 );
+        return order;
+    }
+
+    public void testSerialization() {
+        AggregatingJsonMappingListener listener = new AggregatingJsonMappingListener();
+        JsonSerializationContext ctx = JsonSerializationContext.builder().listener( listener ).build();
+
+        String json = OrderMapper.INSTANCE.write( newOrder(), ctx );
+
+        OperationStats stats = listener.getStats( Operation.SERIALIZATION );
+        assertEquals( 1, stats.getMappingCount() );
+        assertEquals( json.length(), stats.getLength() );
+        assertEquals( 2, stats.getContainerCount() );
+        assertEquals( 3, stats.getElementCount() );
+
+        BeanStats orderStats = stats.getBeanStats( Order.class );
+        assertEquals( 1, orderStats.getCount() );
+        assertEquals( 4, orderStats.getPropertyCount() );
+
+        // the identity property is written with the id
+        BeanStats customerStats = stats.getBeanStats( Customer.class );
+        assertEquals( 1, customerStats.getCount() );
+        assertEquals( 1, customerStats.getPropertyCount() );
+
+        BeanStats lineStats = stats.getBeanStats( Line.class );
+        assertEquals( 2, lineStats.getCount() );
+        assertEquals( 4, lineStats.getPropertyCount() );
+
+        assertEquals( 3, stats.getAllBeanStats().size() );
+        assertEquals( 0, listener.getStats( Operation.DESERIALIZATION ).getMappingCount() );
+    }
+
+    public void testDeserialization() {
+        AggregatingJsonMappingListener listener = new AggregatingJsonMappingListener();
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().listener( listener ).build();
+
+        Order order = OrderMapper.INSTANCE.read( ORDER_JSON, ctx );
+        assertEquals( 7, order.customer.id );
+        assertEquals( "Bob", order.customer.name );
+
+        OperationStats stats = listener.getStats( Operation.DESERIALIZATION );
+        assertEquals( 1, stats.getMappingCount() );
+        assertEquals( ORDER_JSON.length(), stats.getLength() );
+        assertEquals( 2, stats.getContainerCount() );
+        assertEquals( 3, stats.getElementCount() );
+
+        BeanStats orderStats = stats.getBeanStats( Order.class );
+        assertEquals( 1, orderStats.getCount() );
+        assertEquals( 4, orderStats.getPropertyCount() );
+        assertEquals( 2, orderStats.getSkippedValueCount() );
+        assertEquals( 0, orderStats.getBufferedPropertyCount() );
+
+        // the name is placed before the id and has to be buffered
+        BeanStats customerStats = stats.getBeanStats( Customer.class );
+        assertEquals( 1, customerStats.getCount() );
+        assertEquals( 1, customerStats.getPropertyCount() );
+        assertEquals( 1, customerStats.getBufferedPropertyCount() );
+
+        BeanStats lineStats = stats.getBeanStats( Line.class );
+        assertEquals( 2, lineStats.getCount() );
+        assertEquals( 4, lineStats.getPropertyCount() );
+        assertTrue( lineStats.getTimeMillis() >= lineStats.getSelfTimeMillis() );
+
+        assertTrue( listener.getReport().contains( Order.class.getName() ) );
+
+        listener.reset();
+        assertEquals( 0, listener.getStats( Operation.DESERIALIZATION ).getMappingCount() );
+        assertNull( listener.getStats( Operation.DESERIALIZATION ).getBeanStats( Order.class ) );
+    }
+
+    public void testPrimitiveArrayDeserialization() {
+        AggregatingJsonMappingListener listener = new AggregatingJsonMappingListener();
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().listener( listener ).build();
+
+        Scores scores = ScoresMapper.INSTANCE.read( "{\"values\":[1,2,3],\"weights\":[0.5,1.5],\"empty\":[]}", ctx );
+        assertEquals( 3, scores.values.length );
+        assertEquals( 2, scores.weights.length );
+        assertEquals( 0, scores.empty.length );
+
+        // the element count is reported once per array
+        OperationStats stats = listener.getStats( Operation.DESERIALIZATION );
+        assertEquals( 3, stats.getContainerCount() );
+        assertEquals( 5, stats.getElementCount() );
+    }
+
+    public void testNoListener() {
+        // no listener by default
+        assertNull( JsonDeserializationContext.builder().build().getListener() );
+        assertNull( JsonSerializationContext.builder().build().getListener() );
+
+        Order order = OrderMapper.INSTANCE.read( ORDER_JSON );
+        assertEquals( 2, order.lines.size() );
+        assertEquals( OrderMapper.INSTANCE.write( order ), OrderMapper.INSTANCE.write( order, JsonSerializationContext.builder()
+                .listener( new AggregatingJsonMappingListener() ).build() ) );
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Tests the primitive properties read and written without boxing their value.
+ *
+ * @author Nicolas Morel
+ */
+public class PrimitivePropertyGwtTest extends GwtJacksonTestCase {
+
+    public interface PrimitiveBeanMapper extends ObjectMapper<PrimitiveBean> {
+
+        static PrimitiveBeanMapper INSTANCE = GWT.create( PrimitiveBeanMapper.class );
+    }
+
+    @JsonPropertyOrder( {"intValue", "longValue", "doubleValue", "booleanValue", "privateInt", "setterLong", "nonDefaultInt"} )
+    public static class PrimitiveBean {
+
+        public int intValue;
+
+        public long longValue;
+
+        public double doubleValue;
+
+        public boolean booleanValue;
+
+        @JsonProperty
+        private int privateInt;
+
+        private long setterLong;
+
+        @JsonInclude( Include.NON_DEFAULT )
+        public int nonDefaultInt;
+
+        public long getSetterLong() {
+            return setterLong;
+        }
+
+        public void setSetterLong( long setterLong ) {
+            this.setterLong = setterLong;
+        }
+    }
+
+    private static final String JSON = "{\"intValue\":12,\"longValue\":9007199254740993,\"doubleValue\":1.5,\"booleanValue\":true," +
+            "\"privateInt\":-3,\"setterLong\":4}";
+
+    public void testSerialize() {
+        PrimitiveBean bean = new PrimitiveBean();
+        bean.intValue = 12;
+        bean.longValue = 9007199254740993l;
+        bean.doubleValue = 1.5;
+        bean.booleanValue = true;
+        bean.privateInt = -3;
+        bean.setSetterLong( 4 );
+
+        assertEquals( JSON, PrimitiveBeanMapper.INSTANCE.write( bean ) );
+
+        bean.nonDefaultInt = 5;
+        assertEquals( JSON.substring( 0, JSON.length() - 1 ) + ",\"nonDefaultInt\":5}", PrimitiveBeanMapper.INSTANCE.write( bean ) );
+    }
+
+    public void testDeserialize() {
+        PrimitiveBean bean = PrimitiveBeanMapper.INSTANCE.read( JSON.substring( 0, JSON.length() - 1 ) + ",\"nonDefaultInt\":5}" );
+
+        assertEquals( 12, bean.intValue );
+        assertEquals( 9007199254740993l, bean.longValue );
+        assertEquals( 1.5, bean.doubleValue );
+        assertTrue( bean.booleanValue );
+        assertEquals( -3, bean.privateInt );
+        assertEquals( 4, bean.getSetterLong() );
+        assertEquals( 5, bean.nonDefaultInt );
+    }
+
+    public void testDeserializeOtherTokens() {
+        PrimitiveBean bean = PrimitiveBeanMapper.INSTANCE
+                .read( "{\"intValue\":\"12\",\"longValue\":\"5\",\"doubleValue\":\"2.5\",\"booleanValue\":1,\"privateInt\":\"-3\"}" );
+
+        assertEquals( 12, bean.intValue );
+        assertEquals( 5, bean.longValue );
+        assertEquals( 2.5, bean.doubleValue );
+        assertTrue( bean.booleanValue );
+        assertEquals( -3, bean.privateInt );
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.ObjectUpdater;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class ReadIntoGwtTest extends GwtJacksonTestCase {
+
+    public interface OwnerReader extends ObjectReader<Owner>, ObjectUpdater<Owner> {
+
+        static OwnerReader INSTANCE = GWT.create( OwnerReader.class );
+    }
+
+    public static class Address {
+
+        public String street;
+
+        public String city;
+    }
+
+    @JsonTypeInfo( use = Id.NAME, include = As.PROPERTY, property = "kind" )
+    @JsonSubTypes( {@JsonSubTypes.Type( value = Dog.class, name = "dog" ), @JsonSubTypes.Type( value = Cat.class, name = "cat" )} )
+    public static abstract class Animal {
+
+        public String name;
+    }
+
+    public static class Dog extends Animal {
+
+        public int barks;
+    }
+
+    public static class Cat extends Animal {
+
+        public int lives;
+    }
+
+    public static class Owner {
+
+        public String name;
+
+        public int age;
+
+        public Address address;
+
+        public List<Address> addresses;
+
+        public List<String> tags;
+
+        public Map<String, Address> addressesByName;
+
+        public Animal pet;
+    }
+
+    private static Address newAddress( String street, String city ) {
+        Address address = new Address();
+        address.street = street;
+        address.city = city;
+        return address;
+    }
+
+    private Owner newOwner() {
+        Owner owner = new Owner();
+        owner.name = "Nicolas";
+        owner.age = 30;
+        owner.address = newAddress( "Main Street", "Paris" );
+        owner.addresses = new ArrayList<Address>( Arrays.asList( newAddress( "First", "Lyon" ), newAddress( "Second", "Nantes" ) ) );
+        owner.tags = new ArrayList<String>( Arrays.asList( "a", "b" ) );
+        owner.addressesByName = new LinkedHashMap<String, Address>();
+        owner.addressesByName.put( "home", newAddress( "Home", "Paris" ) );
+        owner.addressesByName.put( "work", newAddress( "Work", "Paris" ) );
+        Dog dog = new Dog();
+        dog.name = "Rex";
+        dog.barks = 3;
+        owner.pet = dog;
+        return owner;
+    }
+
+    public void testReadIntoNull() {
+        Owner owner = OwnerReader.INSTANCE.readInto( "{\"name\":\"Paul\"}", null );
+        assertNotNull( owner );
+        assertEquals( "Paul", owner.name );
+    }
+
+    public void testReadIntoUpdatesNestedBeans() {
+        Owner owner = newOwner();
+        Address address = owner.address;
+
+        Owner result = OwnerReader.INSTANCE.readInto( "{\"age\":31,\"address\":{\"city\":\"Lyon\"}}", owner );
+
+        assertSame( owner, result );
+        assertEquals( "Nicolas", owner.name );
+        assertEquals( 31, owner.age );
+        assertSame( address, owner.address );
+        assertEquals( "Main Street", address.street );
+        assertEquals( "Lyon", address.city );
+
+        // a null value replaces the existing one
+        OwnerReader.INSTANCE.readInto( "{\"address\":null}", owner );
+        assertNull( owner.address );
+    }
+
+    public void testReadIntoReplacesCollections() {
+        Owner owner = newOwner();
+        List<Address> addresses = owner.addresses;
+        Address first = addresses.get( 0 );
+        List<String> tags = owner.tags;
+
+        OwnerReader.INSTANCE.readInto( "{\"addresses\":[{\"city\":\"Lille\"}],\"tags\":[\"c\"]}", owner );
+
+        assertSame( addresses, owner.addresses );
+        assertEquals( 1, addresses.size() );
+        assertSame( first, addresses.get( 0 ) );
+        assertEquals( "First", first.street );
+        assertEquals( "Lille", first.city );
+
+        assertSame( tags, owner.tags );
+        assertEquals( Arrays.asList( "c" ), tags );
+    }
+
+    public void testReadIntoMergesCollections() {
+        Owner owner = newOwner();
+        List<String> tags = owner.tags;
+
+        OwnerReader.INSTANCE.readInto( "{\"addresses\":[{\"city\":\"Lille\"}],\"tags\":[\"c\"]}", owner, JsonDeserializationContext
+                .builder().mergeCollections( true ).build() );
+
+        assertEquals( 3, owner.addresses.size() );
+        assertEquals( "Lille", owner.addresses.get( 2 ).city );
+        assertNull( owner.addresses.get( 2 ).street );
+
+        assertSame( tags, owner.tags );
+        assertEquals( Arrays.asList( "a", "b", "c" ), tags );
+    }
+
+    public void testReadIntoUnmodifiableCollection() {
+        Owner owner = newOwner();
+        owner.tags = Collections.unmodifiableList( Arrays.asList( "a", "b" ) );
+
+        OwnerReader.INSTANCE.readInto( "{\"tags\":[\"c\"]}", owner );
+        assertEquals( Arrays.asList( "c" ), owner.tags );
+
+        owner.tags = Collections.unmodifiableList( Arrays.asList( "a", "b" ) );
+        OwnerReader.INSTANCE.readInto( "{\"tags\":[\"c\"]}", owner, JsonDeserializationContext.builder().mergeCollections( true )
+                .build() );
+        assertEquals( Arrays.asList( "a", "b", "c" ), owner.tags );
+    }
+
+    public void testReadIntoReplacesMaps() {
+        Owner owner = newOwner();
+        Map<String, Address> addressesByName = owner.addressesByName;
+        Address home = addressesByName.get( "home" );
+
+        OwnerReader.INSTANCE.readInto( "{\"addressesByName\":{\"home\":{\"city\":\"Lyon\"},\"other\":{\"city\":\"Nice\"}}}", owner );
+
+        assertSame( addressesByName, owner.addressesByName );
+        assertEquals( 2, addressesByName.size() );
+        assertFalse( addressesByName.containsKey( "work" ) );
+        assertSame( home, addressesByName.get( "home" ) );
+        assertEquals( "Home", home.street );
+        assertEquals( "Lyon", home.city );
+        assertEquals( "Nice", addressesByName.get( "other" ).city );
+    }
+
+    public void testReadIntoMergesMaps() {
+        Owner owner = newOwner();
+        Map<String, Address> addressesByName = owner.addressesByName;
+        Address home = addressesByName.get( "home" );
+
+        OwnerReader.INSTANCE.readInto( "{\"addressesByName\":{\"home\":{\"city\":\"Lyon\"},\"other\":{\"city\":\"Nice\"}}}", owner,
+                JsonDeserializationContext.builder().mergeMaps( true ).build() );
+
+        assertSame( addressesByName, owner.addressesByName );
+        assertEquals( 3, addressesByName.size() );
+        assertEquals( "Work", addressesByName.get( "work" ).street );
+        assertSame( home, addressesByName.get( "home" ) );
+        assertEquals( "Lyon", home.city );
+    }
+
+    public void testReadIntoPolymorphicBean() {
+        Owner owner = newOwner();
+        Animal pet = owner.pet;
+
+        OwnerReader.INSTANCE.readInto( "{\"pet\":{\"barks\":5,\"kind\":\"dog\"}}", owner );
+        assertSame( pet, owner.pet );
+        assertEquals( "Rex", pet.name );
+        assertEquals( 5, ((Dog) pet).barks );
+
+        // the type differs, a new instance is created
+        OwnerReader.INSTANCE.readInto( "{\"pet\":{\"kind\":\"cat\",\"name\":\"Tom\",\"lives\":9}}", owner );
+        assertNotSame( pet, owner.pet );
+        assertTrue( owner.pet instanceof Cat );
+        assertEquals( "Tom", owner.pet.name );
+        assertEquals( 9, ((Cat) owner.pet).lives );
+    }
+}
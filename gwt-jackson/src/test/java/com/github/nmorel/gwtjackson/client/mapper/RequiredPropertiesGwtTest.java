@@ -0,0 +1,221 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Checks the required properties are tracked correctly, including beans with more than 32 required properties.
+ *
+ * @author Nicolas Morel
+ */
+public class RequiredPropertiesGwtTest extends GwtJacksonTestCase {
+
+    public static class WideBean {
+
+        @JsonProperty(required = true)
+        public int p0;
+
+        @JsonProperty(required = true)
+        public int p1;
+
+        @JsonProperty(required = true)
+        public int p2;
+
+        @JsonProperty(required = true)
+        public int p3;
+
+        @JsonProperty(required = true)
+        public int p4;
+
+        @JsonProperty(required = true)
+        public int p5;
+
+        @JsonProperty(required = true)
+        public int p6;
+
+        @JsonProperty(required = true)
+        public int p7;
+
+        @JsonProperty(required = true)
+        public int p8;
+
+        @JsonProperty(required = true)
+        public int p9;
+
+        @JsonProperty(required = true)
+        public int p10;
+
+        @JsonProperty(required = true)
+        public int p11;
+
+        @JsonProperty(required = true)
+        public int p12;
+
+        @JsonProperty(required = true)
+        public int p13;
+
+        @JsonProperty(required = true)
+        public int p14;
+
+        @JsonProperty(required = true)
+        public int p15;
+
+        @JsonProperty(required = true)
+        public int p16;
+
+        @JsonProperty(required = true)
+        public int p17;
+
+        @JsonProperty(required = true)
+        public int p18;
+
+        @JsonProperty(required = true)
+        public int p19;
+
+        @JsonProperty(required = true)
+        public int p20;
+
+        @JsonProperty(required = true)
+        public int p21;
+
+        @JsonProperty(required = true)
+        public int p22;
+
+        @JsonProperty(required = true)
+        public int p23;
+
+        @JsonProperty(required = true)
+        public int p24;
+
+        @JsonProperty(required = true)
+        public int p25;
+
+        @JsonProperty(required = true)
+        public int p26;
+
+        @JsonProperty(required = true)
+        public int p27;
+
+        @JsonProperty(required = true)
+        public int p28;
+
+        @JsonProperty(required = true)
+        public int p29;
+
+        @JsonProperty(required = true)
+        public int p30;
+
+        @JsonProperty(required = true)
+        public int p31;
+
+        @JsonProperty(required = true)
+        public int p32;
+
+        @JsonProperty(required = true)
+        public int p33;
+    }
+
+    public interface WideBeanMapper extends ObjectMapper<WideBean> {
+
+        static WideBeanMapper INSTANCE = GWT.create( WideBeanMapper.class );
+    }
+
+    public static class CreatorBean {
+
+        private final String first;
+
+        private final String second;
+
+        @JsonProperty(required = true)
+        public String third;
+
+        @JsonCreator
+        public CreatorBean( @JsonProperty(value = "first", required = true) String first, @JsonProperty(value = "second", required =
+                true) String second ) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public String getFirst() {
+            return first;
+        }
+
+        public String getSecond() {
+            return second;
+        }
+    }
+
+    public interface CreatorBeanMapper extends ObjectMapper<CreatorBean> {
+
+        static CreatorBeanMapper INSTANCE = GWT.create( CreatorBeanMapper.class );
+    }
+
+    public void testWideBean() {
+        WideBean bean = WideBeanMapper.INSTANCE.read( "{\"p0\":0,\"p1\":1,\"p2\":2,\"p3\":3,\"p4\":4,\"p5\":5,\"p6\":6,\"p7\":7,\"p8\":8" +
+                ",\"p9\":9,\"p10\":10,\"p11\":11,\"p12\":12,\"p13\":13,\"p14\":14,\"p15\":15,\"p16\":16,\"p17\":17" +
+                ",\"p18\":18,\"p19\":19,\"p20\":20,\"p21\":21,\"p22\":22,\"p23\":23,\"p24\":24,\"p25\":25,\"p26\":26" +
+                ",\"p27\":27,\"p28\":28,\"p29\":29,\"p30\":30,\"p31\":31,\"p32\":32,\"p33\":33}" );
+        assertEquals( 0, bean.p0 );
+        assertEquals( 32, bean.p32 );
+        assertEquals( 33, bean.p33 );
+    }
+
+    public void testWideBeanMissingProperties() {
+        try {
+            WideBeanMapper.INSTANCE.read( "{\"p0\":0,\"p2\":2,\"p3\":3,\"p4\":4,\"p5\":5,\"p6\":6,\"p7\":7,\"p8\":8,\"p9\":9" +
+                    ",\"p10\":10,\"p11\":11,\"p12\":12,\"p13\":13,\"p14\":14,\"p15\":15,\"p16\":16,\"p17\":17,\"p18\":18" +
+                    ",\"p19\":19,\"p20\":20,\"p21\":21,\"p22\":22,\"p23\":23,\"p24\":24,\"p25\":25,\"p26\":26,\"p27\":27" +
+                    ",\"p28\":28,\"p29\":29,\"p30\":30,\"p31\":31,\"p32\":32}" );
+            fail( "Expected an exception because required properties are missing" );
+        } catch ( JsonDeserializationException e ) {
+            assertTrue( e.getMessage().contains( "p1" ) );
+            assertTrue( e.getMessage().contains( "p33" ) );
+            assertFalse( e.getMessage().contains( "p32" ) );
+        }
+    }
+
+    public void testCreatorBean() {
+        CreatorBean bean = CreatorBeanMapper.INSTANCE.read( "{\"third\":\"3\",\"second\":\"2\",\"first\":\"1\"}" );
+        assertEquals( "1", bean.getFirst() );
+        assertEquals( "2", bean.getSecond() );
+        assertEquals( "3", bean.third );
+    }
+
+    public void testCreatorBeanMissingParameter() {
+        try {
+            CreatorBeanMapper.INSTANCE.read( "{\"first\":\"1\",\"third\":\"3\"}" );
+            fail( "Expected an exception because a required property is missing" );
+        } catch ( JsonDeserializationException e ) {
+            assertTrue( e.getMessage().contains( "[second]" ) );
+        }
+    }
+
+    public void testCreatorBeanMissingProperty() {
+        try {
+            CreatorBeanMapper.INSTANCE.read( "{\"first\":\"1\",\"second\":\"2\"}" );
+            fail( "Expected an exception because a required property is missing" );
+        } catch ( JsonDeserializationException e ) {
+            assertTrue( e.getMessage().contains( "[third]" ) );
+        }
+    }
+}
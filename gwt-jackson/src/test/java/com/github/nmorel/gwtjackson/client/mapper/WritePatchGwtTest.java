@@ -0,0 +1,204 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.mapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.github.nmorel.gwtjackson.client.ObjectPatchWriter;
+import com.github.nmorel.gwtjackson.client.ObjectUpdater;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class WritePatchGwtTest extends GwtJacksonTestCase {
+
+    public interface DocumentMapper extends ObjectMapper<Document>, ObjectPatchWriter<Document>, ObjectUpdater<Document> {
+
+        static DocumentMapper INSTANCE = GWT.create( DocumentMapper.class );
+    }
+
+    @JsonPropertyOrder( alphabetic = true )
+    public static class Author {
+
+        public String name;
+
+        public String email;
+    }
+
+    @JsonTypeInfo( use = Id.NAME, include = As.PROPERTY, property = "kind" )
+    @JsonSubTypes( {@JsonSubTypes.Type( value = Text.class, name = "text" )} )
+    public static abstract class Block {
+
+        public String id;
+    }
+
+    public static class Text extends Block {
+
+        public String content;
+    }
+
+    @JsonPropertyOrder( alphabetic = true )
+    public static class Document {
+
+        public String title;
+
+        public int version;
+
+        public Author author;
+
+        public List<String> tags;
+
+        public Map<String, Author> reviewers;
+
+        public Block block;
+
+        public int[] scores;
+    }
+
+    private static Author newAuthor( String name, String email ) {
+        Author author = new Author();
+        author.name = name;
+        author.email = email;
+        return author;
+    }
+
+    private static Document newDocument() {
+        Document document = new Document();
+        document.title = "Draft";
+        document.version = 1;
+        document.author = newAuthor( "Nicolas", "nicolas@example.com" );
+        document.tags = new ArrayList<String>( Arrays.asList( "a", "b" ) );
+        document.reviewers = new LinkedHashMap<String, Author>();
+        document.reviewers.put( "first", newAuthor( "Paul", "paul@example.com" ) );
+        document.reviewers.put( "second", newAuthor( "Jean", "jean@example.com" ) );
+        Text text = new Text();
+        text.id = "b1";
+        text.content = "Hello";
+        document.block = text;
+        document.scores = new int[]{1, 2, 3};
+        return document;
+    }
+
+    /**
+     * The baseline is a copy of the document, like the one read from the last JSON sent.
+     */
+    private static Document copy( Document document ) {
+        return DocumentMapper.INSTANCE.read( DocumentMapper.INSTANCE.write( document ) );
+    }
+
+    public void testUnchanged() {
+        Document document = newDocument();
+        assertEquals( "{}", DocumentMapper.INSTANCE.writePatch( copy( document ), document ) );
+    }
+
+    public void testNullBaseline() {
+        Document document = newDocument();
+        assertEquals( DocumentMapper.INSTANCE.write( document ), DocumentMapper.INSTANCE.writePatch( null, document ) );
+    }
+
+    public void testChangedProperties() {
+        Document document = newDocument();
+        Document baseline = copy( document );
+
+        document.version = 2;
+        document.author.email = null;
+        document.title = null;
+        document.scores[1] = 5;
+
+        assertEquals( "{\"author\":{\"email\":null},\"scores\":[1,5,3],\"title\":null,\"version\":2}", DocumentMapper.INSTANCE
+                .writePatch( baseline, document ) );
+    }
+
+    public void testChangedCollectionIsWrittenEntirely() {
+        Document document = newDocument();
+        Document baseline = copy( document );
+
+        document.tags.add( "c" );
+
+        assertEquals( "{\"tags\":[\"a\",\"b\",\"c\"]}", DocumentMapper.INSTANCE.writePatch( baseline, document ) );
+    }
+
+    public void testEmptiedCollectionIsWritten() {
+        Document document = newDocument();
+        Document baseline = copy( document );
+
+        document.tags.clear();
+        document.scores = new int[0];
+
+        JsonSerializationContext ctx = JsonSerializationContext.builder().writeEmptyJsonArrays( false ).build();
+        assertEquals( "{\"scores\":[],\"tags\":[]}", DocumentMapper.INSTANCE.writePatch( baseline, document, ctx ) );
+    }
+
+    public void testChangedMap() {
+        Document document = newDocument();
+        Document baseline = copy( document );
+
+        document.reviewers.get( "first" ).email = "paul@example.org";
+        document.reviewers.remove( "second" );
+        document.reviewers.put( "third", newAuthor( "Luc", null ) );
+
+        assertEquals( "{\"reviewers\":{\"first\":{\"email\":\"paul@example.org\"},\"third\":{\"email\":null,\"name\":\"Luc\"}," +
+                "\"second\":null}}", DocumentMapper.INSTANCE.writePatch( baseline, document ) );
+    }
+
+    public void testChangedPolymorphicBean() {
+        Document document = newDocument();
+        Document baseline = copy( document );
+
+        ((Text) document.block).content = "World";
+
+        assertEquals( "{\"block\":{\"kind\":\"text\",\"content\":\"World\"}}", DocumentMapper.INSTANCE.writePatch( baseline, document ) );
+    }
+
+    public void testApplyPatch() {
+        Document document = newDocument();
+        Document baseline = copy( document );
+        Document target = copy( document );
+        Author reviewer = target.reviewers.get( "first" );
+
+        document.version = 2;
+        document.title = null;
+        document.author.name = "Nico";
+        document.tags.remove( 0 );
+        document.reviewers.get( "first" ).email = "paul@example.org";
+        document.reviewers.remove( "second" );
+        document.reviewers.put( "third", newAuthor( "Luc", null ) );
+        ((Text) document.block).content = "World";
+
+        String patch = DocumentMapper.INSTANCE.writePatch( baseline, document );
+        Document result = DocumentMapper.INSTANCE.readInto( patch, target, JsonDeserializationContext.builder().mergePatch( true )
+                .build() );
+
+        assertSame( target, result );
+        assertSame( reviewer, target.reviewers.get( "first" ) );
+        assertEquals( DocumentMapper.INSTANCE.write( document ), DocumentMapper.INSTANCE.write( target ) );
+    }
+}
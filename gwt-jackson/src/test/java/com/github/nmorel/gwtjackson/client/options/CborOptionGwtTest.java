@@ -0,0 +1,157 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.nmorel.gwtjackson.client.options;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.JsonSerializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectMapper;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class CborOptionGwtTest extends GwtJacksonTestCase {
+
+    public interface ListCborBeanMapper extends ObjectMapper<List<CborBean>> {
+
+        static ListCborBeanMapper INSTANCE = GWT.create( ListCborBeanMapper.class );
+    }
+
+    public interface ListAnimalMapper extends ObjectMapper<List<Animal>> {
+
+        static ListAnimalMapper INSTANCE = GWT.create( ListAnimalMapper.class );
+    }
+
+    public static class CborBean {
+
+        public int id;
+
+        public double ratio;
+
+        public String label;
+
+        public Boolean active;
+
+        public byte[] data;
+
+        public List<String> tags;
+
+        public Map<String, Long> counters;
+    }
+
+    @JsonTypeInfo( use = Id.NAME, include = As.PROPERTY, property = "kind" )
+    @JsonSubTypes( {@JsonSubTypes.Type( value = Dog.class, name = "dog" ), @JsonSubTypes.Type( value = Cat.class, name = "cat" )} )
+    public static abstract class Animal {
+
+        public String name;
+    }
+
+    public static class Dog extends Animal {
+
+        public int barks;
+    }
+
+    public static class Cat extends Animal {
+
+        public int lives;
+    }
+
+    private static List<CborBean> newBeans() {
+        List<CborBean> beans = new ArrayList<CborBean>();
+        for ( int i = 0; i < 3; i++ ) {
+            CborBean bean = new CborBean();
+            bean.id = i - 1;
+            bean.ratio = i + 0.5;
+            bean.label = "label " + i;
+            bean.active = i == 1 ? null : i == 0;
+            bean.data = new byte[]{(byte) i, 1, 2};
+            bean.tags = Arrays.asList( "common", "tag" + i );
+            bean.counters = new LinkedHashMap<String, Long>();
+            bean.counters.put( "total", i * 10000000000L );
+            beans.add( bean );
+        }
+        return beans;
+    }
+
+    private void assertBeans( List<CborBean> expected, List<CborBean> actual ) {
+        assertEquals( expected.size(), actual.size() );
+        for ( int i = 0; i < expected.size(); i++ ) {
+            CborBean expectedBean = expected.get( i );
+            CborBean actualBean = actual.get( i );
+            assertEquals( expectedBean.id, actualBean.id );
+            assertEquals( expectedBean.ratio, actualBean.ratio, 0 );
+            assertEquals( expectedBean.label, actualBean.label );
+            assertEquals( expectedBean.active, actualBean.active );
+            assertTrue( Arrays.equals( expectedBean.data, actualBean.data ) );
+            assertEquals( expectedBean.tags, actualBean.tags );
+            assertEquals( expectedBean.counters, actualBean.counters );
+        }
+    }
+
+    public void testRoundTrip() {
+        List<CborBean> beans = newBeans();
+        JsonSerializationContext serCtx = JsonSerializationContext.builder().useCbor( true ).build();
+        String cbor = ListCborBeanMapper.INSTANCE.write( beans, serCtx );
+        String json = ListCborBeanMapper.INSTANCE.write( beans );
+        assertTrue( cbor.length() < json.length() );
+
+        JsonDeserializationContext deserCtx = JsonDeserializationContext.builder().useCbor( true ).build();
+        assertBeans( beans, ListCborBeanMapper.INSTANCE.read( cbor, deserCtx ) );
+    }
+
+    public void testRoundTripWithStringReferences() {
+        List<CborBean> beans = newBeans();
+        String cbor = ListCborBeanMapper.INSTANCE.write( beans, JsonSerializationContext.builder().useCbor( true ).build() );
+        String cborWithReferences = ListCborBeanMapper.INSTANCE.write( beans, JsonSerializationContext.builder().useCbor( true )
+                .useCborStringReferences( true ).build() );
+        assertTrue( cborWithReferences.length() < cbor.length() );
+
+        JsonDeserializationContext deserCtx = JsonDeserializationContext.builder().useCbor( true ).build();
+        assertBeans( beans, ListCborBeanMapper.INSTANCE.read( cborWithReferences, deserCtx ) );
+    }
+
+    public void testRoundTripPolymorphism() {
+        Dog dog = new Dog();
+        dog.name = "Rex";
+        dog.barks = 12;
+        Cat cat = new Cat();
+        cat.name = "Tom";
+        cat.lives = 9;
+
+        String cbor = ListAnimalMapper.INSTANCE.write( Arrays.<Animal>asList( dog, cat ), JsonSerializationContext.builder()
+                .useCbor( true ).useCborStringReferences( true ).build() );
+        List<Animal> result = ListAnimalMapper.INSTANCE.read( cbor, JsonDeserializationContext.builder().useCbor( true ).build() );
+
+        assertEquals( 2, result.size() );
+        assertEquals( "Rex", result.get( 0 ).name );
+        assertEquals( 12, ((Dog) result.get( 0 )).barks );
+        assertEquals( "Tom", result.get( 1 ).name );
+        assertEquals( 9, ((Cat) result.get( 1 )).lives );
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.options;
+
+import java.util.List;
+import java.util.Map;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.annotation.JsonInternStrings;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class InternStringsOptionGwtTest extends GwtJacksonTestCase {
+
+    public interface ListInternBeanReader extends ObjectReader<List<InternBean>> {
+
+        static ListInternBeanReader INSTANCE = GWT.create( ListInternBeanReader.class );
+    }
+
+    public interface ListMapReader extends ObjectReader<List<Map<String, Integer>>> {
+
+        static ListMapReader INSTANCE = GWT.create( ListMapReader.class );
+    }
+
+    static class InternBean {
+
+        @JsonInternStrings
+        public String code;
+
+        public List<String> labels;
+    }
+
+    private static final String JSON_BEANS = "[" +
+            "{\"code\":\"FR\",\"labels\":[\"France\"]}," +
+            "{\"code\":\"FR\",\"labels\":[\"France\"]}" +
+            "]";
+
+    public void testDeserializeWithAnnotation() {
+        List<InternBean> result = ListInternBeanReader.INSTANCE.read( JSON_BEANS );
+        assertEquals( 2, result.size() );
+        assertEquals( "FR", result.get( 0 ).code );
+        assertSame( result.get( 0 ).code, result.get( 1 ).code );
+        assertEquals( "France", result.get( 0 ).labels.get( 0 ) );
+        assertEquals( "France", result.get( 1 ).labels.get( 0 ) );
+    }
+
+    public void testDeserializeWithInternStrings() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().internStrings( true ).build();
+        List<InternBean> result = ListInternBeanReader.INSTANCE.read( JSON_BEANS, ctx );
+        assertEquals( 2, result.size() );
+        assertSame( result.get( 0 ).code, result.get( 1 ).code );
+        assertEquals( "France", result.get( 0 ).labels.get( 0 ) );
+        assertSame( result.get( 0 ).labels.get( 0 ), result.get( 1 ).labels.get( 0 ) );
+    }
+
+    public void testDeserializeWithInternKeys() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().internKeys( true ).build();
+        List<Map<String, Integer>> result = ListMapReader.INSTANCE.read( "[{\"count\":1},{\"count\":2}]", ctx );
+        assertEquals( 2, result.size() );
+        assertEquals( Integer.valueOf( 1 ), result.get( 0 ).get( "count" ) );
+        assertEquals( Integer.valueOf( 2 ), result.get( 1 ).get( "count" ) );
+        assertSame( result.get( 0 ).keySet().iterator().next(), result.get( 1 ).keySet().iterator().next() );
+    }
+
+    public void testInternIsBounded() {
+        JsonDeserializationContext ctx = JsonDeserializationContext.builder().build();
+        String value = "value";
+        assertSame( value, ctx.intern( value ) );
+        assertSame( value, ctx.intern( new String( "value" ) ) );
+
+        StringBuilder builder = new StringBuilder();
+        for ( int i = 0; i < 100; i++ ) {
+            builder.append( 'a' );
+        }
+        String longValue = builder.toString();
+        String otherLongValue = builder.toString();
+        assertSame( longValue, ctx.intern( longValue ) );
+        assertSame( otherLongValue, ctx.intern( otherLongValue ) );
+    }
+}
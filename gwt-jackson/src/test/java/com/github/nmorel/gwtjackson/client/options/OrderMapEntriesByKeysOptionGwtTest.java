@@ -34,6 +34,11 @@ public class OrderMapEntriesByKeysOptionGwtTest extends GwtJacksonTestCase {
         static LinkedHashMapStringIntegerWriter INSTANCE = GWT.create( LinkedHashMapStringIntegerWriter.class );
     }
 
+    public interface LinkedHashMapIntegerStringWriter extends ObjectWriter<LinkedHashMap<Integer, String>> {
+
+        static LinkedHashMapIntegerStringWriter INSTANCE = GWT.create( LinkedHashMapIntegerStringWriter.class );
+    }
+
     public void testWriteUnordered() {
         OrderMapEntriesByKeysOptionTester.INSTANCE.testWriteUnordered( createWriter( LinkedHashMapStringIntegerWriter.INSTANCE ) );
     }
@@ -43,4 +48,10 @@ public class OrderMapEntriesByKeysOptionGwtTest extends GwtJacksonTestCase {
                 .testWriteOrdered( createWriter( LinkedHashMapStringIntegerWriter.INSTANCE, JsonSerializationContext.builder()
                         .orderMapEntriesByKeys( true ).build() ) );
     }
+
+    public void testWriteOrderedNumberKeys() {
+        OrderMapEntriesByKeysOptionTester.INSTANCE
+                .testWriteOrderedNumberKeys( createWriter( LinkedHashMapIntegerStringWriter.INSTANCE, JsonSerializationContext.builder()
+                        .orderMapEntriesByKeys( true ).build() ) );
+    }
 }
@@ -34,6 +34,11 @@ public class ByteArrayJsonSerializerTest extends AbstractJsonSerializerTest<byte
         assertSerialization( "\"APXq3w==\"", new byte[]{0, -11, -22, -33} );
         assertSerialization( "\"AGScAA==\"", new byte[]{0, 100, -100, 0} );
         assertSerialization( "\"\"", new byte[0] );
+        assertSerialization( "\"AQ==\"", new byte[]{1} );
+        assertSerialization( "\"AQI=\"", new byte[]{1, 2} );
+        assertSerialization( "\"AQID\"", new byte[]{1, 2, 3} );
+        assertSerialization( "\"/+7dzLuqmYh3ZlVEMyIRAA==\"", new byte[]{-1, -18, -35, -52, -69, -86, -103, -120, 119, 102, 85, 68, 51, 34, 17,
+                0} );
     }
 
 }
@@ -156,6 +156,56 @@ public abstract class AbstractJsonReaderTest extends GwtJacksonTestCase {
         assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
     }
 
+    public void testScanPropertyValue() {
+        JsonReader reader = newJsonReader( "{\"a\":{\"type\":\"wrong\",\"b\":[1,2]},\n\"c\":null,\"ty\\u0070e\":\"right\",\"d\":1.5}" );
+        JsonPropertyScanner scanner = (JsonPropertyScanner) reader;
+        reader.beginObject();
+        assertEquals( "right", scanner.scanPropertyValue( "type" ) );
+        assertNull( scanner.scanPropertyValue( "c" ) );
+        assertEquals( "1.5", scanner.scanPropertyValue( "d" ) );
+        assertNull( scanner.scanPropertyValue( "unknown" ) );
+
+        // nothing has been consumed
+        assertEquals( 1, reader.getLineNumber() );
+        assertEquals( "a", reader.nextName() );
+        reader.beginObject();
+        assertEquals( "wrong", scanner.scanPropertyValue( "type" ) );
+        assertEquals( "type", reader.nextName() );
+        assertEquals( "wrong", reader.nextString() );
+        assertEquals( "b", reader.nextName() );
+        reader.skipValue();
+        reader.endObject();
+        assertEquals( "c", reader.nextName() );
+        reader.nextNull();
+        assertEquals( "type", reader.nextName() );
+        assertEquals( "right", reader.nextString() );
+        assertEquals( "d", reader.nextName() );
+        assertEquals( 1.5, reader.nextDouble() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testScanPropertyValueAcrossBuffer() {
+        StringBuilder json = new StringBuilder( "{\"a\":\"" );
+        for ( int i = 0; i < 3000; i++ ) {
+            json.append( 'x' );
+        }
+        json.append( "\",\"b\":12,\"type\":\"found\"}" );
+
+        JsonReader reader = newJsonReader( json.toString() );
+        JsonPropertyScanner scanner = (JsonPropertyScanner) reader;
+        reader.beginObject();
+        assertEquals( JsonToken.NAME, reader.peek() );
+        assertEquals( "found", scanner.scanPropertyValue( "type" ) );
+        assertEquals( "a", reader.nextName() );
+        assertEquals( 3000, reader.nextString().length() );
+        assertEquals( "b", reader.nextName() );
+        assertEquals( 12, reader.nextInt() );
+        assertEquals( "type", reader.nextName() );
+        assertEquals( "found", reader.nextString() );
+        reader.endObject();
+    }
+
     public void testHelloWorld() {
         String json = "{\n" +
                 "   \"hello\": true,\n" +
@@ -192,6 +242,21 @@ public abstract class AbstractJsonReaderTest extends GwtJacksonTestCase {
         }
     }
 
+    public void testStringsWithAndWithoutEscapes() {
+        JsonReader reader = newJsonReader( "{\"a\":\"plain\",\"b\\\"c\":\"x\\ny\\u0041\",\"\":\"\",\"d\":\"\\\\\"}" );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        assertEquals( "plain", reader.nextString() );
+        assertEquals( "b\"c", reader.nextName() );
+        assertEquals( "x\nyA", reader.nextString() );
+        assertEquals( "", reader.nextName() );
+        assertEquals( "", reader.nextString() );
+        assertEquals( "d", reader.nextName() );
+        assertEquals( "\\", reader.nextString() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
     public void testNoTopLevelObject() {
         try {
             newJsonReader( "true" ).nextBoolean();
@@ -1646,6 +1711,14 @@ public abstract class AbstractJsonReaderTest extends GwtJacksonTestCase {
         reader.endObject();
     }
 
+    public void testNextValueNumbers() {
+        JsonReader reader = newJsonReader( "{\"value\":{\"int\":12,\"double\":48.85,\"exp\":1e3}}" );
+        reader.beginObject();
+        assertEquals( "value", reader.nextName() );
+        assertEquals( "{\"int\":12,\"double\":48.85,\"exp\":1e3}", reader.nextValue() );
+        reader.endObject();
+    }
+
     public void testNextNumber() {
         JsonReader reader = newJsonReader( "[" +
                 "123," +
@@ -1855,6 +1928,67 @@ public abstract class AbstractJsonReaderTest extends GwtJacksonTestCase {
         }
     }
 
+    public void testGetPath() {
+        JsonReader reader = newJsonReader( "{\"a\": [1, {\"b/c\": true, \"d\": [\"x\", \"y\"]}], \"e~\": null}" );
+        JsonReaderLocation location = (JsonReaderLocation) reader;
+        assertEquals( "", location.getPath() );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        assertEquals( "/a", location.getPath() );
+        reader.beginArray();
+        assertEquals( "/a/0", location.getPath() );
+        assertEquals( 1, reader.nextInt() );
+        reader.beginObject();
+        assertEquals( "/a/1", location.getPath() );
+        assertEquals( "b/c", reader.nextName() );
+        assertEquals( "/a/1/b~1c", location.getPath() );
+        assertTrue( reader.nextBoolean() );
+        assertNull( ((JsonPropertyScanner) reader).scanPropertyValue( "unknown" ) );
+        assertEquals( "/a/1/b~1c", location.getPath() );
+        assertEquals( "d", reader.nextName() );
+        reader.beginArray();
+        reader.skipValue();
+        assertEquals( "y", reader.nextString() );
+        assertEquals( "/a/1/d/1", location.getPath() );
+        reader.endArray();
+        reader.endObject();
+        reader.endArray();
+        assertEquals( "/a", location.getPath() );
+        assertEquals( "e~", reader.nextName() );
+        assertEquals( "/e~0", location.getPath() );
+        reader.nextNull();
+        reader.endObject();
+        assertEquals( "", location.getPath() );
+    }
+
+    public void testGetInputExcerpt() {
+        StringBuilder builder = new StringBuilder( "[" );
+        for ( int i = 0; i < 100; i++ ) {
+            builder.append( i ).append( ',' );
+        }
+        builder.append( "\"error\"]" );
+        String input = builder.toString();
+
+        JsonReader reader = newJsonReader( input );
+        JsonReaderLocation location = (JsonReaderLocation) reader;
+        assertEquals( input, location.getInputExcerpt( input.length() ) );
+
+        reader.beginArray();
+        for ( int i = 0; i < 100; i++ ) {
+            reader.nextInt();
+        }
+        try {
+            reader.nextInt();
+            fail();
+        } catch ( NumberFormatException expected ) {
+        }
+        assertEquals( "/100", location.getPath() );
+        String excerpt = location.getInputExcerpt( 20 );
+        assertTrue( excerpt, excerpt.startsWith( "..." ) );
+        assertTrue( excerpt, excerpt.contains( "99," ) );
+        assertTrue( excerpt.length() <= 26 );
+    }
+
     /**
      * Returns a reader that returns one character at a time.
      */
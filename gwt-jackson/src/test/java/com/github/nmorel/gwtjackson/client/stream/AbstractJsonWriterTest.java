@@ -255,6 +255,17 @@ public abstract class AbstractJsonWriterTest extends GwtJacksonTestCase {
                 .getOutput() );
     }
 
+    public void testEscapeFreeStrings() {
+        JsonWriter jsonWriter = newJsonWriter();
+        jsonWriter.beginObject();
+        jsonWriter.name( "id" ).value( "AB-12_x.y ~!#$%&'()*+,/:;<=>?@[]^`{|}" );
+        jsonWriter.name( "empty" ).value( "" );
+        jsonWriter.name( "a\"b" ).value( "caf\u00e9 \\ \"" );
+        jsonWriter.endObject();
+        assertEquals( "{\"id\":\"AB-12_x.y ~!#$%&'()*+,/:;<=>?@[]^`{|}\",\"empty\":\"\",\"a\\\"b\":\"caf\u00e9 \\\\ \\\"\"}",
+                jsonWriter.getOutput() );
+    }
+
     public void testUnicodeLineBreaksEscaped() {
         JsonWriter jsonWriter = newJsonWriter();
         jsonWriter.beginArray();
@@ -538,4 +549,38 @@ public abstract class AbstractJsonWriterTest extends GwtJacksonTestCase {
 
         assertEquals( "{\"jso\":{\"firstName\":\"Bob\",\"lastName\":\"Morane\"}}", jsonWriter.getOutput() );
     }
+
+    public void testGetPath() {
+        JsonWriter jsonWriter = newJsonWriter();
+        JsonWriterLocation location = (JsonWriterLocation) jsonWriter;
+        assertEquals( "", location.getPath() );
+        jsonWriter.beginObject();
+        jsonWriter.name( "a" );
+        assertEquals( "/a", location.getPath() );
+        jsonWriter.beginArray();
+        jsonWriter.value( 1 );
+        assertEquals( "/a/0", location.getPath() );
+        jsonWriter.beginObject();
+        assertEquals( "/a/1", location.getPath() );
+        jsonWriter.name( "b/c" );
+        assertEquals( "/a/1/b~1c", location.getPath() );
+        jsonWriter.value( true );
+        jsonWriter.endObject();
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+        jsonWriter.close();
+    }
+
+    public void testGetOutputExcerpt() {
+        JsonWriter jsonWriter = newJsonWriter();
+        JsonWriterLocation location = (JsonWriterLocation) jsonWriter;
+        jsonWriter.beginArray();
+        for ( int i = 0; i < 100; i++ ) {
+            jsonWriter.value( i );
+        }
+        assertEquals( "...96,97,98,99", location.getOutputExcerpt( 11 ) );
+        jsonWriter.endArray();
+        jsonWriter.close();
+        assertEquals( jsonWriter.getOutput(), location.getOutputExcerpt( 1000 ) );
+    }
 }
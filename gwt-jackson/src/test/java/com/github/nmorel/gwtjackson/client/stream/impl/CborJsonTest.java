@@ -0,0 +1,340 @@
+/*
+ * Copyright 2014 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriter;
+import com.github.nmorel.gwtjackson.client.stream.JsonWriterLocation;
+
+/**
+ * @author Nicolas Morel
+ */
+public class CborJsonTest extends GwtJacksonTestCase {
+
+    private static String bytes( int... values ) {
+        StringBuilder builder = new StringBuilder();
+        for ( int value : values ) {
+            builder.append( (char) value );
+        }
+        return builder.toString();
+    }
+
+    private static JsonWriter newWriter( boolean stringReferences ) {
+        JsonWriter writer = new CborJsonWriter( new StringBuilder(), stringReferences );
+        writer.setLenient( true );
+        return writer;
+    }
+
+    public void testWriteObject() {
+        JsonWriter writer = newWriter( false );
+        writer.beginObject();
+        writer.name( "a" ).value( 1 );
+        writer.name( "b" ).beginArray().value( true ).nullValue().value( -1 ).endArray();
+        writer.name( "c" ).value( "\u00fc" );
+        writer.endObject();
+        writer.close();
+
+        assertEquals( bytes( 0xbf, 0x61, 0x61, 0x01, 0x61, 0x62, 0x9f, 0xf5, 0xf6, 0x20, 0xff, 0x61, 0x63, 0x62, 0xc3, 0xbc, 0xff ),
+                writer.getOutput() );
+    }
+
+    public void testWriteIntegers() {
+        JsonWriter writer = newWriter( false );
+        writer.beginArray().value( 23 ).value( 24 ).value( 1000 ).value( 1000000 ).value( 1000000000000L ).value( -1000 ).endArray();
+        writer.close();
+
+        assertEquals( bytes( 0x9f, 0x17, 0x18, 0x18, 0x19, 0x03, 0xe8, 0x1a, 0x00, 0x0f, 0x42, 0x40, 0x1b, 0x00, 0x00, 0x00, 0xe8, 0xd4,
+                0xa5, 0x10, 0x00, 0x39, 0x03, 0xe7, 0xff ), writer.getOutput() );
+    }
+
+    public void testSkipNullName() {
+        JsonWriter writer = newWriter( false );
+        writer.setSerializeNulls( false );
+        writer.beginObject().name( "a" ).nullValue().name( "b" ).value( false ).endObject();
+        writer.close();
+
+        assertEquals( bytes( 0xbf, 0x61, 0x62, 0xf4, 0xff ), writer.getOutput() );
+    }
+
+    public void testReadDefiniteLength() {
+        // {"a": 1, "b": [2, 3]} from RFC 7049
+        JsonReader reader = new CborJsonReader( bytes( 0xa2, 0x61, 0x61, 0x01, 0x61, 0x62, 0x82, 0x02, 0x03 ) );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        assertEquals( 1, reader.nextInt() );
+        assertEquals( "b", reader.nextName() );
+        reader.beginArray();
+        assertEquals( JsonToken.NUMBER, reader.peek() );
+        assertEquals( 2, reader.nextInt() );
+        assertEquals( 3L, reader.nextLong() );
+        assertFalse( reader.hasNext() );
+        reader.endArray();
+        assertFalse( reader.hasNext() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testReadFloatingPoints() {
+        // half 1.0, half -4.0, half 5.960464477539063e-8, single 100000.0, double 1.1
+        JsonReader reader = new CborJsonReader( bytes( 0x85, 0xf9, 0x3c, 0x00, 0xf9, 0xc4, 0x00, 0xf9, 0x00, 0x01, 0xfa, 0x47, 0xc3, 0x50,
+                0x00, 0xfb, 0x3f, 0xf1, 0x99, 0x99, 0x99, 0x99, 0x99, 0x9a ) );
+        reader.beginArray();
+        assertEquals( 1.0, reader.nextDouble(), 0 );
+        assertEquals( -4.0, reader.nextDouble(), 0 );
+        assertEquals( 5.960464477539063e-8, reader.nextDouble(), 0 );
+        assertEquals( 100000L, reader.nextLong() );
+        assertEquals( 1.1, reader.nextDouble(), 0 );
+        reader.endArray();
+    }
+
+    public void testRoundTripValues() {
+        BigInteger bigInteger = new BigInteger( "-123456789012345678901234567890" );
+        BigDecimal bigDecimal = new BigDecimal( "12345678901234567890.0123456789" );
+
+        JsonWriter writer = newWriter( false );
+        writer.beginArray();
+        writer.value( Long.MAX_VALUE ).value( Long.MIN_VALUE ).value( 3.14 ).value( bigInteger ).value( bigDecimal );
+        writer.value( "" ).value( "caf\u00e9 \u6c34 \ud834\udd1e" ).value( true );
+        writer.endArray();
+        writer.close();
+
+        JsonReader reader = new CborJsonReader( writer.getOutput() );
+        reader.beginArray();
+        assertEquals( Long.MAX_VALUE, reader.nextLong() );
+        assertEquals( Long.valueOf( Long.MIN_VALUE ), reader.nextNumber() );
+        assertEquals( 3.14, reader.nextDouble(), 0 );
+        assertEquals( bigInteger, reader.nextNumber() );
+        assertEquals( bigDecimal, reader.nextNumber() );
+        assertEquals( "", reader.nextString() );
+        assertEquals( "caf\u00e9 \u6c34 \ud834\udd1e", reader.nextString() );
+        assertTrue( reader.nextBoolean() );
+        reader.endArray();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testNonFiniteDoubles() {
+        JsonWriter writer = newWriter( false );
+        writer.beginArray().value( Double.NaN ).value( Double.POSITIVE_INFINITY ).value( Double.NEGATIVE_INFINITY ).endArray();
+        writer.close();
+
+        JsonReader reader = new CborJsonReader( writer.getOutput() );
+        reader.beginArray();
+        assertTrue( Double.isNaN( reader.nextDouble() ) );
+        assertEquals( Double.POSITIVE_INFINITY, reader.nextDouble(), 0 );
+        assertEquals( Double.NEGATIVE_INFINITY, reader.nextDouble(), 0 );
+        reader.endArray();
+
+        JsonWriter strictWriter = new CborJsonWriter( new StringBuilder(), false );
+        strictWriter.beginArray();
+        try {
+            strictWriter.value( Double.NaN );
+            fail( "IllegalArgumentException should be thrown!" );
+        } catch ( IllegalArgumentException e ) {
+        }
+    }
+
+    public void testNumberAsString() {
+        JsonReader reader = new CborJsonReader( bytes( 0x83, 0x19, 0x03, 0xe8, 0x63, 0x31, 0x32, 0x33, 0xf5 ) );
+        reader.beginArray();
+        assertEquals( "1000", reader.nextString() );
+        assertEquals( 123, reader.nextInt() );
+        try {
+            reader.nextString();
+            fail();
+        } catch ( IllegalStateException expected ) {
+        }
+    }
+
+    public void testStringReferences() {
+        JsonWriter writer = newWriter( true );
+        writer.beginArray();
+        for ( int i = 0; i < 3; i++ ) {
+            writer.beginObject().name( "name" ).value( "value" ).name( "id" ).value( i ).endObject();
+        }
+        writer.endArray();
+        writer.close();
+
+        // tag 256, [ {"name":"value","id":0}, {ref 0: ref 1, "id":1}, ... ]
+        // "id" is too short to be referenced
+        assertEquals( bytes( 0xd9, 0x01, 0x00, 0x9f, 0xbf, 0x64, 'n', 'a', 'm', 'e', 0x65, 'v', 'a', 'l', 'u', 'e', 0x62, 'i', 'd', 0x00,
+                0xff, 0xbf, 0xd8, 0x19, 0x00, 0xd8, 0x19, 0x01, 0x62, 'i', 'd', 0x01, 0xff, 0xbf, 0xd8, 0x19, 0x00, 0xd8, 0x19, 0x01, 0x62,
+                'i', 'd', 0x02, 0xff, 0xff ), writer.getOutput() );
+
+        JsonReader reader = new CborJsonReader( writer.getOutput() );
+        reader.beginArray();
+        for ( int i = 0; i < 3; i++ ) {
+            reader.beginObject();
+            assertEquals( "name", reader.nextName() );
+            assertEquals( "value", reader.nextString() );
+            assertEquals( "id", reader.nextName() );
+            assertEquals( i, reader.nextInt() );
+            reader.endObject();
+        }
+        reader.endArray();
+    }
+
+    public void testStringReferenceNamespaceScope() {
+        // tag 256, [ tag 256, ["abc"], "xyz", ref 0 ]
+        String input = bytes( 0xd9, 0x01, 0x00, 0x83, 0xd9, 0x01, 0x00, 0x81, 0x63, 'a', 'b', 'c', 0x63, 'x', 'y', 'z', 0xd8, 0x19,
+                0x00 );
+        JsonReader reader = new CborJsonReader( input );
+        reader.beginArray();
+        reader.beginArray();
+        assertEquals( "abc", reader.nextString() );
+        reader.endArray();
+        assertEquals( "xyz", reader.nextString() );
+        // the reference points to the outer namespace, the nested one ended with its array
+        assertEquals( "xyz", reader.nextString() );
+        reader.endArray();
+
+        // tag 256, [ tag 256, "abc", "xyz", ref 0 ]
+        input = bytes( 0xd9, 0x01, 0x00, 0x83, 0xd9, 0x01, 0x00, 0x63, 'a', 'b', 'c', 0x63, 'x', 'y', 'z', 0xd8, 0x19, 0x00 );
+        reader = new CborJsonReader( input );
+        reader.beginArray();
+        assertEquals( "abc", reader.nextString() );
+        assertEquals( "xyz", reader.nextString() );
+        assertEquals( "xyz", reader.nextString() );
+        reader.endArray();
+    }
+
+    public void testReadArguments() {
+        // 255, 65535, 4294967295, -2147483648, -4294967296, single -100.0
+        JsonReader reader = new CborJsonReader( bytes( 0x86, 0x18, 0xff, 0x19, 0xff, 0xff, 0x1a, 0xff, 0xff, 0xff, 0xff, 0x3a, 0x7f,
+                0xff, 0xff, 0xff, 0x3a, 0xff, 0xff, 0xff, 0xff, 0xfa, 0xc2, 0xc8, 0x00, 0x00 ) );
+        reader.beginArray();
+        assertEquals( 255, reader.nextInt() );
+        assertEquals( 65535, reader.nextInt() );
+        assertEquals( 4294967295L, reader.nextLong() );
+        assertEquals( Integer.MIN_VALUE, reader.nextInt() );
+        assertEquals( -4294967296L, reader.nextLong() );
+        assertEquals( -100.0, reader.nextDouble(), 0 );
+        reader.endArray();
+    }
+
+    public void testNextValue() {
+        JsonWriter writer = newWriter( true );
+        writer.beginArray();
+        writer.beginObject().name( "name" ).value( "first" ).endObject();
+        writer.beginObject().name( "name" ).value( "second" ).endObject();
+        writer.endArray();
+        writer.close();
+
+        JsonReader reader = new CborJsonReader( writer.getOutput() );
+        reader.beginArray();
+        reader.skipValue();
+        // the value references "name" written in the first object
+        String value = reader.nextValue();
+        reader.endArray();
+
+        reader = new CborJsonReader( value );
+        reader.beginObject();
+        assertEquals( "name", reader.nextName() );
+        assertEquals( "second", reader.nextString() );
+        reader.endObject();
+
+        // without references, the value is returned as is
+        String input = bytes( 0x82, 0x61, 0x61, 0xa1, 0x61, 0x62, 0x01 );
+        reader = new CborJsonReader( input );
+        reader.beginArray();
+        reader.skipValue();
+        assertEquals( input.substring( 3 ), reader.nextValue() );
+        reader.endArray();
+    }
+
+    public void testScanPropertyValue() {
+        JsonWriter writer = newWriter( true );
+        writer.beginObject();
+        writer.name( "first" ).beginArray().value( "shared" ).endArray();
+        writer.name( "type" ).value( "shared" );
+        writer.endObject();
+        writer.close();
+
+        CborJsonReader reader = new CborJsonReader( writer.getOutput() );
+        reader.beginObject();
+        assertEquals( "shared", reader.scanPropertyValue( "type" ) );
+        assertNull( reader.scanPropertyValue( "unknown" ) );
+        assertEquals( "first", reader.nextName() );
+        reader.beginArray();
+        assertEquals( "shared", reader.nextString() );
+        reader.endArray();
+        assertEquals( "type", reader.nextName() );
+        assertEquals( "shared", reader.nextString() );
+        reader.endObject();
+    }
+
+    public void testRawValue() {
+        JsonWriter writer = newWriter( false );
+        writer.beginObject().name( "raw" ).rawValue( "{\"a\":[1,null]}" ).endObject();
+        writer.close();
+
+        assertEquals( bytes( 0xbf, 0x63, 'r', 'a', 'w', 0xbf, 0x61, 'a', 0x9f, 0x01, 0xf6, 0xff, 0xff, 0xff ), writer.getOutput() );
+    }
+
+    public void testTruncatedInput() {
+        JsonReader reader = new CborJsonReader( bytes( 0x82, 0x01 ) );
+        reader.beginArray();
+        reader.nextInt();
+        try {
+            reader.nextInt();
+            fail();
+        } catch ( MalformedJsonException expected ) {
+        }
+    }
+
+    public void testGetPath() {
+        JsonWriter writer = newWriter( false );
+        JsonWriterLocation writerLocation = (JsonWriterLocation) writer;
+        writer.beginObject();
+        writer.name( "a" ).beginArray().value( 1 );
+        assertEquals( "/a/0", writerLocation.getPath() );
+        writer.beginObject().name( "b" );
+        assertEquals( "/a/1/b", writerLocation.getPath() );
+        writer.value( true ).endObject().endArray();
+        writer.endObject();
+        writer.close();
+
+        CborJsonReader reader = new CborJsonReader( writer.getOutput() );
+        reader.beginObject();
+        assertEquals( "a", reader.nextName() );
+        reader.beginArray();
+        assertEquals( "/a/0", reader.getPath() );
+        reader.nextInt();
+        reader.beginObject();
+        assertEquals( "/a/1", reader.getPath() );
+        assertEquals( "b", reader.nextName() );
+        assertEquals( "/a/1/b", reader.getPath() );
+        assertNull( reader.scanPropertyValue( "c" ) );
+        assertEquals( "/a/1/b", reader.getPath() );
+    }
+
+    public void testExcerpt() {
+        JsonWriter writer = newWriter( false );
+        JsonWriterLocation writerLocation = (JsonWriterLocation) writer;
+        writer.beginArray().value( 1 ).value( 2 ).value( 3 ).endArray();
+        assertEquals( "...01 02 03 ff", writerLocation.getOutputExcerpt( 4 ) );
+        writer.close();
+
+        CborJsonReader reader = new CborJsonReader( writer.getOutput() );
+        assertEquals( "9f 01 02 03 ff", reader.getInputExcerpt( 10 ) );
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+
+/**
+ * @author Nicolas Morel
+ */
+public class IntArrayTest extends GwtJacksonTestCase {
+
+    public void testSetAndGet() {
+        IntArray array = IntArray.create();
+        // more values than the initial capacity of the Java implementation
+        for ( int i = 0; i < 100; i++ ) {
+            array.set( i, i * 2 );
+        }
+        array.set( 10, -1 );
+        for ( int i = 0; i < 100; i++ ) {
+            assertEquals( i == 10 ? -1 : i * 2, array.get( i ) );
+        }
+    }
+
+    public void testSetBeyondSize() {
+        IntArray array = IntArray.create();
+        array.set( 0, 1 );
+        array.set( 200, 2 );
+        assertEquals( 1, array.get( 0 ) );
+        assertEquals( 2, array.get( 200 ) );
+    }
+}
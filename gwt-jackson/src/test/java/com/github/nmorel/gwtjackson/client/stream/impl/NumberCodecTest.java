@@ -0,0 +1,98 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+
+/**
+ * @author Nicolas Morel
+ */
+public class NumberCodecTest extends GwtJacksonTestCase {
+
+    public void testFormatDouble() {
+        // same format as Double.toString
+        double[] values = {1d, -1d, 0d, -0d, 0.1d, -1234.5d, 0.001d, 9999999d, 1e7d, 1e-4d, 0.1d + 0.2d, Math.PI, Double.MAX_VALUE,
+                Double.MIN_VALUE};
+        for ( double value : values ) {
+            assertEquals( Double.toString( value ), NumberCodec.formatDouble( value ) );
+        }
+        assertEquals( 0.1d + 0.2d, Double.parseDouble( NumberCodec.formatDouble( 0.1d + 0.2d ) ) );
+        assertEquals( Double.MAX_VALUE, Double.parseDouble( NumberCodec.formatDouble( Double.MAX_VALUE ) ) );
+        assertEquals( Double.MIN_VALUE, Double.parseDouble( NumberCodec.formatDouble( Double.MIN_VALUE ) ) );
+    }
+
+    public void testFormatLong() {
+        assertEquals( "0", NumberCodec.formatLong( 0l ) );
+        assertEquals( "-123456789012", NumberCodec.formatLong( -123456789012l ) );
+        assertEquals( "9007199254740991", NumberCodec.formatLong( 9007199254740991l ) );
+        assertEquals( "9007199254740993", NumberCodec.formatLong( 9007199254740993l ) );
+        assertEquals( "9223372036854775807", NumberCodec.formatLong( Long.MAX_VALUE ) );
+        assertEquals( "-9223372036854775808", NumberCodec.formatLong( Long.MIN_VALUE ) );
+    }
+
+    public void testFormatNumber() {
+        assertEquals( "12", NumberCodec.formatNumber( 12 ) );
+        assertEquals( "12.5", NumberCodec.formatNumber( 12.5d ) );
+        assertEquals( "NaN", NumberCodec.formatNumber( Double.NaN ) );
+        assertEquals( "123456789012", NumberCodec.formatNumber( 123456789012l ) );
+        assertEquals( "-1234", NumberCodec.formatNumber( new BigInteger( "-1234" ) ) );
+        assertEquals( "123456789012345678901234567890", NumberCodec.formatNumber( new BigInteger( "123456789012345678901234567890" ) ) );
+        assertEquals( "1234", NumberCodec.formatNumber( new BigDecimal( "1234" ) ) );
+        assertEquals( "12.50", NumberCodec.formatNumber( new BigDecimal( "12.50" ) ) );
+        assertEquals( "1.2E+5", NumberCodec.formatNumber( new BigDecimal( "1.2E+5" ) ) );
+    }
+
+    public void testParseDouble() {
+        assertEquals( 1500d, NumberCodec.parseDouble( "[1.5e3]", 1, 6 ) );
+        assertEquals( -0.001d, NumberCodec.parseDouble( "-0.001" ) );
+        assertEquals( 0.1d, NumberCodec.parseDouble( "0.1" ) );
+        assertEquals( 123456789.123456789d, NumberCodec.parseDouble( "123456789.123456789" ) );
+        assertEquals( 1e-300d, NumberCodec.parseDouble( "1E-300" ) );
+        assertEquals( 4.9e-324d, NumberCodec.parseDouble( "4.9e-324" ) );
+        assertEquals( 12d, NumberCodec.parseDouble( "1.2E+1" ) );
+        assertEquals( Double.POSITIVE_INFINITY, NumberCodec.parseDouble( "1e400" ) );
+    }
+
+    public void testParseBigInteger() {
+        assertEquals( BigInteger.ZERO, NumberCodec.parseBigInteger( "0" ) );
+        assertEquals( BigInteger.valueOf( -42 ), NumberCodec.parseBigInteger( "-42" ) );
+        assertEquals( new BigInteger( "999999999999999" ), NumberCodec.parseBigInteger( "999999999999999" ) );
+        assertEquals( new BigInteger( "12345678901234567890" ), NumberCodec.parseBigInteger( "12345678901234567890" ) );
+        try {
+            NumberCodec.parseBigInteger( "1.5" );
+            fail();
+        } catch ( NumberFormatException expected ) {
+        }
+    }
+
+    public void testParseBigDecimal() {
+        assertEquals( new BigDecimal( "-12.50" ), NumberCodec.parseBigDecimal( "-12.50" ) );
+        assertEquals( 2, NumberCodec.parseBigDecimal( "-12.50" ).scale() );
+        assertEquals( new BigDecimal( ".5" ), NumberCodec.parseBigDecimal( ".5" ) );
+        assertEquals( new BigDecimal( "5." ), NumberCodec.parseBigDecimal( "5." ) );
+        assertEquals( new BigDecimal( "1e3" ), NumberCodec.parseBigDecimal( "1e3" ) );
+        assertEquals( new BigDecimal( "1234567890.123456789" ), NumberCodec.parseBigDecimal( "1234567890.123456789" ) );
+        try {
+            NumberCodec.parseBigDecimal( "1.2.3" );
+            fail();
+        } catch ( NumberFormatException expected ) {
+        }
+    }
+}
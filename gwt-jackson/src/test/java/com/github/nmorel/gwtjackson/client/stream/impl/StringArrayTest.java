@@ -0,0 +1,45 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.stream.impl;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+
+/**
+ * @author Nicolas Morel
+ */
+public class StringArrayTest extends GwtJacksonTestCase {
+
+    public void testSetAndGet() {
+        StringArray array = StringArray.create();
+        // more values than the initial capacity of the Java implementation
+        for ( int i = 0; i < 100; i++ ) {
+            array.set( i, "name" + i );
+        }
+        array.set( 10, null );
+        for ( int i = 0; i < 100; i++ ) {
+            assertEquals( i == 10 ? null : "name" + i, array.get( i ) );
+        }
+    }
+
+    public void testSetBeyondSize() {
+        StringArray array = StringArray.create();
+        array.set( 0, "first" );
+        array.set( 200, "last" );
+        assertEquals( "first", array.get( 0 ) );
+        assertEquals( "last", array.get( 200 ) );
+    }
+}
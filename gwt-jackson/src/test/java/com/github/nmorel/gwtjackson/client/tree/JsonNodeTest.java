@@ -0,0 +1,243 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.tree;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.List;
+
+import com.github.nmorel.gwtjackson.client.GwtJacksonTestCase;
+import com.github.nmorel.gwtjackson.client.JsonDeserializationContext;
+import com.github.nmorel.gwtjackson.client.ObjectReader;
+import com.github.nmorel.gwtjackson.client.ObjectTreeReader;
+import com.github.nmorel.gwtjackson.client.exception.JsonDeserializationException;
+import com.github.nmorel.gwtjackson.client.stream.JsonReader;
+import com.github.nmorel.gwtjackson.client.stream.JsonToken;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * @author Nicolas Morel
+ */
+public class JsonNodeTest extends GwtJacksonTestCase {
+
+    public interface PersonReader extends ObjectReader<Person>, ObjectTreeReader<Person> {
+
+        static PersonReader INSTANCE = GWT.create( PersonReader.class );
+    }
+
+    public static class Person {
+
+        public String name;
+
+        public int age;
+
+        public List<String> tags;
+    }
+
+    private static final String JSON = "{\n" +
+            "  \"count\" : 2,\n" +
+            "  \"users\" : [\n" +
+            "    {\"name\":\"John \\\"Doe\\\"\",\"age\":42,\"tags\":[\"a\",\"b\"]},\n" +
+            "    {\"name\":\"Jane\",\"age\":24,\"tags\":[]}\n" +
+            "  ],\n" +
+            "  \"a/b\" : {\"m~n\" : true},\n" +
+            "  \"empty\" : {},\n" +
+            "  \"nothing\" : null\n" +
+            "}";
+
+    /**
+     * Parses the input with the implementation under test
+     */
+    protected JsonNode parse( String input ) {
+        return TextJsonNode.newRoot( input );
+    }
+
+    public void testParse() {
+        JsonNode root = JsonNode.parse( "{\"a\":[1]}" );
+        // the native implementation is only used in compiled mode
+        assertEquals( GWT.isScript(), root instanceof NativeJsonNode );
+        assertEquals( 1, root.at( "/a/0" ).intValue() );
+    }
+
+    public void testNavigation() {
+        JsonNode root = parse( JSON );
+        assertTrue( root.isObject() );
+        assertEquals( 5, root.size() );
+
+        Iterator<String> names = root.fieldNames();
+        assertEquals( "count", names.next() );
+        assertEquals( "users", names.next() );
+        assertEquals( "a/b", names.next() );
+        assertEquals( "empty", names.next() );
+        assertEquals( "nothing", names.next() );
+        assertFalse( names.hasNext() );
+
+        assertEquals( 2, root.get( "count" ).intValue() );
+        assertTrue( root.get( "users" ).isArray() );
+        assertEquals( 2, root.get( "users" ).size() );
+        assertEquals( "John \"Doe\"", root.get( "users" ).get( 0 ).get( "name" ).textValue() );
+        assertEquals( 0, root.get( "empty" ).size() );
+        assertTrue( root.get( "nothing" ).isNull() );
+        assertTrue( root.has( "nothing" ) );
+        assertFalse( root.has( "unknown" ) );
+        assertNull( root.get( "unknown" ) );
+        assertNull( root.get( 0 ) );
+        assertNull( root.get( "users" ).get( 2 ) );
+    }
+
+    public void testAt() {
+        JsonNode root = parse( JSON );
+        assertSame( root, root.at( "" ) );
+        assertEquals( 24, root.at( "/users/1/age" ).intValue() );
+        assertEquals( "b", root.at( "/users/0/tags/1" ).textValue() );
+        assertTrue( root.at( "/a~1b/m~0n" ).booleanValue() );
+        assertNull( root.at( "/users/5/age" ) );
+        assertNull( root.at( "/users/first" ) );
+        assertNull( root.at( "/count/value" ) );
+    }
+
+    public void testValues() {
+        JsonNode root = parse( "[\"a\\u0041\\n\", 12, -3000000000, 1.5e2, true, false, null]" );
+        assertEquals( JsonNodeType.STRING, root.get( 0 ).getNodeType() );
+        assertEquals( "aA\n", root.get( 0 ).textValue() );
+        assertEquals( Integer.valueOf( 12 ), root.get( 1 ).numberValue() );
+        assertEquals( "12", root.get( 1 ).asText() );
+        assertEquals( Long.valueOf( -3000000000l ), root.get( 2 ).numberValue() );
+        assertEquals( 150d, root.get( 3 ).doubleValue() );
+        assertTrue( root.get( 4 ).booleanValue() );
+        assertEquals( "true", root.get( 4 ).asText() );
+        assertFalse( root.get( 5 ).booleanValue() );
+        assertEquals( JsonNodeType.NULL, root.get( 6 ).getNodeType() );
+        assertEquals( "null", root.get( 6 ).asText() );
+        assertNull( root.get( 6 ).textValue() );
+        assertEquals( -0.5e-3, parse( "-0.5E-3" ).doubleValue() );
+        assertEquals( 10d, parse( "1e+1" ).doubleValue() );
+        assertEquals( "abc", parse( "\"abc\"" ).textValue() );
+    }
+
+    public void testNumbersAsWritten() {
+        JsonNode root = parse( "[123456789012345678901234567890, 1.5e2]" );
+        assertEquals( new BigInteger( "123456789012345678901234567890" ), root.get( 0 ).numberValue() );
+        assertEquals( Double.valueOf( 150d ), root.get( 1 ).numberValue() );
+        assertEquals( "1.5e2", root.get( 1 ).asText() );
+    }
+
+    public void testToString() {
+        JsonNode root = parse( "  {\"a\" : [1, {\"b\":\"]}\"}] }  " );
+        assertEquals( "{\"a\" : [1, {\"b\":\"]}\"}] }", root.toString() );
+        assertEquals( "[1, {\"b\":\"]}\"}]", root.get( "a" ).toString() );
+        assertEquals( "\"]}\"", root.at( "/a/1/b" ).toString() );
+    }
+
+    public void testInvalidInput() {
+        assertInvalid( "" );
+        assertInvalid( "{\"a\":1" );
+        assertInvalid( "\"abc" );
+        assertInvalid( "{} {}" );
+        assertInvalid( "undefined" );
+        assertInvalid( "-" );
+        assertInvalid( "1e" );
+        assertInvalid( "1.e5" );
+        assertInvalid( "01" );
+
+        // nested values are only checked when accessed
+        JsonNode root = parse( "{\"a\":[1 2]}" );
+        try {
+            root.get( "a" ).size();
+            fail( "JsonDeserializationException should be thrown!" );
+        } catch ( JsonDeserializationException e ) {
+        }
+        try {
+            parse( "[1, -a]" ).get( 1 );
+            fail( "JsonDeserializationException should be thrown!" );
+        } catch ( JsonDeserializationException e ) {
+        }
+    }
+
+    protected void assertInvalid( String input ) {
+        try {
+            parse( input );
+            fail( "JsonDeserializationException should be thrown!" );
+        } catch ( JsonDeserializationException e ) {
+        }
+    }
+
+    public void testTreeToValue() {
+        JsonNode root = parse( JSON );
+        Person person = PersonReader.INSTANCE.treeToValue( root.at( "/users/1" ) );
+        assertEquals( "Jane", person.name );
+        assertEquals( 24, person.age );
+        assertTrue( person.tags.isEmpty() );
+    }
+
+    public void testTreeToValueWithCborContext() {
+        JsonNode root = parse( JSON );
+        Person person = PersonReader.INSTANCE.treeToValue( root.at( "/users/1" ), JsonDeserializationContext.builder().useCbor( true )
+                .build() );
+        assertEquals( "Jane", person.name );
+        assertEquals( 24, person.age );
+    }
+
+    public void testTreeToValueOfRoot() {
+        Person person = PersonReader.INSTANCE.treeToValue( parse( "{\"name\":\"Bob\",\"age\":\"12\",\"tags\":[\"x\",null]}" ) );
+        assertEquals( "Bob", person.name );
+        assertEquals( 12, person.age );
+        assertEquals( 2, person.tags.size() );
+        assertEquals( "x", person.tags.get( 0 ) );
+        assertNull( person.tags.get( 1 ) );
+    }
+
+    public void testReader() {
+        JsonReader reader = new JsonNodeReader( parse( "{\"a\":[1,2.5,\"3\"],\"b\":{\"c\":[true]},\"d\":null,\"e\":{\"f\":1}}" ) );
+        assertEquals( JsonToken.BEGIN_OBJECT, reader.peek() );
+        reader.beginObject();
+        assertTrue( reader.hasNext() );
+        assertEquals( "a", reader.nextName() );
+        reader.beginArray();
+        assertEquals( JsonToken.NUMBER, reader.peek() );
+        assertEquals( 1, reader.nextInt() );
+        assertEquals( 2.5d, reader.nextDouble() );
+        assertEquals( 3l, reader.nextLong() );
+        assertFalse( reader.hasNext() );
+        reader.endArray();
+        assertEquals( "b", reader.nextName() );
+        reader.skipValue();
+        assertEquals( "d", reader.nextName() );
+        assertEquals( JsonToken.NULL, reader.peek() );
+        reader.nextNull();
+        assertEquals( "e", reader.nextName() );
+        assertEquals( 1, JsonNode.parse( reader.nextValue() ).get( "f" ).intValue() );
+        assertEquals( JsonToken.END_OBJECT, reader.peek() );
+        reader.endObject();
+        assertEquals( JsonToken.END_DOCUMENT, reader.peek() );
+    }
+
+    public void testReaderWrongToken() {
+        JsonReader reader = new JsonNodeReader( parse( "[1.5]" ) );
+        reader.beginArray();
+        try {
+            reader.nextBoolean();
+            fail( "IllegalStateException should be thrown!" );
+        } catch ( IllegalStateException e ) {
+        }
+        try {
+            reader.nextInt();
+            fail( "NumberFormatException should be thrown!" );
+        } catch ( NumberFormatException e ) {
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2013 Nicolas Morel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nmorel.gwtjackson.client.tree;
+
+/**
+ * Runs the {@link JsonNode} tests against the {@code JSON.parse} based implementation used in compiled mode.
+ *
+ * @author Nicolas Morel
+ */
+public class NativeJsonNodeTest extends JsonNodeTest {
+
+    @Override
+    protected JsonNode parse( String input ) {
+        return NativeJsonNode.newRoot( input );
+    }
+
+    @Override
+    public void testNumbersAsWritten() {
+        // JavaScript numbers are doubles, the literal is not kept
+        JsonNode root = parse( "[123456789012345678901234567890, 1.5e2, 2.5]" );
+        assertEquals( 1.2345678901234568E29, root.get( 0 ).numberValue() );
+        assertEquals( Integer.valueOf( 150 ), root.get( 1 ).numberValue() );
+        assertEquals( "150", root.get( 1 ).asText() );
+        assertEquals( Double.valueOf( 2.5d ), root.get( 2 ).numberValue() );
+    }
+
+    @Override
+    public void testToString() {
+        JsonNode root = parse( "  {\"a\" : [1, {\"b\":\"]}\"}] }  " );
+        assertEquals( "{\"a\":[1,{\"b\":\"]}\"}]}", root.toString() );
+        assertEquals( "[1,{\"b\":\"]}\"}]", root.get( "a" ).toString() );
+        assertEquals( "\"]}\"", root.at( "/a/1/b" ).toString() );
+    }
+
+    @Override
+    public void testInvalidInput() {
+        assertInvalid( "" );
+        assertInvalid( "{\"a\":1" );
+        assertInvalid( "\"abc" );
+        assertInvalid( "{} {}" );
+        assertInvalid( "undefined" );
+        assertInvalid( "-" );
+        assertInvalid( "{\"a\":[1 2]}" );
+    }
+
+}
@@ -18,6 +18,7 @@ package com.github.nmorel.gwtjackson.jackson.advanced;
 
 import com.github.nmorel.gwtjackson.jackson.AbstractJacksonTest;
 import com.github.nmorel.gwtjackson.shared.advanced.ObjectTester;
+import com.github.nmorel.gwtjackson.shared.advanced.ObjectTester.AttributesBean;
 import com.github.nmorel.gwtjackson.shared.advanced.ObjectTester.ObjectWrapper;
 import org.junit.Test;
 
@@ -35,4 +36,9 @@ public class ObjectJacksonTest extends AbstractJacksonTest {
     public void testDeserializeObject() {
         ObjectTester.INSTANCE.testDeserializeObject( createReader( ObjectWrapper.class ) );
     }
+
+    @Test
+    public void testDeserializeNestedUntyped() {
+        ObjectTester.INSTANCE.testDeserializeNestedUntyped( createReader( AttributesBean.class ) );
+    }
 }
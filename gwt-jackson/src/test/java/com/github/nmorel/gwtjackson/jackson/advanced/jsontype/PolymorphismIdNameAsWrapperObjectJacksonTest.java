@@ -38,4 +38,16 @@ public class PolymorphismIdNameAsWrapperObjectJacksonTest extends AbstractJackso
         PolymorphismIdNameAsWrapperObjectTester.INSTANCE
                 .testDeserialize( createReader( PolymorphismIdNameAsWrapperObjectTester.Person[].class ) );
     }
+
+    @Test
+    public void testDeserializePropertyWithTypePropertyName() {
+        PolymorphismIdNameAsWrapperObjectTester.INSTANCE.testDeserializePropertyWithTypePropertyName( createReader(
+                PolymorphismIdNameAsWrapperObjectTester.Animal.class ) );
+    }
+
+    @Test
+    public void testDeserializeCreatorPropertyWithTypePropertyName() {
+        PolymorphismIdNameAsWrapperObjectTester.INSTANCE.testDeserializeCreatorPropertyWithTypePropertyName( createReader(
+                PolymorphismIdNameAsWrapperObjectTester.Animal.class ) );
+    }
 }
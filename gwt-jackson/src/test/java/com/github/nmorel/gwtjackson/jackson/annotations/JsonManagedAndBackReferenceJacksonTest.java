@@ -24,6 +24,7 @@ import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferen
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.NodeArray;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.NodeList;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.NodeMap;
+import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.Owner;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.Parent;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.SimpleTreeNode;
 import com.github.nmorel.gwtjackson.shared.annotations.JsonManagedAndBackReferenceTester.SimpleTreeNode2;
@@ -85,4 +86,9 @@ public class JsonManagedAndBackReferenceJacksonTest extends AbstractJacksonTest
     public void testIssue708() {
         tester.testIssue708( createMapper( Advertisement708.class ) );
     }
+
+    @Test
+    public void testNestedBeanWithoutBackReference() {
+        tester.testNestedBeanWithoutBackReference( createMapper( Owner.class ) );
+    }
 }
@@ -34,4 +34,9 @@ public class JsonUnwrappedJacksonTest extends AbstractJacksonTest {
     public void testDeserialize() {
         JsonUnwrappedTester.INSTANCE.testDeserialize( createReader( JsonUnwrappedTester.BeanWrapper.class ) );
     }
+
+    @Test
+    public void testDeserializeNested() {
+        JsonUnwrappedTester.INSTANCE.testDeserializeNested( createReader( JsonUnwrappedTester.Person.class ) );
+    }
 }
@@ -41,4 +41,11 @@ public class OrderMapEntriesByKeysOptionJacksonTest extends AbstractJacksonTest
         OrderMapEntriesByKeysOptionTester.INSTANCE
                 .testWriteOrdered( createWriter( new TypeReference<LinkedHashMap<String, Integer>>() {} ) );
     }
+
+    @Test
+    public void testWriteOrderedNumberKeys() {
+        objectMapper.configure( SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true );
+        OrderMapEntriesByKeysOptionTester.INSTANCE
+                .testWriteOrderedNumberKeys( createWriter( new TypeReference<LinkedHashMap<Integer, String>>() {} ) );
+    }
 }
@@ -121,6 +121,11 @@ public final class ObjectTester extends AbstractTester {
         }
     }
 
+    public static class AttributesBean {
+
+        public Map<String, Object> attributes;
+    }
+
     public static final ObjectTester INSTANCE = new ObjectTester();
 
     private ObjectTester() {
@@ -278,4 +283,41 @@ public final class ObjectTester extends AbstractTester {
         assertEquals( new Date( 1345304756543l ), objectsWithTypeInfo.get( 2 ) );
     }
 
+    public void testDeserializeNestedUntyped( ObjectReaderTester<AttributesBean> reader ) {
+        String input = "{\"attributes\":{" +
+                "\"name\":\"John\"," +
+                "\"age\":42," +
+                "\"size\":1.82," +
+                "\"active\":false," +
+                "\"nothing\":null," +
+                "\"tags\":[\"a\",null,[1,2],{}]," +
+                "\"address\":{\"city\":\"Paris\",\"location\":{\"lat\":48.85,\"lng\":2.35},\"lines\":[]}" +
+                "}}";
+
+        AttributesBean bean = reader.read( input );
+        Map<String, Object> attributes = bean.attributes;
+        assertEquals( 7, attributes.size() );
+        assertEquals( Arrays.asList( "name", "age", "size", "active", "nothing", "tags", "address" ), new ArrayList<String>( attributes
+                .keySet() ) );
+        assertEquals( "John", attributes.get( "name" ) );
+        assertEquals( 42, attributes.get( "age" ) );
+        assertEquals( 1.82d, attributes.get( "size" ) );
+        assertEquals( Boolean.FALSE, attributes.get( "active" ) );
+        assertTrue( attributes.containsKey( "nothing" ) );
+        assertNull( attributes.get( "nothing" ) );
+
+        List tags = (List) attributes.get( "tags" );
+        assertEquals( 4, tags.size() );
+        assertEquals( "a", tags.get( 0 ) );
+        assertNull( tags.get( 1 ) );
+        assertEquals( Arrays.asList( 1, 2 ), tags.get( 2 ) );
+        assertEquals( new LinkedHashMap<String, Object>(), tags.get( 3 ) );
+
+        Map<String, Object> address = (Map<String, Object>) attributes.get( "address" );
+        assertEquals( "Paris", address.get( "city" ) );
+        Map<String, Object> location = (Map<String, Object>) address.get( "location" );
+        assertEquals( 48.85d, location.get( "lat" ) );
+        assertEquals( 2.35d, location.get( "lng" ) );
+        assertEquals( new ArrayList<Object>(), address.get( "lines" ) );
+    }
 }
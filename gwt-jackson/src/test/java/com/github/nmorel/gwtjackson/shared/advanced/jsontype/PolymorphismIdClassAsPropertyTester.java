@@ -262,4 +262,50 @@ public final class PolymorphismIdClassAsPropertyTester extends AbstractTester {
         }
     }
 
+    public void testDeserializeTypeNotFirst( ObjectReaderTester<Person[]> reader ) {
+        String input = "[" +
+                "{" +
+                "\"id\":1," +
+                "\"managedEmployees\":" +
+                "[" +
+                "{" +
+                "\"id\":2," +
+                "\"name\":\"Thomas\"," +
+                "\"title\":\"Waiter\"," +
+                "\"class\":\"com.github.nmorel.gwtjackson.shared.advanced.jsontype.PolymorphismIdClassAsPropertyTester$Employee\"" +
+                "}" +
+                "]," +
+                "\"name\":\"Bob\"," +
+                "\"title\":\"Boss\"," +
+                "\"@class\":\"com.github.nmorel.gwtjackson.shared.advanced.jsontype.PolymorphismIdClassAsPropertyTester$Manager\"" +
+                "}," +
+                "{" +
+                "\"name\":\"Brad\"," +
+                "\"@class\":\"com.github.nmorel.gwtjackson.shared.advanced.jsontype.PolymorphismIdClassAsPropertyTester$Customer\"," +
+                "\"satisfaction\":90" +
+                "}" +
+                "]";
+
+        Person[] result = reader.read( input );
+        {
+            // Manager
+            Manager manager = (Manager) result[0];
+            assertEquals( 1, manager.id );
+            assertEquals( "Boss", manager.title );
+            assertEquals( "Bob", manager.name );
+            assertEquals( 1, manager.managedEmployees.size() );
+
+            Employee employee = manager.managedEmployees.get( 0 );
+            assertEquals( 2, employee.id );
+            assertEquals( "Waiter", employee.title );
+            assertEquals( "Thomas", employee.name );
+        }
+        {
+            // Customer
+            Customer customer = (Customer) result[1];
+            assertEquals( "Brad", customer.name );
+            assertEquals( 90, customer.satisfaction );
+        }
+    }
+
 }
@@ -19,6 +19,8 @@ package com.github.nmorel.gwtjackson.shared.advanced.jsontype;
 import java.util.Arrays;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -58,6 +60,32 @@ public final class PolymorphismIdNameAsWrapperObjectTester extends AbstractTeste
         public int satisfaction;
     }
 
+    @JsonTypeInfo( use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.WRAPPER_OBJECT, property = "kind" )
+    @JsonSubTypes( {@JsonSubTypes.Type( value = Dog.class, name = "dog" ), @JsonSubTypes.Type( value = Cat.class, name = "cat" )} )
+    public static abstract class Animal {
+
+        public String kind;
+    }
+
+    public static class Dog extends Animal {
+
+        public String name;
+    }
+
+    public static class Cat extends Animal {
+
+        private final String name;
+
+        @JsonCreator
+        public Cat( @JsonProperty( "name" ) String name ) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
     public static final PolymorphismIdNameAsWrapperObjectTester INSTANCE = new PolymorphismIdNameAsWrapperObjectTester();
 
     private PolymorphismIdNameAsWrapperObjectTester() {
@@ -243,4 +271,19 @@ public final class PolymorphismIdNameAsWrapperObjectTester extends AbstractTeste
         }
     }
 
+    public void testDeserializePropertyWithTypePropertyName( ObjectReaderTester<Animal> reader ) {
+        Animal result = reader.read( "{\"dog\":{\"kind\":\"labrador\",\"name\":\"Rex\"}}" );
+
+        assertTrue( result instanceof Dog );
+        assertEquals( "labrador", result.kind );
+        assertEquals( "Rex", ((Dog) result).name );
+    }
+
+    public void testDeserializeCreatorPropertyWithTypePropertyName( ObjectReaderTester<Animal> reader ) {
+        Animal result = reader.read( "{\"cat\":{\"kind\":\"siamese\",\"name\":\"Tom\"}}" );
+
+        assertTrue( result instanceof Cat );
+        assertEquals( "siamese", result.kind );
+        assertEquals( "Tom", ((Cat) result).getName() );
+    }
 }
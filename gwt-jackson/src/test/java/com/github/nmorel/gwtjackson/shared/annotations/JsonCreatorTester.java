@@ -497,6 +497,17 @@ public final class JsonCreatorTester extends AbstractTester {
         assertEquals( 16, result.intProperty );
         assertEquals( "IAmANewString", result.stringProperty );
         assertNull( result.booleanProperty );
+
+        // test with booleanProperty between the creator's parameters
+        input = "{\"stringProperty\":\"IAmAnotherString\"," +
+                "\"booleanProperty\":false," +
+                "\"intProperty\":17}";
+
+        result = reader.read( input );
+
+        assertEquals( 17, result.intProperty );
+        assertEquals( "IAmAnotherString", result.stringProperty );
+        assertFalse( result.booleanProperty );
     }
 
     public void testSerializeBeanWithFactoryMethod( ObjectWriterTester<BeanWithFactoryMethod> writer ) {
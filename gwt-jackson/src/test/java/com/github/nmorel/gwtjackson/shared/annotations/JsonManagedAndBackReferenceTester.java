@@ -290,6 +290,27 @@ public class JsonManagedAndBackReferenceTester extends AbstractTester {
         public Advertisement708 advertisement;
     }
 
+    /**
+     * The back reference is only set on the direct values of the managed reference, not on the beans nested in them
+     */
+    public static class Owner {
+
+        public String name;
+
+        @JsonManagedReference
+        public List<Item> items;
+    }
+
+    public static class Item {
+
+        public String name;
+
+        @JsonBackReference
+        public Owner owner;
+
+        public Item related;
+    }
+
     public static final JsonManagedAndBackReferenceTester INSTANCE = new JsonManagedAndBackReferenceTester();
 
     private JsonManagedAndBackReferenceTester() {
@@ -481,4 +502,14 @@ public class JsonManagedAndBackReferenceTester extends AbstractTester {
         Advertisement708 ad = mapper.read( "{\"title\":\"Hroch\",\"photos\":[{\"id\":3}]}" );
         assertNotNull( ad );
     }
+
+    public void testNestedBeanWithoutBackReference( ObjectMapperTester<Owner> mapper ) {
+        Owner owner = mapper.read( "{\"name\":\"owner\",\"items\":[{\"name\":\"a\",\"related\":{\"name\":\"b\"}},{\"name\":\"c\"}]}" );
+
+        assertEquals( 2, owner.items.size() );
+        assertSame( owner, owner.items.get( 0 ).owner );
+        assertSame( owner, owner.items.get( 1 ).owner );
+        assertEquals( "b", owner.items.get( 0 ).related.name );
+        assertNull( owner.items.get( 0 ).related.owner );
+    }
 }
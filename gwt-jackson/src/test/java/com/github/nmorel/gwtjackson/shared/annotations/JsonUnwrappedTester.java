@@ -45,6 +45,29 @@ public final class JsonUnwrappedTester extends AbstractTester {
 
     }
 
+    public static class Address {
+
+        public String street;
+
+        public String city;
+    }
+
+    public static class Location {
+
+        @JsonUnwrapped
+        public Address address;
+
+        public int zip;
+    }
+
+    public static class Person {
+
+        public String name;
+
+        @JsonUnwrapped
+        public Location location;
+    }
+
     public static final JsonUnwrappedTester INSTANCE = new JsonUnwrappedTester();
 
     private JsonUnwrappedTester() {
@@ -74,4 +97,15 @@ public final class JsonUnwrappedTester extends AbstractTester {
         assertEquals( 78451, result.unwrapped.value );
     }
 
+    public void testDeserializeNested( ObjectReaderTester<Person> reader ) {
+        String input = "{\"street\":\"Main street\",\"name\":\"John\",\"zip\":1234,\"city\":\"Paris\"}";
+
+        Person result = reader.read( input );
+
+        assertEquals( "John", result.name );
+        assertEquals( 1234, result.location.zip );
+        assertEquals( "Main street", result.location.address.street );
+        assertEquals( "Paris", result.location.address.city );
+    }
+
 }
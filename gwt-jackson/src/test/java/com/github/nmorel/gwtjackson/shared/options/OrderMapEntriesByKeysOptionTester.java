@@ -45,4 +45,13 @@ public final class OrderMapEntriesByKeysOptionTester extends AbstractTester {
         assertEquals( "{\"a\":6,\"b\":3}", writer.write( map ) );
     }
 
+    public void testWriteOrderedNumberKeys( ObjectWriterTester<LinkedHashMap<Integer, String>> writer ) {
+        LinkedHashMap<Integer, String> map = new LinkedHashMap<Integer, String>();
+        map.put( 10, "ten" );
+        map.put( 2, "two" );
+        map.put( 33, "thirty-three" );
+        map.put( 1, "one" );
+        assertEquals( "{\"1\":\"one\",\"2\":\"two\",\"10\":\"ten\",\"33\":\"thirty-three\"}", writer.write( map ) );
+    }
+
 }